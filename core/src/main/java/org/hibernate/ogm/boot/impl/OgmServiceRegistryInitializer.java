@@ -15,11 +15,15 @@
 import org.hibernate.ogm.cfg.impl.HibernateSearchIntegration;
 import org.hibernate.ogm.datastore.impl.DatastoreProviderInitiator;
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManagerInitiator;
+import org.hibernate.ogm.dialect.impl.AssociationSizeAwareGridDialectInitiator;
+import org.hibernate.ogm.dialect.impl.AsyncGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.GridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.IdentityColumnAwareGridDialectInitiator;
+import org.hibernate.ogm.dialect.impl.MultigetAssociationGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.MultigetGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.OgmDialectFactoryInitiator;
 import org.hibernate.ogm.dialect.impl.OptimisticLockingAwareGridDialectInitiator;
+import org.hibernate.ogm.dialect.impl.PartitionableGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.QueryableGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.StoredProcedureGridDialectInitiator;
 import org.hibernate.ogm.jdbc.impl.OgmConnectionProviderInitiator;
@@ -83,7 +87,11 @@ public void contribute(StandardServiceRegistryBuilder serviceRegistryBuilder) {
 		serviceRegistryBuilder.addInitiator( IdentityColumnAwareGridDialectInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( OptimisticLockingAwareGridDialectInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( MultigetGridDialectInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( MultigetAssociationGridDialectInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( StoredProcedureGridDialectInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( PartitionableGridDialectInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( AssociationSizeAwareGridDialectInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( AsyncGridDialectInitiator.INSTANCE );
 	}
 
 	private boolean isOgmEnabled(Map<?, ?> settings) {
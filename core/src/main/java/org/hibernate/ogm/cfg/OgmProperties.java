@@ -107,6 +107,14 @@ public interface OgmProperties {
 	 */
 	String ERROR_HANDLER = "hibernate.ogm.error_handler";
 
+	/**
+	 * The maximum number of parsed JP-QL queries kept in the cache of the query translator factory, shared by all the
+	 * session factories using the same service registry. For stores which do not support parameterized queries, each
+	 * set of parameter values takes one entry. Accepts
+	 * {@code int} or a {@code String} representing an integer. Defaults to 2048.
+	 */
+	String QUERY_PARSING_CACHE_MAX_SIZE = "hibernate.ogm.query.parsing_cache_max_size";
+
 	/**
 	 * Optional JNDI resource string to fetch a native data store client
 	 */
@@ -10,7 +10,8 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -18,7 +19,6 @@
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import javax.persistence.PessimisticLockException;
@@ -29,6 +29,14 @@
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.hibernate.ogm.model.spi.AssociationOperationType;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.TupleColumnLayout;
+import org.hibernate.ogm.model.spi.TupleOperation;
+import org.hibernate.ogm.model.spi.TupleOperationType;
+import org.hibernate.ogm.model.spi.TupleSnapshot;
 import org.hibernate.ogm.util.impl.Log;
 import org.hibernate.ogm.util.impl.LoggerFactory;
 import java.lang.invoke.MethodHandles;
@@ -38,12 +46,16 @@
 /**
  * This is an example a DatastoreProvider, implementing only the basic interface needed by Hibernate OGM.
  *
+ * Entities and association rows are stored as immutable {@link MapTupleRecord}s and associations as immutable maps
+ * of rows; writes publish new instances, so readers never block nor see partially applied changes.
+ *
  * It does not support transactions, nor clustering nor it has monitoring or capabilities to offload the
  * contents to other storage. Most important, it must be considered that different sessions won't be isolated
  * unless they avoid flushing.
  *
- * Oh and while we lock data when Hibernate ORM acquires locks, we never unlock as ORM expects locks
- * to be released by the transaction commit / rollback which does not happen here.
+ * Locks requested by Hibernate ORM are created per key and discarded once no thread holds nor waits for them. The locks
+ * are bound to the thread which acquired them and to an owner, typically the session; they are released by
+ * {@link #releaseLocks(Object)}, which the locking strategies invoke when the transaction of the session completes.
  *
  * @author Sanne Grinovero &lt;sanne@hibernate.org&gt; (C) 2011 Red Hat Inc.
  */
@@ -51,17 +63,28 @@ public final class MapDatastoreProvider extends BaseDatastoreProvider implements
 
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
-	private final ConcurrentMap<EntityKey, Map<String, Object>> entitiesKeyValueStorage = newConcurrentHashMap();
-	private final ConcurrentMap<AssociationKey, Map<RowKey, Map<String, Object>>> associationsKeyValueStorage = newConcurrentHashMap();
+	private final ConcurrentMap<EntityKey, MapTupleRecord> entitiesKeyValueStorage = newConcurrentHashMap();
+	private final ConcurrentMap<AssociationKey, Map<RowKey, MapTupleRecord>> associationsKeyValueStorage = newConcurrentHashMap();
+
+	/**
+	 * The column layout of the records of each table; a layout is replaced by a wider one when new columns are
+	 * written, the records created before keeping the layout they have been built with.
+	 */
+	private final ConcurrentMap<String, TupleColumnLayout> recordLayouts = newConcurrentHashMap();
 	private final ConcurrentMap<IdSourceKey, AtomicInteger> sequencesStorage = newConcurrentHashMap();
-	private final ConcurrentMap<Object, ReadWriteLock> dataLocks = newConcurrentHashMap();
 
 	/**
-	 * This simplistic data store only supports thread-bound transactions:
+	 * The locks of the keys which are locked or about to be locked.
+	 */
+	private final ConcurrentMap<EntityKey, KeyLock> dataLocks = newConcurrentHashMap();
+
+	/**
+	 * This simplistic data store only supports thread-bound transactions; the locks held by the current thread are
+	 * tracked per owner.
 	 */
-	private final ThreadLocal<Set<Lock>> acquiredLocksPerThread = new ThreadLocal<Set<Lock>>() {
-		@Override protected Set<Lock> initialValue() {
-			return new HashSet<Lock>();
+	private final ThreadLocal<Map<Object, HeldLocks>> heldLocksPerThread = new ThreadLocal<Map<Object, HeldLocks>>() {
+		@Override protected Map<Object, HeldLocks> initialValue() {
+			return new IdentityHashMap<Object, HeldLocks>();
 		}
 	};
 
@@ -75,9 +98,10 @@ public void stop() {
 		entitiesKeyValueStorage.clear();
 		associationsKeyValueStorage.clear();
 		sequencesStorage.clear();
+		recordLayouts.clear();
 		dataLocks.clear();
 		//not nice but that's the best we can do
-		acquiredLocksPerThread.remove();
+		heldLocksPerThread.remove();
 		log.debug( "Stopped and cleared MapDatastoreProvider" );
 	}
 
@@ -88,63 +112,125 @@ public void start() {
 
 	/**
 	 * Acquires a write lock on a specific key.
+	 * @param owner The owner of the lock, typically the session
 	 * @param key The key to lock
 	 * @param timeout in milliseconds; -1 means wait indefinitely, 0 means no wait.
+	 * @return {@code true} if this is the first lock held by the owner, in which case the caller is expected to arrange
+	 * for {@link #releaseLocks(Object)} to be invoked
 	 */
-	public void writeLock(EntityKey key, int timeout) {
-		ReadWriteLock lock = getLock( key );
-		Lock writeLock = lock.writeLock();
-		acquireLock( key, timeout, writeLock );
+	public boolean writeLock(Object owner, EntityKey key, int timeout) {
+		KeyLock keyLock = referenceLock( key );
+		if ( keyLock.lock.getReadHoldCount() > 0 ) {
+			// A read lock cannot be upgraded, waiting would never end
+			dereferenceLock( keyLock );
+			throw new PessimisticLockException( "lock on key " + key + " cannot be upgraded from a read lock to a write lock" );
+		}
+		return acquireLock( owner, keyLock, timeout, keyLock.lock.writeLock() );
 	}
 
 	/**
 	 * Acquires a read lock on a specific key.
+	 * @param owner The owner of the lock, typically the session
 	 * @param key The key to lock
 	 * @param timeout in milliseconds; -1 means wait indefinitely, 0 means no wait.
+	 * @return {@code true} if this is the first lock held by the owner, in which case the caller is expected to arrange
+	 * for {@link #releaseLocks(Object)} to be invoked
+	 */
+	public boolean readLock(Object owner, EntityKey key, int timeout) {
+		KeyLock keyLock = referenceLock( key );
+		return acquireLock( owner, keyLock, timeout, keyLock.lock.readLock() );
+	}
+
+	/**
+	 * Releases all the locks acquired by the current thread for the given owner.
 	 */
-	public void readLock(EntityKey key, int timeout) {
-		ReadWriteLock lock = getLock( key );
-		Lock readLock = lock.readLock();
-		acquireLock( key, timeout, readLock );
+	public void releaseLocks(Object owner) {
+		Map<Object, HeldLocks> heldLocks = heldLocksPerThread.get();
+		HeldLocks ownerLocks = heldLocks.remove( owner );
+		if ( ownerLocks != null ) {
+			for ( int i = ownerLocks.locks.size() - 1; i >= 0; i-- ) {
+				ownerLocks.locks.get( i ).unlock();
+				dereferenceLock( ownerLocks.keyLocks.get( i ) );
+			}
+		}
+		if ( heldLocks.isEmpty() ) {
+			heldLocksPerThread.remove();
+		}
+	}
+
+	/**
+	 * Returns the lock of the given key, created if needed; the lock is kept until it is dereferenced.
+	 */
+	private KeyLock referenceLock(EntityKey key) {
+		return dataLocks.compute( key, (k, current) -> {
+			KeyLock keyLock = current != null ? current : new KeyLock( k );
+			keyLock.references++;
+			return keyLock;
+		} );
 	}
 
-	private ReadWriteLock getLock(EntityKey key) {
-		ReadWriteLock newLock = new ReentrantReadWriteLock();
-		ReadWriteLock previous = dataLocks.putIfAbsent( key, newLock );
-		return previous != null ? previous : newLock;
+	private void dereferenceLock(KeyLock keyLock) {
+		dataLocks.computeIfPresent( keyLock.key, (k, current) -> --current.references == 0 ? null : current );
 	}
 
-	private void acquireLock(EntityKey key, int timeout, Lock writeLock) {
+	private boolean acquireLock(Object owner, KeyLock keyLock, int timeout, Lock lock) {
+		EntityKey key = keyLock.key;
 		try {
 			if ( timeout == -1 ) {
-				writeLock.lockInterruptibly();
+				lock.lockInterruptibly();
 			}
 			else if ( timeout == 0 ) {
-				boolean locked = writeLock.tryLock();
+				boolean locked = lock.tryLock();
 				if ( ! locked ) {
 					throw new PessimisticLockException( "lock on key " + key + " was not available" );
 				}
 			}
 			else {
-				writeLock.tryLock( timeout, TimeUnit.MILLISECONDS );
+				boolean locked = lock.tryLock( timeout, TimeUnit.MILLISECONDS );
+				if ( ! locked ) {
+					throw new PessimisticLockException( "timed out waiting for lock on key " + key );
+				}
 			}
 		}
 		catch ( InterruptedException e ) {
-			throw new PessimisticLockException( "timed out waiting for lock on key " + key, e );
+			dereferenceLock( keyLock );
+			Thread.currentThread().interrupt();
+			throw new PessimisticLockException( "interrupted while waiting for lock on key " + key, e );
 		}
-		acquiredLocksPerThread.get().add( writeLock );
+		catch ( RuntimeException e ) {
+			dereferenceLock( keyLock );
+			throw e;
+		}
+		Map<Object, HeldLocks> heldLocks = heldLocksPerThread.get();
+		HeldLocks ownerLocks = heldLocks.get( owner );
+		boolean first = ownerLocks == null;
+		if ( first ) {
+			ownerLocks = new HeldLocks();
+			heldLocks.put( owner, ownerLocks );
+		}
+		ownerLocks.locks.add( lock );
+		ownerLocks.keyLocks.add( keyLock );
+		return first;
+	}
+
+	public void createEntity(EntityKey key) {
+		entitiesKeyValueStorage.put( key, MapTupleRecord.EMPTY );
 	}
 
-	public void putEntity(EntityKey key, Map<String, Object> tuple) {
-		entitiesKeyValueStorage.put( key, tuple );
+	/**
+	 * Applies the changes of the given tuple to the stored entity and publishes the resulting record. Nothing happens
+	 * if the entity is not stored anymore.
+	 */
+	public void updateEntity(EntityKey key, Tuple tuple) {
+		entitiesKeyValueStorage.computeIfPresent( key, (k, current) -> applyOperations( k.getTable(), current, tuple ) );
 	}
 
-	public Map<String, Object> getEntityTuple(EntityKey key) {
+	public MapTupleRecord getEntityTuple(EntityKey key) {
 		return entitiesKeyValueStorage.get( key );
 	}
 
-	public List<Map<String, Object>> getEntityTuples(EntityKey... keys) {
-		List<Map<String, Object>> results = new ArrayList<>( keys.length );
+	public List<MapTupleRecord> getEntityTuples(EntityKey... keys) {
+		List<MapTupleRecord> results = new ArrayList<>( keys.length );
 		for ( EntityKey key : keys ) {
 			results.add( entitiesKeyValueStorage.get( key ) );
 		}
@@ -155,18 +241,141 @@ public void removeEntityTuple(EntityKey key) {
 		entitiesKeyValueStorage.remove( key );
 	}
 
-	public void putAssociation(AssociationKey key, Map<RowKey, Map<String, Object>> associationMap) {
-		associationsKeyValueStorage.put( key, associationMap );
+	public void createAssociation(AssociationKey key) {
+		associationsKeyValueStorage.put( key, Collections.<RowKey, MapTupleRecord>emptyMap() );
+	}
+
+	/**
+	 * Applies the changes of the given association to the stored rows, or to the loaded ones if the association is not
+	 * stored anymore, and publishes the resulting rows.
+	 *
+	 * @return the rows which have been published
+	 */
+	public Map<RowKey, MapTupleRecord> updateAssociation(AssociationKey key, Map<RowKey, MapTupleRecord> loadedRows, Association association) {
+		return associationsKeyValueStorage.compute( key, (k, current) -> applyOperations( k.getTable(), current != null ? current : loadedRows, association ) );
 	}
 
-	public Map<RowKey, Map<String, Object>> getAssociation(AssociationKey key) {
+	public Map<RowKey, MapTupleRecord> getAssociation(AssociationKey key) {
 		return associationsKeyValueStorage.get( key );
 	}
 
+	public List<Map<RowKey, MapTupleRecord>> getAssociations(AssociationKey... keys) {
+		List<Map<RowKey, MapTupleRecord>> results = new ArrayList<>( keys.length );
+		for ( AssociationKey key : keys ) {
+			results.add( associationsKeyValueStorage.get( key ) );
+		}
+		return results;
+	}
+
 	public void removeAssociation(AssociationKey key) {
 		associationsKeyValueStorage.remove( key );
 	}
 
+	/**
+	 * Returns the rows resulting from the operations of the given association.
+	 * <p>
+	 * The published maps are never modified, so the rows are copied before applying the operations: an update costs
+	 * time proportional to the size of the association (see {@code MapAssociationUpdateBenchmark} in the performance
+	 * module). The copy is skipped when there is nothing to apply and when the association has been cleared, as the
+	 * current rows are discarded anyway.
+	 */
+	private Map<RowKey, MapTupleRecord> applyOperations(String table, Map<RowKey, MapTupleRecord> rows, Association association) {
+		List<AssociationOperation> operations = association.getOperations();
+		if ( operations.isEmpty() ) {
+			return rows;
+		}
+		Map<RowKey, MapTupleRecord> newRows = operations.get( 0 ).getType() == AssociationOperationType.CLEAR
+				? new HashMap<>()
+				: new HashMap<>( rows );
+		for ( AssociationOperation action : operations ) {
+			switch ( action.getType() ) {
+				case CLEAR:
+					newRows.clear();
+					break;
+				case PUT:
+					Tuple row = action.getValue();
+					newRows.put( action.getKey(), row == null ? null : applyOperations( table, row.getSnapshot(), row ) );
+					break;
+				case REMOVE:
+					newRows.remove( action.getKey() );
+					break;
+			}
+		}
+		return Collections.unmodifiableMap( newRows );
+	}
+
+	private MapTupleRecord applyOperations(String table, TupleSnapshot base, Tuple tuple) {
+		Set<TupleOperation> operations = tuple.getOperations();
+		TupleColumnLayout layout = getRecordLayout( table, base, operations );
+
+		Object[] values;
+		if ( base instanceof MapTupleRecord && ( (MapTupleRecord) base ).getLayout() == layout ) {
+			values = ( (MapTupleRecord) base ).copyValues( layout.size() );
+		}
+		else {
+			values = new Object[layout.size()];
+			for ( String column : base.getColumnNames() ) {
+				values[layout.indexOf( column )] = base.get( column );
+			}
+		}
+
+		for ( TupleOperation operation : operations ) {
+			int index = layout.indexOf( operation.getColumn() );
+			if ( operation.getType() == TupleOperationType.PUT ) {
+				values[index] = operation.getValue();
+			}
+			else if ( index >= 0 ) {
+				values[index] = null;
+			}
+		}
+		return new MapTupleRecord( layout, values );
+	}
+
+	/**
+	 * Returns the layout of the given table, widened if needed to contain the columns of the base snapshot and the
+	 * columns put by the operations.
+	 */
+	private TupleColumnLayout getRecordLayout(String table, TupleSnapshot base, Set<TupleOperation> operations) {
+		TupleColumnLayout layout = recordLayouts.get( table );
+		if ( layout != null && containsColumns( layout, base, operations ) ) {
+			return layout;
+		}
+		return recordLayouts.compute( table, (t, current) -> {
+			if ( current != null && containsColumns( current, base, operations ) ) {
+				return current;
+			}
+			List<String> columns = new ArrayList<>();
+			if ( current != null ) {
+				for ( int i = 0; i < current.size(); i++ ) {
+					columns.add( current.getColumn( i ) );
+				}
+			}
+			columns.addAll( base.getColumnNames() );
+			for ( TupleOperation operation : operations ) {
+				if ( operation.getType() == TupleOperationType.PUT ) {
+					columns.add( operation.getColumn() );
+				}
+			}
+			return new TupleColumnLayout( columns );
+		} );
+	}
+
+	private static boolean containsColumns(TupleColumnLayout layout, TupleSnapshot base, Set<TupleOperation> operations) {
+		if ( !( base instanceof MapTupleRecord && ( (MapTupleRecord) base ).getLayout() == layout ) ) {
+			for ( String column : base.getColumnNames() ) {
+				if ( layout.indexOf( column ) < 0 ) {
+					return false;
+				}
+			}
+		}
+		for ( TupleOperation operation : operations ) {
+			if ( operation.getType() == TupleOperationType.PUT && layout.indexOf( operation.getColumn() ) < 0 ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	public int getSharedAtomicInteger(IdSourceKey key, int initialValue, int increment) {
 		AtomicInteger valueProposal = new AtomicInteger( initialValue );
 		AtomicInteger previous = sequencesStorage.putIfAbsent( key, valueProposal );
@@ -175,22 +384,78 @@ public int getSharedAtomicInteger(IdSourceKey key, int initialValue, int increme
 
 	/**
 	 * Meant to execute assertions in tests only
-	 * @return a read-only view of the map containing the entities
+	 * @return the number of keys whose lock is held or awaited
 	 */
-	public Map<EntityKey,Map<String, Object>> getEntityMap() {
+	int getLockedKeysCount() {
+		return dataLocks.size();
+	}
+
+	/**
+	 * @return a read-only view of the map containing the entity records
+	 */
+	public Map<EntityKey, MapTupleRecord> getEntityRecords() {
 		return Collections.unmodifiableMap( entitiesKeyValueStorage );
 	}
 
 	/**
 	 * Meant to execute assertions in tests only
-	 * @return a read-only view of the map containing the relations between entities
+	 * @return a copy of the entities
+	 */
+	public Map<EntityKey, Map<String, Object>> getEntityMap() {
+		Map<EntityKey, Map<String, Object>> entities = new HashMap<>();
+		for ( Map.Entry<EntityKey, MapTupleRecord> entry : entitiesKeyValueStorage.entrySet() ) {
+			entities.put( entry.getKey(), entry.getValue().toMap() );
+		}
+		return Collections.unmodifiableMap( entities );
+	}
+
+	/**
+	 * Meant to execute assertions in tests only
+	 * @return a copy of the relations between entities
 	 */
 	public Map<AssociationKey, Map<RowKey, Map<String, Object>>> getAssociationsMap() {
-		return Collections.unmodifiableMap( associationsKeyValueStorage );
+		Map<AssociationKey, Map<RowKey, Map<String, Object>>> associations = new HashMap<>();
+		for ( Map.Entry<AssociationKey, Map<RowKey, MapTupleRecord>> entry : associationsKeyValueStorage.entrySet() ) {
+			Map<RowKey, Map<String, Object>> rows = new HashMap<>();
+			for ( Map.Entry<RowKey, MapTupleRecord> row : entry.getValue().entrySet() ) {
+				rows.put( row.getKey(), row.getValue() == null ? null : row.getValue().toMap() );
+			}
+			associations.put( entry.getKey(), Collections.unmodifiableMap( rows ) );
+		}
+		return Collections.unmodifiableMap( associations );
 	}
 
 	@Override
 	public boolean allowsTransactionEmulation() {
 		return true;
 	}
+
+	/**
+	 * The lock of a key, with the number of acquisitions held or in progress; the count is only updated within the
+	 * atomic operations of the map of locks, which removes the lock once the count drops to zero.
+	 */
+	private static final class KeyLock {
+
+		private final EntityKey key;
+		private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+		private int references;
+
+		private KeyLock(EntityKey key) {
+			this.key = key;
+		}
+	}
+
+	/**
+	 * The locks held by an owner; a lock acquired several times is listed once per acquisition so that it is released
+	 * as many times.
+	 */
+	private static final class HeldLocks {
+
+		private final List<Lock> locks = new ArrayList<>();
+
+		/**
+		 * The key lock of each entry of {@link #locks}.
+		 */
+		private final List<KeyLock> keyLocks = new ArrayList<>();
+	}
 }
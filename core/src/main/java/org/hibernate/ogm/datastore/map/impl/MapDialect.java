@@ -7,18 +7,24 @@
 package org.hibernate.ogm.datastore.map.impl;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.LockMode;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.dialect.lock.OptimisticForceIncrementLockingStrategy;
 import org.hibernate.dialect.lock.OptimisticLockingStrategy;
 import org.hibernate.dialect.lock.PessimisticForceIncrementLockingStrategy;
+import org.hibernate.ogm.dialect.associationsize.spi.AssociationSizeAwareGridDialect;
+import org.hibernate.ogm.dialect.async.spi.AsyncGridDialect;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
@@ -46,7 +52,7 @@
  *
  * @author Sanne Grinovero &lt;sanne@hibernate.org&gt; (C) 2011 Red Hat Inc.
  */
-public class MapDialect extends BaseGridDialect implements MultigetGridDialect {
+public class MapDialect extends BaseGridDialect implements MultigetGridDialect, MultigetAssociationGridDialect, PartitionableGridDialect, AssociationSizeAwareGridDialect, AsyncGridDialect {
 
 	private final MapDatastoreProvider provider;
 
@@ -77,37 +83,46 @@ else if ( lockMode == LockMode.OPTIMISTIC_FORCE_INCREMENT ) {
 
 	@Override
 	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
-		Map<String, Object> entityMap = provider.getEntityTuple( key );
-		if ( entityMap == null ) {
+		MapTupleRecord entityRecord = provider.getEntityTuple( key );
+		if ( entityRecord == null ) {
 			return null;
 		}
 		else {
-			return new Tuple( new MapTupleSnapshot( entityMap ), SnapshotType.UPDATE );
+			return new Tuple( entityRecord, SnapshotType.UPDATE );
 		}
 	}
 
 	@Override
 	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
-		List<Map<String, Object>> mapResults = provider.getEntityTuples( keys );
+		List<MapTupleRecord> mapResults = provider.getEntityTuples( keys );
 		List<Tuple> results = new ArrayList<>( mapResults.size() );
 		// should be done with a lambda for the tuple creation but that's for demo purposes
-		for ( Map<String, Object> entry : mapResults ) {
-			results.add( entry != null ? new Tuple( new MapTupleSnapshot( entry ), SnapshotType.UPDATE ) : null );
+		for ( MapTupleRecord entry : mapResults ) {
+			results.add( entry != null ? new Tuple( entry, SnapshotType.UPDATE ) : null );
 		}
 		return results;
 	}
 
+	@Override
+	public CompletionStage<Tuple> getTupleAsync(EntityKey key, OperationContext operationContext) {
+		// the data is in memory, there is no round trip to overlap
+		return CompletableFuture.completedFuture( getTuple( key, operationContext ) );
+	}
+
+	@Override
+	public CompletionStage<List<Tuple>> getTuplesAsync(EntityKey[] keys, TupleContext tupleContext) {
+		return CompletableFuture.completedFuture( getTuples( keys, tupleContext ) );
+	}
+
 	@Override
 	public Tuple createTuple(EntityKey key, OperationContext operationContext) {
-		HashMap<String,Object> tuple = new HashMap<String, Object>();
-		provider.putEntity( key, tuple );
-		return new Tuple( new MapTupleSnapshot( tuple ), SnapshotType.INSERT );
+		provider.createEntity( key );
+		return new Tuple( MapTupleRecord.EMPTY, SnapshotType.INSERT );
 	}
 
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleContext tupleContext) {
-		Map<String,Object> entityRecord = ( (MapTupleSnapshot) tuplePointer.getTuple().getSnapshot() ).getMap();
-		MapHelpers.applyTupleOpsOnMap( tuplePointer.getTuple(), entityRecord );
+		provider.updateEntity( key, tuplePointer.getTuple() );
 	}
 
 	@Override
@@ -117,22 +132,50 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 
 	@Override
 	public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
-		Map<RowKey, Map<String, Object>> associationMap = provider.getAssociation( key );
-		return associationMap == null ? null : new Association( new MapAssociationSnapshot( associationMap ) );
+		Map<RowKey, MapTupleRecord> associationMap = provider.getAssociation( key );
+		return associationMap == null ? null : new Association( new MapRecordAssociationSnapshot( associationMap ) );
+	}
+
+	@Override
+	public CompletionStage<Association> getAssociationAsync(AssociationKey key, AssociationContext associationContext) {
+		return CompletableFuture.completedFuture( getAssociation( key, associationContext ) );
+	}
+
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext) {
+		List<Map<RowKey, MapTupleRecord>> mapResults = provider.getAssociations( keys );
+		List<Association> results = new ArrayList<>( mapResults.size() );
+		for ( Map<RowKey, MapTupleRecord> associationMap : mapResults ) {
+			results.add( associationMap != null ? new Association( new MapRecordAssociationSnapshot( associationMap ) ) : null );
+		}
+		return results;
+	}
+
+	@Override
+	public int getAssociationSize(AssociationKey key, AssociationContext associationContext) {
+		Map<RowKey, MapTupleRecord> associationMap = provider.getAssociation( key );
+		return associationMap == null ? 0 : associationMap.size();
+	}
+
+	@Override
+	public boolean containsRow(AssociationKey key, RowKey rowKey, AssociationContext associationContext) {
+		Map<RowKey, MapTupleRecord> associationMap = provider.getAssociation( key );
+		return associationMap != null && associationMap.containsKey( rowKey );
 	}
 
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
-		Map<RowKey, Map<String, Object>> associationMap = new HashMap<RowKey, Map<String,Object>>();
-		provider.putAssociation( key, associationMap );
-		return new Association( new MapAssociationSnapshot( associationMap ) );
+		provider.createAssociation( key );
+		return new Association( new MapRecordAssociationSnapshot( Collections.<RowKey, MapTupleRecord>emptyMap() ) );
 	}
 
 	@Override
 	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
-		MapHelpers.updateAssociation( association );
-		// the association might have been removed prior to the update so we need to be sure it is present in the Map
-		provider.putAssociation( key, ( (MapAssociationSnapshot) association.getSnapshot() ).getUnderlyingMap() );
+		// the association might have been removed prior to the update so it is stored again in this case
+		MapRecordAssociationSnapshot snapshot = (MapRecordAssociationSnapshot) association.getSnapshot();
+		snapshot.setRows( provider.updateAssociation( key, snapshot.getRows(), association ) );
+		// the snapshot has been updated so we have to clear the various operations added to the Association
+		association.reset();
 	}
 
 	@Override
@@ -152,37 +195,52 @@ public Number nextValue(NextValueRequest request) {
 
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata metadata) {
-		Map<EntityKey, Map<String, Object>> entityMap = provider.getEntityMap();
-		consumer.consume( new MapTuplesSupplier( entityMap, metadata ) );
+		forEachTuple( consumer, tupleTypeContext, metadata, 1 );
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata metadata, int partitions) {
+		Map<EntityKey, MapTupleRecord> entityMap = provider.getEntityRecords();
+		for ( int partition = 0; partition < partitions; partition++ ) {
+			consumer.consume( new MapTuplesSupplier( entityMap, metadata, partition, partitions ) );
+		}
 	}
 
 	private static class MapTuplesSupplier implements TuplesSupplier {
 
-		private final Map<EntityKey, Map<String, Object>> entityMap;
+		private final Map<EntityKey, MapTupleRecord> entityMap;
 		private final EntityKeyMetadata metadata;
+		private final int partition;
+		private final int partitions;
 
-		public MapTuplesSupplier(Map<EntityKey, Map<String, Object>> entityMap, EntityKeyMetadata metadata) {
+		public MapTuplesSupplier(Map<EntityKey, MapTupleRecord> entityMap, EntityKeyMetadata metadata, int partition, int partitions) {
 			this.entityMap = entityMap;
 			this.metadata = metadata;
+			this.partition = partition;
+			this.partitions = partitions;
 		}
 
 		@Override
 		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
-			return new MapTupleIterator( entityMap, metadata );
+			return new MapTupleIterator( entityMap, metadata, partition, partitions );
 		}
 	}
 
 	private static class MapTupleIterator implements ClosableIterator<Tuple> {
 
 		private final EntityKeyMetadata metadata;
-		private final Map<EntityKey, Map<String, Object>> entityMap;
+		private final Map<EntityKey, MapTupleRecord> entityMap;
+		private final int partition;
+		private final int partitions;
 		private final Iterator<EntityKey> iterator;
 		private EntityKey next;
 		private boolean hasNext = false;
 
-		public MapTupleIterator(Map<EntityKey, Map<String, Object>> entityMap, EntityKeyMetadata metadata) {
+		public MapTupleIterator(Map<EntityKey, MapTupleRecord> entityMap, EntityKeyMetadata metadata, int partition, int partitions) {
 			this.entityMap = entityMap;
 			this.metadata = metadata;
+			this.partition = partition;
+			this.partitions = partitions;
 			this.iterator = entityMap.keySet().iterator();
 			this.next = next( this.iterator );
 		}
@@ -204,7 +262,8 @@ private EntityKey next(Iterator<EntityKey> iterator) {
 		}
 
 		public boolean isValidKey(EntityKey key) {
-			return key.getTable().equals( metadata.getTable() );
+			return key.getTable().equals( metadata.getTable() )
+					&& Math.floorMod( key.hashCode(), partitions ) == partition;
 		}
 
 		@Override
@@ -228,7 +287,7 @@ public void close() {
 		}
 	}
 
-	private static Tuple createTuple(Map<EntityKey, Map<String, Object>> entityMap, EntityKey key) {
-		return new Tuple( new MapTupleSnapshot( entityMap.get( key ) ), SnapshotType.UPDATE );
+	private static Tuple createTuple(Map<EntityKey, MapTupleRecord> entityMap, EntityKey key) {
+		return new Tuple( entityMap.get( key ), SnapshotType.UPDATE );
 	}
 }
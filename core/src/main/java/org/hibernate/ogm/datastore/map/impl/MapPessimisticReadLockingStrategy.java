@@ -12,6 +12,7 @@
 import org.hibernate.LockMode;
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.dialect.lock.LockingStrategy;
+import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.ogm.model.impl.EntityKeyBuilder;
 import org.hibernate.ogm.model.key.spi.EntityKey;
@@ -32,11 +33,14 @@ public MapPessimisticReadLockingStrategy(Lockable lockable, LockMode lockMode) {
 	public void lock(Serializable id, Object version, Object object, int timeout, SharedSessionContractImplementor session)
 			throws StaleObjectStateException, JDBCException {
 		MapDatastoreProvider dataStore = getProvider( session );
+		ActionQueue actionQueue = getActionQueue( session );
 		EntityKey key = EntityKeyBuilder.fromData(
 				( (OgmEntityPersister) lockable ).getRootEntityKeyMetadata(),
 				identifierGridType,
 				id,
 				session );
-		dataStore.readLock( key, timeout );
+		if ( dataStore.readLock( session, key, timeout ) ) {
+			releaseLocksOnCompletion( dataStore, session, actionQueue );
+		}
 	}
 }
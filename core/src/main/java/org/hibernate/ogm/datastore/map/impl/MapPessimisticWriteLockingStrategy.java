@@ -11,7 +11,10 @@
 import org.hibernate.JDBCException;
 import org.hibernate.LockMode;
 import org.hibernate.StaleObjectStateException;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.dialect.lock.LockingStrategy;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
 import org.hibernate.ogm.model.impl.EntityKeyBuilder;
@@ -49,16 +52,42 @@ public MapPessimisticWriteLockingStrategy(Lockable lockable, LockMode lockMode)
 	public void lock(Serializable id, Object version, Object object, int timeout, SharedSessionContractImplementor session)
 			throws StaleObjectStateException, JDBCException {
 		MapDatastoreProvider dataStore = getProvider( session );
+		ActionQueue actionQueue = getActionQueue( session );
 		EntityKey key = EntityKeyBuilder.fromData(
 				( (OgmEntityPersister) lockable ).getRootEntityKeyMetadata(),
 				identifierGridType,
 				id,
 				session );
-		dataStore.writeLock( key, timeout );
+		if ( dataStore.writeLock( session, key, timeout ) ) {
+			releaseLocksOnCompletion( dataStore, session, actionQueue );
+		}
 		// FIXME check the version number as well and raise an optimistic lock exception if there is an issue JPA 2 spec: 3.4.4.2
 		// (Comment by Emmanuel)
 	}
 
+	/**
+	 * Returns the action queue of the given session, used to release the locks once its transaction completes.
+	 */
+	protected final ActionQueue getActionQueue(SharedSessionContractImplementor session) {
+		if ( !( session instanceof SessionImplementor ) ) {
+			throw log.cannotRegisterLockRelease( session.getClass() );
+		}
+		return ( (SessionImplementor) session ).getActionQueue();
+	}
+
+	/**
+	 * Releases the locks held by the given session once its transaction completes.
+	 */
+	protected final void releaseLocksOnCompletion(final MapDatastoreProvider dataStore, final SharedSessionContractImplementor owner, ActionQueue actionQueue) {
+		actionQueue.registerProcess( new AfterTransactionCompletionProcess() {
+
+			@Override
+			public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+				dataStore.releaseLocks( owner );
+			}
+		} );
+	}
+
 	protected final MapDatastoreProvider getProvider(SharedSessionContractImplementor session) {
 		if ( provider == null ) {
 			DatastoreProvider service = session.getFactory().getServiceRegistry().getService( DatastoreProvider.class );
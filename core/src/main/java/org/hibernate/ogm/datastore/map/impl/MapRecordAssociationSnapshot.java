@@ -0,0 +1,59 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.impl;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+
+/**
+ * The snapshot of an association of the {@link MapDatastoreProvider}.
+ * <p>
+ * The rows are immutable; once the changes of the association have been stored, the snapshot is moved to the rows
+ * which have been published so that it keeps reflecting the datastore state.
+ */
+public final class MapRecordAssociationSnapshot implements AssociationSnapshot {
+
+	private Map<RowKey, MapTupleRecord> rows;
+
+	public MapRecordAssociationSnapshot(Map<RowKey, MapTupleRecord> rows) {
+		this.rows = rows;
+	}
+
+	@Override
+	public Tuple get(RowKey column) {
+		MapTupleRecord row = rows.get( column );
+		return row != null ? new Tuple( row, SnapshotType.UPDATE ) : null;
+	}
+
+	@Override
+	public boolean containsKey(RowKey column) {
+		return rows.containsKey( column );
+	}
+
+	@Override
+	public int size() {
+		return rows.size();
+	}
+
+	@Override
+	public Set<RowKey> getRowKeys() {
+		return rows.keySet();
+	}
+
+	Map<RowKey, MapTupleRecord> getRows() {
+		return rows;
+	}
+
+	void setRows(Map<RowKey, MapTupleRecord> rows) {
+		this.rows = rows;
+	}
+}
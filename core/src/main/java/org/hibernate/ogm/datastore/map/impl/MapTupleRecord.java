@@ -0,0 +1,90 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.impl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.model.spi.TupleColumnLayout;
+import org.hibernate.ogm.model.spi.TupleSnapshot;
+
+/**
+ * An immutable entity or association row stored by the {@link MapDatastoreProvider}: the values are kept in an array
+ * ordered by the column layout of the table, a {@code null} value meaning that the column is not set.
+ * <p>
+ * A record is never changed once published; applying changes creates a new record which replaces the previous one.
+ */
+public final class MapTupleRecord implements TupleSnapshot {
+
+	static final MapTupleRecord EMPTY = new MapTupleRecord( new TupleColumnLayout( Collections.<String>emptyList() ), new Object[0] );
+
+	private final TupleColumnLayout layout;
+	private final Object[] values;
+
+	MapTupleRecord(TupleColumnLayout layout, Object[] values) {
+		this.layout = layout;
+		this.values = values;
+	}
+
+	@Override
+	public Object get(String column) {
+		int index = layout.indexOf( column );
+		return index < 0 ? null : values[index];
+	}
+
+	@Override
+	public boolean isEmpty() {
+		for ( Object value : values ) {
+			if ( value != null ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public Set<String> getColumnNames() {
+		Set<String> columnNames = new LinkedHashSet<>();
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( values[i] != null ) {
+				columnNames.add( layout.getColumn( i ) );
+			}
+		}
+		return columnNames;
+	}
+
+	TupleColumnLayout getLayout() {
+		return layout;
+	}
+
+	Object[] copyValues(int length) {
+		Object[] copy = new Object[length];
+		System.arraycopy( values, 0, copy, 0, values.length );
+		return copy;
+	}
+
+	/**
+	 * @return a new map with the columns set in this record
+	 */
+	public Map<String, Object> toMap() {
+		Map<String, Object> map = new HashMap<>();
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( values[i] != null ) {
+				map.put( layout.getColumn( i ), values[i] );
+			}
+		}
+		return map;
+	}
+
+	@Override
+	public String toString() {
+		return "MapTupleRecord" + toMap();
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.associationsize.spi;
+
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.RowKey;
+
+/**
+ * A {@link GridDialect} facet representing dialects able to inspect an association in the datastore without loading
+ * all its rows.
+ * <p>
+ * This is used for extra-lazy collections: their size and whether they contain a given element or index are
+ * computed by the datastore instead of reading the whole association.
+ */
+public interface AssociationSizeAwareGridDialect extends GridDialect {
+
+	/**
+	 * Return the number of rows of the given association.
+	 *
+	 * @param key The association identifier
+	 * @param associationContext Contains additional information that might be used to access the association
+	 * @return the number of rows of the association, 0 if it does not exist
+	 */
+	int getAssociationSize(AssociationKey key, AssociationContext associationContext);
+
+	/**
+	 * Whether the given association contains a row with the given key.
+	 *
+	 * @param key The association identifier
+	 * @param rowKey The identifier of the row
+	 * @param associationContext Contains additional information that might be used to access the association
+	 * @return {@code true} if the association exists and contains the row, {@code false} otherwise
+	 */
+	boolean containsRow(AssociationKey key, RowKey rowKey, AssociationContext associationContext);
+}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.async.spi;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.OperationContext;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.Tuple;
+
+/**
+ * A {@link GridDialect} facet representing dialects able to read from the datastore without blocking the calling
+ * thread.
+ * <p>
+ * The operations return as soon as the request has been issued, so that several independent reads can be in flight
+ * at the same time; the total latency is then the one of the slowest round trip instead of the sum of all of them.
+ * <p>
+ * The contexts passed to these methods are not thread-safe: implementations must read what they need from them
+ * (e.g. the operations queue) before returning, and must not use them from the thread completing the stage.
+ */
+public interface AsyncGridDialect extends GridDialect {
+
+	/**
+	 * Asynchronous variant of {@link GridDialect#getTuple(EntityKey, OperationContext)}.
+	 *
+	 * @param key The tuple identifier
+	 * @param operationContext Contains additional information that might be used to create the tuple
+	 * @return a stage completed with the tuple identified by the key, or with {@code null} if no tuple is found
+	 */
+	CompletionStage<Tuple> getTupleAsync(EntityKey key, OperationContext operationContext);
+
+	/**
+	 * Return the tuples for the given keys, in the same order as the keys. If a key has no matching record, the
+	 * corresponding list entry is {@code null}.
+	 * <p>
+	 * All the keys provided will have the same {@link EntityKeyMetadata}.
+	 *
+	 * @param keys The array of tuple identifiers
+	 * @param tupleContext Contains additional information that might be used to create the tuples
+	 * @return a stage completed with the list of tuples identified by the keys
+	 */
+	CompletionStage<List<Tuple>> getTuplesAsync(EntityKey[] keys, TupleContext tupleContext);
+
+	/**
+	 * Asynchronous variant of {@link GridDialect#getAssociation(AssociationKey, AssociationContext)}.
+	 *
+	 * @param key The association identifier
+	 * @param associationContext Contains additional information that might be used to create the association
+	 * @return a stage completed with the association identified by the key, or with {@code null} if it does not exist
+	 */
+	CompletionStage<Association> getAssociationAsync(AssociationKey key, AssociationContext associationContext);
+}
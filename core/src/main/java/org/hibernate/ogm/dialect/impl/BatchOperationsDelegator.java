@@ -8,6 +8,8 @@
 
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.GroupingByEntityDialect;
@@ -90,15 +92,17 @@ public void executeBatch(OperationsQueue operationsQueue) {
 
 	@Override
 	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
-		OperationContext contextWithQueue;
-		if ( operationContext instanceof AssociationContext ) {
-			contextWithQueue = new AssociationContextImpl( (AssociationContextImpl) operationContext, getOperationQueue() );
-		}
-		else {
-			contextWithQueue = new TupleContextImpl( (TupleContextImpl) operationContext, getOperationQueue() );
-		}
+		return super.getTuple( key, withQueue( operationContext ) );
+	}
 
-		return super.getTuple( key, contextWithQueue );
+	@Override
+	public CompletionStage<Tuple> getTupleAsync(EntityKey key, OperationContext operationContext) {
+		return super.getTupleAsync( key, withQueue( operationContext ) );
+	}
+
+	@Override
+	public CompletionStage<List<Tuple>> getTuplesAsync(EntityKey[] keys, TupleContext tupleContext) {
+		return super.getTuplesAsync( keys, withQueue( tupleContext ) );
 	}
 
 	@Override
@@ -126,6 +130,16 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		return super.getAssociation( key, withQueue( associationContext ) );
 	}
 
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext) {
+		return super.getAssociations( keys, withQueue( associationContext ) );
+	}
+
+	@Override
+	public CompletionStage<Association> getAssociationAsync(AssociationKey key, AssociationContext associationContext) {
+		return super.getAssociationAsync( key, withQueue( associationContext ) );
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		return super.createAssociation( key, withQueue( associationContext ) );
@@ -156,6 +170,15 @@ public void flushPendingOperations(EntityKey entityKey, TupleContext tupleContex
 		super.flushPendingOperations( entityKey, withQueue( tupleContext ) );
 	}
 
+	private OperationContext withQueue(OperationContext operationContext) {
+		if ( operationContext instanceof AssociationContext ) {
+			return withQueue( (AssociationContext) operationContext );
+		}
+		else {
+			return withQueue( (TupleContext) operationContext );
+		}
+	}
+
 	private AssociationContext withQueue(AssociationContext associationContext) {
 		return new AssociationContextImpl( (AssociationContextImpl) associationContext, getOperationQueue() );
 	}
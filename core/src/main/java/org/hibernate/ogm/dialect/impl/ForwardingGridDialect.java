@@ -9,16 +9,21 @@
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.LockMode;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.associationsize.spi.AssociationSizeAwareGridDialect;
+import org.hibernate.ogm.dialect.async.spi.AsyncGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.GroupingByEntityDialect;
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.identity.spi.IdentityColumnAwareGridDialect;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.optimisticlock.spi.OptimisticLockingAwareGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
@@ -40,6 +45,7 @@
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.storedprocedure.ProcedureQueryParameters;
@@ -62,7 +68,7 @@
  *
  * @author Gunnar Morling
  */
-public class ForwardingGridDialect<T extends Serializable> implements GridDialect, BatchableGridDialect, SessionFactoryLifecycleAwareDialect, IdentityColumnAwareGridDialect, QueryableGridDialect<T>, OptimisticLockingAwareGridDialect, Configurable, ServiceRegistryAwareService, MultigetGridDialect, GroupingByEntityDialect, StoredProcedureAwareGridDialect {
+public class ForwardingGridDialect<T extends Serializable> implements GridDialect, BatchableGridDialect, SessionFactoryLifecycleAwareDialect, IdentityColumnAwareGridDialect, QueryableGridDialect<T>, OptimisticLockingAwareGridDialect, Configurable, ServiceRegistryAwareService, MultigetGridDialect, MultigetAssociationGridDialect, GroupingByEntityDialect, StoredProcedureAwareGridDialect, PartitionableGridDialect, AssociationSizeAwareGridDialect, AsyncGridDialect {
 
 	private final GridDialect gridDialect;
 	private final BatchableGridDialect batchableGridDialect;
@@ -72,7 +78,11 @@
 	private final IdentityColumnAwareGridDialect identityColumnAwareGridDialect;
 	private final OptimisticLockingAwareGridDialect optimisticLockingAwareGridDialect;
 	private final MultigetGridDialect multigetGridDialect;
+	private final MultigetAssociationGridDialect multigetAssociationGridDialect;
 	private final StoredProcedureAwareGridDialect storedProcedureAwareGridDialect;
+	private final PartitionableGridDialect partitionableGridDialect;
+	private final AssociationSizeAwareGridDialect associationSizeAwareGridDialect;
+	private final AsyncGridDialect asyncGridDialect;
 
 	@SuppressWarnings("unchecked")
 	public ForwardingGridDialect(GridDialect gridDialect) {
@@ -86,7 +96,11 @@ public ForwardingGridDialect(GridDialect gridDialect) {
 		this.identityColumnAwareGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, IdentityColumnAwareGridDialect.class );
 		this.optimisticLockingAwareGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, OptimisticLockingAwareGridDialect.class );
 		this.multigetGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, MultigetGridDialect.class );
+		this.multigetAssociationGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, MultigetAssociationGridDialect.class );
 		this.storedProcedureAwareGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, StoredProcedureAwareGridDialect.class );
+		this.partitionableGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, PartitionableGridDialect.class );
+		this.associationSizeAwareGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, AssociationSizeAwareGridDialect.class );
+		this.asyncGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, AsyncGridDialect.class );
 	}
 
 	/**
@@ -262,6 +276,57 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 		return multigetGridDialect.getTuples( keys, tupleContext );
 	}
 
+	/*
+	 * @see org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect
+	 */
+
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext) {
+		return multigetAssociationGridDialect.getAssociations( keys, associationContext );
+	}
+
+	/*
+	 * @see org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect
+	 */
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata, int partitions) {
+		partitionableGridDialect.forEachTuple( consumer, tupleTypeContext, entityKeyMetadata, partitions );
+	}
+
+	/*
+	 * @see org.hibernate.ogm.dialect.associationsize.spi.AssociationSizeAwareGridDialect
+	 */
+
+	@Override
+	public int getAssociationSize(AssociationKey key, AssociationContext associationContext) {
+		return associationSizeAwareGridDialect.getAssociationSize( key, associationContext );
+	}
+
+	@Override
+	public boolean containsRow(AssociationKey key, RowKey rowKey, AssociationContext associationContext) {
+		return associationSizeAwareGridDialect.containsRow( key, rowKey, associationContext );
+	}
+
+	/*
+	 * @see org.hibernate.ogm.dialect.async.spi.AsyncGridDialect
+	 */
+
+	@Override
+	public CompletionStage<Tuple> getTupleAsync(EntityKey key, OperationContext operationContext) {
+		return asyncGridDialect.getTupleAsync( key, operationContext );
+	}
+
+	@Override
+	public CompletionStage<List<Tuple>> getTuplesAsync(EntityKey[] keys, TupleContext tupleContext) {
+		return asyncGridDialect.getTuplesAsync( keys, tupleContext );
+	}
+
+	@Override
+	public CompletionStage<Association> getAssociationAsync(AssociationKey key, AssociationContext associationContext) {
+		return asyncGridDialect.getAssociationAsync( key, associationContext );
+	}
+
 	/*
 	 * @see org.hibernate.service.spi.ServiceRegistryAwareService
 	 */
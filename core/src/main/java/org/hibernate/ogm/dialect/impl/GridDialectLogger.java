@@ -9,6 +9,7 @@
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
@@ -70,6 +71,20 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 		return super.getTuples( keys, tupleContext );
 	}
 
+	@Override
+	public CompletionStage<Tuple> getTupleAsync(EntityKey key, OperationContext operationContext) {
+		log.tracef( "Reading tuple asynchronously with key %1$s and context %2$s", key, operationContext );
+		return super.getTupleAsync( key, operationContext );
+	}
+
+	@Override
+	public CompletionStage<List<Tuple>> getTuplesAsync(EntityKey[] keys, TupleContext tupleContext) {
+		if ( log.isTraceEnabled() ) {
+			log.tracef( "Reading tuples asynchronously with keys %1$s and context %2$s", Arrays.toString( keys ), tupleContext );
+		}
+		return super.getTuplesAsync( keys, tupleContext );
+	}
+
 	@Override
 	public Tuple createTuple(EntityKey key, OperationContext operationContext) {
 		log.tracef( "Creating tuple with key %1$s", key );
@@ -99,6 +114,20 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		return super.getAssociation( key, associationContext );
 	}
 
+	@Override
+	public CompletionStage<Association> getAssociationAsync(AssociationKey key, AssociationContext associationContext) {
+		log.tracef( "Reading association asynchronously with key %1$s from datastore and context %2$s", key, associationContext );
+		return super.getAssociationAsync( key, associationContext );
+	}
+
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext) {
+		if ( log.isTraceEnabled() ) {
+			log.tracef( "Reading associations with keys %1$s from datastore and context %2$s", Arrays.toString( keys ), associationContext );
+		}
+		return super.getAssociations( keys, associationContext );
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		log.tracef( "Creating association with key %1$s", key );
@@ -0,0 +1,36 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Contributes the {@link PartitionableGridDialect} service if the current grid dialect implements this dialect
+ * facet.
+ */
+public class PartitionableGridDialectInitiator implements StandardServiceInitiator<PartitionableGridDialect> {
+
+	public static final PartitionableGridDialectInitiator INSTANCE = new PartitionableGridDialectInitiator();
+
+	private PartitionableGridDialectInitiator() {
+	}
+
+	@Override
+	public Class<PartitionableGridDialect> getServiceInitiated() {
+		return PartitionableGridDialect.class;
+	}
+
+	@Override
+	public PartitionableGridDialect initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		return GridDialects.getDialectFacetOrNull( registry.getService( GridDialect.class ), PartitionableGridDialect.class );
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.multiget.spi;
+
+import java.util.List;
+
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.spi.Association;
+
+/**
+ * A {@link GridDialect} facet representing dialects that can load the associations of several owners in one datastore
+ * operation.
+ * <p>
+ * This is used to honour {@code @BatchSize} on collections: instead of loading the association of each owner
+ * separately, the collections queued for batch fetching are loaded at once.
+ */
+public interface MultigetAssociationGridDialect extends GridDialect {
+
+	/**
+	 * Return the list of associations for a given list of keys.
+	 * The associations must be returned in the same order as the keys.
+	 * If a key has no matching association, set null to the list entry.
+	 * <p>
+	 * All the keys provided will have the same {@link AssociationKeyMetadata}.
+	 * In other words they target the same association "table".
+	 * <p>
+	 * As the keys refer to different owners, the entity tuple pointer of the given context does not point to the
+	 * owner of any of the associations and must not be used by implementations.
+	 *
+	 * @param keys The array of association identifiers
+	 * @param associationContext Contains additional information that might be used to create the associations
+	 * @return the list of associations identified by the keys
+	 */
+	List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext);
+}
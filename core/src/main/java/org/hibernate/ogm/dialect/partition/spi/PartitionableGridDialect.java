@@ -0,0 +1,35 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.partition.spi;
+
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.TupleTypeContext;
+import org.hibernate.ogm.dialect.spi.TuplesSupplier;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+
+/**
+ * A {@link GridDialect} facet representing dialects that can split the tuples of a table into several disjoint
+ * partitions, so that they can be processed in parallel (e.g. by the mass indexer).
+ */
+public interface PartitionableGridDialect extends GridDialect {
+
+	/**
+	 * Like {@link GridDialect#forEachTuple(ModelConsumer, TupleTypeContext, EntityKeyMetadata)}, but the tuples are
+	 * split into at most {@code partitions} disjoint partitions; {@link ModelConsumer#consume(TuplesSupplier)} is
+	 * invoked once per partition.
+	 * <p>
+	 * The given suppliers do not depend on each other nor on this invocation: the consumer may process them
+	 * concurrently, from other threads, after this method returned.
+	 *
+	 * @param consumer the consumer to apply to each partition
+	 * @param tupleTypeContext the tuple type context
+	 * @param entityKeyMetadata the key metadata of the table for which we want to apply the consumer
+	 * @param partitions the maximum number of partitions
+	 */
+	void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata, int partitions);
+}
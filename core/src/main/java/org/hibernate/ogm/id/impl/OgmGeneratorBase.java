@@ -10,6 +10,7 @@
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
@@ -60,6 +61,12 @@ public abstract class OgmGeneratorBase implements PersistentNoSqlIdentifierGener
 
 	private GridDialect gridDialect;
 
+	/*
+	 * Serializes the access to the optimizer, which may read the next value from the datastore; unlike a monitor, a
+	 * thread waiting for this lock or performing I/O while holding it doesn't pin the carrier of a virtual thread.
+	 */
+	private final ReentrantLock generationLock = new ReentrantLock();
+
 	@Override
 	public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
 		identifierType = type;
@@ -112,20 +119,26 @@ protected GridDialect getGridDialect() {
 	}
 
 	@Override
-	public synchronized Serializable generate(final SharedSessionContractImplementor session, Object obj) {
-		return optimizer.generate(
-				new AccessCallback() {
-					@Override
-					public IntegralDataTypeHolder getNextValue() {
-						return (IntegralDataTypeHolder) doWorkInIsolationTransaction( session );
-					}
-
-					@Override
-					public String getTenantIdentifier() {
-						return session.getTenantIdentifier();
+	public Serializable generate(final SharedSessionContractImplementor session, Object obj) {
+		generationLock.lock();
+		try {
+			return optimizer.generate(
+					new AccessCallback() {
+						@Override
+						public IntegralDataTypeHolder getNextValue() {
+							return (IntegralDataTypeHolder) doWorkInIsolationTransaction( session );
+						}
+
+						@Override
+						public String getTenantIdentifier() {
+							return session.getTenantIdentifier();
+						}
 					}
-				}
-		);
+			);
+		}
+		finally {
+			generationLock.unlock();
+		}
 	}
 
 	//copied and altered from TransactionHelper
@@ -9,6 +9,7 @@
 import java.io.Serializable;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.ListIterator;
 
@@ -35,7 +36,36 @@ public OgmBasicCollectionLoader(OgmCollectionPersister collectionPersister) {
 	@Override
 	public void initialize(Serializable id, SharedSessionContractImplementor session)
 			throws HibernateException {
-		loadCollection( session, id, getKeyType() );
+		Serializable[] batch = getCollectionBatch( id, session );
+		if ( batch.length > 1 ) {
+			loadCollectionBatch( session, batch, getKeyType() );
+		}
+		else {
+			loadCollection( session, id, getKeyType() );
+		}
+	}
+
+	/**
+	 * Returns the keys of the collections to initialize together with the given one, as queued in the batch fetch
+	 * queue of the session. The given key is always the first element of the returned array.
+	 */
+	private Serializable[] getCollectionBatch(Serializable id, SharedSessionContractImplementor session) {
+		CollectionPersister persister = getCollectionPersisters()[0];
+		int batchSize = persister.getBatchSize();
+		if ( batchSize <= 1 || !canLoadAssociationsInBatch() ) {
+			return new Serializable[] { id };
+		}
+
+		Serializable[] batch = session.getPersistenceContext()
+				.getBatchFetchQueue()
+				.getCollectionBatch( persister, id, batchSize );
+
+		// the batch is padded with null values when fewer collections are waiting to be initialized
+		int size = 0;
+		while ( size < batch.length && batch[size] != null ) {
+			size++;
+		}
+		return size == batch.length ? batch : Arrays.copyOf( batch, size );
 	}
 
 	protected Type getKeyType() {
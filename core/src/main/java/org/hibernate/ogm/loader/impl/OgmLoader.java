@@ -12,6 +12,8 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -21,6 +23,7 @@
 import org.hibernate.cfg.NotYetImplementedException;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.TwoPhaseLoad;
+import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityUniqueKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.QueryParameters;
@@ -32,12 +35,18 @@
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.CollectionAliases;
 import org.hibernate.loader.entity.UniqueEntityLoader;
+import org.hibernate.ogm.dialect.impl.AssociationContextImpl;
+import org.hibernate.ogm.dialect.async.spi.AsyncGridDialect;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.entityentry.impl.OgmEntityEntryState;
+import org.hibernate.ogm.entityentry.impl.TuplePointer;
 import org.hibernate.ogm.jdbc.impl.TupleAsMapResultSet;
 import org.hibernate.ogm.loader.entity.impl.BatchableEntityLoader;
 import org.hibernate.ogm.model.impl.EntityKeyBuilder;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
@@ -50,6 +59,7 @@
 import org.hibernate.ogm.util.impl.LoggerFactory;
 import java.lang.invoke.MethodHandles;
 import org.hibernate.ogm.util.impl.StringHelper;
+import org.hibernate.ogm.util.impl.TransactionContextHelper;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.Loadable;
@@ -58,6 +68,7 @@
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.type.AssociationType;
+import org.hibernate.type.CollectionType;
 import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 
@@ -77,6 +88,8 @@ public class OgmLoader implements UniqueEntityLoader, BatchableEntityLoader, Tup
 	private final CollectionAliases[] collectionAliases;
 	private final GridDialect gridDialect;
 	private final MultigetGridDialect multigetGridDialect;
+	private final MultigetAssociationGridDialect multigetAssociationGridDialect;
+	private final AsyncGridDialect asyncGridDialect;
 	private final int batchSize;
 
 	/**
@@ -94,6 +107,8 @@ public OgmLoader(OgmCollectionPersister[] collectionPersisters) {
 		ServiceRegistryImplementor serviceRegistry = this.factory.getServiceRegistry();
 		this.gridDialect = serviceRegistry.getService( GridDialect.class );
 		this.multigetGridDialect = serviceRegistry.getService( MultigetGridDialect.class );
+		this.multigetAssociationGridDialect = serviceRegistry.getService( MultigetAssociationGridDialect.class );
+		this.asyncGridDialect = serviceRegistry.getService( AsyncGridDialect.class );
 
 		//NONE, because its the requested lock mode, not the actual!
 		final int fromSize = 1;
@@ -121,6 +136,8 @@ public OgmLoader(OgmEntityPersister[] entityPersisters, int batchSize) {
 		ServiceRegistryImplementor serviceRegistry = this.factory.getServiceRegistry();
 		this.gridDialect = serviceRegistry.getService( GridDialect.class );
 		this.multigetGridDialect = serviceRegistry.getService( MultigetGridDialect.class );
+		this.multigetAssociationGridDialect = serviceRegistry.getService( MultigetAssociationGridDialect.class );
+		this.asyncGridDialect = serviceRegistry.getService( AsyncGridDialect.class );
 
 		// NONE, because its the requested lock mode, not the actual!
 		final int fromSize = 1;
@@ -254,6 +271,48 @@ public final void loadCollection(
 
 	}
 
+	/**
+	 * Called by subclasses that batch initialize collections
+	 *
+	 * @param session the session
+	 * @param ids the collection identifiers
+	 * @param type collection type
+	 * @throws HibernateException if an error occurs
+	 */
+	public final void loadCollectionBatch(
+		final SharedSessionContractImplementor session,
+		final Serializable[] ids,
+		final Type type) throws HibernateException {
+
+		if ( log.isDebugEnabled() ) {
+			log.debug(
+					"batch loading collection: " +
+					MessageHelper.collectionInfoString( getCollectionPersisters()[0], ids, getFactory() )
+				);
+		}
+
+		Type[] idTypes = new Type[ids.length];
+		Arrays.fill( idTypes, type );
+		QueryParameters qp = new QueryParameters( idTypes, ids, ids );
+		doQueryAndInitializeNonLazyCollections(
+				session,
+				qp,
+				OgmLoadingContext.EMPTY_CONTEXT,
+				true
+			);
+
+		log.debug( "done batch load" );
+	}
+
+	/**
+	 * Whether the associations of several owners can be loaded with a single datastore operation.
+	 *
+	 * @return {@code true} if the current dialect supports loading several associations at once
+	 */
+	boolean canLoadAssociationsInBatch() {
+		return multigetAssociationGridDialect != null;
+	}
+
 	OgmEntityPersister[] getEntityPersisters() {
 		return entityPersisters;
 	}
@@ -391,6 +450,7 @@ else if ( ogmLoadingContext.hasResultSet() ) {
 
 		//end of for each element in resultset
 
+		prefetchNonLazyAssociations( hydratedObjects, session );
 		initializeEntitiesAndCollections( hydratedObjects, resultset, session, qp.isReadOnly( session ) );
 		//TODO create subselects
 		return results;
@@ -428,7 +488,8 @@ private void preLoadBatchFetchingQueue(SharedSessionContractImplementor session,
 	}
 
 	private boolean loadSeveralIds(QueryParameters qp) {
-		return qp.getPositionalParameterValues().length > 1;
+		// collection loaders get several ids when batch loading collections, they are handled as collection keys
+		return getEntityPersisters().length > 0 && qp.getPositionalParameterValues().length > 1;
 	}
 
 	/**
@@ -593,27 +654,138 @@ private TupleAsMapResultSet getResultSet(Serializable id, QueryParameters qp, Og
 				throw new AssertionFailure( "Found an unexpected number of collection persisters: " + getCollectionPersisters().length );
 			}
 			final OgmCollectionPersister persister = (OgmCollectionPersister) getCollectionPersisters()[0];
-			Object owner = session.getPersistenceContext().getCollectionOwner( id, persister );
+			for ( Association assoc : getAssociations( persister, qp.getCollectionKeys(), session ) ) {
+				if ( assoc != null ) {
+					for ( RowKey rowKey : assoc.getKeys() ) {
+						resultset.addTuple( assoc.get( rowKey ) );
+					}
+				}
+			}
+		}
+		return resultset;
+	}
+
+	/**
+	 * Returns the associations for the given collection keys. Associations not already cached in the session are
+	 * loaded with a single datastore operation if the dialect supports it and if they are not stored within the
+	 * entity structure (in this case, the owner has already been read).
+	 */
+	private List<Association> getAssociations(OgmCollectionPersister persister, Serializable[] collectionKeys, SharedSessionContractImplementor session) {
+		List<Association> associations = new ArrayList<Association>( collectionKeys.length );
+		List<AssociationPersister> notLoaded = new ArrayList<AssociationPersister>( collectionKeys.length );
+		for ( Serializable collectionKey : collectionKeys ) {
+			Object owner = session.getPersistenceContext().getCollectionOwner( collectionKey, persister );
 
 			AssociationPersister associationPersister = new AssociationPersister.Builder(
 					persister.getOwnerEntityPersister().getMappedClass()
 				)
 				.gridDialect( gridDialect )
-				.key( id, persister.getKeyGridType() )
+				.key( collectionKey, persister.getKeyGridType() )
 				.associationKeyMetadata( persister.getAssociationKeyMetadata() )
 				.associationTypeContext( persister.getAssociationTypeContext() )
 				.hostingEntity( owner )
 				.session( session )
 				.build();
 
-			Association assoc = associationPersister.getAssociationOrNull();
-			if ( assoc != null ) {
-				for ( RowKey rowKey : assoc.getKeys() ) {
-					resultset.addTuple( assoc.get( rowKey ) );
-				}
+			if ( associationPersister.isAssociationLoaded() ) {
+				associations.add( associationPersister.getAssociationOrNull() );
+			}
+			else {
+				notLoaded.add( associationPersister );
 			}
 		}
-		return resultset;
+
+		if ( notLoaded.size() > 1 && canLoadAssociationsInBatch()
+				&& !gridDialect.isStoredInEntityStructure( persister.getAssociationKeyMetadata(), persister.getAssociationTypeContext() ) ) {
+			AssociationKey[] keys = new AssociationKey[notLoaded.size()];
+			for ( int i = 0; i < keys.length; i++ ) {
+				keys[i] = notLoaded.get( i ).getAssociationKey();
+			}
+			// the associations belong to different owners, so there is no entity tuple to share
+			AssociationContext associationContext = new AssociationContextImpl(
+					persister.getAssociationTypeContext(),
+					new TuplePointer(),
+					TransactionContextHelper.transactionContext( session )
+			);
+			List<Association> loaded = multigetAssociationGridDialect.getAssociations( keys, associationContext );
+			for ( int i = 0; i < keys.length; i++ ) {
+				Association association = loaded.get( i );
+				notLoaded.get( i ).setLoadedAssociation( association );
+				associations.add( association );
+			}
+		}
+		else {
+			for ( AssociationPersister associationPersister : notLoaded ) {
+				associations.add( associationPersister.getAssociationOrNull() );
+			}
+		}
+		return associations;
+	}
+
+	/**
+	 * Reads the non-lazy associations of an entity loaded on its own. They are initialized right after the entity by one
+	 * collection loader per role, and the multiget facet cannot read associations of different roles at once, so all the
+	 * reads are issued through the asynchronous facet before waiting for the first one. Lazy associations are left
+	 * alone as they might never be accessed.
+	 */
+	private void prefetchNonLazyAssociations(List<Object> hydratedObjects, SharedSessionContractImplementor session) {
+		if ( asyncGridDialect == null || hydratedObjects == null || hydratedObjects.size() != 1 ) {
+			return;
+		}
+
+		Object owner = hydratedObjects.get( 0 );
+		EntityEntry entry = session.getPersistenceContext().getEntry( owner );
+		List<AssociationPersister> notLoaded = new ArrayList<AssociationPersister>();
+		for ( Type propertyType : entry.getPersister().getPropertyTypes() ) {
+			if ( !propertyType.isCollectionType() || !( (CollectionType) propertyType ).useLHSPrimaryKey() ) {
+				continue;
+			}
+			OgmCollectionPersister persister = (OgmCollectionPersister) getFactory().getMetamodel()
+					.collectionPersister( ( (CollectionType) propertyType ).getRole() );
+			if ( persister.isLazy() || gridDialect.isStoredInEntityStructure( persister.getAssociationKeyMetadata(), persister.getAssociationTypeContext() ) ) {
+				continue;
+			}
+
+			AssociationPersister associationPersister = new AssociationPersister.Builder(
+					persister.getOwnerEntityPersister().getMappedClass()
+				)
+				.gridDialect( gridDialect )
+				.key( entry.getId(), persister.getKeyGridType() )
+				.associationKeyMetadata( persister.getAssociationKeyMetadata() )
+				.associationTypeContext( persister.getAssociationTypeContext() )
+				.hostingEntity( owner )
+				.session( session )
+				.build();
+
+			if ( !associationPersister.isAssociationLoaded() ) {
+				notLoaded.add( associationPersister );
+			}
+		}
+
+		if ( notLoaded.size() > 1 ) {
+			List<CompletionStage<Association>> pending = new ArrayList<CompletionStage<Association>>( notLoaded.size() );
+			for ( AssociationPersister associationPersister : notLoaded ) {
+				pending.add( asyncGridDialect.getAssociationAsync( associationPersister.getAssociationKey(), associationPersister.getAssociationContext() ) );
+			}
+			for ( int i = 0; i < pending.size(); i++ ) {
+				notLoaded.get( i ).setLoadedAssociation( join( pending.get( i ) ) );
+			}
+		}
+	}
+
+	/**
+	 * Waits for the result of an asynchronous read, rethrowing the exception raised by the dialect if it failed.
+	 */
+	private static <T> T join(CompletionStage<T> stage) {
+		try {
+			return stage.toCompletableFuture().join();
+		}
+		catch (CompletionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
 	}
 
 	private Object getResultColumnOrRow(Object[] row) {
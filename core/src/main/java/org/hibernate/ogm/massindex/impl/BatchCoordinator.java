@@ -47,13 +47,17 @@ public class BatchCoordinator implements Runnable {
 	private final MassIndexerProgressMonitor monitor;
 	private final ErrorHandler errorHandler;
 	private final String tenantId;
+	private final int threadsToLoadObjects;
+	private final int batchSizeToLoadObjects;
 
 	private final GridDialect gridDialect;
 
 	public BatchCoordinator(GridDialect gridDialect, IndexedTypeSet rootEntities, ExtendedSearchIntegrator searchFactoryImplementor,
 			SessionFactoryImplementor sessionFactory, int typesToIndexInParallel, CacheMode cacheMode, boolean optimizeAtEnd, boolean purgeAtStart,
-			boolean optimizeAfterPurge, MassIndexerProgressMonitor monitor, String tenantId) {
+			boolean optimizeAfterPurge, MassIndexerProgressMonitor monitor, String tenantId, int threadsToLoadObjects, int batchSizeToLoadObjects) {
 		this.gridDialect = gridDialect;
+		this.threadsToLoadObjects = threadsToLoadObjects;
+		this.batchSizeToLoadObjects = batchSizeToLoadObjects;
 		this.tenantId = tenantId;
 		this.rootIndexedTypes = rootEntities;
 		this.searchFactoryImplementor = searchFactoryImplementor;
@@ -106,7 +110,7 @@ private void doBatchWork(BatchBackend backend) throws InterruptedException {
 		ExecutorService executor = Executors.newFixedThreadPool( typesToIndexInParallel, "BatchIndexingWorkspace" );
 		for ( IndexedTypeIdentifier indexedTypeIdentifier : rootIndexedTypes ) {
 			executor.execute( new BatchIndexingWorkspace( gridDialect, searchFactoryImplementor, sessionFactory, indexedTypeIdentifier,
-					cacheMode, endAllSignal, monitor, backend, tenantId ) );
+					cacheMode, endAllSignal, monitor, backend, tenantId, threadsToLoadObjects, batchSizeToLoadObjects ) );
 		}
 		executor.shutdown();
 		endAllSignal.await(); // waits for the executor to finish
@@ -7,10 +7,14 @@
 package org.hibernate.ogm.massindex.impl;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.CacheMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
@@ -54,10 +58,16 @@ public class BatchIndexingWorkspace implements Runnable {
 
 	private final String tenantId;
 
+	private final int threadsToLoadObjects;
+
+	private final int batchSizeToLoadObjects;
+
 	public BatchIndexingWorkspace(GridDialect gridDialect, SearchIntegrator search,
 			SessionFactoryImplementor sessionFactory, IndexedTypeIdentifier indexedTypeIdentifier, CacheMode cacheMode, CountDownLatch endAllSignal,
-			MassIndexerProgressMonitor monitor, BatchBackend backend, String tenantId) {
+			MassIndexerProgressMonitor monitor, BatchBackend backend, String tenantId, int threadsToLoadObjects, int batchSizeToLoadObjects) {
 		this.gridDialect = gridDialect;
+		this.threadsToLoadObjects = threadsToLoadObjects;
+		this.batchSizeToLoadObjects = batchSizeToLoadObjects;
 		this.indexedTypeIdentifier = indexedTypeIdentifier;
 		this.tenantId = tenantId;
 		this.searchIntegrator = search.unwrap( ExtendedSearchIntegrator.class );
@@ -75,8 +85,20 @@ public void run() {
 			OgmEntityPersister persister = (OgmEntityPersister) sessionFactory.getMetamodel().entityPersister( indexedTypeIdentifier.getPojoType() );
 			final EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( persister.getTableName(), persister.getRootTableIdentifierColumnNames() );
 
-			final SessionAwareRunnable consumer = new TupleIndexer( indexedTypeIdentifier, monitor, sessionFactory, searchIntegrator, cacheMode, batchBackend, errorHandler, tenantId );
-			gridDialect.forEachTuple( new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, consumer ), persister.getTupleTypeContext(), keyMetadata );
+			final SessionAwareRunnable indexer = new TupleIndexer( indexedTypeIdentifier, monitor, sessionFactory, searchIntegrator, cacheMode, batchBackend, errorHandler, tenantId );
+			final ModelConsumer consumer = new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, indexer, batchSizeToLoadObjects );
+
+			PartitionableGridDialect partitionableGridDialect = sessionFactory.getServiceRegistry().getService( PartitionableGridDialect.class );
+			if ( threadsToLoadObjects > 1 && partitionableGridDialect != null ) {
+				consumeInParallel( partitionableGridDialect, consumer, persister, keyMetadata );
+			}
+			else {
+				gridDialect.forEachTuple( consumer, persister.getTupleTypeContext(), keyMetadata );
+			}
+		}
+		catch ( InterruptedException e ) {
+			log.interruptedBatchIndexing();
+			Thread.currentThread().interrupt();
 		}
 		catch ( RuntimeException re ) {
 			// being this an async thread we want to make sure everything is somehow reported
@@ -86,4 +108,20 @@ public void run() {
 			endAllSignal.countDown();
 		}
 	}
+
+	/*
+	 * Each partition of the tuples is consumed on its own thread of the loader pool
+	 */
+	private void consumeInParallel(PartitionableGridDialect partitionableGridDialect, ModelConsumer consumer, OgmEntityPersister persister,
+			EntityKeyMetadata keyMetadata) throws InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool( threadsToLoadObjects, "entityloader" );
+		try {
+			partitionableGridDialect.forEachTuple( supplier -> executor.execute( () -> consumer.consume( supplier ) ),
+					persister.getTupleTypeContext(), keyMetadata, threadsToLoadObjects );
+		}
+		finally {
+			executor.shutdown();
+		}
+		executor.awaitTermination( Long.MAX_VALUE, TimeUnit.SECONDS );
+	}
 }
@@ -48,6 +48,8 @@ public class OgmMassIndexer implements MassIndexerWithTenant {
 	private boolean purgeAllOnStart = true;
 	private String tenantId;
 	private int typesToIndexInParallel = 1;
+	private int threadsToLoadObjects = 1;
+	private int batchSizeToLoadObjects = 10;
 
 	private final IndexedTypeSet rootEntities;
 
@@ -65,7 +67,8 @@ private MassIndexerProgressMonitor createMonitor(ExtendedSearchIntegrator search
 
 	@Override
 	public MassIndexer threadsToLoadObjects(int numberOfThreads) {
-		log.unsupportedIndexerConfigurationOption( "threadsToLoadObjects" );
+		atLeastOneValidation( numberOfThreads );
+		this.threadsToLoadObjects = numberOfThreads;
 		return this;
 	}
 
@@ -77,7 +80,10 @@ public MassIndexerWithTenant tenantIdentifier(String tenantIdentifier) {
 
 	@Override
 	public MassIndexer batchSizeToLoadObjects(int batchSize) {
-		log.unsupportedIndexerConfigurationOption( "batchSizeToLoadObjects" );
+		if ( batchSize < 1 ) {
+			throw new IllegalArgumentException( "batchSize must be at least 1" );
+		}
+		this.batchSizeToLoadObjects = batchSize;
 		return this;
 	}
 
@@ -161,7 +167,7 @@ public void startAndWait() throws InterruptedException {
 
 	protected BatchCoordinator createCoordinator() {
 		return new BatchCoordinator( gridDialect, rootEntities, searchIntegrator, sessionFactory, typesToIndexInParallel, cacheMode, optimizeOnFinish,
-				purgeAllOnStart, optimizeAfterPurge, monitor, tenantId );
+				purgeAllOnStart, optimizeAfterPurge, monitor, tenantId, threadsToLoadObjects, batchSizeToLoadObjects );
 	}
 
 	private void atLeastOneValidation(int numberOfThreads) {
@@ -13,6 +13,7 @@
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -45,6 +46,18 @@ public class Association {
 	private final Map<RowKey, AssociationOperation> currentState = new LinkedHashMap<RowKey, AssociationOperation>();
 	private boolean cleared;
 
+	/**
+	 * The number of rows added to the snapshot (or to nothing, if cleared) by the current operations.
+	 */
+	private int sizeDelta;
+
+	/**
+	 * The keys of the rows of this association, built on first request when there are operations and maintained
+	 * from then on; copied before being changed if it has been handed out.
+	 */
+	private Set<RowKey> keys;
+	private boolean keysShared;
+
 	/**
 	 * Creates a new association, based on an empty association snapshot.
 	 */
@@ -85,7 +98,14 @@ else if ( result.getType() == REMOVE ) {
 	public void put(RowKey key, Tuple value) {
 		// instead of setting it to null, core must use remove
 		Contracts.assertNotNull( value, "association.put value" );
+		boolean present = containsKey( key );
 		currentState.put( key, new AssociationOperation( key, value, PUT )  );
+		if ( !present ) {
+			sizeDelta++;
+			if ( keys != null ) {
+				writableKeys().add( key );
+			}
+		}
 	}
 
 	/**
@@ -94,7 +114,30 @@ public void put(RowKey key, Tuple value) {
 	 * @param key the key of the association row to remove
 	 */
 	public void remove(RowKey key) {
+		boolean present = containsKey( key );
 		currentState.put( key, new AssociationOperation( key, null, REMOVE ) );
+		if ( present ) {
+			sizeDelta--;
+			if ( keys != null ) {
+				writableKeys().remove( key );
+			}
+		}
+	}
+
+	private boolean containsKey(RowKey key) {
+		AssociationOperation operation = currentState.get( key );
+		if ( operation == null ) {
+			return !cleared && snapshot.containsKey( key );
+		}
+		return operation.getType() == PUT;
+	}
+
+	private Set<RowKey> writableKeys() {
+		if ( keysShared ) {
+			keys = new LinkedHashSet<RowKey>( keys );
+			keysShared = false;
+		}
+		return keys;
 	}
 
 	/**
@@ -130,15 +173,6 @@ public AssociationSnapshot getSnapshot() {
 	 * @return {@code true} if this association contains no rows, {@code false} otherwise
 	 */
 	public boolean isEmpty() {
-		int snapshotSize = cleared ? 0 : snapshot.size();
-		//nothing in both
-		if ( snapshotSize == 0 && currentState.isEmpty() ) {
-			return true;
-		}
-		//snapshot bigger than changeset
-		if ( snapshotSize > currentState.size() ) {
-			return false;
-		}
 		return size() == 0;
 	}
 
@@ -148,22 +182,7 @@ public boolean isEmpty() {
 	 * @return the number of rows within this association
 	 */
 	public int size() {
-		int size = cleared ? 0 : snapshot.size();
-		for ( Map.Entry<RowKey,AssociationOperation> op : currentState.entrySet() ) {
-			switch ( op.getValue().getType() ) {
-				case PUT:
-					if ( cleared || !snapshot.containsKey( op.getKey() ) ) {
-						size++;
-					}
-					break;
-				case REMOVE:
-					if ( !cleared && snapshot.containsKey( op.getKey() ) ) {
-						size--;
-					}
-					break;
-			}
-		}
-		return size;
+		return ( cleared ? 0 : snapshot.size() ) + sizeDelta;
 	}
 
 	/**
@@ -183,29 +202,37 @@ public Iterable<RowKey> getKeys() {
 			}
 		}
 		else {
-			// It may be a bit too large in case of removals, but that's fine for now
-			Set<RowKey> keys = CollectionHelper.newLinkedHashSet( cleared ? currentState.size() : snapshot.size() + currentState.size() );
-
-			if ( !cleared ) {
-				// we add the snapshot RowKeys only if the association has not been cleared
-				for ( RowKey rowKey : snapshot.getRowKeys() ) {
-					keys.add( rowKey );
-				}
+			if ( keys == null ) {
+				keys = collectKeys();
 			}
+			keysShared = true;
+			return Collections.unmodifiableSet( keys );
+		}
+	}
+
+	private Set<RowKey> collectKeys() {
+		// It may be a bit too large in case of removals, but that's fine for now
+		Set<RowKey> keys = CollectionHelper.newLinkedHashSet( cleared ? currentState.size() : snapshot.size() + currentState.size() );
 
-			for ( Map.Entry<RowKey,AssociationOperation> op : currentState.entrySet() ) {
-				switch ( op.getValue().getType() ) {
-					case PUT:
-						keys.add( op.getKey() );
-						break;
-					case REMOVE:
-						keys.remove( op.getKey() );
-						break;
-				}
+		if ( !cleared ) {
+			// we add the snapshot RowKeys only if the association has not been cleared
+			for ( RowKey rowKey : snapshot.getRowKeys() ) {
+				keys.add( rowKey );
 			}
+		}
 
-			return keys;
+		for ( Map.Entry<RowKey,AssociationOperation> op : currentState.entrySet() ) {
+			switch ( op.getValue().getType() ) {
+				case PUT:
+					keys.add( op.getKey() );
+					break;
+				case REMOVE:
+					keys.remove( op.getKey() );
+					break;
+			}
 		}
+
+		return keys;
 	}
 
 	/**
@@ -213,7 +240,7 @@ public Iterable<RowKey> getKeys() {
 	 */
 	public void clear() {
 		cleared = true;
-		currentState.clear();
+		clearOperations();
 	}
 
 	/**
@@ -221,7 +248,14 @@ public void clear() {
 	 */
 	public void reset() {
 		cleared = false;
+		clearOperations();
+	}
+
+	private void clearOperations() {
 		currentState.clear();
+		sizeDelta = 0;
+		keys = null;
+		keysShared = false;
 	}
 
 	@Override
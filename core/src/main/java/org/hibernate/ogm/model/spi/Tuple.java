@@ -10,10 +10,13 @@
 import static org.hibernate.ogm.model.spi.TupleOperationType.PUT_NULL;
 import static org.hibernate.ogm.model.spi.TupleOperationType.REMOVE;
 
+import java.util.AbstractSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.hibernate.ogm.datastore.impl.EmptyTupleSnapshot;
@@ -29,6 +32,9 @@
  * list of TupleOperation. It is intended that GridDialects retrieve to these actions and
  * reproduce them to the datastore. The list of changes is computed based off the snapshot.
  *
+ * When a {@link TupleColumnLayout} is set, the changes applied to the columns of the layout are tracked in arrays
+ * indexed by column and the corresponding operations are only created when they are iterated over.
+ *
  * @author Emmanuel Bernard &lt;emmanuel@hibernate.org&gt;
  * @author Sanne Grinovero  &lt;sanne@hibernate.org&gt;
  */
@@ -46,10 +52,21 @@ public enum SnapshotType {
 		UNKNOWN
 	}
 
+	/**
+	 * Marks a removed column in {@link #columnValues}.
+	 */
+	private static final Object REMOVED = new Object();
+
 	private final TupleSnapshot snapshot;
 	private Map<String, TupleOperation> currentState = null; //lazy initialize the Map as it costs quite some memory
 	private SnapshotType snapshotType;
 
+	// changes applied to the columns of the layout, if any
+	private TupleColumnLayout columnLayout;
+	private Object[] columnValues;
+	private long[] changedColumns;
+	private int changedColumnCount;
+
 	public Tuple() {
 		this.snapshot = EmptyTupleSnapshot.INSTANCE;
 		this.snapshotType = SnapshotType.INSERT;
@@ -60,7 +77,27 @@ public Tuple(TupleSnapshot snapshot, SnapshotType snapshotType) {
 		this.snapshotType = snapshotType;
 	}
 
+	/**
+	 * Use the given layout to track the changes applied to its columns. The layout is only taken into account if no
+	 * change has been applied to this tuple yet.
+	 *
+	 * @param columnLayout the layout of the columns of this tuple
+	 */
+	public void setColumnLayout(TupleColumnLayout columnLayout) {
+		if ( currentState == null && columnValues == null ) {
+			this.columnLayout = columnLayout;
+		}
+	}
+
 	public Object get(String column) {
+		int index = indexOf( column );
+		if ( index >= 0 ) {
+			if ( isChanged( index ) ) {
+				Object value = columnValues[index];
+				return value == REMOVED ? null : value;
+			}
+			return snapshot.get( column );
+		}
 		if ( currentState == null ) {
 			return snapshot.get( column );
 		}
@@ -77,6 +114,11 @@ else if ( result.getType() == PUT_NULL || result.getType() == REMOVE ) {
 	}
 
 	public void put(String column, Object value) {
+		int index = indexOf( column );
+		if ( index >= 0 ) {
+			change( index, value );
+			return;
+		}
 		if ( currentState == null ) {
 			currentState = new HashMap<String, TupleOperation>();
 		}
@@ -89,12 +131,51 @@ public void put(String column, Object value) {
 	}
 
 	public void remove(String column) {
+		int index = indexOf( column );
+		if ( index >= 0 ) {
+			change( index, REMOVED );
+			return;
+		}
 		if ( currentState == null ) {
 			currentState = new HashMap<String, TupleOperation>();
 		}
 		currentState.put( column, new TupleOperation( column, null, REMOVE ) );
 	}
 
+	private int indexOf(String column) {
+		return columnLayout == null ? -1 : columnLayout.indexOf( column );
+	}
+
+	private boolean isChanged(int index) {
+		return changedColumns != null && ( changedColumns[index >>> 6] & ( 1L << index ) ) != 0;
+	}
+
+	private void change(int index, Object value) {
+		if ( columnValues == null ) {
+			columnValues = new Object[columnLayout.size()];
+			changedColumns = new long[( columnLayout.size() + 63 ) >>> 6];
+		}
+		if ( !isChanged( index ) ) {
+			changedColumns[index >>> 6] |= 1L << index;
+			changedColumnCount++;
+		}
+		columnValues[index] = value;
+	}
+
+	private TupleOperation operation(int index) {
+		Object value = columnValues[index];
+		String column = columnLayout.getColumn( index );
+		if ( value == REMOVED ) {
+			return new TupleOperation( column, null, REMOVE );
+		}
+		else if ( value == null ) {
+			return new TupleOperation( column, null, PUT_NULL );
+		}
+		else {
+			return new TupleOperation( column, value, PUT );
+		}
+	}
+
 	/**
 	 * Return the list of actions on the tuple.
 	 * Inherently deduplicated operations
@@ -102,7 +183,10 @@ public void remove(String column) {
 	 * @return the operations to execute on the Tuple
 	 */
 	public Set<TupleOperation> getOperations() {
-		if ( currentState == null ) {
+		if ( changedColumnCount > 0 ) {
+			return new OperationSet();
+		}
+		else if ( currentState == null ) {
 			return Collections.emptySet();
 		}
 		else {
@@ -123,11 +207,11 @@ public void setSnapshotType(SnapshotType snapshotType) {
 	}
 
 	public Set<String> getColumnNames() {
-		if ( currentState == null ) {
+		if ( currentState == null && changedColumnCount == 0 ) {
 			return snapshot.getColumnNames();
 		}
 		Set<String> columnNames = new HashSet<String>( snapshot.getColumnNames() );
-		for ( TupleOperation op : currentState.values() ) {
+		for ( TupleOperation op : getOperations() ) {
 			switch ( op.getType() ) {
 				case PUT :
 				case PUT_NULL :
@@ -144,11 +228,12 @@ public Set<String> getColumnNames() {
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( "Tuple[" );
+		Set<String> columnNames = getColumnNames();
 		int i = 0;
-		for ( String column : getColumnNames() ) {
+		for ( String column : columnNames ) {
 			sb.append( column ).append( "=" ).append( get( column ) );
 			i++;
-			if ( i < getColumnNames().size() ) {
+			if ( i < columnNames.size() ) {
 				sb.append( ", " );
 			}
 		}
@@ -156,4 +241,62 @@ public String toString() {
 		sb.append( "]" );
 		return sb.toString();
 	}
+
+	/**
+	 * Read-only view of the operations: the ones on the columns of the layout, created while iterating, followed by
+	 * the ones on the other columns.
+	 */
+	private class OperationSet extends AbstractSet<TupleOperation> {
+
+		@Override
+		public int size() {
+			return changedColumnCount + ( currentState == null ? 0 : currentState.size() );
+		}
+
+		@Override
+		public Iterator<TupleOperation> iterator() {
+			return new Iterator<TupleOperation>() {
+
+				private final Iterator<TupleOperation> others = currentState == null
+						? Collections.<TupleOperation>emptyIterator()
+						: currentState.values().iterator();
+				private int next = nextChanged( 0 );
+
+				@Override
+				public boolean hasNext() {
+					return next >= 0 || others.hasNext();
+				}
+
+				@Override
+				public TupleOperation next() {
+					if ( next >= 0 ) {
+						TupleOperation operation = operation( next );
+						next = nextChanged( next + 1 );
+						return operation;
+					}
+					if ( others.hasNext() ) {
+						return others.next();
+					}
+					throw new NoSuchElementException();
+				}
+			};
+		}
+
+		private int nextChanged(int from) {
+			int word = from >>> 6;
+			if ( word >= changedColumns.length ) {
+				return -1;
+			}
+			long bits = changedColumns[word] & ( -1L << from );
+			while ( true ) {
+				if ( bits != 0 ) {
+					return ( word << 6 ) + Long.numberOfTrailingZeros( bits );
+				}
+				if ( ++word == changedColumns.length ) {
+					return -1;
+				}
+				bits = changedColumns[word];
+			}
+		}
+	}
 }
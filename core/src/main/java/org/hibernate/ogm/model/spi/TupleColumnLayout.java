@@ -0,0 +1,69 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.model.spi;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The known columns of a given entity type, each one associated to a stable index.
+ * <p>
+ * A {@link Tuple} using a layout tracks the changes applied to these columns in arrays indexed by column, instead of
+ * creating an operation object per change. A layout is immutable and meant to be shared by all the tuples of an
+ * entity type.
+ *
+ * @see Tuple#setColumnLayout(TupleColumnLayout)
+ */
+public final class TupleColumnLayout {
+
+	private final String[] columns;
+	private final Map<String, Integer> indexes;
+
+	public TupleColumnLayout(Collection<String> columns) {
+		this.columns = new String[columns.size()];
+		this.indexes = new HashMap<>( columns.size() * 4 / 3 + 1 );
+
+		int index = 0;
+		for ( String column : columns ) {
+			if ( !indexes.containsKey( column ) ) {
+				this.columns[index] = column;
+				indexes.put( column, index );
+				index++;
+			}
+		}
+	}
+
+	/**
+	 * @param column the name of a column
+	 * @return the index of the column in this layout, or -1 if the column is not part of it
+	 */
+	public int indexOf(String column) {
+		Integer index = indexes.get( column );
+		return index == null ? -1 : index;
+	}
+
+	/**
+	 * @param index the index of a column in this layout
+	 * @return the name of the column
+	 */
+	public String getColumn(int index) {
+		return columns[index];
+	}
+
+	/**
+	 * @return the number of columns in this layout
+	 */
+	public int size() {
+		return indexes.size();
+	}
+
+	@Override
+	public String toString() {
+		return "TupleColumnLayout" + indexes.keySet();
+	}
+}
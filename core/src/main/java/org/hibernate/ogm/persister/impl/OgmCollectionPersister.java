@@ -12,6 +12,7 @@
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import org.hibernate.AssertionFailure;
@@ -30,6 +31,7 @@
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.collection.CollectionInitializer;
 import org.hibernate.mapping.Collection;
+import org.hibernate.ogm.dialect.associationsize.spi.AssociationSizeAwareGridDialect;
 import org.hibernate.ogm.dialect.impl.AssociationTypeContextImpl;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
@@ -97,6 +99,7 @@ public class OgmCollectionPersister extends AbstractCollectionPersister implemen
 	private final GridType gridTypeOfAssociatedId;
 	private final AssociationType associationType;
 	private final GridDialect gridDialect;
+	private final AssociationSizeAwareGridDialect associationSizeAwareGridDialect;
 	private final AssociationKeyMetadata associationKeyMetadata;
 
 	/**
@@ -124,6 +127,7 @@ public OgmCollectionPersister(final Collection collection, final CollectionDataA
 		ServiceRegistry registry = factory.getServiceRegistry();
 		final TypeTranslator typeTranslator = registry.getService( TypeTranslator.class );
 		this.gridDialect = registry.getService( GridDialect.class );
+		this.associationSizeAwareGridDialect = registry.getService( AssociationSizeAwareGridDialect.class );
 
 		keyGridType = typeTranslator.getType( getKeyType() );
 		elementGridType = typeTranslator.getType( getElementType() );
@@ -495,12 +499,83 @@ private RowKey getTupleKeyForDelete(Serializable key, PersistentCollection colle
 
 	@Override
 	public int getSize(Serializable key, SharedSessionContractImplementor session) {
-		AssociationPersister associationPersister = getAssociationPersister( session.getPersistenceContext().getEntity( new org.hibernate.engine.spi.EntityKey( key, getOwnerEntityPersister() ) ), key, session );
+		AssociationPersister associationPersister = getAssociationPersister( getCollectionOwner( key, session ), key, session );
+
+		// let the datastore count the rows unless the association is known to the session already
+		if ( associationSizeAwareGridDialect != null && !associationPersister.isAssociationLoaded() ) {
+			return associationSizeAwareGridDialect.getAssociationSize( associationPersister.getAssociationKey(), associationPersister.getAssociationContext() );
+		}
+
 		final Association collectionMetadata = associationPersister.getAssociationOrNull();
 
 		return collectionMetadata == null ? 0 : collectionMetadata.size();
 	}
 
+	@Override
+	public boolean indexExists(Serializable key, Object index, SharedSessionContractImplementor session) {
+		Tuple tuple = new Tuple();
+		getKeyGridType().nullSafeSet( tuple, key, getKeyColumnNames(), session );
+		indexGridType.nullSafeSet( tuple, incrementIndexByBase( index ), getIndexColumnNames(), session );
+		return rowExists( key, tuple, getIndexColumnNames(), session );
+	}
+
+	@Override
+	public boolean elementExists(Serializable key, Object element, SharedSessionContractImplementor session) {
+		if ( elementIsPureFormula ) {
+			throw new AssertionFailure( "cannot use a formula-based element in the where condition" );
+		}
+		Tuple tuple = new Tuple();
+		getKeyGridType().nullSafeSet( tuple, key, getKeyColumnNames(), session );
+		getElementGridType().nullSafeSet( tuple, element, getElementColumnNames(), session );
+		return rowExists( key, tuple, getElementColumnNames(), session );
+	}
+
+	/**
+	 * Whether the association contains a row matching the given tuple on the given columns. If the tuple contains the
+	 * row key columns, the row is looked up by key, in the datastore if possible; otherwise the rows are compared one by
+	 * one.
+	 */
+	private boolean rowExists(Serializable key, Tuple tuple, String[] columns, SharedSessionContractImplementor session) {
+		AssociationPersister associationPersister = getAssociationPersister( getCollectionOwner( key, session ), key, session );
+		RowKey rowKey = null;
+
+		RowKeyBuilder rowKeyBuilder = initializeRowKeyBuilder();
+		if ( tuple.getColumnNames().containsAll( Arrays.asList( rowKeyBuilder.getColumnNames() ) ) ) {
+			rowKey = rowKeyBuilder.values( tuple ).build();
+
+			if ( associationSizeAwareGridDialect != null && !associationPersister.isAssociationLoaded() ) {
+				return associationSizeAwareGridDialect.containsRow( associationPersister.getAssociationKey(), rowKey, associationPersister.getAssociationContext() );
+			}
+		}
+
+		Association association = associationPersister.getAssociationOrNull();
+		if ( association == null ) {
+			return false;
+		}
+		if ( rowKey != null ) {
+			return association.get( rowKey ) != null;
+		}
+
+		for ( RowKey associationRowKey : association.getKeys() ) {
+			Tuple row = association.get( associationRowKey );
+			boolean matches = true;
+			for ( String column : columns ) {
+				if ( !Objects.equals( tuple.get( column ), row.get( column ) ) ) {
+					matches = false;
+					break;
+				}
+			}
+			if ( matches ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Object getCollectionOwner(Serializable key, SharedSessionContractImplementor session) {
+		return session.getPersistenceContext().getEntity( new org.hibernate.engine.spi.EntityKey( key, getOwnerEntityPersister() ) );
+	}
+
 	@Override
 	public FilterAliasGenerator getFilterAliasGenerator(String rootAlias) {
 		return new StaticFilterAliasGenerator( rootAlias );
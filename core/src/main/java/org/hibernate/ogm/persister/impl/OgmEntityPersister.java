@@ -10,6 +10,7 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -80,6 +81,7 @@
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.model.spi.TupleColumnLayout;
 import org.hibernate.ogm.options.spi.OptionsService;
 import org.hibernate.ogm.options.spi.OptionsService.OptionsServiceContext;
 import org.hibernate.ogm.type.spi.GridType;
@@ -217,6 +219,12 @@ public abstract class OgmEntityPersister extends AbstractEntityPersister impleme
 	 */
 	private TupleTypeContextImpl tupleTypeContext;
 
+	/**
+	 * The columns written by this persister, used to track the changes applied to the tuples of the entity type
+	 * without creating an operation per column.
+	 */
+	private TupleColumnLayout tupleColumnLayout;
+
 	OgmEntityPersister(
 			final PersistentClass persistentClass,
 			final EntityDataAccess cacheAccessStrategy,
@@ -591,6 +599,16 @@ protected void createUniqueKeyLoaders() throws MappingException {
 	protected void doPostInstantiate() {
 		inverseOneToOneAssociationKeyMetadata = Collections.unmodifiableMap( initInverseOneToOneAssociationKeyMetadata() );
 		tupleTypeContext = createTupleTypeContext();
+		tupleColumnLayout = createTupleColumnLayout();
+	}
+
+	private TupleColumnLayout createTupleColumnLayout() {
+		List<String> columns = new ArrayList<>( Arrays.asList( getIdentifierColumnNames() ) );
+		columns.addAll( tupleTypeContext.getSelectableColumns() );
+		if ( getDiscriminatorColumnName() != null ) {
+			columns.add( getDiscriminatorColumnName() );
+		}
+		return new TupleColumnLayout( columns );
 	}
 
 	private TupleTypeContextImpl createTupleTypeContext() {
@@ -1328,6 +1346,8 @@ private void dehydrate(
 			log.trace( "Dehydrating entity: " + MessageHelper.infoString( this, id, getFactory() ) );
 		}
 
+		tuple.setColumnLayout( tupleColumnLayout );
+
 		for ( int propertyIndex = 0; propertyIndex < getEntityMetamodel().getPropertySpan(); propertyIndex++ ) {
 			if ( isPropertyOfTable( propertyIndex, tableIndex ) ) {
 				if ( includeProperties[propertyIndex] ) {
@@ -1385,6 +1405,7 @@ public Serializable insert(Object[] fields, Object object, SharedSessionContract
 		boolean[] propertiesToInsert = getPropertiesToInsert( fields );
 
 		Tuple tuple = identityColumnAwareGridDialect.createTuple( entityKeyMetadata, getTupleContext( session ) );
+		tuple.setColumnLayout( tupleColumnLayout );
 
 		// add the discriminator
 		if ( discriminator.isNeeded() ) {
@@ -1494,6 +1515,7 @@ private Tuple createNewResultSetIfNull(
 			SharedSessionContractImplementor session) {
 		if ( resultset == null ) {
 			resultset = gridDialect.createTuple( key, getTupleContext( session ) );
+			resultset.setColumnLayout( tupleColumnLayout );
 			gridIdentifierType.nullSafeSet( resultset, id, getIdentifierColumnNames(), session );
 		}
 		return resultset;
@@ -6,13 +6,11 @@
  */
 package org.hibernate.ogm.query.impl;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
@@ -27,7 +25,6 @@
 import org.hibernate.hql.lucene.LuceneProcessingChain;
 import org.hibernate.hql.lucene.LuceneQueryParsingResult;
 import org.hibernate.hql.spi.QueryTranslator;
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.ogm.service.impl.SessionFactoryEntityNamesResolver;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.search.FullTextQuery;
@@ -48,20 +45,15 @@ public class FullTextSearchQueryTranslator extends LegacyParserBridgeQueryTransl
 
 	/**
 	 * Lucene does not support parameterized queries. As a temporary measure, we therefore cache created queries per set
-	 * of parameter values. At one point, this should be replaced by caching the AST after validation but before the
-	 * actual Lucene query is created.
+	 * of parameter values, in the cache shared by all translators. At one point, this should be replaced by caching the
+	 * AST after validation but before the actual Lucene query is created.
 	 */
-	private final ConcurrentMap<CacheKey, LuceneQueryParsingResult> luceneQueryCache;
+	private final QueryParsingCache parsingCache;
 
-	public FullTextSearchQueryTranslator(SessionFactoryImplementor sessionFactory, String queryIdentifier, String query, Map<?, ?> filters) {
+	public FullTextSearchQueryTranslator(SessionFactoryImplementor sessionFactory, QueryParsingCache parsingCache, String queryIdentifier, String query, Map<?, ?> filters) {
 		super( sessionFactory, queryIdentifier, query, filters );
 		entityNamesResolver = new SessionFactoryEntityNamesResolver( sessionFactory );
-
-		luceneQueryCache = new BoundedConcurrentHashMap<CacheKey, LuceneQueryParsingResult>(
-				100,
-				20,
-				BoundedConcurrentHashMap.Eviction.LIRS
-		);
+		this.parsingCache = parsingCache;
 	}
 
 	@Override
@@ -93,22 +85,14 @@ public List<?> list(SharedSessionContractImplementor session, QueryParameters qu
 	}
 
 	private LuceneQueryParsingResult getLuceneQuery(QueryParameters queryParameters, FullTextSession fullTextSession) {
-		CacheKey cacheKey = new CacheKey( queryParameters.getNamedParameters() );
-		LuceneQueryParsingResult parsingResult = luceneQueryCache.get( cacheKey );
-
-		if ( parsingResult == null ) {
-			parsingResult = new QueryParser().parseQuery(
+		return parsingCache.getParsingResult(
+				getQueryString(),
+				queryParameters.getNamedParameters(),
+				() -> new QueryParser().parseQuery(
 					getQueryString(),
 					createProcessingChain( getNamedParameterValues( queryParameters ), fullTextSession )
-			);
-
-			LuceneQueryParsingResult cached = luceneQueryCache.putIfAbsent( cacheKey, parsingResult );
-			if ( cached != null ) {
-				parsingResult = cached;
-			}
-		}
-
-		return parsingResult;
+				)
+		);
 	}
 
 	@Override
@@ -155,43 +139,4 @@ private Map<String, Object> getNamedParameterValues(QueryParameters queryParamet
 
 		return parameterValues;
 	}
-
-	private static class CacheKey {
-
-		private final Map<String, TypedValue> parameters;
-		private final int hashCode;
-
-		public CacheKey(Map<String, TypedValue> parameters) {
-			this.parameters = Collections.unmodifiableMap( parameters );
-			this.hashCode = parameters.hashCode();
-		}
-
-		@Override
-		public int hashCode() {
-			return hashCode;
-		}
-
-		@Override
-		public boolean equals(Object obj) {
-			if ( this == obj ) {
-				return true;
-			}
-			if ( obj == null ) {
-				return false;
-			}
-			if ( getClass() != obj.getClass() ) {
-				return false;
-			}
-			CacheKey other = (CacheKey) obj;
-			if ( parameters == null ) {
-				if ( other.parameters != null ) {
-					return false;
-				}
-			}
-			else if ( !parameters.equals( other.parameters ) ) {
-				return false;
-			}
-			return true;
-		}
-	}
 }
@@ -10,14 +10,19 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockOptions;
+import org.hibernate.engine.HibernateIterator;
+import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
 import org.hibernate.hql.internal.ast.tree.SelectClause;
 import org.hibernate.loader.hql.QueryLoader;
@@ -29,8 +34,8 @@
 import org.hibernate.ogm.loader.impl.TupleBasedEntityLoader;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
-import org.hibernate.ogm.type.spi.GridType;
 import org.hibernate.ogm.type.spi.TypeTranslator;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.type.Type;
 
 /**
@@ -43,20 +48,27 @@
  */
 public class OgmQueryLoader extends QueryLoader {
 
+	/**
+	 * The number of tuples loaded at once when no fetch size is given for the query.
+	 */
+	private static final int DEFAULT_CHUNK_SIZE = 100;
+
 	private final OgmQueryLoaderContext<?> loaderContext;
-	private final boolean hasScalars;
-	private final List<String> scalarColumns;
 	private final Type[] queryReturnTypes;
 	private final TypeTranslator typeTranslator;
 
+	/**
+	 * Reads the rows of a projection query; {@code null} if the query returns entities.
+	 */
+	private final ScalarRowReader scalarRowReader;
+
 	public OgmQueryLoader(QueryTranslatorImpl queryTranslator, SessionFactoryImplementor factory, SelectClause selectClause, BackendQuery<?> query, List<String> scalarColumns) {
 		super( queryTranslator, factory, selectClause );
 
 		this.loaderContext = getLoaderContext( query, factory );
-		this.hasScalars = selectClause.isScalarSelect();
-		this.scalarColumns = scalarColumns;
 		this.queryReturnTypes = selectClause.getQueryReturnTypes();
 		this.typeTranslator = factory.getServiceRegistry().getService( TypeTranslator.class );
+		this.scalarRowReader = selectClause.isScalarSelect() ? new ScalarRowReader( queryReturnTypes, scalarColumns, typeTranslator ) : null;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -69,59 +81,64 @@ private static <T extends Serializable> OgmQueryLoaderContext<T> getLoaderContex
 	protected List<?> list(SharedSessionContractImplementor session, org.hibernate.engine.spi.QueryParameters queryParameters, Set<Serializable> querySpaces,
 			Type[] resultTypes) throws HibernateException {
 
-		ClosableIterator<Tuple> tuples = loaderContext.executeQuery( session, QueryParameters.fromOrmQueryParameters( queryParameters, typeTranslator, session.getFactory() ) );
+		ResultRowIterator rows = executeQuery( session, queryParameters, resultTypes );
 		try {
-			if ( hasScalars ) {
-				return listOfArrays( session, tuples );
-			}
-			else {
-				return listOfEntities( session, resultTypes, tuples );
+			List<Object> results = new ArrayList<Object>();
+			while ( rows.hasNext() ) {
+				results.add( rows.next() );
 			}
+			return results;
 		}
 		finally {
-			tuples.close();
+			rows.close();
 		}
 	}
 
-	// At the moment we only support the case where one entity type is returned
-	private List<Object> listOfEntities(SharedSessionContractImplementor session, Type[] resultTypes, ClosableIterator<Tuple> tuples) {
-		Class<?> returnedClass = resultTypes[0].getReturnedClass();
-		TupleBasedEntityLoader loader = getLoader( session, returnedClass );
-		OgmLoadingContext ogmLoadingContext = new OgmLoadingContext();
-		ogmLoadingContext.setTuples( getTuplesAsList( tuples ) );
-		return loader.loadEntitiesFromTuples( session, LockOptions.NONE, ogmLoadingContext );
-	}
+	@Override
+	public Iterator<?> iterate(org.hibernate.engine.spi.QueryParameters queryParameters, EventSource session) throws HibernateException {
+		final ResultRowIterator rows = executeQuery( session, queryParameters, queryReturnTypes );
 
-	private List<Tuple> getTuplesAsList(ClosableIterator<Tuple> tuples) {
-		List<Tuple> tuplesAsList = new ArrayList<>();
-		while ( tuples.hasNext() ) {
-			tuplesAsList.add( tuples.next() );
-		}
-		return tuplesAsList;
-	}
+		return new HibernateIterator() {
 
-	private List<Object> listOfArrays(SharedSessionContractImplementor session, Iterator<Tuple> tuples) {
-		List<Object> results = new ArrayList<Object>();
-		while ( tuples.hasNext() ) {
-			Tuple tuple = tuples.next();
-			Object[] entry = new Object[queryReturnTypes.length];
-
-			int i = 0;
-			for ( Type type : queryReturnTypes ) {
-				GridType gridType = typeTranslator.getType( type );
-				entry[i] = gridType.nullSafeGet( tuple, scalarColumns.get( i ), session, null );
-				i++;
+			@Override
+			public boolean hasNext() {
+				return rows.hasNext();
 			}
 
-			if ( entry.length == 1 ) {
-				results.add( entry[0] );
+			@Override
+			public Object next() {
+				return rows.next();
 			}
-			else {
-				results.add( entry );
+
+			@Override
+			public void close() {
+				rows.close();
 			}
-		}
+		};
+	}
+
+	@Override
+	public ScrollableResultsImplementor scroll(org.hibernate.engine.spi.QueryParameters queryParameters, SharedSessionContractImplementor session) throws HibernateException {
+		return new OgmScrollableResults( executeQuery( session, queryParameters, queryReturnTypes ), queryReturnTypes );
+	}
+
+	/**
+	 * Executes the query; the returned iterator pulls the tuples from the datastore and loads them chunk by chunk, so
+	 * that the whole result never needs to be held in memory.
+	 */
+	private ResultRowIterator executeQuery(SharedSessionContractImplementor session, org.hibernate.engine.spi.QueryParameters queryParameters, Type[] resultTypes) {
+		ClosableIterator<Tuple> tuples = loaderContext.executeQuery( session, QueryParameters.fromOrmQueryParameters( queryParameters, typeTranslator, session.getFactory() ) );
+		// At the moment we only support the case where one entity type is returned
+		TupleBasedEntityLoader entityLoader = scalarRowReader != null ? null : getLoader( session, resultTypes[0].getReturnedClass() );
+		return new ResultRowIterator( session, tuples, entityLoader, getChunkSize( queryParameters ) );
+	}
 
-		return results;
+	private static int getChunkSize(org.hibernate.engine.spi.QueryParameters queryParameters) {
+		RowSelection rowSelection = queryParameters.getRowSelection();
+		if ( rowSelection != null && rowSelection.getFetchSize() != null && rowSelection.getFetchSize() > 0 ) {
+			return rowSelection.getFetchSize();
+		}
+		return DEFAULT_CHUNK_SIZE;
 	}
 
 	private TupleBasedEntityLoader getLoader(SharedSessionContractImplementor session, Class<?> entityClass) {
@@ -130,6 +147,67 @@ private TupleBasedEntityLoader getLoader(SharedSessionContractImplementor sessio
 		return loader;
 	}
 
+	/**
+	 * Iterates over the rows of a query result, pulling the tuples from the datastore and converting them into
+	 * entities or scalar values one chunk at a time.
+	 */
+	private class ResultRowIterator implements ClosableIterator<Object> {
+
+		private final SharedSessionContractImplementor session;
+		private final ClosableIterator<Tuple> tuples;
+		private final TupleBasedEntityLoader entityLoader;
+		private final int chunkSize;
+		private Iterator<Object> chunk = Collections.emptyIterator();
+
+		public ResultRowIterator(SharedSessionContractImplementor session, ClosableIterator<Tuple> tuples, TupleBasedEntityLoader entityLoader, int chunkSize) {
+			this.session = session;
+			this.tuples = tuples;
+			this.entityLoader = entityLoader;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while ( !chunk.hasNext() && tuples.hasNext() ) {
+				chunk = nextChunk().iterator();
+			}
+			return chunk.hasNext();
+		}
+
+		@Override
+		public Object next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			return chunk.next();
+		}
+
+		private List<Object> nextChunk() {
+			List<Tuple> tupleChunk = new ArrayList<>( chunkSize );
+			while ( tupleChunk.size() < chunkSize && tuples.hasNext() ) {
+				tupleChunk.add( tuples.next() );
+			}
+
+			if ( entityLoader == null ) {
+				List<Object> rows = new ArrayList<>( tupleChunk.size() );
+				for ( Tuple tuple : tupleChunk ) {
+					rows.add( scalarRowReader.read( tuple, session ) );
+				}
+				return rows;
+			}
+			else {
+				OgmLoadingContext ogmLoadingContext = new OgmLoadingContext();
+				ogmLoadingContext.setTuples( tupleChunk );
+				return entityLoader.loadEntitiesFromTuples( session, LockOptions.NONE, ogmLoadingContext );
+			}
+		}
+
+		@Override
+		public void close() {
+			tuples.close();
+		}
+	}
+
 	/**
 	 * Extracted as separate class for the sole purpose of capturing the type parameter {@code T} without exposing it to
 	 * the callers which don't actually need it.
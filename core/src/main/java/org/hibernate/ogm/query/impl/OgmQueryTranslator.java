@@ -13,7 +13,6 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
@@ -29,7 +28,6 @@
 import org.hibernate.hql.internal.ast.tree.SelectClause;
 import org.hibernate.hql.internal.ast.util.NodeTraverser;
 import org.hibernate.hql.spi.QueryTranslator;
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.loader.hql.QueryLoader;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.model.spi.EntityMetadataInformation;
@@ -52,9 +50,9 @@
  * Neo4j or {@code DBObject}-based queries for MongoDB.
  * <p>
  * Query conversion is done by invoking the dialect's query parser service. Results are loaded through OgmQueryLoader.
- * Depending on whether a store supports parameterized queries (Neo4j does, MongoDB doesn't) we either use one and the
- * same loader for a query executed several times with different parameter values or we create a new loader for each set
- * of parameter values.
+ * Depending on whether a store supports parameterized queries (Neo4j, MongoDB and Infinispan Remote do) we either use
+ * one and the same loader for a query executed several times with different parameter values or we create a new loader
+ * for each set of parameter values.
  *
  * @author Gunnar Morling
  */
@@ -86,25 +84,19 @@ public class OgmQueryTranslator extends LegacyParserBridgeQueryTranslator {
 	private EntityMetadataInformation singleEntityMetadataInformation;
 
 	/**
-	 * Not all stores support parameterized queries. As a temporary measure, we therefore cache created queries per set
-	 * of parameter values. At one point, this should be replaced by caching the AST after validation but before the
-	 * actual Lucene query is created.
+	 * Shared by all the translators; not all stores support parameterized queries, for those the created queries are
+	 * cached per set of parameter values.
 	 */
-	private final ConcurrentMap<CacheKey, QueryParsingResult> queryCache;
+	private final QueryParsingCache parsingCache;
 
-	public OgmQueryTranslator(SessionFactoryImplementor sessionFactory, QueryParserService queryParser, String queryIdentifier, String query, Map<?, ?> filters) {
+	public OgmQueryTranslator(SessionFactoryImplementor sessionFactory, QueryParserService queryParser, QueryParsingCache parsingCache, String queryIdentifier, String query, Map<?, ?> filters) {
 		super( sessionFactory, queryIdentifier, query, filters );
 
 		this.queryParser = queryParser;
 		this.query = query;
 		this.sessionFactory = sessionFactory;
 		this.filters = filters;
-
-		queryCache = new BoundedConcurrentHashMap<CacheKey, QueryParsingResult>(
-				100,
-				20,
-				BoundedConcurrentHashMap.Eviction.LIRS
-		);
+		this.parsingCache = parsingCache;
 	}
 
 	@Override
@@ -133,7 +125,7 @@ public List<?> list(SharedSessionContractImplementor session, QueryParameters qu
 	private <T> OgmQueryLoader getLoader(QueryParameters queryParameters) {
 		QueryParsingResult queryParsingResult = queryParameters != null
 				? getQuery( queryParameters )
-				: queryParser.parseQuery( sessionFactory, query );
+				: parsingCache.getParsingResult( query, () -> queryParser.parseQuery( sessionFactory, query ) );
 
 		BackendQuery<T> query = new BackendQuery<T>( (T) queryParsingResult.getQueryObject(), singleEntityMetadataInformation );
 
@@ -163,23 +155,15 @@ private EntityMetadataInformation determineSingleEntityInformation(Type[] queryR
 	}
 
 	private QueryParsingResult getQuery(QueryParameters queryParameters) {
-		CacheKey cacheKey = new CacheKey( queryParameters.getNamedParameters() );
-		QueryParsingResult parsingResult = queryCache.get( cacheKey );
-
-		if ( parsingResult == null ) {
-			parsingResult = queryParser.parseQuery(
+		return parsingCache.getParsingResult(
+				query,
+				queryParameters.getNamedParameters(),
+				() -> queryParser.parseQuery(
 					sessionFactory,
 					query,
 					getNamedParameterValuesConvertedByGridType( queryParameters )
-			);
-
-			QueryParsingResult cached = queryCache.putIfAbsent( cacheKey, parsingResult );
-			if ( cached != null ) {
-				parsingResult = cached;
-			}
-		}
-
-		return parsingResult;
+				)
+		);
 	}
 
 	/**
@@ -197,12 +181,14 @@ private Map<String, Object> getNamedParameterValuesConvertedByGridType(QueryPara
 
 	@Override
 	public Iterator<?> iterate(QueryParameters queryParameters, EventSource session) throws HibernateException {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		OgmQueryLoader loaderToUse = loader != null ? loader : getLoader( queryParameters );
+		return loaderToUse.iterate( queryParameters, session );
 	}
 
 	@Override
 	public ScrollableResultsImplementor scroll(QueryParameters queryParameters, SharedSessionContractImplementor session) throws HibernateException {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		OgmQueryLoader loaderToUse = loader != null ? loader : getLoader( queryParameters );
+		return loaderToUse.scroll( queryParameters, session );
 	}
 
 	@Override
@@ -256,43 +242,4 @@ private HqlParser parse(boolean filter) throws TokenStreamException, Recognition
 		parser.getParseErrorHandler().throwQueryException();
 		return parser;
 	}
-
-	private static class CacheKey {
-
-		private final Map<String, TypedValue> parameters;
-		private final int hashCode;
-
-		public CacheKey(Map<String, TypedValue> parameters) {
-			this.parameters = Collections.unmodifiableMap( parameters );
-			this.hashCode = parameters.hashCode();
-		}
-
-		@Override
-		public int hashCode() {
-			return hashCode;
-		}
-
-		@Override
-		public boolean equals(Object obj) {
-			if ( this == obj ) {
-				return true;
-			}
-			if ( obj == null ) {
-				return false;
-			}
-			if ( getClass() != obj.getClass() ) {
-				return false;
-			}
-			CacheKey other = (CacheKey) obj;
-			if ( parameters == null ) {
-				if ( other.parameters != null ) {
-					return false;
-				}
-			}
-			else if ( !parameters.equals( other.parameters ) ) {
-				return false;
-			}
-			return true;
-		}
-	}
 }
@@ -28,17 +28,23 @@ public class OgmQueryTranslatorFactory implements QueryTranslatorFactory {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
+	private final QueryParsingCache parsingCache;
+
+	public OgmQueryTranslatorFactory(QueryParsingCache parsingCache) {
+		this.parsingCache = parsingCache;
+	}
+
 	@Override
 	public QueryTranslator createQueryTranslator(String queryIdentifier, String queryString, Map filters, SessionFactoryImplementor factory,
 			EntityGraphQueryHint entityGraphQueryHint) {
 
 		QueryParserService queryParser = factory.getServiceRegistry().getService( QueryParserService.class );
 		if ( queryParser != null ) {
-			return new OgmQueryTranslator( factory, queryParser, queryIdentifier, queryString, filters );
+			return new OgmQueryTranslator( factory, queryParser, parsingCache, queryIdentifier, queryString, filters );
 		}
 		else {
 			try {
-				return new FullTextSearchQueryTranslator( factory, queryIdentifier, queryString, filters );
+				return new FullTextSearchQueryTranslator( factory, parsingCache, queryIdentifier, queryString, filters );
 			}
 			catch (Exception e) {
 				throw LOG.cannotLoadLuceneParserBackend( e );
@@ -46,6 +52,13 @@ public QueryTranslator createQueryTranslator(String queryIdentifier, String quer
 		}
 	}
 
+	/**
+	 * @return the cache of the parsed queries, giving access to its hit and miss counts
+	 */
+	public QueryParsingCache getParsingCache() {
+		return parsingCache;
+	}
+
 	@Override
 	public FilterTranslator createFilterTranslator(String queryIdentifier, String queryString, Map filters, SessionFactoryImplementor factory) {
 		throw new UnsupportedOperationException( "Not implemented" );
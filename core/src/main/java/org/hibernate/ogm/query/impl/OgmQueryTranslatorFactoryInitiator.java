@@ -10,6 +10,8 @@
 
 import org.hibernate.boot.registry.StandardServiceInitiator;
 import org.hibernate.hql.spi.QueryTranslatorFactory;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
 /**
@@ -21,6 +23,8 @@ public class OgmQueryTranslatorFactoryInitiator implements StandardServiceInitia
 
 	public static final OgmQueryTranslatorFactoryInitiator INSTANCE = new OgmQueryTranslatorFactoryInitiator();
 
+	private static final int DEFAULT_QUERY_PARSING_CACHE_MAX_SIZE = 2048;
+
 	private OgmQueryTranslatorFactoryInitiator() {
 	}
 
@@ -31,6 +35,11 @@ public Class<QueryTranslatorFactory> getServiceInitiated() {
 
 	@Override
 	public QueryTranslatorFactory initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
-		return new OgmQueryTranslatorFactory();
+		int parsingCacheMaxSize = new ConfigurationPropertyReader( configurationValues )
+				.property( OgmProperties.QUERY_PARSING_CACHE_MAX_SIZE, int.class )
+				.withDefault( DEFAULT_QUERY_PARSING_CACHE_MAX_SIZE )
+				.getValue();
+
+		return new OgmQueryTranslatorFactory( new QueryParsingCache( parsingCacheMaxSize ) );
 	}
 }
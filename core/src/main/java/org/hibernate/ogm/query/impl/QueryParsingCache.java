@@ -0,0 +1,130 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+/**
+ * Caches the results of parsing JP-QL queries, shared by all the query translators created by one
+ * {@link OgmQueryTranslatorFactory}.
+ * <p>
+ * For stores supporting parameterized queries, the parsing result is a template bound to the parameter values at
+ * execution time, so it is cached once per query string. For the other stores the parameter values are part of the
+ * native query and thus part of the cache key.
+ *
+ * @see org.hibernate.ogm.cfg.OgmProperties#QUERY_PARSING_CACHE_MAX_SIZE
+ */
+public class QueryParsingCache {
+
+	private final ConcurrentMap<CacheKey, Object> cache;
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	public QueryParsingCache(int maxSize) {
+		this.cache = new BoundedConcurrentHashMap<CacheKey, Object>( maxSize, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+	}
+
+	/**
+	 * Returns the cached parsing result of a parameterized query, parsing it if needed.
+	 *
+	 * @param query the query string
+	 * @param parser parses the query in case it is not cached yet
+	 * @return the parsing result
+	 */
+	public <T> T getParsingResult(String query, Supplier<T> parser) {
+		return getParsingResult( query, Collections.<String, TypedValue>emptyMap(), parser );
+	}
+
+	/**
+	 * Returns the cached parsing result of a query with the given parameter values, parsing it if needed.
+	 *
+	 * @param query the query string
+	 * @param parameters the values of the named parameters applied to the query
+	 * @param parser parses the query in case it is not cached yet
+	 * @return the parsing result
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getParsingResult(String query, Map<String, TypedValue> parameters, Supplier<T> parser) {
+		CacheKey cacheKey = new CacheKey( query, parameters );
+		Object parsingResult = cache.get( cacheKey );
+
+		if ( parsingResult != null ) {
+			hitCount.increment();
+			return (T) parsingResult;
+		}
+
+		missCount.increment();
+		parsingResult = parser.get();
+		Object cached = cache.putIfAbsent( cacheKey, parsingResult );
+		return (T) ( cached != null ? cached : parsingResult );
+	}
+
+	/**
+	 * @return the number of queries which have been found in the cache
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * @return the number of queries which had to be parsed
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * @return the number of cached parsing results
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	/**
+	 * Removes all the cached parsing results.
+	 */
+	public void clear() {
+		cache.clear();
+	}
+
+	private static class CacheKey {
+
+		private final String query;
+		private final Map<String, TypedValue> parameters;
+		private final int hashCode;
+
+		public CacheKey(String query, Map<String, TypedValue> parameters) {
+			this.query = query;
+			this.parameters = Collections.unmodifiableMap( parameters );
+			this.hashCode = 31 * query.hashCode() + parameters.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || getClass() != obj.getClass() ) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return hashCode == other.hashCode && query.equals( other.query ) && parameters.equals( other.parameters );
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.type.impl.DoubleType;
+import org.hibernate.ogm.type.impl.IntegerType;
+import org.hibernate.ogm.type.impl.LongType;
+import org.hibernate.ogm.type.spi.GridType;
+import org.hibernate.ogm.type.spi.TypeTranslator;
+import org.hibernate.type.Type;
+
+/**
+ * Reads the rows of a projection query from the tuples returned by the datastore.
+ * <p>
+ * The grid types and the columns of the projected values are resolved once per query. Numbers returned for the types
+ * of numeric aggregates ({@code long}, {@code integer}, {@code double}) are converted directly instead of going
+ * through the grid type.
+ */
+public class ScalarRowReader {
+
+	private final String[] columns;
+	private final GridType[] gridTypes;
+	private final NumericConverter[] numericConverters;
+
+	public ScalarRowReader(Type[] returnTypes, List<String> columns, TypeTranslator typeTranslator) {
+		this.columns = columns.toArray( new String[returnTypes.length] );
+		this.gridTypes = new GridType[returnTypes.length];
+		this.numericConverters = new NumericConverter[returnTypes.length];
+
+		for ( int i = 0; i < returnTypes.length; i++ ) {
+			gridTypes[i] = typeTranslator.getType( returnTypes[i] );
+			numericConverters[i] = NumericConverter.forType( gridTypes[i] );
+		}
+	}
+
+	/**
+	 * Reads a row from the given tuple.
+	 *
+	 * @param tuple the tuple returned by the datastore
+	 * @param session the current session
+	 * @return the projected value if the query has a single projection, an array with the projected values otherwise
+	 */
+	public Object read(Tuple tuple, SharedSessionContractImplementor session) {
+		if ( columns.length == 1 ) {
+			return readColumn( tuple, 0, session );
+		}
+
+		Object[] row = new Object[columns.length];
+		for ( int i = 0; i < columns.length; i++ ) {
+			row[i] = readColumn( tuple, i, session );
+		}
+		return row;
+	}
+
+	private Object readColumn(Tuple tuple, int i, SharedSessionContractImplementor session) {
+		if ( numericConverters[i] != null ) {
+			Object value = tuple.get( columns[i] );
+			if ( value == null ) {
+				return null;
+			}
+			else if ( value instanceof Number ) {
+				return numericConverters[i].convert( (Number) value );
+			}
+		}
+		return gridTypes[i].nullSafeGet( tuple, columns[i], session, null );
+	}
+
+	private enum NumericConverter {
+
+		LONG {
+			@Override
+			Object convert(Number value) {
+				return value instanceof Long ? value : Long.valueOf( value.longValue() );
+			}
+		},
+		INTEGER {
+			@Override
+			Object convert(Number value) {
+				return value instanceof Integer ? value : Integer.valueOf( value.intValue() );
+			}
+		},
+		DOUBLE {
+			@Override
+			Object convert(Number value) {
+				return value instanceof Double ? value : Double.valueOf( value.doubleValue() );
+			}
+		};
+
+		abstract Object convert(Number value);
+
+		static NumericConverter forType(GridType gridType) {
+			if ( gridType == LongType.INSTANCE ) {
+				return LONG;
+			}
+			else if ( gridType == IntegerType.INSTANCE ) {
+				return INTEGER;
+			}
+			else if ( gridType == DoubleType.INSTANCE ) {
+				return DOUBLE;
+			}
+			return null;
+		}
+	}
+}
@@ -226,6 +226,33 @@ public Association getAssociationOrNull() {
 		return association;
 	}
 
+	/**
+	 * Whether the association is already known to the session, i.e. {@link #getAssociationOrNull()} can return it
+	 * without accessing the datastore.
+	 */
+	public boolean isAssociationLoaded() {
+		if ( association != null ) {
+			return true;
+		}
+
+		return hostingEntity != null
+				&& OgmEntityEntryState.getStateFor( session, hostingEntity ).hasAssociation( associationKeyMetadata.getCollectionRole() );
+	}
+
+	/**
+	 * Sets the association as read from the datastore by the caller, e.g. when loading the associations of several
+	 * owners at once.
+	 *
+	 * @param association the association read from the datastore, may be {@code null}
+	 */
+	public void setLoadedAssociation(Association association) {
+		this.association = association;
+		if ( hostingEntity != null ) {
+			OgmEntityEntryState.getStateFor( session, hostingEntity )
+					.setAssociation( associationKeyMetadata.getCollectionRole(), association );
+		}
+	}
+
 	/**
 	 * Writes out the changes gathered in the {@link Association} managed by this persister to the datastore.
 	 */
@@ -340,4 +340,7 @@ public interface Log extends BasicLogger {
 
 	@Message(id = 101, value = "Error introspecting an object instance.")
 	HibernateException errorIntrospectingObject(@Cause Exception e);
+
+	@Message(id = 102, value = "Cannot lock entities through a session of type %1$s, the locks could not be released when its transaction completes.")
+	HibernateException cannotRegisterLockRelease(@FormatWith(ClassObjectFormatter.class) Class<?> sessionType);
 }
@@ -0,0 +1,66 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.associations.collection.extralazy;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToMany;
+
+import org.hibernate.annotations.LazyCollection;
+import org.hibernate.annotations.LazyCollectionOption;
+
+@Entity
+public class Account {
+
+	@Id
+	private String id;
+
+	@ManyToMany
+	@LazyCollection(LazyCollectionOption.EXTRA)
+	private Set<Follower> followers = new HashSet<>();
+
+	@ElementCollection
+	@LazyCollection(LazyCollectionOption.EXTRA)
+	private Map<String, String> settings = new HashMap<>();
+
+	public Account() {
+	}
+
+	public Account(String id) {
+		this.id = id;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public Set<Follower> getFollowers() {
+		return followers;
+	}
+
+	public void setFollowers(Set<Follower> followers) {
+		this.followers = followers;
+	}
+
+	public Map<String, String> getSettings() {
+		return settings;
+	}
+
+	public void setSettings(Map<String, String> settings) {
+		this.settings = settings;
+	}
+}
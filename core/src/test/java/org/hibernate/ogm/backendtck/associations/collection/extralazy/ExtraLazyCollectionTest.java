@@ -0,0 +1,91 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.associations.collection.extralazy;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.hibernate.Hibernate;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks that the size and the contents of extra-lazy collections can be inspected without initializing them.
+ */
+public class ExtraLazyCollectionTest extends OgmTestCase {
+
+	@Before
+	public void prepareAccount() {
+		inTransaction( session -> {
+			Account account = new Account( "ogm" );
+			for ( int i = 0; i < 3; i++ ) {
+				Follower follower = new Follower( "follower-" + i );
+				session.persist( follower );
+				account.getFollowers().add( follower );
+			}
+			account.getSettings().put( "theme", "dark" );
+			account.getSettings().put( "language", "en" );
+			session.persist( account );
+
+			session.persist( new Follower( "stranger" ) );
+		} );
+	}
+
+	@After
+	public void cleanUp() {
+		deleteAll( Account.class, "ogm" );
+		deleteAll( Follower.class, "follower-0", "follower-1", "follower-2", "stranger" );
+		checkCleanCache();
+	}
+
+	@Test
+	public void shouldInspectExtraLazyCollectionWithoutInitializingIt() {
+		inTransaction( session -> {
+			Account account = session.get( Account.class, "ogm" );
+
+			assertThat( account.getFollowers().size() ).isEqualTo( 3 );
+			assertThat( account.getFollowers().contains( session.load( Follower.class, "follower-1" ) ) ).isTrue();
+			assertThat( account.getFollowers().contains( session.load( Follower.class, "stranger" ) ) ).isFalse();
+			assertThat( Hibernate.isInitialized( account.getFollowers() ) ).isFalse();
+
+			assertThat( account.getSettings().size() ).isEqualTo( 2 );
+			assertThat( account.getSettings().containsKey( "theme" ) ).isTrue();
+			assertThat( account.getSettings().containsKey( "font" ) ).isFalse();
+			assertThat( Hibernate.isInitialized( account.getSettings() ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void shouldTakePendingChangesIntoAccount() {
+		inTransaction( session -> {
+			Account account = session.get( Account.class, "ogm" );
+
+			account.getFollowers().add( session.load( Follower.class, "stranger" ) );
+			account.getSettings().put( "font", "serif" );
+
+			assertThat( account.getFollowers().size() ).isEqualTo( 4 );
+			assertThat( account.getFollowers().contains( session.load( Follower.class, "stranger" ) ) ).isTrue();
+			assertThat( account.getSettings().containsKey( "font" ) ).isTrue();
+		} );
+
+		inTransaction( session -> {
+			Account account = session.get( Account.class, "ogm" );
+
+			assertThat( account.getFollowers().size() ).isEqualTo( 4 );
+			assertThat( account.getSettings().size() ).isEqualTo( 3 );
+
+			account.getFollowers().remove( session.load( Follower.class, "stranger" ) );
+			account.getSettings().remove( "font" );
+		} );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, Follower.class };
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.associations.collection.extralazy;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Entity
+public class Follower {
+
+	@Id
+	private String id;
+
+	public Follower() {
+	}
+
+	public Follower(String id) {
+		this.id = id;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+		return id.equals( ( (Follower) o ).id );
+	}
+
+	@Override
+	public int hashCode() {
+		return id.hashCode();
+	}
+}
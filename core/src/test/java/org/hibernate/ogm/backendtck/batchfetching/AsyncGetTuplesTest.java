@@ -0,0 +1,193 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.batchfetching;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.utils.GridDialectType.INFINISPAN;
+import static org.hibernate.ogm.utils.GridDialectType.NEO4J_EMBEDDED;
+import static org.hibernate.ogm.utils.GridDialectType.NEO4J_REMOTE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.dialect.async.spi.AsyncGridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.utils.GridDialectOperationContexts;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for dialects implementing the {@link AsyncGridDialect} interface.
+ */
+@SkipByGridDialect(value = { INFINISPAN, NEO4J_EMBEDDED, NEO4J_REMOTE }, comment = "The dialect does not support asynchronous reads")
+public class AsyncGetTuplesTest extends OgmTestCase {
+
+	private static final EntityKeyMetadata METADATA = new DefaultEntityKeyMetadata( "Meeple", new String[] { "id" } );
+
+	// A key that does not exists in the datastore
+	private static final EntityKey NOT_IN_THE_DB = new EntityKey( METADATA, new Object[]{ -666 } );
+
+	private static final Meeple RED = new Meeple( 1, "red" );
+	private static final Meeple BLUE = new Meeple( 2, "blue" );
+	private static final Meeple GREEN = new Meeple( 3, "green" );
+
+	@Test
+	public void testGetTupleAsync() throws Exception {
+		try ( OgmSession session = openSession() ) {
+			Transaction tx = session.beginTransaction();
+			AsyncGridDialect dialect = asyncGridDialect();
+
+			// the reads are all issued before the first result is awaited
+			List<CompletionStage<Tuple>> pending = new ArrayList<>();
+			pending.add( dialect.getTupleAsync( key( GREEN ), tupleContext( session ) ) );
+			pending.add( dialect.getTupleAsync( NOT_IN_THE_DB, tupleContext( session ) ) );
+			pending.add( dialect.getTupleAsync( key( RED ), tupleContext( session ) ) );
+
+			assertThat( color( join( pending.get( 0 ) ) ) ).isEqualTo( GREEN.getColor() );
+			assertThat( join( pending.get( 1 ) ) ).isNull();
+			assertThat( color( join( pending.get( 2 ) ) ) ).isEqualTo( RED.getColor() );
+
+			tx.commit();
+		}
+	}
+
+	@Test
+	public void testGetTuplesAsync() throws Exception {
+		try ( OgmSession session = openSession() ) {
+			Transaction tx = session.beginTransaction();
+			AsyncGridDialect dialect = asyncGridDialect();
+
+			EntityKey[] keys = new EntityKey[] { key( BLUE ), NOT_IN_THE_DB, key( RED ), key( GREEN ) };
+			List<Tuple> tuples = join( dialect.getTuplesAsync( keys, tupleContext( session ) ) );
+
+			assertThat( tuples ).hasSize( 4 );
+			assertThat( color( tuples.get( 0 ) ) ).isEqualTo( BLUE.getColor() );
+			assertThat( tuples.get( 1 ) ).isNull();
+			assertThat( color( tuples.get( 2 ) ) ).isEqualTo( RED.getColor() );
+			assertThat( color( tuples.get( 3 ) ) ).isEqualTo( GREEN.getColor() );
+
+			tx.commit();
+		}
+	}
+
+	@Test
+	public void testGetTuplesAsyncWithAllNulls() throws Exception {
+		try ( OgmSession session = openSession() ) {
+			Transaction tx = session.beginTransaction();
+			AsyncGridDialect dialect = asyncGridDialect();
+
+			EntityKey[] keys = new EntityKey[] { NOT_IN_THE_DB, NOT_IN_THE_DB };
+			List<Tuple> tuples = join( dialect.getTuplesAsync( keys, tupleContext( session ) ) );
+
+			assertThat( tuples ).containsExactly( null, null );
+
+			tx.commit();
+		}
+	}
+
+	@Before
+	public void prepareDataset() {
+		try ( OgmSession session = openSession() ) {
+			Transaction tx = session.beginTransaction();
+			session.persist( RED );
+			session.persist( BLUE );
+			session.persist( GREEN );
+			tx.commit();
+		}
+	}
+
+	@After
+	public void deleteDataset() {
+		try ( OgmSession session = openSession() ) {
+			Transaction tx = session.beginTransaction();
+			session.delete( session.load( Meeple.class, RED.getId() ) );
+			session.delete( session.load( Meeple.class, BLUE.getId() ) );
+			session.delete( session.load( Meeple.class, GREEN.getId() ) );
+			tx.commit();
+		}
+	}
+
+	private AsyncGridDialect asyncGridDialect() {
+		return getSessionFactory().getServiceRegistry().getService( AsyncGridDialect.class );
+	}
+
+	private TupleContext tupleContext(Session session) {
+		return new GridDialectOperationContexts.TupleContextBuilder()
+				.tupleTypeContext(
+						new GridDialectOperationContexts.TupleTypeContextBuilder()
+								.selectableColumns( "color" )
+								.buildTupleTypeContext() )
+				.transactionContext( session )
+				.buildTupleContext();
+	}
+
+	private static EntityKey key(Meeple meeple) {
+		return new EntityKey( METADATA, new Object[] { meeple.getId() } );
+	}
+
+	private static <T> T join(CompletionStage<T> stage) {
+		return stage.toCompletableFuture().join();
+	}
+
+	private static String color(Tuple tuple) {
+		return String.valueOf( tuple.get( "color" ) );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[]{ Meeple.class };
+	}
+
+	@Entity
+	@Table(name = "Meeple")
+	public static class Meeple {
+
+		@Id
+		private Integer id;
+
+		private String color;
+
+		public Meeple() {
+		}
+
+		public Meeple(Integer id, String color) {
+			this.id = id;
+			this.color = color;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getColor() {
+			return color;
+		}
+
+		public void setColor(String color) {
+			this.color = color;
+		}
+	}
+}
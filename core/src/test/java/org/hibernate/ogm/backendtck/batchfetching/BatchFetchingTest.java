@@ -11,6 +11,7 @@
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -19,8 +20,10 @@
 import org.hibernate.Session;
 import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.persister.impl.OgmCollectionPersister;
 import org.hibernate.ogm.utils.InvokedOperationsLoggingDialect;
 import org.hibernate.ogm.utils.OgmTestCase;
 import org.hibernate.ogm.utils.TestForIssue;
@@ -34,7 +37,7 @@
 public class BatchFetchingTest extends OgmTestCase {
 	@Override
 	protected Class<?>[] getAnnotatedClasses() {
-		return new Class<?>[] { Tower.class, Floor.class, CondominiumBuilding.class, Condominium.class };
+		return new Class<?>[] { Tower.class, Skyscraper.class, Floor.class, CondominiumBuilding.class, Condominium.class };
 	}
 
 	@Test
@@ -123,6 +126,47 @@ public void testLoadSeveralFloorsFromTower() throws Exception {
 		session.close();
 	}
 
+	@Test
+	public void testLoadFloorsOfSeveralSkyscrapersByBatch() throws Exception {
+		Session session = openSession();
+		List<Skyscraper> skyscrapers = new ArrayList<>();
+		for ( int i = 0; i < 3; i++ ) {
+			skyscrapers.add( prepareSkyscraper( session ) );
+		}
+		session.clear();
+
+		session.beginTransaction();
+		List<Skyscraper> loadedSkyscrapers = new ArrayList<>();
+		for ( Skyscraper skyscraper : skyscrapers ) {
+			loadedSkyscrapers.add( session.get( Skyscraper.class, skyscraper.getId() ) );
+		}
+
+		getOperationsLogger().reset();
+		Hibernate.initialize( loadedSkyscrapers.get( 0 ).getFloors() );
+
+		if ( isBatchLoadingFloors() ) {
+			// the floors of all the skyscrapers have been loaded with one operation
+			assertThat( getOperations().get( 0 ) ).isEqualTo( "getAssociations" );
+			for ( Skyscraper skyscraper : loadedSkyscrapers ) {
+				assertTrue( Hibernate.isInitialized( skyscraper.getFloors() ) );
+				assertThat( skyscraper.getFloors() ).hasSize( 2 );
+			}
+			assertThat( getOperations() ).excludes( "getAssociation" );
+		}
+		else {
+			assertThat( getOperations().get( 0 ) ).isEqualTo( "getAssociation" );
+			for ( Skyscraper skyscraper : loadedSkyscrapers ) {
+				assertThat( skyscraper.getFloors() ).hasSize( 2 );
+			}
+		}
+		session.getTransaction().commit();
+
+		for ( Skyscraper skyscraper : skyscrapers ) {
+			cleanSkyscraper( session, skyscraper );
+		}
+		session.close();
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "OGM-945")
 	public void testMultigetIsAppliedWithoutExplicitBatchSizeGiven() throws Exception {
@@ -195,6 +239,34 @@ private Tower prepareTower(Session session) {
 		return tower;
 	}
 
+	private void cleanSkyscraper(Session session, Skyscraper skyscraper) {
+		session.beginTransaction();
+		session.delete( session.get( Skyscraper.class, skyscraper.getId() ) );
+		for ( Floor currentFloor : skyscraper.getFloors() ) {
+			session.delete( session.get( Floor.class, currentFloor.getId() ) );
+		}
+		session.getTransaction().commit();
+	}
+
+	private Skyscraper prepareSkyscraper(Session session) {
+		session.beginTransaction();
+		Skyscraper skyscraper = new Skyscraper();
+		skyscraper.setName( "Chrysler" );
+
+		Floor floor = new Floor();
+		floor.setLevel( 0 );
+		skyscraper.getFloors().add( floor );
+
+		floor = new Floor();
+		floor.setLevel( 1 );
+		skyscraper.getFloors().add( floor );
+
+		session.persist( skyscraper );
+		session.getTransaction().commit();
+
+		return skyscraper;
+	}
+
 	private void cleanCondoBuilding(Session session) {
 		session.beginTransaction();
 		session.delete( session.get( CondominiumBuilding.class, "cb-1" ) );
@@ -222,6 +294,14 @@ private boolean isMultigetDialect() {
 		return GridDialects.hasFacet( gridDialect, MultigetGridDialect.class );
 	}
 
+	private boolean isBatchLoadingFloors() {
+		GridDialect gridDialect = getSessionFactory().getServiceRegistry().getService( GridDialect.class );
+		OgmCollectionPersister persister = (OgmCollectionPersister) getSessionFactory().getMetamodel()
+				.collectionPersister( Skyscraper.class.getName() + ".floors" );
+		return GridDialects.hasFacet( gridDialect, MultigetAssociationGridDialect.class )
+				&& !gridDialect.isStoredInEntityStructure( persister.getAssociationKeyMetadata(), persister.getAssociationTypeContext() );
+	}
+
 	@Override
 	protected void configure(Map<String, Object> cfg) {
 		cfg.put( OgmProperties.GRID_DIALECT, InvokedOperationsLoggingDialect.class );
@@ -223,7 +223,8 @@ public void onRollbackPresentsAppliedUpdateOperations() throws Exception {
 			assertThat( updateTupleWithOptimisticLock.getEntityKey().getTable() ).isEqualTo( "Shipment" );
 			assertThat( updateTupleWithOptimisticLock.getEntityKey().getColumnValues() ).isEqualTo( new Object[] { "shipment-1" } );
 		}
-		else if ( currentDialectHasFacet( GroupingByEntityDialect.class ) ) {
+		else if ( currentDialectHasFacet( BatchableGridDialect.class ) ||
+				currentDialectHasFacet( GroupingByEntityDialect.class ) ) {
 			GridDialectOperation operation = appliedOperations.next();
 			assertThat( operation ).isInstanceOf( ExecuteBatch.class );
 			ExecuteBatch batch = operation.as( ExecuteBatch.class );
@@ -232,7 +233,9 @@ else if ( currentDialectHasFacet( GroupingByEntityDialect.class ) ) {
 			assertThat( insertOrUpdate.getEntityKey().getTable() ).isEqualTo( "Shipment" );
 			assertThat( insertOrUpdate.getEntityKey().getColumnValues() ).isEqualTo( new Object[] { "shipment-1" } );
 
-			if ( transactionsAreEmulated() ) {
+			if ( transactionsAreEmulated() || !currentDialectHasFacet( GroupingByEntityDialect.class ) ) {
+				// Without the grouping the concurrent update is detected when reading the version of the second
+				// entity, which is not added to the batch
 				assertThat( batchedOperations.hasNext() ).isFalse();
 			}
 			else {
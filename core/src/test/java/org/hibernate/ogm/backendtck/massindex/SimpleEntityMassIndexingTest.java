@@ -65,6 +65,45 @@ public void testSimpleEntityMassIndexing() throws Exception {
 		}
 	}
 
+	@Test
+	public void testMassIndexingWithSeveralLoaderThreads() throws Exception {
+		int numberOfInsurances = 25;
+		{
+			Session session = openSession();
+			Transaction transaction = session.beginTransaction();
+			for ( int i = 0; i < numberOfInsurances; i++ ) {
+				Insurance insurance = new Insurance();
+				insurance.setName( "Parallel Insurance " + i );
+				session.persist( insurance );
+			}
+			transaction.commit();
+			session.clear();
+			session.close();
+		}
+		{
+			purgeAll( Insurance.class );
+			FullTextSession session = Search.getFullTextSession( openSession() );
+			session.createIndexer( Insurance.class )
+					.threadsToLoadObjects( 4 )
+					.batchSizeToLoadObjects( 3 )
+					.purgeAllOnStart( true )
+					.startAndWait();
+			session.close();
+		}
+		{
+			FullTextSession session = Search.getFullTextSession( openSession() );
+			QueryBuilder queryBuilder = session.getSearchFactory().buildQueryBuilder().forEntity( Insurance.class ).get();
+			Query luceneQuery = queryBuilder.keyword().wildcard().onField( "name" ).matching( "parallel*" ).createQuery();
+			Transaction transaction = session.beginTransaction();
+			@SuppressWarnings("unchecked")
+			List<Insurance> list = session.createFullTextQuery( luceneQuery ).setMaxResults( 100 ).list();
+			assertThat( list ).hasSize( numberOfInsurances );
+			transaction.commit();
+			session.clear();
+			session.close();
+		}
+	}
+
 	@Test
 	@SkipByGridDialect(value = { MONGODB }, comment = "Uses embedded key which is currently not supported by the db query parsers")
 	public void testEntityWithCompositeIdMassIndexing() throws Exception {
@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.backendtck.optimisticlocking;
 
+import static org.fest.assertions.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.hibernate.ogm.utils.GridDialectType.HASHMAP;
 import static org.hibernate.ogm.utils.GridDialectType.INFINISPAN;
@@ -22,11 +23,15 @@
 
 import javax.persistence.OptimisticLockException;
 
+import org.hibernate.Hibernate;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
 import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
 import org.hibernate.ogm.dialect.impl.ForwardingGridDialect;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.spi.Tuple;
@@ -34,6 +39,7 @@
 import org.hibernate.ogm.utils.SkipByGridDialect;
 import org.hibernate.ogm.utils.TestHelper;
 import org.hibernate.resource.transaction.spi.TransactionStatus;
+import org.hibernate.stat.Statistics;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -51,6 +57,8 @@
 @SkipByGridDialect(value = INFINISPAN_REMOTE, comment = "At the moment Infinispan HotRod transactions are always pessimistic and REPEATABLE_READ")
 public class OptimisticLockingTest extends OgmTestCase {
 
+	private static final String[] COMET_IDS = { "comet-1", "comet-2", "comet-3" };
+
 	@Rule
 	public ExpectedException thrown = ExpectedException.none();
 
@@ -79,6 +87,7 @@ public void setupThreadFactory() {
 	public void cleanUp() {
 		removePlanet();
 		removePulsar();
+		removeComets();
 	}
 
 	/**
@@ -223,6 +232,61 @@ public void deletingEntityUsingOldEntityStateCausesException() throws Throwable
 		commitTransactionAndPropagateExceptions( session, transaction );
 	}
 
+	/**
+	 * Entities loaded by batch are read with their versions and can be updated.
+	 */
+	@Test
+	public void updatingEntitiesLoadedByBatch() throws Throwable {
+		persistComets();
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		Comet[] comets = loadCometsByBatch( session );
+		for ( Comet comet : comets ) {
+			comet.setName( comet.getName() + " (visited)" );
+		}
+
+		commitTransactionAndPropagateExceptions( session, transaction );
+
+		session = openSession();
+		transaction = session.beginTransaction();
+
+		for ( String id : COMET_IDS ) {
+			Comet comet = (Comet) session.get( Comet.class, id );
+			assertThat( comet.getName() ).endsWith( " (visited)" );
+			assertThat( comet.getVersion() ).isEqualTo( 1 );
+		}
+
+		commitTransactionAndPropagateExceptions( session, transaction );
+	}
+
+	/**
+	 * This tests the "emulated" optimistic locking of entities loaded by batch.
+	 */
+	@Test
+	public void updatingEntityLoadedByBatchUsingOldVersionCausesException() throws Throwable {
+		thrown.expect( lockExceptionClass );
+
+		persistComets();
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		// load the entities by batch and update them
+		Comet[] comets = loadCometsByBatch( session );
+		for ( Comet comet : comets ) {
+			comet.setName( comet.getName() + " (visited)" );
+		}
+
+		// update one of the entities in parallel...
+		Future<?> future1 = updateInSeparateThread( Comet.class, COMET_IDS[1], "Hale-Bopp", LatchAction.IGNORE );
+		future1.get();
+
+		// ... which will be detected by the re-read prior to the update
+		commitTransactionAndPropagateExceptions( session, transaction );
+	}
+
 	@Test
 	public void mergingEntityUsingOldVersionCausesException() throws Throwable {
 		thrown.expect( lockExceptionClass );
@@ -354,6 +418,61 @@ public void removePulsar() {
 		transaction.commit();
 	}
 
+	private void persistComets() {
+		Session session = openSession();
+
+		session.beginTransaction();
+
+		for ( String id : COMET_IDS ) {
+			session.persist( new Comet( id, "Comet " + id ) );
+		}
+
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	private Comet[] loadCometsByBatch(Session session) {
+		Comet[] comets = new Comet[COMET_IDS.length];
+		for ( int i = 0; i < COMET_IDS.length; i++ ) {
+			comets[i] = (Comet) session.load( Comet.class, COMET_IDS[i] );
+		}
+
+		Statistics statistics = session.getSessionFactory().getStatistics();
+		statistics.setStatisticsEnabled( true );
+		statistics.clear();
+
+		// initializing the first proxy loads all the entities by batch
+		for ( Comet comet : comets ) {
+			Hibernate.initialize( comet );
+		}
+
+		if ( isMultigetDialect() ) {
+			assertThat( statistics.getEntityStatistics( Comet.class.getName() ).getFetchCount() ).isEqualTo( 1 );
+		}
+
+		return comets;
+	}
+
+	private boolean isMultigetDialect() {
+		GridDialect gridDialect = getSessionFactory().getServiceRegistry().getService( GridDialect.class );
+		return GridDialects.hasFacet( gridDialect, MultigetGridDialect.class );
+	}
+
+	public void removeComets() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		for ( String id : COMET_IDS ) {
+			Comet entity = (Comet) session.get( Comet.class, id );
+			if ( entity != null ) {
+				session.delete( entity );
+			}
+		}
+
+		transaction.commit();
+		session.close();
+	}
+
 	private void commitTransactionAndPropagateExceptions(Session session, Transaction transaction) throws Exception {
 		try {
 			if ( !transaction.getRollbackOnly() ) {
@@ -391,7 +510,7 @@ protected void configure(Map<String, Object> settings) {
 
 	@Override
 	protected Class<?>[] getAnnotatedClasses() {
-		return new Class<?>[] { Planet.class, Pulsar.class };
+		return new Class<?>[] { Planet.class, Pulsar.class, Comet.class };
 	}
 
 	@SuppressWarnings("serial")
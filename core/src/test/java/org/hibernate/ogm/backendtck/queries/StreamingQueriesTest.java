@@ -0,0 +1,125 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.queries;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.utils.GridDialectType.HASHMAP;
+import static org.hibernate.ogm.utils.GridDialectType.INFINISPAN;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.hibernate.ogm.utils.jpa.OgmJpaTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Loads query results as streams, scrollable results and iterators, in chunks smaller than the result.
+ */
+@SkipByGridDialect(value = { HASHMAP, INFINISPAN }, comment = "Hibernate Search based queries do not support streaming results.")
+public class StreamingQueriesTest extends OgmJpaTestCase {
+
+	private static final String[] NAMES = { "AW139SAR", "Bell 206", "Bell 429", "EC135", "Lynx" };
+
+	private EntityManager em;
+
+	@Test
+	public void testGetResultStream() throws Exception {
+		try ( Stream<Helicopter> helicopters = em.createQuery( "FROM Helicopter", Helicopter.class )
+				.setHint( "org.hibernate.fetchSize", 2 )
+				.getResultStream() ) {
+
+			List<String> names = helicopters.map( Helicopter::getName ).collect( Collectors.toList() );
+			assertThat( names ).containsOnly( (Object[]) NAMES );
+		}
+	}
+
+	@Test
+	public void testGetResultStreamWithProjection() throws Exception {
+		try ( Stream<?> names = em.createQuery( "SELECT h.name FROM Helicopter h" )
+				.setHint( "org.hibernate.fetchSize", 2 )
+				.getResultStream() ) {
+
+			assertThat( names.collect( Collectors.toList() ) ).containsOnly( (Object[]) NAMES );
+		}
+	}
+
+	@Test
+	public void testScroll() throws Exception {
+		List<String> names = new ArrayList<>();
+		ScrollableResults results = em.unwrap( Session.class ).createQuery( "SELECT h.name, h.make FROM Helicopter h" )
+				.setFetchSize( 2 )
+				.scroll( ScrollMode.FORWARD_ONLY );
+		try {
+			assertThat( results.getRowNumber() ).isEqualTo( -1 );
+			while ( results.next() ) {
+				assertThat( results.getRowNumber() ).isEqualTo( names.size() );
+				assertThat( results.getString( 1 ) ).isEqualTo( "Make of " + results.getString( 0 ) );
+				names.add( results.getString( 0 ) );
+			}
+		}
+		finally {
+			results.close();
+		}
+
+		assertThat( names ).containsOnly( (Object[]) NAMES );
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testIterate() throws Exception {
+		List<String> names = new ArrayList<>();
+		Iterator<?> helicopters = em.unwrap( Session.class ).createQuery( "FROM Helicopter" ).iterate();
+		while ( helicopters.hasNext() ) {
+			names.add( ( (Helicopter) helicopters.next() ).getName() );
+		}
+
+		assertThat( names ).containsOnly( (Object[]) NAMES );
+	}
+
+	@Before
+	public void populateDb() throws Exception {
+		em = getFactory().createEntityManager();
+		em.getTransaction().begin();
+		for ( String name : NAMES ) {
+			Helicopter helicopter = new Helicopter();
+			helicopter.setName( name );
+			helicopter.setMake( "Make of " + name );
+			em.persist( helicopter );
+		}
+		em.getTransaction().commit();
+		em.clear();
+
+		em.getTransaction().begin();
+	}
+
+	@After
+	public void closeEmAndRemoveEntities() throws Exception {
+		if ( em != null ) {
+			if ( em.getTransaction().isActive() ) {
+				em.getTransaction().commit();
+			}
+			em.close();
+			removeEntities();
+		}
+	}
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Helicopter.class };
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.impl;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.persistence.PessimisticLockException;
+
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks the acquisition and the release of the locks of the {@link MapDatastoreProvider}.
+ */
+public class MapDatastoreProviderLockTest {
+
+	private static final Object SESSION = new Object();
+	private static final Object OTHER_SESSION = new Object();
+
+	private MapDatastoreProvider provider;
+	private ExecutorService otherThread;
+
+	@Before
+	public void startProvider() {
+		provider = new MapDatastoreProvider();
+		provider.start();
+		otherThread = Executors.newSingleThreadExecutor();
+	}
+
+	@After
+	public void stopProvider() {
+		otherThread.shutdownNow();
+		provider.releaseLocks( SESSION );
+		provider.releaseLocks( OTHER_SESSION );
+		provider.stop();
+	}
+
+	@Test
+	public void shouldReportFirstLockOfOwner() {
+		assertThat( provider.writeLock( SESSION, key( 1 ), 0 ) ).isTrue();
+		assertThat( provider.writeLock( SESSION, key( 2 ), 0 ) ).isFalse();
+		assertThat( provider.readLock( SESSION, key( 3 ), 0 ) ).isFalse();
+		assertThat( provider.readLock( OTHER_SESSION, key( 4 ), 0 ) ).isTrue();
+
+		provider.releaseLocks( SESSION );
+		assertThat( provider.readLock( SESSION, key( 1 ), 0 ) ).isTrue();
+	}
+
+	@Test
+	public void shouldReleaseLocksOfOwner() throws Exception {
+		provider.writeLock( SESSION, key( 1 ), 0 );
+		provider.writeLock( SESSION, key( 1 ), 0 );
+		provider.writeLock( OTHER_SESSION, key( 2 ), 0 );
+		assertThat( tryWriteLockFromOtherThread( key( 1 ) ) ).isFalse();
+
+		provider.releaseLocks( SESSION );
+		assertThat( tryWriteLockFromOtherThread( key( 1 ) ) ).isTrue();
+		assertThat( tryWriteLockFromOtherThread( key( 2 ) ) ).isFalse();
+	}
+
+	@Test
+	public void shouldShareReadLocks() throws Exception {
+		provider.readLock( SESSION, key( 1 ), 0 );
+		assertThat( tryReadLockFromOtherThread( key( 1 ) ) ).isTrue();
+		assertThat( tryWriteLockFromOtherThread( key( 1 ) ) ).isFalse();
+	}
+
+	@Test
+	public void shouldNotUpgradeReadLock() {
+		provider.readLock( SESSION, key( 1 ), -1 );
+		try {
+			provider.writeLock( SESSION, key( 1 ), -1 );
+			fail( "The read lock should not have been upgraded" );
+		}
+		catch (PessimisticLockException e) {
+			assertThat( e.getMessage() ).contains( "cannot be upgraded" );
+		}
+	}
+
+	@Test
+	public void shouldLockCollidingKeysIndependently() throws Exception {
+		EntityKey readLocked = key( 1 );
+		EntityKey colliding = key( 1L << 32 );
+		assertThat( colliding.hashCode() ).isEqualTo( readLocked.hashCode() );
+
+		provider.readLock( SESSION, readLocked, -1 );
+		provider.writeLock( SESSION, colliding, -1 );
+
+		assertThat( tryReadLockFromOtherThread( readLocked ) ).isTrue();
+		assertThat( tryReadLockFromOtherThread( colliding ) ).isFalse();
+
+		provider.releaseLocks( SESSION );
+		provider.writeLock( SESSION, readLocked, -1 );
+		assertThat( tryWriteLockFromOtherThread( colliding ) ).isTrue();
+	}
+
+	@Test
+	public void shouldDiscardLocksOnceReleased() throws Exception {
+		provider.writeLock( SESSION, key( 1 ), 0 );
+		provider.readLock( SESSION, key( 2 ), 0 );
+		provider.readLock( SESSION, key( 2 ), 0 );
+		assertThat( tryWriteLockFromOtherThread( key( 1 ) ) ).isFalse();
+		assertThat( provider.getLockedKeysCount() ).isEqualTo( 2 );
+
+		provider.releaseLocks( SESSION );
+		assertThat( provider.getLockedKeysCount() ).isEqualTo( 0 );
+
+		try {
+			provider.readLock( SESSION, key( 3 ), -1 );
+			provider.writeLock( SESSION, key( 3 ), -1 );
+			fail( "The read lock should not have been upgraded" );
+		}
+		catch (PessimisticLockException e) {
+			provider.releaseLocks( SESSION );
+		}
+		assertThat( provider.getLockedKeysCount() ).isEqualTo( 0 );
+	}
+
+	private boolean tryWriteLockFromOtherThread(final EntityKey key) throws Exception {
+		return otherThread.submit( new Callable<Boolean>() {
+
+			@Override
+			public Boolean call() {
+				try {
+					provider.writeLock( SESSION, key, 10 );
+					return true;
+				}
+				catch (PessimisticLockException e) {
+					return false;
+				}
+				finally {
+					provider.releaseLocks( SESSION );
+				}
+			}
+		} ).get();
+	}
+
+	private boolean tryReadLockFromOtherThread(final EntityKey key) throws Exception {
+		return otherThread.submit( new Callable<Boolean>() {
+
+			@Override
+			public Boolean call() {
+				try {
+					provider.readLock( SESSION, key, 0 );
+					return true;
+				}
+				catch (PessimisticLockException e) {
+					return false;
+				}
+				finally {
+					provider.releaseLocks( SESSION );
+				}
+			}
+		} ).get();
+	}
+
+	private static EntityKey key(long id) {
+		return new EntityKey( new DefaultEntityKeyMetadata( "Author", new String[] { "id" } ), new Object[] { id } );
+	}
+}
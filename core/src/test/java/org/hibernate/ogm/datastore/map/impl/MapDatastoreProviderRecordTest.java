@@ -0,0 +1,129 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.impl;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.MapAssert.entry;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks that the entities and associations of the {@link MapDatastoreProvider} are published as new immutable records.
+ */
+public class MapDatastoreProviderRecordTest {
+
+	private static final EntityKey KEY = new EntityKey( new DefaultEntityKeyMetadata( "Author", new String[] { "id" } ), new Object[] { 1L } );
+
+	private static final AssociationKey ASSOCIATION_KEY = new AssociationKey(
+			new DefaultAssociationKeyMetadata.Builder()
+					.table( "Author_Book" )
+					.columnNames( new String[] { "author_id" } )
+					.rowKeyColumnNames( new String[] { "author_id", "book_id" } )
+					.build(),
+			new Object[] { 1L },
+			KEY );
+
+	private MapDatastoreProvider provider;
+
+	@Before
+	public void startProvider() {
+		provider = new MapDatastoreProvider();
+		provider.start();
+	}
+
+	@After
+	public void stopProvider() {
+		provider.stop();
+	}
+
+	@Test
+	public void shouldNotChangePublishedRecord() {
+		provider.createEntity( KEY );
+		Tuple insert = new Tuple();
+		insert.put( "id", 1L );
+		insert.put( "name", "Jessie" );
+		provider.updateEntity( KEY, insert );
+
+		MapTupleRecord loaded = provider.getEntityTuple( KEY );
+
+		Tuple update = new Tuple( loaded, SnapshotType.UPDATE );
+		update.put( "name", "Landis" );
+		update.put( "bio", "A decent size bio" );
+		update.remove( "id" );
+		provider.updateEntity( KEY, update );
+
+		assertThat( loaded.toMap() ).hasSize( 2 ).includes( entry( "id", 1L ), entry( "name", "Jessie" ) );
+		assertThat( provider.getEntityTuple( KEY ).toMap() ).hasSize( 2 ).includes( entry( "name", "Landis" ), entry( "bio", "A decent size bio" ) );
+		assertThat( provider.getEntityTuple( KEY ).getColumnNames() ).containsOnly( "name", "bio" );
+	}
+
+	@Test
+	public void shouldNotRecreateRemovedEntity() {
+		provider.createEntity( KEY );
+		provider.removeEntityTuple( KEY );
+
+		Tuple update = new Tuple();
+		update.put( "name", "Jessie" );
+		provider.updateEntity( KEY, update );
+
+		assertThat( provider.getEntityTuple( KEY ) ).isNull();
+	}
+
+	@Test
+	public void shouldNotCopyRowsWithoutOperations() {
+		provider.createAssociation( ASSOCIATION_KEY );
+		Association insert = new Association( new MapRecordAssociationSnapshot( Collections.<RowKey, MapTupleRecord>emptyMap() ) );
+		insert.put( rowKey( 1L ), row( 1L ) );
+		insert.put( rowKey( 2L ), row( 2L ) );
+		Map<RowKey, MapTupleRecord> rows = provider.updateAssociation( ASSOCIATION_KEY, Collections.<RowKey, MapTupleRecord>emptyMap(), insert );
+
+		Association unchanged = new Association( new MapRecordAssociationSnapshot( rows ) );
+		assertThat( provider.updateAssociation( ASSOCIATION_KEY, rows, unchanged ) ).isSameAs( rows );
+		assertThat( provider.getAssociation( ASSOCIATION_KEY ) ).isSameAs( rows );
+	}
+
+	@Test
+	public void shouldApplyOperationsFollowingClear() {
+		provider.createAssociation( ASSOCIATION_KEY );
+		Association insert = new Association( new MapRecordAssociationSnapshot( Collections.<RowKey, MapTupleRecord>emptyMap() ) );
+		insert.put( rowKey( 1L ), row( 1L ) );
+		insert.put( rowKey( 2L ), row( 2L ) );
+		Map<RowKey, MapTupleRecord> rows = provider.updateAssociation( ASSOCIATION_KEY, Collections.<RowKey, MapTupleRecord>emptyMap(), insert );
+
+		Association update = new Association( new MapRecordAssociationSnapshot( rows ) );
+		update.clear();
+		update.put( rowKey( 3L ), row( 3L ) );
+		provider.updateAssociation( ASSOCIATION_KEY, rows, update );
+
+		assertThat( rows.keySet() ).containsOnly( rowKey( 1L ), rowKey( 2L ) );
+		assertThat( provider.getAssociation( ASSOCIATION_KEY ).keySet() ).containsOnly( rowKey( 3L ) );
+	}
+
+	private static RowKey rowKey(long bookId) {
+		return new RowKey( new String[] { "author_id", "book_id" }, new Object[] { 1L, bookId } );
+	}
+
+	private static Tuple row(long bookId) {
+		Tuple row = new Tuple();
+		row.put( "author_id", 1L );
+		row.put( "book_id", bookId );
+		return row;
+	}
+}
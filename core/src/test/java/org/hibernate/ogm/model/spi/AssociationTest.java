@@ -0,0 +1,84 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.model.spi;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.map.impl.MapAssociationSnapshot;
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.junit.Test;
+
+/**
+ * Checks the size and the keys of an {@link Association} while changes are applied to it.
+ */
+public class AssociationTest {
+
+	@Test
+	public void shouldKeepSizeUpToDate() {
+		Association association = new Association( snapshot( 1, 2, 3 ) );
+		assertThat( association.size() ).isEqualTo( 3 );
+
+		association.put( key( 4 ), new Tuple() );
+		association.put( key( 4 ), new Tuple() );
+		association.put( key( 1 ), new Tuple() );
+		assertThat( association.size() ).isEqualTo( 4 );
+
+		association.remove( key( 2 ) );
+		association.remove( key( 2 ) );
+		association.remove( key( 5 ) );
+		association.remove( key( 4 ) );
+		assertThat( association.size() ).isEqualTo( 2 );
+		assertThat( association.getKeys() ).containsOnly( key( 1 ), key( 3 ) );
+
+		association.put( key( 2 ), new Tuple() );
+		assertThat( association.size() ).isEqualTo( 3 );
+		assertThat( association.getKeys() ).containsOnly( key( 1 ), key( 2 ), key( 3 ) );
+	}
+
+	@Test
+	public void shouldKeepSizeUpToDateAfterClear() {
+		Association association = new Association( snapshot( 1, 2 ) );
+		association.put( key( 3 ), new Tuple() );
+		association.clear();
+		assertThat( association.isEmpty() ).isTrue();
+		assertThat( association.getKeys() ).isEmpty();
+
+		association.put( key( 1 ), new Tuple() );
+		assertThat( association.size() ).isEqualTo( 1 );
+		assertThat( association.getKeys() ).containsOnly( key( 1 ) );
+
+		association.reset();
+		assertThat( association.size() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void shouldNotChangeKeysAlreadyHandedOut() {
+		Association association = new Association( snapshot( 1 ) );
+		association.put( key( 2 ), new Tuple() );
+		Iterable<RowKey> keys = association.getKeys();
+
+		association.remove( key( 1 ) );
+		assertThat( keys ).containsOnly( key( 1 ), key( 2 ) );
+		assertThat( association.getKeys() ).containsOnly( key( 2 ) );
+	}
+
+	private static MapAssociationSnapshot snapshot(int... ids) {
+		Map<RowKey, Map<String, Object>> rows = new HashMap<>();
+		for ( int id : ids ) {
+			rows.put( key( id ), Collections.<String, Object>singletonMap( "id", id ) );
+		}
+		return new MapAssociationSnapshot( rows );
+	}
+
+	private static RowKey key(int id) {
+		return new RowKey( new String[] { "id" }, new Object[] { id } );
+	}
+}
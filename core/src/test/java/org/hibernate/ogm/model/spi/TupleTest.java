@@ -0,0 +1,80 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.model.spi;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Checks that the changes applied to a {@link Tuple} are the same with and without a {@link TupleColumnLayout}.
+ */
+public class TupleTest {
+
+	private static final TupleColumnLayout LAYOUT = new TupleColumnLayout( Arrays.asList( "id", "name", "nickname", "age" ) );
+
+	@Test
+	public void shouldTrackChangesOnLayoutColumns() {
+		Tuple tuple = new Tuple();
+		tuple.setColumnLayout( LAYOUT );
+		applyChanges( tuple );
+
+		Tuple expected = new Tuple();
+		applyChanges( expected );
+
+		assertThat( operations( tuple ) ).isEqualTo( operations( expected ) );
+		assertThat( tuple.getColumnNames() ).isEqualTo( expected.getColumnNames() );
+		assertThat( tuple.get( "name" ) ).isEqualTo( "Bob" );
+		assertThat( tuple.get( "nickname" ) ).isNull();
+		assertThat( tuple.get( "age" ) ).isNull();
+		assertThat( tuple.get( "street" ) ).isEqualTo( "Main street" );
+	}
+
+	@Test
+	public void shouldIgnoreLayoutOnceChanged() {
+		Tuple tuple = new Tuple();
+		tuple.put( "name", "Alice" );
+		tuple.setColumnLayout( LAYOUT );
+		tuple.put( "id", 1 );
+
+		assertThat( tuple.getOperations() ).hasSize( 2 );
+		assertThat( tuple.get( "name" ) ).isEqualTo( "Alice" );
+		assertThat( tuple.get( "id" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void shouldHaveNoOperationWithoutChange() {
+		Tuple tuple = new Tuple();
+		tuple.setColumnLayout( LAYOUT );
+
+		assertThat( tuple.getOperations() ).isEmpty();
+		assertThat( tuple.getColumnNames() ).isEmpty();
+	}
+
+	private static void applyChanges(Tuple tuple) {
+		tuple.put( "id", 1 );
+		tuple.put( "name", "Alice" );
+		tuple.put( "name", "Bob" );
+		tuple.put( "nickname", null );
+		tuple.put( "age", 42 );
+		tuple.remove( "age" );
+		tuple.put( "street", "Main street" );
+	}
+
+	private static Map<String, String> operations(Tuple tuple) {
+		Map<String, String> operations = new HashMap<>();
+		for ( TupleOperation operation : tuple.getOperations() ) {
+			operations.put( operation.getColumn(), operation.getType() + ":" + operation.getValue() );
+		}
+		assertThat( operations ).hasSize( tuple.getOperations().size() );
+		return operations;
+	}
+}
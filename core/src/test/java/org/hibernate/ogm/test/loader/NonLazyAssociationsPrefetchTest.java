@@ -0,0 +1,145 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.loader;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.map.impl.MapDatastoreProvider;
+import org.hibernate.ogm.datastore.map.impl.MapDialect;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+/**
+ * Checks that the non-lazy associations of different roles of an entity are all requested before the loader waits
+ * for the first of them.
+ */
+public class NonLazyAssociationsPrefetchTest extends OgmTestCase {
+
+	@Test
+	public void shouldIssueAllReadsBeforeWaitingForTheFirstOne() throws Exception {
+		Gardener gardener = new Gardener();
+		gardener.id = "gardener-1";
+		gardener.tools.add( "rake" );
+		gardener.tools.add( "spade" );
+		gardener.plants.add( "rose" );
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( gardener );
+		transaction.commit();
+		session.clear();
+
+		transaction = session.beginTransaction();
+		getRecordingDialect().reset();
+		Gardener loaded = session.get( Gardener.class, gardener.id );
+
+		assertThat( getRecordingDialect().getEvents() ).containsExactly( "getAssociationAsync", "getAssociationAsync", "join", "join" );
+		assertThat( Hibernate.isInitialized( loaded.tools ) ).isTrue();
+		assertThat( Hibernate.isInitialized( loaded.plants ) ).isTrue();
+		assertThat( loaded.tools ).containsOnly( "rake", "spade" );
+		assertThat( loaded.plants ).containsOnly( "rose" );
+
+		session.delete( loaded );
+		transaction.commit();
+		session.close();
+	}
+
+	private RecordingAsyncReadsDialect getRecordingDialect() {
+		GridDialect gridDialect = getSessionFactory().getServiceRegistry().getService( GridDialect.class );
+		return GridDialects.getDelegateOrNull( gridDialect, RecordingAsyncReadsDialect.class );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		cfg.put( OgmProperties.GRID_DIALECT, RecordingAsyncReadsDialect.class );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Gardener.class };
+	}
+
+	@Entity
+	public static class Gardener {
+
+		@Id
+		String id;
+
+		@ElementCollection(fetch = FetchType.EAGER)
+		Set<String> tools = new HashSet<>();
+
+		@ElementCollection(fetch = FetchType.EAGER)
+		Set<String> plants = new HashSet<>();
+	}
+
+	/**
+	 * Records when the associations are requested and when the loader waits for them.
+	 */
+	public static class RecordingAsyncReadsDialect extends MapDialect {
+
+		private final List<String> events = Collections.synchronizedList( new ArrayList<String>() );
+
+		public RecordingAsyncReadsDialect(MapDatastoreProvider provider) {
+			super( provider );
+		}
+
+		@Override
+		public CompletionStage<Association> getAssociationAsync(AssociationKey key, AssociationContext associationContext) {
+			events.add( "getAssociationAsync" );
+			RecordingFuture<Association> future = new RecordingFuture<>();
+			super.getAssociationAsync( key, associationContext ).whenComplete( (association, failure) -> {
+				if ( failure != null ) {
+					future.completeExceptionally( failure );
+				}
+				else {
+					future.complete( association );
+				}
+			} );
+			return future;
+		}
+
+		public List<String> getEvents() {
+			return events;
+		}
+
+		public void reset() {
+			events.clear();
+		}
+
+		private class RecordingFuture<T> extends CompletableFuture<T> {
+
+			@Override
+			public T join() {
+				events.add( "join" );
+				return super.join();
+			}
+		}
+	}
+}
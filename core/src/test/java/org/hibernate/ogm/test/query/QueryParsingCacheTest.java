@@ -0,0 +1,64 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.query;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.ogm.query.impl.QueryParsingCache;
+import org.hibernate.type.StringType;
+import org.junit.Test;
+
+/**
+ * Checks the keys and the statistics of the {@link QueryParsingCache}.
+ */
+public class QueryParsingCacheTest {
+
+	private final AtomicInteger parsedQueries = new AtomicInteger();
+
+	@Test
+	public void shouldParseParameterizedQueryOnce() {
+		QueryParsingCache cache = new QueryParsingCache( 16 );
+
+		Object first = cache.getParsingResult( "from Hypothesis", this::parse );
+		Object second = cache.getParsingResult( "from Hypothesis", this::parse );
+
+		assertThat( second ).isSameAs( first );
+		assertThat( parsedQueries.get() ).isEqualTo( 1 );
+		assertThat( cache.getMissCount() ).isEqualTo( 1 );
+		assertThat( cache.getHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void shouldParseQueryOncePerParameterValues() {
+		QueryParsingCache cache = new QueryParsingCache( 16 );
+		String query = "from Hypothesis h where h.description = :description";
+
+		cache.getParsingResult( query, parameter( "stuff works" ), this::parse );
+		cache.getParsingResult( query, parameter( "stuff fails" ), this::parse );
+		cache.getParsingResult( query, parameter( "stuff works" ), this::parse );
+		cache.getParsingResult( "from Helicopter", parameter( "stuff works" ), this::parse );
+
+		assertThat( parsedQueries.get() ).isEqualTo( 3 );
+		assertThat( cache.getMissCount() ).isEqualTo( 3 );
+		assertThat( cache.getHitCount() ).isEqualTo( 1 );
+		assertThat( cache.size() ).isEqualTo( 3 );
+	}
+
+	private Object parse() {
+		parsedQueries.incrementAndGet();
+		return new Object();
+	}
+
+	private static Map<String, TypedValue> parameter(String value) {
+		return Collections.singletonMap( "description", new TypedValue( StringType.INSTANCE, value ) );
+	}
+}
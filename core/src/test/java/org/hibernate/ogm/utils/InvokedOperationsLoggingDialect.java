@@ -124,6 +124,13 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		return association;
 	}
 
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext) {
+		List<Association> associations = super.getAssociations( keys, associationContext );
+		log( "getAssociations", Arrays.toString( keys ), associations != null ? String.valueOf( associations.size() ) : "null" );
+		return associations;
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		Association association = super.createAssociation( key, associationContext );
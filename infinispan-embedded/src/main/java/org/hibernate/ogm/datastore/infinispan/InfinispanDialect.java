@@ -6,13 +6,13 @@
  */
 package org.hibernate.ogm.datastore.infinispan;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.hibernate.LockMode;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
@@ -29,6 +29,8 @@
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.LocalCacheManager.Bucket;
 import org.hibernate.ogm.datastore.map.impl.MapAssociationSnapshot;
 import org.hibernate.ogm.datastore.map.impl.MapHelpers;
+import org.hibernate.ogm.dialect.associationsize.spi.AssociationSizeAwareGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
@@ -57,11 +59,13 @@
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
 import org.infinispan.Cache;
+import org.infinispan.CacheStream;
 import org.infinispan.atomic.AtomicMapLookup;
 import org.infinispan.atomic.FineGrainedAtomicMap;
 import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.distribution.DistributionManager;
 import org.infinispan.manager.EmbeddedCacheManager;
-import org.infinispan.stream.CacheCollectors;
+import org.infinispan.util.function.SerializableFunction;
 
 /**
  * EK is the entity cache key type
@@ -71,7 +75,12 @@
  * @author Emmanuel Bernard
  * @author Fabio Massimo Ercoli
  */
-public class InfinispanDialect<EK,AK,ISK> extends BaseGridDialect implements StoredProcedureAwareGridDialect, ServiceRegistryAwareService {
+public class InfinispanDialect<EK,AK,ISK> extends BaseGridDialect implements StoredProcedureAwareGridDialect, PartitionableGridDialect, AssociationSizeAwareGridDialect, ServiceRegistryAwareService {
+
+	/**
+	 * The number of keys sent back at once by each node when iterating over the tuples of a cache.
+	 */
+	private static final int FOR_EACH_TUPLE_BATCH_SIZE = 1000;
 
 	private final InfinispanEmbeddedDatastoreProvider provider;
 	private final InfinispanEmbeddedStoredProceduresManager storedProceduresDelegate;
@@ -163,12 +172,28 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 
 	@Override
 	public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
+		Map<RowKey, Map<String, Object>> atomicMap = getAssociationMap( key );
+		return atomicMap == null ? null : new Association( new MapAssociationSnapshot( atomicMap ) );
+	}
+
+	@Override
+	public int getAssociationSize(AssociationKey key, AssociationContext associationContext) {
+		Map<RowKey, Map<String, Object>> atomicMap = getAssociationMap( key );
+		return atomicMap == null ? 0 : atomicMap.size();
+	}
+
+	@Override
+	public boolean containsRow(AssociationKey key, RowKey rowKey, AssociationContext associationContext) {
+		Map<RowKey, Map<String, Object>> atomicMap = getAssociationMap( key );
+		return atomicMap != null && atomicMap.containsKey( rowKey );
+	}
+
+	private Map<RowKey, Map<String, Object>> getAssociationMap(AssociationKey key) {
 		Cache<AK, Map<RowKey, Map<String, Object>>> cache = getCacheManager().getAssociationCache(
 				key.getMetadata()
 		);
 		AK cacheKey = getKeyProvider().getAssociationCacheKey( key );
-		Map<RowKey, Map<String, Object>> atomicMap = AtomicMapLookup.getFineGrainedAtomicMap( cache, cacheKey, false );
-		return atomicMap == null ? null : new Association( new MapAssociationSnapshot( atomicMap ) );
+		return AtomicMapLookup.getFineGrainedAtomicMap( cache, cacheKey, false );
 	}
 
 	@Override
@@ -209,27 +234,37 @@ public Number nextValue(NextValueRequest request) {
 
 	@Override
 	public void forEachTuple( ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata ) {
+		forEachTuple( consumer, tupleTypeContext, entityKeyMetadata, 1 );
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata, int partitions) {
 		Set<Bucket<EK>> buckets = getCacheManager().getWorkBucketsFor( entityKeyMetadata );
 
 		for ( Bucket<EK> bucket : buckets ) {
-			Map<EK, Map<String, Object>> queryResult = new HashMap<>();
-
-			List<CacheEntry<EK, Map<String, Object>>> collect = bucket.getCache().getAdvancedCache().cacheEntrySet()
-				.stream()
-				.filter( getKeyProvider().getFilter( entityKeyMetadata ) )
-				// also collector needs to be Serializable (for non local caches)
-				.collect( CacheCollectors.serializableCollector( () -> Collectors.toList() ) );
-
-			for ( CacheEntry<EK, Map<String, Object>> entry : collect ) {
-				queryResult.put( entry.getKey(), entry.getValue() );
+			DistributionManager distributionManager = bucket.getCache().getAdvancedCache().getDistributionManager();
+			if ( partitions < 2 || distributionManager == null ) {
+				// Local caches are not split into segments
+				consumer.consume( new InfinispanTuplesSupplier( bucket.getCache(), entityKeyMetadata, null ) );
+			}
+			else {
+				int numSegments = distributionManager.getReadConsistentHash().getNumSegments();
+				for ( Set<Integer> segments : partitionSegments( numSegments, partitions ) ) {
+					consumer.consume( new InfinispanTuplesSupplier( bucket.getCache(), entityKeyMetadata, segments ) );
+				}
 			}
+		}
+	}
 
-			// At runtime values of queryResult will be members of class org.infinispan.atomic.impl.AtomicKeySetImpl
-			// this is because of the new implementation of FineGrainedAtomicMap Infinispan class (since 9.1)
-			// query result return anyway valid keys, the values will be reloaded later by the InfinispanTupleIterator
-			InfinispanTuplesSupplier<EK> supplier = new InfinispanTuplesSupplier( bucket.getCache(), queryResult );
-			consumer.consume( supplier );
+	private static List<Set<Integer>> partitionSegments(int numSegments, int partitions) {
+		List<Set<Integer>> segmentsPerPartition = new ArrayList<>( Math.min( numSegments, partitions ) );
+		for ( int segment = 0; segment < numSegments; segment++ ) {
+			if ( segment < partitions ) {
+				segmentsPerPartition.add( new HashSet<Integer>() );
+			}
+			segmentsPerPartition.get( segment % partitions ).add( segment );
 		}
+		return segmentsPerPartition;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -253,46 +288,85 @@ public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.classLoaderService = serviceRegistry.getService( ClassLoaderService.class );
 	}
 
-	private class InfinispanTuplesSupplier<SEK> implements TuplesSupplier {
+	private class InfinispanTuplesSupplier implements TuplesSupplier {
 
-		private final Map<SEK, Map<String, Object>> queryResult;
-		private final Cache<SEK, Map<String, Object>> cache;
+		private final Cache<EK, Map<String, Object>> cache;
+		private final EntityKeyMetadata entityKeyMetadata;
+		private final Set<Integer> segments;
 
-		public InfinispanTuplesSupplier(Cache<SEK, Map<String, Object>> cache, Map<SEK, Map<String, Object>> queryResult) {
+		/**
+		 * @param segments the segments of the cache to read, or {@code null} to read all the entries of the cache
+		 */
+		public InfinispanTuplesSupplier(Cache<EK, Map<String, Object>> cache, EntityKeyMetadata entityKeyMetadata, Set<Integer> segments) {
 			this.cache = cache;
-			this.queryResult = queryResult;
+			this.entityKeyMetadata = entityKeyMetadata;
+			this.segments = segments;
 		}
 
 		@Override
 		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
-			Iterator<Entry<SEK, Map<String, Object>>> iterator = queryResult.entrySet().iterator();
-			return new InfinispanTupleIterator( cache, iterator );
+			CacheStream<CacheEntry<EK, Map<String, Object>>> entries = cache.getAdvancedCache().cacheEntrySet().stream();
+			if ( segments != null ) {
+				entries = entries.filterKeySegments( segments );
+			}
+
+			// Only the keys are sent back by the owners of the entries, a batch at a time;
+			// the values will be reloaded by the InfinispanTupleIterator
+			CacheStream<EK> keys = entries
+				.distributedBatchSize( FOR_EACH_TUPLE_BATCH_SIZE )
+				.filter( getKeyProvider().getFilter( entityKeyMetadata ) )
+				.map( (SerializableFunction<CacheEntry<EK, Map<String, Object>>, EK>) CacheEntry::getKey );
+
+			return new InfinispanTupleIterator( cache, keys );
 		}
 	}
 
-	private class InfinispanTupleIterator<IEK> implements ClosableIterator<Tuple> {
+	/**
+	 * Iterates lazily over the keys of a cache stream and loads the corresponding tuples; the entries removed since
+	 * the key has been read are skipped.
+	 */
+	private class InfinispanTupleIterator implements ClosableIterator<Tuple> {
 
-		private final Iterator<Entry<IEK, Map<String, Object>>> iterator;
-		private final Cache<IEK, Map<String, Object>> cache;
+		private final Cache<EK, Map<String, Object>> cache;
+		private final CacheStream<EK> keys;
+		private final Iterator<EK> iterator;
+		private Tuple next;
 
-		public InfinispanTupleIterator(Cache<IEK, Map<String, Object>> cache, Iterator<Entry<IEK, Map<String, Object>>> iterator) {
+		public InfinispanTupleIterator(Cache<EK, Map<String, Object>> cache, CacheStream<EK> keys) {
 			this.cache = cache;
-			this.iterator = iterator;
+			this.keys = keys;
+			this.iterator = keys.iterator();
+			this.next = loadNext();
+		}
+
+		private Tuple loadNext() {
+			while ( iterator.hasNext() ) {
+				Tuple tuple = getTupleFromCacheKey( iterator.next(), cache );
+				if ( tuple != null ) {
+					return tuple;
+				}
+			}
+			return null;
 		}
 
 		@Override
 		public boolean hasNext() {
-			return iterator.hasNext();
+			return next != null;
 		}
 
 		@Override
 		public Tuple next() {
-			Entry<IEK, Map<String, Object>> entry = iterator.next();
-			return getTupleFromCacheKey( (EK) entry.getKey(), (Cache<EK, Map<String, Object>>) cache );
+			if ( next == null ) {
+				throw new NoSuchElementException();
+			}
+			Tuple current = next;
+			next = loadNext();
+			return current;
 		}
 
 		@Override
 		public void close() {
+			keys.close();
 		}
 	}
 
@@ -30,6 +30,30 @@ public final class InfinispanProperties implements KeyValueStoreProperties {
 	 */
 	public static final String CACHE_MANAGER_JNDI_NAME = "hibernate.ogm.infinispan.cachemanager_jndi_name";
 
+	/**
+	 * The number of identifiers reserved at once on the clustered counter backing an id source, using a single
+	 * {@code addAndGet} operation; the reserved identifiers are then assigned locally, without any remote call.
+	 * Identifiers reserved but not used when the session factory is closed are lost, leaving gaps in the sequence.
+	 * <p>
+	 * The block size is expressed in identifiers: with a pooled optimizer, i.e. an allocation size greater than one,
+	 * each value returned to the optimizer stands for a whole allocation, so the counter reserves
+	 * {@code block size / allocation size} of them at once, and keeps the default behavior if the allocation size is
+	 * greater than the block size.
+	 * <p>
+	 * Must be a positive integer; the default value {@code 1} increments the counter for each value. The block size of
+	 * a single id source can be set by appending its name to this property, e.g.
+	 * {@code hibernate.ogm.infinispan.counter_block_size.hibernate_sequences} for the table generator stored in the
+	 * {@code hibernate_sequences} table or {@code hibernate.ogm.infinispan.counter_block_size.order_seq} for the
+	 * {@code order_seq} sequence.
+	 */
+	public static final String COUNTER_BLOCK_SIZE = "hibernate.ogm.infinispan.counter_block_size";
+
+	/**
+	 * The default number of identifiers reserved at once on a clustered counter.
+	 * @see #COUNTER_BLOCK_SIZE
+	 */
+	public static final int DEFAULT_COUNTER_BLOCK_SIZE = 1;
+
 	private InfinispanProperties() {
 	}
 }
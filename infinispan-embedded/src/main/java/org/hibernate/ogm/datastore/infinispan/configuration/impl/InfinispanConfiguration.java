@@ -7,13 +7,16 @@
 package org.hibernate.ogm.datastore.infinispan.configuration.impl;
 
 import java.net.URL;
+import java.util.HashMap;
 import java.util.Map;
 
+import org.hibernate.HibernateException;
 import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
+import org.hibernate.ogm.datastore.infinispan.logging.impl.Log;
+import org.hibernate.ogm.datastore.infinispan.logging.impl.LoggerFactory;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
-import org.hibernate.ogm.util.impl.Log;
-import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.ogm.util.configurationreader.spi.PropertyValidator;
 import java.lang.invoke.MethodHandles;
 
 /**
@@ -27,8 +30,12 @@ public class InfinispanConfiguration {
 
 	private static final String INFINISPAN_DEFAULT_CONFIG = "org/hibernate/ogm/datastore/infinispan/default-config.xml";
 
+	private static final String COUNTER_BLOCK_SIZE_PREFIX = InfinispanProperties.COUNTER_BLOCK_SIZE + ".";
+
 	private URL configUrl;
 	private String jndi;
+	private int counterBlockSize;
+	private final Map<String, Integer> counterBlockSizePerIdSource = new HashMap<>();
 
 	/**
 	 * The location of the configuration file.
@@ -50,6 +57,17 @@ public String getJndiName() {
 		return jndi;
 	}
 
+	/**
+	 * Get the number of identifiers reserved at once on the clustered counter of an id source.
+	 *
+	 * @see InfinispanProperties#COUNTER_BLOCK_SIZE
+	 * @param idSourceName the name of the table or of the sequence storing the id source
+	 * @return the block size configured for the id source, or the default one
+	 */
+	public int getCounterBlockSize(String idSourceName) {
+		return counterBlockSizePerIdSource.getOrDefault( idSourceName, counterBlockSize );
+	}
+
 	/**
 	 * Initialize the internal values form the given {@link Map}.
 	 *
@@ -68,6 +86,39 @@ public void initConfiguration(Map<?, ?> configurationMap) {
 				.property( InfinispanProperties.CACHE_MANAGER_JNDI_NAME, String.class )
 				.getValue();
 
+		this.counterBlockSize = propertyReader
+				.property( InfinispanProperties.COUNTER_BLOCK_SIZE, int.class )
+				.withDefault( InfinispanProperties.DEFAULT_COUNTER_BLOCK_SIZE )
+				.withValidator( new CounterBlockSizeValidator( InfinispanProperties.COUNTER_BLOCK_SIZE ) )
+				.getValue();
+
+		for ( Object key : configurationMap.keySet() ) {
+			String propertyName = String.valueOf( key );
+			if ( propertyName.startsWith( COUNTER_BLOCK_SIZE_PREFIX ) ) {
+				int blockSize = propertyReader
+						.property( propertyName, int.class )
+						.withValidator( new CounterBlockSizeValidator( propertyName ) )
+						.getValue();
+				counterBlockSizePerIdSource.put( propertyName.substring( COUNTER_BLOCK_SIZE_PREFIX.length() ), blockSize );
+			}
+		}
+
 		log.tracef( "Initializing Infinispan from configuration file at %1$s", configUrl );
 	}
+
+	private static class CounterBlockSizeValidator implements PropertyValidator<Integer> {
+
+		private final String propertyName;
+
+		CounterBlockSizeValidator(String propertyName) {
+			this.propertyName = propertyName;
+		}
+
+		@Override
+		public void validate(Integer blockSize) throws HibernateException {
+			if ( blockSize < 1 ) {
+				throw log.invalidCounterBlockSize( propertyName, blockSize );
+			}
+		}
+	}
 }
@@ -119,14 +119,15 @@ public void initializePersistenceStrategy(CacheMappingType cacheMappingType, Set
 		// creates handler for TableGenerator Id sources
 		boolean requiresCounter = hasIdGeneration( idSourceTypes );
 		if ( requiresCounter ) {
-			this.tableClusterHandler = new TableClusteredCounterHandler( persistenceStrategy.getCacheManager().getCacheManager() );
+			this.tableClusterHandler = new TableClusteredCounterHandler( persistenceStrategy.getCacheManager().getCacheManager(), config::getCounterBlockSize );
 		}
 
 		// creates handlers for SequenceGenerator Id sources
 		for ( Namespace namespace : namespaces ) {
 			for ( Sequence seq : namespace.getSequences() ) {
 				this.sequenceCounterHandlers.put( seq.getExportIdentifier(),
-						new SequenceClusteredCounterHandler( persistenceStrategy.getCacheManager().getCacheManager(), seq ) );
+						new SequenceClusteredCounterHandler( persistenceStrategy.getCacheManager().getCacheManager(), seq,
+								config.getCounterBlockSize( seq.getExportIdentifier() ) ) );
 			}
 		}
 
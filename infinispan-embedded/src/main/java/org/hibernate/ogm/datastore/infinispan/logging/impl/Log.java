@@ -57,8 +57,11 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 	HibernateException counterCannotBeCreatedWithoutGlobalConfiguration();
 
 	@Message(id = 1110, value = "Exception generating value for counter '%1$s'.")
-	HibernateException exceptionGeneratingValueForCounter(String counterName);
+	HibernateException exceptionGeneratingValueForCounter(String counterName, @Cause Exception e);
 
 	@Message(id = 1111, value = "Cannot instantiate stored procedure '%s' with resolved name '%s'.")
 	HibernateException cannotInstantiateStoredProcedure(String storedProcedureName, String className, @Cause Exception e);
+
+	@Message(id = 1112, value = "Invalid value for property '%s': the counter block size must be a positive integer but is <%d>")
+	HibernateException invalidCounterBlockSize(String propertyName, int blockSize);
 }
@@ -7,9 +7,7 @@
 package org.hibernate.ogm.datastore.infinispan.persistencestrategy.counter;
 
 import java.lang.invoke.MethodHandles;
-import java.util.concurrent.ExecutionException;
 
-import org.hibernate.HibernateException;
 import org.hibernate.ogm.datastore.infinispan.logging.impl.Log;
 import org.hibernate.ogm.datastore.infinispan.logging.impl.LoggerFactory;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
@@ -75,15 +73,5 @@ private void validateGlobalConfiguration() {
 		}
 	}
 
-	protected Number nextValue(NextValueRequest request, StrongCounter strongCounter) {
-		try {
-			Long newValue = strongCounter.addAndGet( request.getIncrement() ).get();
-			return newValue - request.getIncrement();
-		}
-		catch (ExecutionException | InterruptedException e) {
-			throw new HibernateException( "Interrupting Operation " + e.getMessage(), e );
-		}
-	}
-
 	public abstract Number nextValue(NextValueRequest request);
 }
@@ -0,0 +1,80 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.persistencestrategy.counter;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.ogm.datastore.infinispan.logging.impl.Log;
+import org.hibernate.ogm.datastore.infinispan.logging.impl.LoggerFactory;
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.infinispan.counter.api.StrongCounter;
+
+/**
+ * Assigns the values of a clustered counter, reserving several of them with a single {@code addAndGet}.
+ * <p>
+ * The counter always holds the first value not reserved by any node; the values of the reserved block are assigned
+ * locally. The block size is a number of identifiers: when the optimizer applies the increment to the values, i.e.
+ * each value stands for {@code increment} identifiers, {@code blockSize / increment} values are reserved at once, so
+ * that the pooled optimizers and the counter don't both buffer the same identifiers.
+ */
+final class CounterBlock {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final StrongCounter counter;
+	private final int blockSize;
+
+	// Guards the values of the current block
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private long nextValue;
+	private int remainingValues = 0;
+
+	CounterBlock(StrongCounter counter, int blockSize) {
+		this.counter = counter;
+		this.blockSize = blockSize;
+	}
+
+	Number nextValue(NextValueRequest request) {
+		final int increment = request.getIncrement();
+		final int valuesPerBlock = Math.max( 1, blockSize / increment );
+		if ( valuesPerBlock == 1 ) {
+			return addAndGet( increment ) - increment;
+		}
+
+		lock.lock();
+		try {
+			if ( remainingValues == 0 ) {
+				long span = (long) increment * valuesPerBlock;
+				nextValue = addAndGet( span ) - span;
+				remainingValues = valuesPerBlock;
+			}
+			long value = nextValue;
+			nextValue += increment;
+			remainingValues--;
+			return value;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private long addAndGet(long delta) {
+		try {
+			return counter.addAndGet( delta ).get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw LOG.exceptionGeneratingValueForCounter( counter.getName(), e );
+		}
+		catch (ExecutionException e) {
+			throw LOG.exceptionGeneratingValueForCounter( counter.getName(), e );
+		}
+	}
+}
@@ -8,7 +8,6 @@
 
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
-import org.infinispan.counter.api.StrongCounter;
 import org.infinispan.manager.EmbeddedCacheManager;
 
 /**
@@ -21,15 +20,15 @@
  */
 public class SequenceClusteredCounterHandler extends ClusteredCounterHandler {
 
-	private final StrongCounter counter;
+	private final CounterBlock counter;
 
-	public SequenceClusteredCounterHandler(EmbeddedCacheManager cacheManager, Sequence sequence) {
+	public SequenceClusteredCounterHandler(EmbeddedCacheManager cacheManager, Sequence sequence, int blockSize) {
 		super( cacheManager );
-		counter = getCounterOrCreateIt( sequence.getExportIdentifier(), sequence.getInitialValue() );
+		counter = new CounterBlock( getCounterOrCreateIt( sequence.getExportIdentifier(), sequence.getInitialValue() ), blockSize );
 	}
 
 	@Override
 	public Number nextValue(NextValueRequest request) {
-		return nextValue( request, counter );
+		return counter.nextValue( request );
 	}
 }
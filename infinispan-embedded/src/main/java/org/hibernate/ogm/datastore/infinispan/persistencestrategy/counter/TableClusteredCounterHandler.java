@@ -6,6 +6,10 @@
  */
 package org.hibernate.ogm.datastore.infinispan.persistencestrategy.counter;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.ToIntFunction;
+
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.infinispan.counter.api.StrongCounter;
 import org.infinispan.manager.EmbeddedCacheManager;
@@ -20,15 +24,22 @@
  */
 public class TableClusteredCounterHandler extends ClusteredCounterHandler {
 
-	public TableClusteredCounterHandler(EmbeddedCacheManager cacheManager) {
+	private final ToIntFunction<String> blockSizePerTable;
+	private final ConcurrentMap<String, CounterBlock> counters = new ConcurrentHashMap<>();
+
+	public TableClusteredCounterHandler(EmbeddedCacheManager cacheManager, ToIntFunction<String> blockSizePerTable) {
 		super( cacheManager );
+		this.blockSizePerTable = blockSizePerTable;
 	}
 
 	@Override
 	public Number nextValue(NextValueRequest request) {
 		String counterName = counterName( request );
-		StrongCounter strongCounter = getCounterOrCreateIt( counterName, request.getInitialValue() );
-		return nextValue( request, strongCounter );
+		CounterBlock counter = counters.computeIfAbsent( counterName, name -> {
+			StrongCounter strongCounter = getCounterOrCreateIt( name, request.getInitialValue() );
+			return new CounterBlock( strongCounter, blockSizePerTable.applyAsInt( request.getKey().getTable() ) );
+		} );
+		return counter.nextValue( request );
 	}
 
 	private String counterName(NextValueRequest request) {
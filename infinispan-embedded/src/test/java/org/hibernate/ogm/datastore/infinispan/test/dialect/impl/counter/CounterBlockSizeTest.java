@@ -0,0 +1,151 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.test.dialect.impl.counter;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.TableGenerator;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
+import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.id.impl.OgmTableGenerator;
+import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata;
+import org.hibernate.ogm.utils.jpa.GetterPersistenceUnitInfo;
+import org.hibernate.ogm.utils.jpa.OgmJpaTestCase;
+import org.infinispan.counter.EmbeddedCounterManagerFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the reservation of blocks of values on the clustered counters.
+ */
+public class CounterBlockSizeTest extends OgmJpaTestCase {
+
+	private static final String BLOCK_TABLE = "BLOCK_SEQUENCES";
+	private static final String NO_BLOCK_TABLE = "NO_BLOCK_SEQUENCES";
+
+	private static final String CONSECUTIVE_SEQUENCE = "ConsecutiveSequence";
+	private static final String POOLED_SEQUENCE = "PooledSequence";
+	private static final String NO_BLOCK_SEQUENCE = "NoBlockSequence";
+
+	private GridDialect dialect;
+
+	@Override
+	protected void configure(GetterPersistenceUnitInfo info) {
+		info.getProperties().setProperty( InfinispanProperties.COUNTER_BLOCK_SIZE, "10" );
+		info.getProperties().setProperty( InfinispanProperties.COUNTER_BLOCK_SIZE + "." + NO_BLOCK_TABLE, "1" );
+	}
+
+	@Before
+	public void setUp() {
+		dialect = getServiceRegistry().getService( GridDialect.class );
+	}
+
+	@Test
+	public void testValuesOfTheBlocksAreAssignedInOrder() throws Exception {
+		NextValueRequest request = new NextValueRequest( key( ConsecutiveEntity.class, CONSECUTIVE_SEQUENCE ), 1, 1 );
+
+		assertThat( nextValues( request, 25 ) ).isEqualTo( range( 1, 25, 1 ) );
+		// Three blocks of 10 values have been reserved
+		assertThat( counterValue( BLOCK_TABLE, CONSECUTIVE_SEQUENCE ) ).isEqualTo( 31L );
+	}
+
+	@Test
+	public void testBlockSizeIsExpressedInIdentifiersWithPooledOptimizers() throws Exception {
+		NextValueRequest request = new NextValueRequest( key( PooledEntity.class, POOLED_SEQUENCE ), 5, 1 );
+
+		// Each value stands for 5 identifiers, two of them are reserved at once
+		assertThat( nextValues( request, 3 ) ).isEqualTo( range( 1, 11, 5 ) );
+		assertThat( counterValue( BLOCK_TABLE, POOLED_SEQUENCE ) ).isEqualTo( 21L );
+	}
+
+	@Test
+	public void testBlockSizeCanBeSetPerIdSource() throws Exception {
+		NextValueRequest request = new NextValueRequest( key( NoBlockEntity.class, NO_BLOCK_SEQUENCE ), 1, 1 );
+
+		assertThat( nextValues( request, 3 ) ).isEqualTo( range( 1, 3, 1 ) );
+		assertThat( counterValue( NO_BLOCK_TABLE, NO_BLOCK_SEQUENCE ) ).isEqualTo( 4L );
+	}
+
+	private IdSourceKey key(Class<?> entityClass, String sequenceName) {
+		SessionFactoryImplementor sessionFactory = getFactory().unwrap( SessionFactoryImplementor.class );
+		IdSourceKeyMetadata metadata = ( (OgmTableGenerator) sessionFactory.getIdentifierGenerator( entityClass.getName() ) ).getGeneratorKeyMetadata();
+		return IdSourceKey.forTable( metadata, sequenceName );
+	}
+
+	private List<Long> nextValues(NextValueRequest request, int count) {
+		List<Long> values = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			values.add( dialect.nextValue( request ).longValue() );
+		}
+		return values;
+	}
+
+	private static List<Long> range(long first, long last, int increment) {
+		List<Long> values = new ArrayList<>();
+		for ( long value = first; value <= last; value += increment ) {
+			values.add( value );
+		}
+		return values;
+	}
+
+	private long counterValue(String table, String sequenceName) throws Exception {
+		InfinispanEmbeddedDatastoreProvider provider = (InfinispanEmbeddedDatastoreProvider) getServiceRegistry().getService( DatastoreProvider.class );
+		return EmbeddedCounterManagerFactory.asCounterManager( provider.getCacheManager().getCacheManager() )
+				.getStrongCounter( table + "." + sequenceName )
+				.getValue()
+				.get();
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { ConsecutiveEntity.class, PooledEntity.class, NoBlockEntity.class };
+	}
+
+	@Entity
+	@Table(name = "CONSECUTIVE")
+	private static class ConsecutiveEntity {
+
+		@Id
+		@GeneratedValue(strategy = GenerationType.TABLE, generator = "consecutive")
+		@TableGenerator(name = "consecutive", table = BLOCK_TABLE, pkColumnValue = CONSECUTIVE_SEQUENCE, initialValue = 1)
+		Long id;
+	}
+
+	@Entity
+	@Table(name = "POOLED")
+	private static class PooledEntity {
+
+		@Id
+		@GeneratedValue(strategy = GenerationType.TABLE, generator = "pooled")
+		@TableGenerator(name = "pooled", table = BLOCK_TABLE, pkColumnValue = POOLED_SEQUENCE, initialValue = 1, allocationSize = 5)
+		Long id;
+	}
+
+	@Entity
+	@Table(name = "NO_BLOCK")
+	private static class NoBlockEntity {
+
+		@Id
+		@GeneratedValue(strategy = GenerationType.TABLE, generator = "noBlock")
+		@TableGenerator(name = "noBlock", table = NO_BLOCK_TABLE, pkColumnValue = NO_BLOCK_SEQUENCE, initialValue = 1)
+		Long id;
+	}
+}
@@ -8,21 +8,29 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.ogm.datastore.infinispanremote.impl.HotRodWriteBatch;
 import org.hibernate.ogm.datastore.infinispanremote.impl.InfinispanRemoteDatastoreProvider;
 import org.hibernate.ogm.datastore.infinispanremote.impl.InfinispanRemoteStoredProceduresManager;
 import org.hibernate.ogm.datastore.infinispanremote.impl.ProtoStreamMappingAdapter;
 import org.hibernate.ogm.datastore.infinispanremote.impl.ProtostreamAssociationMappingAdapter;
+import org.hibernate.ogm.datastore.infinispanremote.impl.VersionedAssociation;
 import org.hibernate.ogm.datastore.infinispanremote.impl.VersionedTuple;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.AssociationOwnerEntryMapper;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamAssociationPayload;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamId;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamPayload;
 import org.hibernate.ogm.datastore.infinispanremote.logging.impl.Log;
@@ -33,12 +41,16 @@
 import org.hibernate.ogm.datastore.map.impl.MapAssociationSnapshot;
 import org.hibernate.ogm.datastore.map.impl.MapHelpers;
 import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.dialect.async.spi.AsyncGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
 import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
 import org.hibernate.ogm.dialect.impl.AbstractGroupingByEntityDialect;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
@@ -53,7 +65,6 @@
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.dialect.spi.OperationContext;
 import org.hibernate.ogm.dialect.spi.TransactionContext;
-import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.dialect.spi.TupleTypeContext;
 import org.hibernate.ogm.dialect.spi.TuplesSupplier;
@@ -79,8 +90,10 @@
 import org.infinispan.client.hotrod.VersionedValue;
 import org.infinispan.commons.util.CloseableIterator;
 import org.infinispan.query.dsl.FilterConditionContext;
+import org.infinispan.query.dsl.FilterConditionEndContext;
 import org.infinispan.query.dsl.Query;
 import org.infinispan.query.dsl.QueryBuilder;
+import org.infinispan.query.dsl.QueryFactory;
 
 /**
  * Some implementation notes for evolution:
@@ -93,12 +106,20 @@
  * would need extending the Infinispan server deployment with some extension such as a
  * custom script to be invoked from the client.
  *
- * - BatchableGridDialect could probably be implemented.
+ * - The operations of a flush are collected by a HotRodWriteBatch: the plain writes are sent
+ * to each cache with a single putAll, the removals and the putIfAbsent of the new entities
+ * are sent asynchronously and awaited together.
+ *
+ * - The rows of an association mapped with a dedicated table are stored as one entry per row,
+ * found by an indexed query, or as a single entry per owner in a dedicated cache when the
+ * association uses AssociationStorageType.ENTRY_PER_OWNER. The owner entry is rewritten with
+ * the whole state of the association on each change, using the version read with the association,
+ * so that a concurrent change of the same association fails rather than being overwritten.
  *
  * @author Sanne Grinovero
  * @author Fabio Massimo Ercoli
  */
-public class InfinispanRemoteDialect<EK, AK, ISK> extends AbstractGroupingByEntityDialect implements QueryableGridDialect<InfinispanRemoteQueryDescriptor>, MultigetGridDialect, StoredProcedureAwareGridDialect {
+public class InfinispanRemoteDialect<EK, AK, ISK> extends AbstractGroupingByEntityDialect implements QueryableGridDialect<InfinispanRemoteQueryDescriptor>, MultigetGridDialect, MultigetAssociationGridDialect, StoredProcedureAwareGridDialect, AsyncGridDialect {
 
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
@@ -115,6 +136,116 @@ public Tuple getTuple(EntityKey key, OperationContext operationContext) {
 		return getTuple( provider, key );
 	}
 
+	@Override
+	public CompletionStage<Tuple> getTupleAsync(EntityKey key, OperationContext operationContext) {
+		final String cacheName = cacheName( key );
+		ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName );
+		ProtostreamId idBuffer = mapper.createIdPayload( key.getColumnNames(), key.getColumnValues() );
+		CompletableFuture<MetadataValue<ProtostreamPayload>> value = mapper.withinCacheEncodingContext( c -> c.getWithMetadataAsync( idBuffer ) );
+		return value.thenApply( InfinispanRemoteDialect::toVersionedTuple );
+	}
+
+	@Override
+	public CompletionStage<List<Tuple>> getTuplesAsync(EntityKey[] keys, TupleContext tupleContext) {
+		Objects.requireNonNull( keys );
+		if ( keys.length == 0 ) {
+			return CompletableFuture.completedFuture( Collections.emptyList() );
+		}
+		return readConcurrently( keys, key -> getTupleAsync( key, tupleContext ) );
+	}
+
+	/**
+	 * Applies an asynchronous read to each of the given keys, as there is no multi-get returning the versions of the
+	 * entries.
+	 * <p>
+	 * No more than {@link InfinispanRemoteDatastoreProvider#getMultigetConcurrency()} reads are in flight at the same
+	 * time. The calling thread only issues the first reads, the completion of a read issues the next one.
+	 *
+	 * @return the results of the reads, in the order of the keys; {@code null} for a {@code null} key
+	 */
+	private <K, V> CompletableFuture<List<V>> readConcurrently(K[] keys, Function<K, CompletionStage<V>> read) {
+		@SuppressWarnings("unchecked")
+		final CompletableFuture<V>[] results = new CompletableFuture[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			results[i] = new CompletableFuture<>();
+		}
+		final AtomicInteger nextKey = new AtomicInteger();
+		final int readers = Math.min( provider.getMultigetConcurrency(), keys.length );
+		for ( int i = 0; i < readers; i++ ) {
+			readNext( keys, read, results, nextKey );
+		}
+		return CompletableFuture.allOf( results ).thenApply( ignored -> {
+			List<V> values = new ArrayList<>( results.length );
+			for ( CompletableFuture<V> result : results ) {
+				values.add( result.join() );
+			}
+			return values;
+		} );
+	}
+
+	private static <K, V> void readNext(K[] keys, Function<K, CompletionStage<V>> read, CompletableFuture<V>[] results, AtomicInteger nextKey) {
+		int index;
+		while ( ( index = nextKey.getAndIncrement() ) < keys.length ) {
+			final CompletableFuture<V> result = results[index];
+			if ( keys[index] == null ) {
+				result.complete( null );
+				continue;
+			}
+			CompletableFuture<V> value;
+			try {
+				value = read.apply( keys[index] ).toCompletableFuture();
+			}
+			catch (RuntimeException e) {
+				result.completeExceptionally( e );
+				continue;
+			}
+			if ( value.isDone() ) {
+				// Carry on in this loop rather than recursively
+				copy( value, result );
+			}
+			else {
+				value.whenComplete( ( v, failure ) -> {
+					copy( value, result );
+					readNext( keys, read, results, nextKey );
+				} );
+				return;
+			}
+		}
+	}
+
+	private static <V> void copy(CompletableFuture<V> source, CompletableFuture<V> target) {
+		try {
+			target.complete( source.join() );
+		}
+		catch (CompletionException e) {
+			target.completeExceptionally( e.getCause() );
+		}
+		catch (RuntimeException e) {
+			target.completeExceptionally( e );
+		}
+	}
+
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	private static Tuple toVersionedTuple(MetadataValue<ProtostreamPayload> value) {
+		if ( value == null || value.getValue() == null ) {
+			return null;
+		}
+		VersionedTuple versionedTuple = value.getValue().toVersionedTuple( SnapshotType.UPDATE );
+		versionedTuple.setVersion( value.getVersion() );
+		return versionedTuple;
+	}
+
 	private static Tuple getTuple(InfinispanRemoteDatastoreProvider provider, EntityKey key) {
 		final String cacheName = cacheName( key );
 		ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName );
@@ -138,11 +269,42 @@ public Tuple createTuple(EntityKey key, OperationContext operationContext) {
 		return new VersionedTuple();
 	}
 
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( !queue.isClosed() ) {
+			HotRodWriteBatch batch = new HotRodWriteBatch();
+			Operation operation = queue.poll();
+
+			while ( operation != null ) {
+				if ( operation instanceof GroupedChangesToEntityOperation ) {
+					executeGroupedChangesToEntity( batch, (GroupedChangesToEntityOperation) operation );
+				}
+				else if ( operation instanceof RemoveTupleOperation ) {
+					RemoveTupleOperation removeTupleOperation = (RemoveTupleOperation) operation;
+					removeTuple( batch, removeTupleOperation.getEntityKey() );
+				}
+				else {
+					throw new UnsupportedOperationException( "Operation not supported: " + operation.getClass().getSimpleName() );
+				}
+				operation = queue.poll();
+			}
+
+			batch.flush();
+			queue.clear();
+		}
+	}
+
 	@Override
 	protected void executeGroupedChangesToEntity(GroupedChangesToEntityOperation groupedOperation) {
+		HotRodWriteBatch batch = new HotRodWriteBatch();
+		executeGroupedChangesToEntity( batch, groupedOperation );
+		batch.flush();
+	}
+
+	private void executeGroupedChangesToEntity(HotRodWriteBatch batch, GroupedChangesToEntityOperation groupedOperation) {
 		final EntityKey entityKey = groupedOperation.getEntityKey();
 		final String cacheName = cacheName( entityKey );
-		final OwningEntity owningEntity = new OwningEntity( provider, entityKey );
+		final OwningEntity owningEntity = new OwningEntity( provider, batch, entityKey );
 
 		for ( Operation operation : groupedOperation.getOperations() ) {
 			if ( operation instanceof InsertOrUpdateTupleOperation ) {
@@ -151,7 +313,7 @@ protected void executeGroupedChangesToEntity(GroupedChangesToEntityOperation gro
 				owningEntity.applyOperations( tuple );
 			}
 			else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
-				insertOrUpdateAssociation( (InsertOrUpdateAssociationOperation) operation );
+				insertOrUpdateAssociation( batch, (InsertOrUpdateAssociationOperation) operation );
 			}
 			else if ( operation instanceof RemoveAssociationOperation ) {
 				log.debugf( "removeAssociation for key '%s' on cache '%s'", entityKey, cacheName );
@@ -198,6 +360,8 @@ private static class OwningEntity {
 
 		private final InfinispanRemoteDatastoreProvider provider;
 
+		private final HotRodWriteBatch batch;
+
 		// Keep track of the association to remove that are not contained in the entity
 		private final List<AssociationKey> associationsToRemove = new ArrayList<>();
 
@@ -209,15 +373,16 @@ private static class OwningEntity {
 		// If the entity already exists in the datastore or not
 		private SnapshotType operationType = SnapshotType.UPDATE;
 
-		public OwningEntity(InfinispanRemoteDatastoreProvider provider, EntityKey entityKey) {
+		public OwningEntity(InfinispanRemoteDatastoreProvider provider, HotRodWriteBatch batch, EntityKey entityKey) {
 			this.provider = provider;
+			this.batch = batch;
 			this.ownerEntityKey = entityKey;
 		}
 
 		public void flushOperations() {
 			if ( !associationsToRemove.isEmpty() ) {
 				for ( AssociationKey key : associationsToRemove ) {
-					removeAssociationFromBridgeTable( provider, key );
+					removeAssociationFromBridgeTable( provider, batch, key );
 				}
 			}
 
@@ -228,28 +393,17 @@ public void flushOperations() {
 
 		private void flushEntity() {
 			Tuple versionedTuple = new Tuple( new MapTupleSnapshot( owningEntity ), operationType );
-			ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName( ownerEntityKey ) );
+			String cacheName = cacheName( ownerEntityKey );
+			ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName );
 			ProtostreamId idBuffer = mapper.createIdPayload( ownerEntityKey.getColumnNames(), ownerEntityKey.getColumnValues() );
 			ProtostreamPayload valuePayload = mapper.createValuePayload( versionedTuple );
 
 			if ( operationType == SnapshotType.INSERT ) {
-				insertEntity( mapper, idBuffer, valuePayload );
+				// The duplicate is detected by putIfAbsent when the batch is flushed
+				batch.putIfAbsent( cacheName, mapper, ownerEntityKey, idBuffer, valuePayload );
 			}
 			else {
-				updateEntity( mapper, idBuffer, valuePayload );
-			}
-		}
-
-		private void updateEntity(ProtoStreamMappingAdapter mapper, ProtostreamId idBuffer, ProtostreamPayload valuePayload) {
-			mapper.withinCacheEncodingContext( c -> c.put( idBuffer, valuePayload ) );
-		}
-
-		private void insertEntity(ProtoStreamMappingAdapter mapper, ProtostreamId idBuffer, ProtostreamPayload valuePayload) {
-			boolean optimisticLockError;
-			ProtostreamPayload result = mapper.withinCacheEncodingContext( c -> c.putIfAbsent( idBuffer, valuePayload ) );
-			optimisticLockError = null != result;
-			if ( optimisticLockError ) {
-				throw new TupleAlreadyExistsException( ownerEntityKey );
+				batch.put( cacheName, mapper, idBuffer, valuePayload );
 			}
 		}
 
@@ -300,13 +454,19 @@ private Map<String, Object> getEntityFromTuple(Map<String, Object> owningEntity,
 		}
 	}
 
-	private void insertOrUpdateAssociation(InsertOrUpdateAssociationOperation insertOrUpdateAssociationOperation) {
+	private void insertOrUpdateAssociation(HotRodWriteBatch batch, InsertOrUpdateAssociationOperation insertOrUpdateAssociationOperation) {
 		AssociationKey associationKey = insertOrUpdateAssociationOperation.getAssociationKey();
 		org.hibernate.ogm.model.spi.Association association = insertOrUpdateAssociationOperation.getAssociation();
 		AssociationContext associationContext = insertOrUpdateAssociationOperation.getContext();
 
 		if ( !associationStoredWithinEntityEntry( associationKey, associationContext ) ) {
-			insertOrUpdateAssociationMappedAsDedicatedEntries( associationKey, association, associationContext );
+			AssociationOwnerEntryMapper ownerEntryMapper = provider.getAssociationOwnerEntryMapper( associationKey.getMetadata() );
+			if ( ownerEntryMapper == null ) {
+				insertOrUpdateAssociationMappedAsDedicatedEntries( batch, associationKey, association );
+			}
+			else {
+				insertOrUpdateAssociationMappedAsOwnerEntry( batch, ownerEntryMapper, associationKey, association );
+			}
 		}
 
 		association.reset();
@@ -331,6 +491,13 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 		mapper.withinCacheEncodingContext( c -> c.remove( idBuffer ) );
 	}
 
+	private void removeTuple(HotRodWriteBatch batch, EntityKey key) {
+		final String cacheName = cacheName( key );
+		log.debugf( "removeTuple for key '%s' on cache '%s'", key, cacheName );
+		ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName );
+		batch.remove( cacheName, mapper, mapper.createIdPayload( key.getColumnNames(), key.getColumnValues() ) );
+	}
+
 	private static String cacheName(EntityKey key) {
 		return key.getTable();
 	}
@@ -349,6 +516,13 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 			return null;
 		}
 
+		AssociationOwnerEntryMapper ownerEntryMapper = provider.getAssociationOwnerEntryMapper( key.getMetadata() );
+		if ( ownerEntryMapper != null ) {
+			ProtostreamId idBuffer = ownerEntryMapper.createIdPayload( key.getColumnNames(), key.getColumnValues() );
+			MetadataValue<ProtostreamAssociationPayload> value = ownerEntryMapper.withinCacheEncodingContext( c -> c.getWithMetadata( idBuffer ) );
+			return toVersionedAssociation( value, key );
+		}
+
 		Map<RowKey, Map<String, Object>> results = loadRowKeysByQuery( provider, key );
 		if ( results.isEmpty() ) {
 			// For consistency with other dialects,
@@ -358,6 +532,23 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		return new Association( new MapAssociationSnapshot( results ) );
 	}
 
+	@Override
+	public CompletionStage<Association> getAssociationAsync(AssociationKey key, AssociationContext associationContext) {
+		// The operations queue is not thread-safe, it is inspected before leaving the calling thread
+		if ( referencesDeleteEntity( key, associationContext ) ) {
+			return CompletableFuture.completedFuture( null );
+		}
+
+		AssociationOwnerEntryMapper ownerEntryMapper = provider.getAssociationOwnerEntryMapper( key.getMetadata() );
+		if ( ownerEntryMapper != null ) {
+			return getAssociationMappedAsOwnerEntryAsync( ownerEntryMapper, key );
+		}
+
+		return CompletableFuture
+				.supplyAsync( () -> loadRowKeysByQuery( provider, key ), provider.getAsyncExecutor() )
+				.thenApply( results -> results.isEmpty() ? null : new Association( new MapAssociationSnapshot( results ) ) );
+	}
+
 	private boolean referencesDeleteEntity(AssociationKey key, AssociationContext associationContext) {
 		// only join columns could contain references to deleted objects
 		if ( !isAJoinColumn( key ) ) {
@@ -422,13 +613,90 @@ private static Map<RowKey, Map<String, Object>> loadRowKeysByQuery(InfinispanRem
 		} );
 	}
 
+	private static CompletableFuture<Association> getAssociationMappedAsOwnerEntryAsync(AssociationOwnerEntryMapper mapper, AssociationKey key) {
+		ProtostreamId idBuffer = mapper.createIdPayload( key.getColumnNames(), key.getColumnValues() );
+		CompletableFuture<MetadataValue<ProtostreamAssociationPayload>> value = mapper.withinCacheEncodingContext( c -> c.getWithMetadataAsync( idBuffer ) );
+		return value.thenApply( v -> toVersionedAssociation( v, key ) );
+	}
+
+	private static Association toVersionedAssociation(MetadataValue<ProtostreamAssociationPayload> value, AssociationKey key) {
+		if ( value == null || value.getValue() == null ) {
+			return null;
+		}
+		VersionedAssociation association = new VersionedAssociation( new MapAssociationSnapshot( value.getValue().toRowsMap( key ) ) );
+		association.setVersion( value.getVersion() );
+		return association;
+	}
+
+	/**
+	 * Loads the rows of the associations identified by the given keys with a single query on the bridge cache,
+	 * grouping them by the values of the association key columns.
+	 */
+	private static Map<List<Object>, Map<RowKey, Map<String, Object>>> loadRowKeysByQuery(InfinispanRemoteDatastoreProvider provider, AssociationKey[] keys) {
+		final String cacheName = cacheName( keys[0] );
+		final String[] columnNames = keys[0].getColumnNames();
+		ProtostreamAssociationMappingAdapter mapper = provider.getCollectionsDataMapper( cacheName );
+		return mapper.withinCacheEncodingContext( c -> {
+			QueryFactory qf = Search.getQueryFactory( c );
+			QueryBuilder qb = qf.from( provider.getEntityType( c ) );
+
+			FilterConditionContext bqEnd;
+			if ( columnNames.length == 1 ) {
+				List<Object> values = new ArrayList<>( keys.length );
+				for ( AssociationKey key : keys ) {
+					values.add( key.getColumnValues()[0] );
+				}
+				bqEnd = qb.having( mapper.convertColumnNameToFieldName( columnNames[0] ) ).in( values );
+			}
+			else {
+				bqEnd = keyCondition( qb.having( mapper.convertColumnNameToFieldName( columnNames[0] ) ), mapper, keys[0] );
+				for ( int i = 1; i < keys.length; i++ ) {
+					bqEnd = bqEnd.or( keyCondition( qf.having( mapper.convertColumnNameToFieldName( columnNames[0] ) ), mapper, keys[i] ) );
+				}
+			}
+			Query query = bqEnd.toBuilder().build();
+			Map<List<Object>, Map<RowKey, Map<String, Object>>> resultsCollector = new HashMap<>();
+			try ( CloseableIterator<Entry<Object,Object>> iterator = c.retrieveEntriesByQuery( query, null, 100 ) ) {
+				while ( iterator.hasNext() ) {
+					Entry<Object,Object> e  = iterator.next();
+					ProtostreamPayload value = ( (ProtostreamPayload) e.getValue() );
+					Map<String, Object> entryObject = value.toMap();
+					RowKey entryKey = value.asRowKey( keys[0] );
+					Object[] ownerColumnValues = new Object[columnNames.length];
+					for ( int i = 0; i < columnNames.length; i++ ) {
+						ownerColumnValues[i] = entryObject.get( columnNames[i] );
+					}
+					resultsCollector.computeIfAbsent( Arrays.asList( ownerColumnValues ), k -> new HashMap<>() ).put( entryKey, entryObject );
+				}
+			}
+			return resultsCollector;
+		} );
+	}
+
+	/**
+	 * Adds the conditions matching all the columns of the given association key, the condition on the first column
+	 * has already been started.
+	 */
+	private static FilterConditionContext keyCondition(FilterConditionEndContext firstColumn, ProtostreamAssociationMappingAdapter mapper, AssociationKey key) {
+		final String[] columnNames = key.getColumnNames();
+		FilterConditionContext bqEnd = firstColumn.eq( key.getColumnValues()[0] );
+		for ( int i = 1; i < columnNames.length; i++ ) {
+			bqEnd = bqEnd.and().having( mapper.convertColumnNameToFieldName( columnNames[i] ) ).eq( key.getColumnValues()[i] );
+		}
+		return bqEnd;
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		Map<RowKey, Map<String, Object>> associationMap = new HashMap<RowKey, Map<String,Object>>();
+		if ( provider.getAssociationOwnerEntryMapper( key.getMetadata() ) != null ) {
+			// The entry of the owner will have to be absent when it is written
+			return new VersionedAssociation( new MapAssociationSnapshot( associationMap ) );
+		}
 		return new Association( new MapAssociationSnapshot( associationMap ) );
 	}
 
-	private void insertOrUpdateAssociationMappedAsDedicatedEntries(AssociationKey key, Association association, AssociationContext associationContext) {
+	private void insertOrUpdateAssociationMappedAsDedicatedEntries(HotRodWriteBatch batch, AssociationKey key, Association association) {
 		final String cacheName = cacheName( key );
 		final ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName );
 		log.debugf( "insertOrUpdateAssociation for key '%s' on cache '%s', mapped as dedicated entries in ad-hoc table", key, cacheName );
@@ -439,11 +707,10 @@ private void insertOrUpdateAssociationMappedAsDedicatedEntries(AssociationKey ke
 			ProtostreamId idBuffer = mapper.createIdPayload( rowKey.getColumnNames(), rowKey.getColumnValues() );
 			switch ( type ) {
 				case PUT:
-					ProtostreamPayload valuePayloadForPut = mapper.createValuePayload( ao.getValue() );
-					mapper.withinCacheEncodingContext( c -> c.put( idBuffer, valuePayloadForPut ) );
+					batch.put( cacheName, mapper, idBuffer, mapper.createValuePayload( ao.getValue() ) );
 					break;
 				case REMOVE:
-					mapper.withinCacheEncodingContext( c -> c.remove( idBuffer ) );
+					batch.remove( cacheName, mapper, idBuffer );
 					break;
 				case CLEAR:
 					throw new AssertionFailure( "Request for CLEAR operation on an association mapped to dedicated entries. Makes no sense?" );
@@ -451,15 +718,42 @@ private void insertOrUpdateAssociationMappedAsDedicatedEntries(AssociationKey ke
 		}
 	}
 
-	private static void removeAssociationFromBridgeTable(InfinispanRemoteDatastoreProvider provider, AssociationKey key) {
+	private void insertOrUpdateAssociationMappedAsOwnerEntry(HotRodWriteBatch batch, AssociationOwnerEntryMapper ownerEntryMapper, AssociationKey key, Association association) {
+		log.debugf( "insertOrUpdateAssociation for key '%s' on cache '%s', mapped as a single entry per owner", key, ownerEntryMapper.getCacheName() );
+		final ProtostreamId idBuffer = ownerEntryMapper.createIdPayload( key.getColumnNames(), key.getColumnValues() );
+		// The entry is only written if it hasn't been changed since the association was read
+		final VersionedAssociation versionedAssociation = association instanceof VersionedAssociation ? (VersionedAssociation) association : null;
+		if ( association.isEmpty() ) {
+			batch.removeAssociation( ownerEntryMapper, key, idBuffer, versionedAssociation );
+			return;
+		}
+
+		// The entry is replaced with the whole state of the association
+		final ProtoStreamMappingAdapter rowMapper = provider.getDataMapperForCache( cacheName( key ) );
+		final List<ProtostreamPayload> rows = new ArrayList<>( association.size() );
+		for ( RowKey rowKey : association.getKeys() ) {
+			rows.add( rowMapper.createValuePayload( association.get( rowKey ) ) );
+		}
+		batch.putAssociation( ownerEntryMapper, key, idBuffer, ownerEntryMapper.createAssociationPayload( rows ), versionedAssociation );
+	}
+
+	private static void removeAssociationFromBridgeTable(InfinispanRemoteDatastoreProvider provider, HotRodWriteBatch batch, AssociationKey key) {
+		final AssociationOwnerEntryMapper ownerEntryMapper = provider.getAssociationOwnerEntryMapper( key.getMetadata() );
+		if ( ownerEntryMapper != null ) {
+			// The association isn't known here, the entry is removed whatever its version
+			batch.removeAssociation( ownerEntryMapper, key, ownerEntryMapper.createIdPayload( key.getColumnNames(), key.getColumnValues() ), null );
+			return;
+		}
+
 		final String bridgeTable = cacheName( key );
 		final ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( bridgeTable );
+		// The query has to find the rows written by the previous operations of the batch
+		batch.flush();
 		Map<RowKey, Map<String, Object>> rowsMap = loadRowKeysByQuery( provider, key );
 		for ( RowKey rowKey : rowsMap.keySet() ) {
 			String[] columnNames = rowKey.getColumnNames();
 			Object[] columnValues = rowKey.getColumnValues();
-			ProtostreamId idBuffer = mapper.createIdPayload( columnNames, columnValues );
-			mapper.withinCacheEncodingContext( c -> c.remove( idBuffer ) );
+			batch.remove( bridgeTable, mapper, mapper.createIdPayload( columnNames, columnValues ) );
 		}
 	}
 
@@ -511,41 +805,41 @@ else if ( keys.length == 1 ) {
 			return Collections.singletonList( getTuple( keys[0], tupleContext ) );
 		}
 		else {
-			final String cacheName = cacheName( keys[0] );
-			final ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName );
-			final Map<EntityKey,ProtostreamId> keyConversionMatch = new HashMap<>();
-			final Set<ProtostreamId> convertedKeys = new HashSet<>();
-			for ( EntityKey ek : keys ) {
-				if ( ek == null ) {
-					continue;
-				}
-				assert cacheName( ek ).equals( cacheName ) : "The javadoc comment promised batches would be loaded from the same table";
-				ProtostreamId idBuffer = mapper.createIdPayload( ek.getColumnNames(), ek.getColumnValues() );
-				keyConversionMatch.put( ek, idBuffer );
-				convertedKeys.add( idBuffer );
+			// getAll() doesn't return the versions of the entries, which are required to update the entities
+			return join( readConcurrently( keys, key -> getTupleAsync( key, tupleContext ) ) );
+		}
+	}
+
+	// [Optional] implement MultigetAssociationGridDialect:
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext) {
+		Objects.requireNonNull( keys );
+		if ( keys.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		// When the rows are stored with an entry per owner, the entries are read with their versions:
+		// getAll() doesn't return them
+		AssociationOwnerEntryMapper ownerEntryMapper = provider.getAssociationOwnerEntryMapper( keys[0].getMetadata() );
+		if ( ownerEntryMapper != null ) {
+			return join( readConcurrently( keys, key -> getAssociationMappedAsOwnerEntryAsync( ownerEntryMapper, key ) ) );
+		}
+
+		// The rows are stored as dedicated entries of the bridge cache, indexed by the association key columns:
+		// a single query covering all the owners replaces one query per association
+		Map<List<Object>, Map<RowKey, Map<String, Object>>> rowsByOwner = loadRowKeysByQuery( provider, keys );
+		List<Association> results = new ArrayList<>( keys.length );
+		for ( AssociationKey key : keys ) {
+			Map<RowKey, Map<String, Object>> rows = rowsByOwner.get( Arrays.asList( key.getColumnValues() ) );
+			if ( rows == null || ( isAJoinColumn( key ) && referencesEntityDeletedByCurrentBatch( key, associationContext ) ) ) {
+				// For consistency with getAssociation()
+				results.add( null );
 			}
-			final Map<ProtostreamId, ProtostreamPayload> loadedBulk = mapper.withinCacheEncodingContext( c -> {
-				//TODO getAll doesn't support versioned entries ?!
-				return c.getAll( convertedKeys );
-			} );
-
-			final List<Tuple> results = new ArrayList<>( keys.length );
-			for ( int i = 0; i < keys.length; i++ ) {
-				EntityKey originalKey = keys[i];
-				if ( originalKey == null ) {
-					results.add( null );
-					continue;
-				}
-				ProtostreamId protostreamId = keyConversionMatch.get( originalKey );
-				ProtostreamPayload payload = loadedBulk.get( protostreamId );
-				if ( payload == null ) {
-					results.add( null );
-					continue;
-				}
-				results.add( payload.toTuple( SnapshotType.UNKNOWN ) );
+			else {
+				results.add( new Association( new MapAssociationSnapshot( rows ) ) );
 			}
-			return results;
 		}
+		return results;
 	}
 
 	private static boolean associationStoredWithinEntityEntry(AssociationKey key, AssociationContext associationContext) {
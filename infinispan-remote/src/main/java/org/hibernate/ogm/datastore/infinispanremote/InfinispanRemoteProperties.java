@@ -8,6 +8,8 @@
 
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.ogm.datastore.infinispanremote.configuration.impl.InfinispanRemoteConfiguration;
+import org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorage;
+import org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorageType;
 import org.hibernate.ogm.datastore.keyvalue.cfg.KeyValueStoreProperties;
 
 import org.infinispan.client.hotrod.configuration.TransactionMode;
@@ -118,6 +120,47 @@ public final class InfinispanRemoteProperties implements KeyValueStoreProperties
 	 */
 	public static final String DEFAULT_TRANSACTION_MODE = TransactionMode.NON_DURABLE_XA.name();
 
+	/**
+	 * The number of values of a table generator reserved at once on the server, using a single optimistic
+	 * replace operation. The reserved values are then assigned locally, and the next block is requested in the
+	 * background when half of the current one has been used. Values reserved but not used when the session
+	 * factory is closed are lost, leaving gaps in the sequence.
+	 * <p>
+	 * Must be a positive integer; the default value {@code 1} reserves each value separately. Sequences defined
+	 * using {@link javax.persistence.SequenceGenerator} are backed by clustered counters and ignore this setting.
+	 */
+	public static final String SEQUENCE_BLOCK_SIZE = "hibernate.ogm.infinispan_remote.sequence_block_size";
+
+	/**
+	 * The default number of values reserved at once by a table generator.
+	 * @see #SEQUENCE_BLOCK_SIZE
+	 */
+	public static final int DEFAULT_SEQUENCE_BLOCK_SIZE = 1;
+
+	/**
+	 * The maximum number of entries read at the same time when a batch of entities is loaded. Hot Rod has no
+	 * bulk read returning the versions of the entries, so each entity of the batch is read with its own
+	 * asynchronous operation; the version is needed to update the entity afterwards.
+	 * <p>
+	 * Must be a positive integer, the default value is {@value #DEFAULT_MULTIGET_CONCURRENCY}.
+	 */
+	public static final String MULTIGET_CONCURRENCY = "hibernate.ogm.infinispan_remote.multiget_concurrency";
+
+	/**
+	 * The default maximum number of entries read at the same time by a batch load.
+	 * @see #MULTIGET_CONCURRENCY
+	 */
+	public static final int DEFAULT_MULTIGET_CONCURRENCY = 64;
+
+	/**
+	 * The default strategy for storing the rows of the associations mapped with a dedicated table. Possible values
+	 * are the names of the enum {@link AssociationStorageType}, the default is {@code ENTRY_PER_ROW}.
+	 * <p>
+	 * The strategy can be overridden for single entities or properties using {@link AssociationStorage} or the
+	 * option API.
+	 */
+	public static final String ASSOCIATION_STORAGE = "hibernate.ogm.infinispan_remote.association_storage";
+
 	private InfinispanRemoteProperties() {
 	}
 
@@ -119,6 +119,10 @@ public class InfinispanRemoteConfiguration {
 
 	private TransactionMode transactionMode;
 
+	private int sequenceBlockSize;
+
+	private int multigetConcurrency;
+
 	/**
 	 * The location of the configuration file.
 	 *
@@ -176,6 +180,22 @@ public TransactionMode getTransactionMode() {
 		return transactionMode;
 	}
 
+	/**
+	 * @return the number of values reserved at once by a table generator
+	 * @see InfinispanRemoteProperties#SEQUENCE_BLOCK_SIZE
+	 */
+	public int getSequenceBlockSize() {
+		return sequenceBlockSize;
+	}
+
+	/**
+	 * @return the maximum number of entries read at the same time by a batch load
+	 * @see InfinispanRemoteProperties#MULTIGET_CONCURRENCY
+	 */
+	public int getMultigetConcurrency() {
+		return multigetConcurrency;
+	}
+
 	/**
 	 * Initialize the internal values from the given {@link Map}.
 	 *
@@ -236,6 +256,18 @@ public void initConfiguration(Map<?, ?> configurationMap, ServiceRegistryImpleme
 
 		this.transactionMode = extractTransactionMode( transactionModeString );
 
+		this.sequenceBlockSize = propertyReader
+				.property( InfinispanRemoteProperties.SEQUENCE_BLOCK_SIZE, int.class )
+				.withDefault( InfinispanRemoteProperties.DEFAULT_SEQUENCE_BLOCK_SIZE )
+				.withValidator( InfinispanRemoteValidators.SEQUENCE_BLOCK_SIZE )
+				.getValue();
+
+		this.multigetConcurrency = propertyReader
+				.property( InfinispanRemoteProperties.MULTIGET_CONCURRENCY, int.class )
+				.withDefault( InfinispanRemoteProperties.DEFAULT_MULTIGET_CONCURRENCY )
+				.withValidator( InfinispanRemoteValidators.MULTIGET_CONCURRENCY )
+				.getValue();
+
 		log.tracef( "Initializing Infinispan Hot Rod client from configuration file at '%1$s'", configurationResource );
 	}
 
@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.HibernateException;
+import org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteProperties;
 import org.hibernate.ogm.datastore.infinispanremote.logging.impl.Log;
 import org.hibernate.ogm.datastore.infinispanremote.logging.impl.LoggerFactory;
 import org.hibernate.ogm.util.configurationreader.spi.PropertyValidator;
@@ -30,6 +31,26 @@ public void validate(String schemaFileName) throws HibernateException {
 		}
 	};
 
+	public static final PropertyValidator<Integer> SEQUENCE_BLOCK_SIZE = new PropertyValidator<Integer>() {
+
+		@Override
+		public void validate(Integer blockSize) throws HibernateException {
+			if ( blockSize < 1 ) {
+				throw log.invalidSequenceBlockSize( InfinispanRemoteProperties.SEQUENCE_BLOCK_SIZE, blockSize );
+			}
+		}
+	};
+
+	public static final PropertyValidator<Integer> MULTIGET_CONCURRENCY = new PropertyValidator<Integer>() {
+
+		@Override
+		public void validate(Integer concurrency) throws HibernateException {
+			if ( concurrency < 1 ) {
+				throw log.invalidMultigetConcurrency( InfinispanRemoteProperties.MULTIGET_CONCURRENCY, concurrency );
+			}
+		}
+	};
+
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
 	private InfinispanRemoteValidators() {
@@ -0,0 +1,347 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.AssociationOwnerEntryMapper;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamAssociationPayload;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamId;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamPayload;
+import org.hibernate.ogm.datastore.infinispanremote.logging.impl.Log;
+import org.hibernate.ogm.datastore.infinispanremote.logging.impl.LoggerFactory;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.infinispan.client.hotrod.MetadataValue;
+import org.infinispan.client.hotrod.RemoteCache;
+
+/**
+ * Collects the writes of a flush and sends them to the remote caches together.
+ * <p>
+ * The unconditional writes to a cache are sent with a single {@code putAll}. The removals and the inserts, which use
+ * {@code putIfAbsent} to detect duplicated entities, need one operation for each key: they are sent asynchronously,
+ * so that all of them are in flight at the same time, and the batch waits for all the replies. The inserts are sent
+ * and acknowledged before the other writes, which are not sent if one of the entities already exists.
+ * <p>
+ * Only the last write to a key is sent, the operations of a batch must not depend on the result of the previous ones.
+ * The same applies to the entries holding all the rows of an association, which are written with
+ * {@code replaceWithVersion}, {@code putIfAbsent} or {@code removeWithVersion} so that the changes of concurrent
+ * transactions are detected rather than overwritten.
+ */
+public final class HotRodWriteBatch {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final Map<String, CacheWrites> writesByCache = new LinkedHashMap<>();
+
+	private final Map<String, AssociationEntryWrites> associationWritesByCache = new LinkedHashMap<>();
+
+	public void put(String cacheName, ProtoStreamMappingAdapter mapper, ProtostreamId id, ProtostreamPayload value) {
+		CacheWrites writes = writes( cacheName, mapper );
+		writes.removals.remove( id );
+		Insert insert = writes.inserts.get( id );
+		if ( insert != null ) {
+			// The entry still has to be absent from the cache
+			writes.inserts.put( id, new Insert( insert.entityKey, value ) );
+		}
+		else {
+			writes.puts.put( id, value );
+		}
+	}
+
+	/**
+	 * Adds an entity which must not be in the cache already.
+	 *
+	 * @param cacheName the name of the cache
+	 * @param mapper the mapper of the cache
+	 * @param entityKey the key of the entity, used to report a duplicate
+	 * @param id the key of the entry
+	 * @param value the value of the entry
+	 */
+	public void putIfAbsent(String cacheName, ProtoStreamMappingAdapter mapper, EntityKey entityKey, ProtostreamId id, ProtostreamPayload value) {
+		CacheWrites writes = writes( cacheName, mapper );
+		if ( writes.removals.remove( id ) ) {
+			// The entity removed by the same batch is replaced
+			writes.puts.put( id, value );
+		}
+		else {
+			writes.puts.remove( id );
+			writes.inserts.put( id, new Insert( entityKey, value ) );
+		}
+	}
+
+	public void remove(String cacheName, ProtoStreamMappingAdapter mapper, ProtostreamId id) {
+		CacheWrites writes = writes( cacheName, mapper );
+		writes.puts.remove( id );
+		writes.inserts.remove( id );
+		writes.removals.add( id );
+	}
+
+	private CacheWrites writes(String cacheName, ProtoStreamMappingAdapter mapper) {
+		return writesByCache.computeIfAbsent( cacheName, name -> new CacheWrites( mapper ) );
+	}
+
+	/**
+	 * Writes the entry holding all the rows of an association.
+	 *
+	 * @param mapper the mapper of the cache holding the association
+	 * @param key the key of the association, used to report a concurrent change
+	 * @param id the key of the entry
+	 * @param value the value of the entry
+	 * @param association the association as read from the cache: the entry is only written if its version is still
+	 * the same, and the version of the association is updated once it is written; {@code null} for an unconditional write
+	 */
+	public void putAssociation(AssociationOwnerEntryMapper mapper, AssociationKey key, ProtostreamId id, ProtostreamAssociationPayload value, VersionedAssociation association) {
+		associationWrites( mapper ).writes.put( id, new AssociationEntryWrite( key, value, association ) );
+	}
+
+	/**
+	 * Removes the entry holding all the rows of an association.
+	 *
+	 * @param mapper the mapper of the cache holding the association
+	 * @param key the key of the association, used to report a concurrent change
+	 * @param id the key of the entry
+	 * @param association the association as read from the cache: the entry is only removed if its version is still
+	 * the same; {@code null} for an unconditional removal
+	 */
+	public void removeAssociation(AssociationOwnerEntryMapper mapper, AssociationKey key, ProtostreamId id, VersionedAssociation association) {
+		associationWrites( mapper ).writes.put( id, new AssociationEntryWrite( key, null, association ) );
+	}
+
+	private AssociationEntryWrites associationWrites(AssociationOwnerEntryMapper mapper) {
+		return associationWritesByCache.computeIfAbsent( mapper.getCacheName(), name -> new AssociationEntryWrites( mapper ) );
+	}
+
+	public boolean isEmpty() {
+		return writesByCache.isEmpty() && associationWritesByCache.isEmpty();
+	}
+
+	/**
+	 * Sends the writes collected so far and empties the batch.
+	 *
+	 * @throws TupleAlreadyExistsException if one of the inserted entities was already in the cache; the other inserts
+	 * may have been applied, but the other writes of the batch are not sent
+	 * @throws org.hibernate.StaleStateException if the entry of one of the associations has been changed since it was
+	 * read; the other writes of the batch have been applied
+	 */
+	public void flush() {
+		if ( isEmpty() ) {
+			return;
+		}
+
+		try {
+			sendInserts();
+			List<CompletableFuture<?>> replies = new ArrayList<>();
+			for ( CacheWrites writes : writesByCache.values() ) {
+				writes.send( replies );
+			}
+			for ( AssociationEntryWrites writes : associationWritesByCache.values() ) {
+				writes.send( replies );
+			}
+			join( replies );
+		}
+		finally {
+			writesByCache.clear();
+			associationWritesByCache.clear();
+		}
+	}
+
+	private void sendInserts() {
+		Map<CompletableFuture<ProtostreamPayload>, EntityKey> inserts = new LinkedHashMap<>();
+		for ( CacheWrites writes : writesByCache.values() ) {
+			writes.sendInserts( inserts );
+		}
+		join( inserts.keySet() );
+		for ( Map.Entry<CompletableFuture<ProtostreamPayload>, EntityKey> insert : inserts.entrySet() ) {
+			if ( insert.getKey().join() != null ) {
+				throw new TupleAlreadyExistsException( insert.getValue() );
+			}
+		}
+	}
+
+	private static void join(Collection<? extends CompletableFuture<?>> replies) {
+		try {
+			CompletableFuture.allOf( replies.toArray( new CompletableFuture[replies.size()] ) ).join();
+		}
+		catch (CompletionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	private static final class CacheWrites {
+
+		private final ProtoStreamMappingAdapter mapper;
+		private final Map<ProtostreamId, ProtostreamPayload> puts = new HashMap<>();
+		private final Map<ProtostreamId, Insert> inserts = new LinkedHashMap<>();
+		private final Set<ProtostreamId> removals = new LinkedHashSet<>();
+
+		CacheWrites(ProtoStreamMappingAdapter mapper) {
+			this.mapper = mapper;
+		}
+
+		void sendInserts(Map<CompletableFuture<ProtostreamPayload>, EntityKey> insertReplies) {
+			if ( inserts.isEmpty() ) {
+				return;
+			}
+			mapper.withinCacheEncodingContext( c -> {
+				for ( Map.Entry<ProtostreamId, Insert> insert : inserts.entrySet() ) {
+					insertReplies.put( c.putIfAbsentAsync( insert.getKey(), insert.getValue().value ), insert.getValue().entityKey );
+				}
+				return null;
+			} );
+		}
+
+		void send(List<CompletableFuture<?>> replies) {
+			mapper.withinCacheEncodingContext( c -> {
+				if ( !puts.isEmpty() ) {
+					replies.add( c.putAllAsync( puts ) );
+				}
+				for ( ProtostreamId id : removals ) {
+					replies.add( c.removeAsync( id ) );
+				}
+				return null;
+			} );
+		}
+	}
+
+	private static final class AssociationEntryWrites {
+
+		private final AssociationOwnerEntryMapper mapper;
+		private final Map<ProtostreamId, AssociationEntryWrite> writes = new LinkedHashMap<>();
+
+		AssociationEntryWrites(AssociationOwnerEntryMapper mapper) {
+			this.mapper = mapper;
+		}
+
+		void send(List<CompletableFuture<?>> replies) {
+			mapper.withinCacheEncodingContext( c -> {
+				for ( Map.Entry<ProtostreamId, AssociationEntryWrite> write : writes.entrySet() ) {
+					replies.add( write.getValue().send( c, write.getKey() ) );
+				}
+				return null;
+			} );
+		}
+	}
+
+	/**
+	 * A write of the entry holding the rows of an association; the removal of the entry if the value is {@code null}.
+	 */
+	private static final class AssociationEntryWrite {
+
+		private final AssociationKey key;
+		private final ProtostreamAssociationPayload value;
+		private final VersionedAssociation association;
+
+		AssociationEntryWrite(AssociationKey key, ProtostreamAssociationPayload value, VersionedAssociation association) {
+			this.key = key;
+			this.value = value;
+			this.association = association;
+		}
+
+		CompletableFuture<?> send(RemoteCache<ProtostreamId, ProtostreamAssociationPayload> cache, ProtostreamId id) {
+			if ( association == null ) {
+				return value == null ? cache.removeAsync( id ) : cache.putAsync( id, value );
+			}
+
+			final long version = association.getVersion();
+			final CompletableFuture<Boolean> applied;
+			if ( value == null ) {
+				applied = version == VersionedAssociation.NOT_STORED
+						? CompletableFuture.completedFuture( Boolean.TRUE )
+						: cache.removeWithVersionAsync( id, version );
+			}
+			else if ( version == VersionedAssociation.NOT_STORED ) {
+				applied = cache.putIfAbsentAsync( id, value ).thenApply( previous -> previous == null );
+			}
+			else {
+				applied = cache.replaceWithVersionAsync( id, value, version );
+			}
+
+			return applied.thenCompose( done -> {
+				if ( !done ) {
+					throw log.concurrentAssociationOwnerEntryUpdate( key, cache.getName() );
+				}
+				if ( value == null ) {
+					association.setVersion( VersionedAssociation.NOT_STORED );
+					return CompletableFuture.completedFuture( null );
+				}
+				// The conditional writes don't return the new version
+				return cache.getWithMetadataAsync( id ).thenAccept( this::updateVersion );
+			} );
+		}
+
+		private void updateVersion(MetadataValue<ProtostreamAssociationPayload> stored) {
+			// If another transaction has already changed the entry, the version is dropped so that the next write of
+			// the association fails
+			if ( stored != null && stored.getValue() != null && hasSameRows( stored.getValue() ) ) {
+				association.setVersion( stored.getVersion() );
+			}
+			else {
+				association.setVersion( VersionedAssociation.CHANGED );
+			}
+		}
+
+		/*
+		 * The row keys of lists and maps only contain the owner and the index, so the rows are compared column by column
+		 */
+		private boolean hasSameRows(ProtostreamAssociationPayload stored) {
+			if ( stored.getRows().size() != value.getRows().size() ) {
+				return false;
+			}
+			Map<RowKey, ProtostreamPayload> storedRows = new HashMap<>( stored.getRows().size() * 4 / 3 + 1 );
+			for ( ProtostreamPayload row : stored.getRows() ) {
+				storedRows.put( row.asRowKey( key ), row );
+			}
+			for ( ProtostreamPayload row : value.getRows() ) {
+				ProtostreamPayload storedRow = storedRows.get( row.asRowKey( key ) );
+				if ( storedRow == null || !hasSameColumns( row, storedRow ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static boolean hasSameColumns(ProtostreamPayload row, ProtostreamPayload storedRow) {
+			Set<String> columnNames = new HashSet<>( row.getColumnNames() );
+			columnNames.addAll( storedRow.getColumnNames() );
+			for ( String columnName : columnNames ) {
+				if ( !Objects.deepEquals( row.getColumnValue( columnName ), storedRow.getColumnValue( columnName ) ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private static final class Insert {
+
+		private final EntityKey entityKey;
+		private final ProtostreamPayload value;
+
+		Insert(EntityKey entityKey, ProtostreamPayload value) {
+			this.entityKey = entityKey;
+			this.value = value;
+		}
+	}
+}
@@ -12,6 +12,9 @@
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
@@ -22,9 +25,11 @@
 import org.hibernate.ogm.datastore.infinispanremote.impl.cachehandler.HotRodCacheValidationHandler;
 import org.hibernate.ogm.datastore.infinispanremote.impl.counter.HotRodSequenceCounterHandler;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protobuf.schema.SchemaDefinitions;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.AssociationOwnerEntryMapper;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.OgmProtoStreamMarshaller;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtoDataMapper;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamSerializerSetup;
+import org.hibernate.ogm.datastore.infinispanremote.impl.schema.AssociationOwnerEntryDefinition;
 import org.hibernate.ogm.datastore.infinispanremote.impl.schema.SequenceTableDefinition;
 import org.hibernate.ogm.datastore.infinispanremote.impl.sequences.HotRodSequenceHandler;
 import org.hibernate.ogm.datastore.infinispanremote.logging.impl.Log;
@@ -35,6 +40,7 @@
 import org.hibernate.ogm.datastore.spi.BaseDatastoreProvider;
 import org.hibernate.ogm.datastore.spi.SchemaDefiner;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
 import org.hibernate.ogm.query.spi.QueryParserService;
 import org.hibernate.ogm.util.impl.EffectivelyFinal;
 import org.hibernate.service.spi.Configurable;
@@ -85,6 +91,9 @@ public class InfinispanRemoteDatastoreProvider extends BaseDatastoreProvider
 	@EffectivelyFinal
 	private RemoteCacheManager scriptManager;
 
+	// Runs the blocking remote calls of the asynchronous reads and of the sequence prefetches
+	private ExecutorService asyncExecutor;
+
 	//Useful to allow people to dump the generated schema,
 	//we use it to capture the schema in tests too.
 	@EffectivelyFinal
@@ -103,6 +112,10 @@ public class InfinispanRemoteDatastoreProvider extends BaseDatastoreProvider
 	@EffectivelyFinal
 	private Map<String,ProtoDataMapper> perCacheSchemaMappers;
 
+	//The associations stored with an entry per owner have a dedicated cache
+	@EffectivelyFinal
+	private Map<String,AssociationOwnerEntryMapper> perCacheAssociationOwnerEntryMappers;
+
 	@EffectivelyFinal
 	private HotRodSequenceCounterHandler sequences;
 
@@ -121,6 +134,12 @@ public class InfinispanRemoteDatastoreProvider extends BaseDatastoreProvider
 	@EffectivelyFinal
 	private TransactionMode transactionMode;
 
+	@EffectivelyFinal
+	private int sequenceBlockSize;
+
+	@EffectivelyFinal
+	private int multigetConcurrency;
+
 	@Override
 	public Class<? extends GridDialect> getDefaultDialect() {
 		return InfinispanRemoteDialect.class;
@@ -136,10 +155,23 @@ public void start() {
 		// When https://issues.jboss.org/browse/ISPN-8020 is closed, we could remove it and reuse the common hotrodClient.
 		scriptManager = HotRodClientBuilder.builder().withConfiguration( config, new GenericJBossMarshaller() ).build();
 		config = null; //no longer needed
+
+		int maxActive = hotrodClient.getConfiguration().connectionPool().maxActive();
+		asyncExecutor = createAsyncExecutor( maxActive > 0 ? maxActive : Runtime.getRuntime().availableProcessors() );
+	}
+
+	private static ExecutorService createAsyncExecutor(int threads) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		return Executors.newFixedThreadPool( threads, task -> {
+			Thread thread = new Thread( task, "Hibernate OGM: Infinispan remote async operations-" + threadNumber.incrementAndGet() );
+			thread.setDaemon( true );
+			return thread;
+		} );
 	}
 
 	@Override
 	public void stop() {
+		asyncExecutor.shutdownNow();
 		hotrodClient.stop();
 	}
 
@@ -155,6 +187,8 @@ public void configure(Map configurationValues) {
 		this.createCachesEnabled = config.isCreateCachesEnabled();
 		this.cacheConfiguration = config.getCacheConfiguration();
 		this.transactionMode = config.getTransactionMode();
+		this.sequenceBlockSize = config.getSequenceBlockSize();
+		this.multigetConcurrency = config.getMultigetConcurrency();
 	}
 
 	@Override
@@ -187,6 +221,7 @@ public void registerSchemaDefinitions(SchemaDefinitions sd, Set<Sequence> sequen
 		startCaches( cacheHandler, hotrodClient );
 
 		this.perCacheSchemaMappers = sd.generateSchemaMappingAdapters( this, sd, marshaller );
+		this.perCacheAssociationOwnerEntryMappers = sd.generateAssociationOwnerEntryMappers( this, sd, marshaller );
 	}
 
 	private void registerProtoFiles(OgmProtoStreamMarshaller marshaller, SchemaDefinitions sd) {
@@ -253,6 +288,18 @@ public ProtostreamAssociationMappingAdapter getCollectionsDataMapper(String cach
 		return perCacheSchemaMappers.get( cacheName );
 	}
 
+	/**
+	 * @param associationKeyMetadata the metadata of the association
+	 * @return the mapper of the cache holding the rows of the association with an entry per owner, or {@code null} if
+	 * each row of the association is stored as a dedicated entry of the cache of the association table
+	 */
+	public AssociationOwnerEntryMapper getAssociationOwnerEntryMapper(AssociationKeyMetadata associationKeyMetadata) {
+		if ( perCacheAssociationOwnerEntryMappers.isEmpty() ) {
+			return null;
+		}
+		return perCacheAssociationOwnerEntryMappers.get( AssociationOwnerEntryDefinition.cacheName( associationKeyMetadata ) );
+	}
+
 	public HotRodSequenceHandler getSequenceHandler() {
 		return this.sequences;
 	}
@@ -277,6 +324,33 @@ public RemoteCacheManager getManager() {
 		return hotrodClient;
 	}
 
+	/**
+	 * Returns the executor running the queries of the reads requested through
+	 * {@link org.hibernate.ogm.dialect.async.spi.AsyncGridDialect} and the background reservations of sequence
+	 * blocks; cache entries are read with the asynchronous operations of the Hot Rod client instead.
+	 *
+	 * @return the executor of the asynchronous operations
+	 */
+	public ExecutorService getAsyncExecutor() {
+		return asyncExecutor;
+	}
+
+	/**
+	 * @return the number of values reserved at once by a table generator
+	 * @see org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteProperties#SEQUENCE_BLOCK_SIZE
+	 */
+	public int getSequenceBlockSize() {
+		return sequenceBlockSize;
+	}
+
+	/**
+	 * @return the maximum number of entries read at the same time by a batch load
+	 * @see org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteProperties#MULTIGET_CONCURRENCY
+	 */
+	public int getMultigetConcurrency() {
+		return multigetConcurrency;
+	}
+
 	public String getEntityType(RemoteCache<?,?> c) {
 		return getProtobufPackageName() + "." + c.getName();
 	}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.infinispanremote.impl;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
@@ -18,15 +19,22 @@
 import org.hibernate.mapping.Value;
 import org.hibernate.ogm.datastore.infinispanremote.impl.counter.HotRodSequenceCounterHandler;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protobuf.schema.SchemaDefinitions;
+import org.hibernate.ogm.datastore.infinispanremote.impl.schema.AssociationOwnerEntryDefinition;
 import org.hibernate.ogm.datastore.infinispanremote.impl.schema.TableDefinition;
+import org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorageType;
+import org.hibernate.ogm.datastore.infinispanremote.options.association.impl.AssociationStorageOption;
 import org.hibernate.ogm.datastore.infinispanremote.options.cache.CacheConfiguration;
 import org.hibernate.ogm.datastore.infinispanremote.options.cache.impl.CacheConfigurationOption;
 import org.hibernate.ogm.datastore.spi.BaseSchemaDefiner;
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKind;
 import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata;
 import org.hibernate.ogm.options.spi.OptionsService;
+import org.hibernate.ogm.persister.impl.OgmCollectionPersister;
 import org.hibernate.ogm.type.spi.GridType;
 import org.hibernate.ogm.type.spi.TypeTranslator;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.type.Type;
 
@@ -46,6 +54,7 @@ public void initializeSchema(SchemaDefinitionContext context) {
 		SchemaDefinitions sd = new SchemaDefinitions( protobufPackageName );
 
 		HashSet<Sequence> sequences = new HashSet<>();
+		Map<String, Table> tables = new HashMap<>();
 		for ( Namespace namespace : context.getDatabase().getNamespaces() ) {
 			for ( Sequence sequence : namespace.getSequences() ) {
 				sequences.add( sequence );
@@ -55,6 +64,7 @@ public void initializeSchema(SchemaDefinitionContext context) {
 					createTableDefinition( context.getSessionFactory(), sd, table, typeTranslator, protobufPackageName,
 						getCacheConfiguration( tableEntityTypeMapping, optionsService, table.getName() )
 					);
+					tables.put( table.getName(), table );
 				}
 			}
 		}
@@ -63,6 +73,15 @@ public void initializeSchema(SchemaDefinitionContext context) {
 				sd.createSequenceSchemaDefinition( iddSourceKeyMetadata, datastoreProvider.getProtobufPackageName() );
 			}
 		}
+		// The names of the caches of the tables and sequences must be known to check those of the associations
+		for ( CollectionPersister collectionPersister : context.getSessionFactory().getMetamodel().collectionPersisters().values() ) {
+			OgmCollectionPersister persister = (OgmCollectionPersister) collectionPersister;
+			if ( isStoredWithAnEntryPerOwner( persister ) ) {
+				createAssociationOwnerEntryDefinition( context.getSessionFactory(), sd, persister.getAssociationKeyMetadata(), tables, typeTranslator, protobufPackageName,
+					getCacheConfiguration( tableEntityTypeMapping, optionsService, persister.getAssociationKeyMetadata().getTable() )
+				);
+			}
+		}
 		datastoreProvider.registerSchemaDefinitions( sd, sequences );
 	}
 
@@ -79,6 +98,37 @@ private String getCacheConfiguration(Map tableEntityTypeMapping, OptionsService
 		return cacheConfiguration.value();
 	}
 
+	private static boolean isStoredWithAnEntryPerOwner(OgmCollectionPersister persister) {
+		AssociationKeyMetadata associationKeyMetadata = persister.getAssociationKeyMetadata();
+		AssociationStorageType storage = persister.getAssociationTypeContext().getOptionsContext().getUnique( AssociationStorageOption.class );
+		if ( storage != AssociationStorageType.ENTRY_PER_OWNER ) {
+			return false;
+		}
+		if ( associationKeyMetadata.getAssociationKind() == AssociationKind.EMBEDDED_COLLECTION ) {
+			return true;
+		}
+		// The associations mapped with a join column are stored within the entries of the associated entities
+		String entityTable = associationKeyMetadata.getAssociatedEntityKeyMetadata().getEntityKeyMetadata().getTable();
+		return !associationKeyMetadata.getTable().equals( entityTable );
+	}
+
+	private void createAssociationOwnerEntryDefinition(SessionFactoryImplementor sessionFactory, SchemaDefinitions sd, AssociationKeyMetadata associationKeyMetadata,
+			Map<String, Table> tables, TypeTranslator typeTranslator, String protobufPackageName, String cacheConfiguration) {
+		AssociationOwnerEntryDefinition existing = sd.getAssociationOwnerEntryDefinition( AssociationOwnerEntryDefinition.cacheName( associationKeyMetadata ) );
+		if ( existing != null && existing.isDefinitionOf( associationKeyMetadata ) ) {
+			// Already defined by another persister of the same association
+			return;
+		}
+		Table table = tables.get( associationKeyMetadata.getTable() );
+		AssociationOwnerEntryDefinition definition = new AssociationOwnerEntryDefinition( associationKeyMetadata, protobufPackageName, cacheConfiguration );
+		for ( String columnName : associationKeyMetadata.getColumnNames() ) {
+			Column column = table.getColumn( new Column( columnName ) );
+			Type type = getColumnType( sessionFactory, column );
+			definition.addOwnerColumnDefinition( columnName, typeTranslator.getType( type ), type );
+		}
+		sd.registerAssociationOwnerEntryDefinition( definition );
+	}
+
 	private void createTableDefinition(SessionFactoryImplementor sessionFactory, SchemaDefinitions sd,
 			Table table, TypeTranslator typeTranslator, String protobufPackageName, String cacheConfiguration ) {
 		TableDefinition td = new TableDefinition( table.getName(), protobufPackageName, cacheConfiguration );
@@ -104,25 +154,30 @@ private void createTableDefinition(SessionFactoryImplementor sessionFactory, Sch
 				td.markAsPrimaryKey( column.getName() );
 			}
 
-			Value value = column.getValue();
-			Type type = value.getType();
-			if ( type.isAssociationType() ) {
-				type = type.getSemiResolvedType( sessionFactory );
-				if ( type.isComponentType() ) {
-					int index = column.getTypeIndex();
-					type = ( (org.hibernate.type.ComponentType) type ).getSubtypes()[index];
-				}
-			}
-			else if ( type.isComponentType() ) {
-				int index = column.getTypeIndex();
-				type = ( (org.hibernate.type.ComponentType) column.getValue().getType() ).getSubtypes()[index];
-			}
+			Type type = getColumnType( sessionFactory, column );
 			GridType gridType = typeTranslator.getType( type );
 			td.addColumnnDefinition( column, gridType, type );
 		}
 		sd.registerTableDefinition( td );
 	}
 
+	private static Type getColumnType(SessionFactoryImplementor sessionFactory, Column column) {
+		Value value = column.getValue();
+		Type type = value.getType();
+		if ( type.isAssociationType() ) {
+			type = type.getSemiResolvedType( sessionFactory );
+			if ( type.isComponentType() ) {
+				int index = column.getTypeIndex();
+				type = ( (org.hibernate.type.ComponentType) type ).getSubtypes()[index];
+			}
+		}
+		else if ( type.isComponentType() ) {
+			int index = column.getTypeIndex();
+			type = ( (org.hibernate.type.ComponentType) column.getValue().getType() ).getSubtypes()[index];
+		}
+		return type;
+	}
+
 	@Override
 	public void validateMapping(SchemaDefinitionContext context) {
 		//TODO something interesting to do here?
@@ -6,18 +6,13 @@
  */
 package org.hibernate.ogm.datastore.infinispanremote.impl;
 
-import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamAssociationPayload;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamId;
-import org.hibernate.ogm.dialect.spi.TupleContext;
-import org.hibernate.ogm.model.key.spi.EntityKey;
 
 public interface ProtostreamAssociationMappingAdapter {
 
-	ProtostreamAssociationPayload createAssociationPayload(EntityKey key, VersionedAssociation tuple, TupleContext tupleContext);
-
 	ProtostreamId createIdPayload(String[] columnNames, Object[] columnValues);
 
-	<T> T withinCacheEncodingContext(AssociationCacheOperation<T> function);
+	<T> T withinCacheEncodingContext(CacheOperation<T> function);
 
 	String convertColumnNameToFieldName(String string);
 
@@ -9,14 +9,27 @@
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.AssociationSnapshot;
 
+/**
+ * An association stored as a single entry per owner, along with the version of the entry it was read from.
+ * <p>
+ * The version is used to replace the entry only if it hasn't been changed since it was read.
+ *
+ * @see org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorageType#ENTRY_PER_OWNER
+ */
+public final class VersionedAssociation extends Association {
 
-public class VersionedAssociation extends Association {
+	/**
+	 * The version of an association without entry in the cache.
+	 */
+	public static final long NOT_STORED = -1;
 
-	private long version;
+	/**
+	 * The version of an association whose entry has been changed by another transaction right after it was written:
+	 * no conditional write of the entry succeeds with it.
+	 */
+	public static final long CHANGED = -2;
 
-	public VersionedAssociation() {
-		super();
-	}
+	private long version = NOT_STORED;
 
 	public VersionedAssociation(AssociationSnapshot snapshot) {
 		super( snapshot );
@@ -29,5 +42,4 @@ public long getVersion() {
 	public void setVersion(long version) {
 		this.version = version;
 	}
-
 }
@@ -10,15 +10,11 @@
 import java.util.HashMap;
 import java.util.Map;
 
-import org.hibernate.ogm.datastore.infinispanremote.impl.VersionedAssociation;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protobuf.schema.SchemaDefinitions;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.MainOgmCoDec;
-import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamAssociationPayload;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamId;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamPayload;
 import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
-import org.hibernate.ogm.dialect.spi.TupleContext;
-import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.infinispan.client.hotrod.RemoteCache;
 import org.infinispan.protostream.MessageMarshaller.ProtoStreamReader;
@@ -132,11 +128,6 @@ public String getIdProtobufTypeName() {
 		return protobufIdTypeName;
 	}
 
-	@Override
-	public ProtostreamAssociationPayload createAssociationPayload(EntityKey key, VersionedAssociation assoc, TupleContext tupleContext) {
-		return new ProtostreamAssociationPayload( assoc );
-	}
-
 	@Override
 	public String convertColumnNameToFieldName(String columnName) {
 		return valueFields.getDecoderByColumnName( columnName ).getProtobufName();
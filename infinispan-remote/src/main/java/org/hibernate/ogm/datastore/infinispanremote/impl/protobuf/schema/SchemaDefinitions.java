@@ -17,8 +17,10 @@
 import org.hibernate.AssertionFailure;
 import org.hibernate.ogm.datastore.infinispanremote.impl.InfinispanRemoteDatastoreProvider;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protobuf.TypeDeclarationsCollector;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.AssociationOwnerEntryMapper;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.OgmProtoStreamMarshaller;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtoDataMapper;
+import org.hibernate.ogm.datastore.infinispanremote.impl.schema.AssociationOwnerEntryDefinition;
 import org.hibernate.ogm.datastore.infinispanremote.impl.schema.SequenceTableDefinition;
 import org.hibernate.ogm.datastore.infinispanremote.impl.schema.TableDefinition;
 import org.hibernate.ogm.datastore.infinispanremote.logging.impl.Log;
@@ -39,6 +41,7 @@ public class SchemaDefinitions {
 	final Map<String,TableDefinition> definitionsByTableName = new HashMap<>();
 	final Map<IdSourceKeyMetadata, SequenceTableDefinition> idSchemaPerMetadata = new HashMap<>();
 	final Map<String, SequenceTableDefinition> idSchemaPerName = new HashMap<>();
+	final Map<String, AssociationOwnerEntryDefinition> associationOwnerEntriesPerCacheName = new HashMap<>();
 
 	//guarded by synchronization on this
 	private String cachedSchema = null;
@@ -86,8 +89,10 @@ private synchronized String generateProtoschema() {
 		sb.append( "package " ).append( packageName ).append( ";\n" );
 		idSchemaPerMetadata.forEach( ( k, v ) -> v.exportProtobufEntry( sb ) );
 		definitionsByTableName.forEach( ( k, v ) -> v.collectTypeDefinitions( typesDefCollector ) );
+		associationOwnerEntriesPerCacheName.forEach( ( k, v ) -> v.collectTypeDefinitions( typesDefCollector ) );
 		typesDefCollector.exportProtobufEntries( sb );
 		definitionsByTableName.forEach( ( k, v ) -> v.exportProtobufEntry( sb ) );
+		associationOwnerEntriesPerCacheName.forEach( ( k, v ) -> v.exportProtobufEntry( sb ) );
 		String fullSchema = sb.toString();
 		LOG.generatedSchema( fullSchema );
 		this.cachedSchema = fullSchema;
@@ -101,12 +106,32 @@ public void registerTableDefinition(TableDefinition td) {
 		}
 	}
 
+	/**
+	 * Registers the cache holding the rows of an association by owner, once the tables and the sequences are
+	 * registered: its name must not be used by any other cache.
+	 */
+	public void registerAssociationOwnerEntryDefinition(AssociationOwnerEntryDefinition definition) {
+		String cacheName = definition.getCacheName();
+		if ( definitionsByTableName.containsKey( cacheName ) || idSchemaPerName.containsKey( cacheName )
+				|| associationOwnerEntriesPerCacheName.containsKey( cacheName ) ) {
+			throw LOG.associationOwnerEntryCacheNameAlreadyUsed( cacheName, definition.getAssociationTable() );
+		}
+		associationOwnerEntriesPerCacheName.put( cacheName, definition );
+	}
+
+	public AssociationOwnerEntryDefinition getAssociationOwnerEntryDefinition(String cacheName) {
+		return associationOwnerEntriesPerCacheName.get( cacheName );
+	}
+
 	public Map<String, String> getCacheConfigurationByName() {
 
 		Map<String, String> map = new HashMap<>();
 		definitionsByTableName.values().forEach( definition -> map.put(
 			definition.getTableName(), definition.getCacheConfiguration()
 		) );
+		associationOwnerEntriesPerCacheName.values().forEach( definition -> map.put(
+			definition.getCacheName(), definition.getCacheConfiguration()
+		) );
 
 		idSchemaPerName.keySet().forEach( tableName -> map.put( tableName, null ) );
 		return map;
@@ -121,6 +146,15 @@ public Map<String,ProtoDataMapper> generateSchemaMappingAdapters(InfinispanRemot
 		return Collections.unmodifiableMap( adaptersCollector );
 	}
 
+	public Map<String,AssociationOwnerEntryMapper> generateAssociationOwnerEntryMappers(InfinispanRemoteDatastoreProvider provider,
+			SchemaDefinitions sd, OgmProtoStreamMarshaller marshaller) {
+		Map<String,AssociationOwnerEntryMapper> adaptersCollector = new HashMap<>();
+		associationOwnerEntriesPerCacheName.forEach( ( k, v ) ->
+			adaptersCollector.put( k, v.createMapper( provider.getCache( k ), sd, marshaller ) )
+			);
+		return Collections.unmodifiableMap( adaptersCollector );
+	}
+
 	public FileDescriptorSource asFileDescriptorSource() throws IOException {
 		FileDescriptorSource source = new FileDescriptorSource();
 		StringReader stringReader = new StringReader( generateProtoschema() );
@@ -11,6 +11,7 @@
 import java.net.URL;
 
 import org.hibernate.HibernateException;
+import org.hibernate.ogm.datastore.infinispanremote.impl.schema.AssociationOwnerEntryDefinition;
 import org.hibernate.ogm.datastore.infinispanremote.impl.schema.SequenceTableDefinition;
 import org.hibernate.ogm.datastore.infinispanremote.impl.schema.TableDefinition;
 import org.hibernate.ogm.datastore.infinispanremote.logging.impl.Log;
@@ -90,6 +91,11 @@ private void validate() {
 				throw LOG.providedSchemaHasAnInvalidCacheDefinition( tableDefinition.getTableName() );
 			}
 		}
+		for ( AssociationOwnerEntryDefinition definition : owner.associationOwnerEntriesPerCacheName.values() ) {
+			if ( !definition.isDescribedIn( fileDescriptor ) ) {
+				throw LOG.providedSchemaHasAnInvalidCacheDefinition( definition.getCacheName() );
+			}
+		}
 	}
 
 	private FileDescriptor parseSchema() throws DescriptorParserException, IOException {
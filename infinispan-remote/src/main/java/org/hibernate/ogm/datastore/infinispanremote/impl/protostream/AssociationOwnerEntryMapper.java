@@ -0,0 +1,50 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.impl.protostream;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.ogm.datastore.infinispanremote.impl.AssociationCacheOperation;
+
+/**
+ * Encodes the entries holding all the rows of an association in a single value.
+ *
+ * @see org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorageType#ENTRY_PER_OWNER
+ */
+public final class AssociationOwnerEntryMapper {
+
+	private final MainOgmCoDec idCodec;
+	private final String protobufTypeName;
+
+	public AssociationOwnerEntryMapper(MainOgmCoDec idCodec, String protobufTypeName) {
+		this.idCodec = Objects.requireNonNull( idCodec );
+		this.protobufTypeName = protobufTypeName;
+	}
+
+	public ProtostreamId createIdPayload(String[] columnNames, Object[] columnValues) {
+		return idCodec.createIdPayload( columnNames, columnValues );
+	}
+
+	public ProtostreamAssociationPayload createAssociationPayload(List<ProtostreamPayload> rows) {
+		return new ProtostreamAssociationPayload( rows, protobufTypeName );
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T withinCacheEncodingContext(AssociationCacheOperation<T> function) {
+		return (T) function.doOnCache( idCodec.getLinkedCache() );
+	}
+
+	public String getCacheName() {
+		return idCodec.getLinkedCache().getName();
+	}
+
+	@Override
+	public String toString() {
+		return "AssociationOwnerEntryMapper[cacheName='" + getCacheName() + "']";
+	}
+}
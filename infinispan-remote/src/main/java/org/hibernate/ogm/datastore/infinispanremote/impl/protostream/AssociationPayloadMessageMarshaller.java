@@ -0,0 +1,46 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.impl.protostream;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.hibernate.ogm.datastore.infinispanremote.impl.schema.AssociationOwnerEntryDefinition;
+
+import org.infinispan.protostream.MessageMarshaller;
+
+public class AssociationPayloadMessageMarshaller implements MessageMarshaller<ProtostreamAssociationPayload> {
+
+	private final String typeName;
+	private final AssociationOwnerEntryDefinition definition;
+
+	public AssociationPayloadMessageMarshaller(AssociationOwnerEntryDefinition definition) {
+		this.definition = Objects.requireNonNull( definition );
+		this.typeName = definition.getQualifiedMessageName();
+	}
+
+	@Override
+	public Class<ProtostreamAssociationPayload> getJavaClass() {
+		return ProtostreamAssociationPayload.class;
+	}
+
+	@Override
+	public String getTypeName() {
+		return typeName;
+	}
+
+	@Override
+	public ProtostreamAssociationPayload readFrom(org.infinispan.protostream.MessageMarshaller.ProtoStreamReader reader) throws IOException {
+		return definition.readAssociationPayload( reader );
+	}
+
+	@Override
+	public void writeTo(org.infinispan.protostream.MessageMarshaller.ProtoStreamWriter writer, ProtostreamAssociationPayload payload) throws IOException {
+		definition.writeAssociationPayload( writer, payload );
+	}
+
+}
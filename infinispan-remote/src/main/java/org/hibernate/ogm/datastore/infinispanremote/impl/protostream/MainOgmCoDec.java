@@ -8,9 +8,6 @@
 
 import java.io.IOException;
 
-import org.hibernate.ogm.datastore.infinispanremote.impl.VersionedAssociation;
-import org.hibernate.ogm.dialect.spi.TupleContext;
-import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.infinispan.client.hotrod.RemoteCache;
 
@@ -30,8 +27,6 @@ public interface MainOgmCoDec {
 
 	ProtostreamPayload createValuePayload(Tuple tuple);
 
-	ProtostreamAssociationPayload createAssociationPayload(EntityKey key, VersionedAssociation tuple, TupleContext tupleContext);
-
 	String getProtobufTypeName();
 
 	String getIdProtobufTypeName();
@@ -8,13 +8,9 @@
 
 import java.util.Objects;
 
-import org.hibernate.ogm.datastore.infinispanremote.impl.AssociationCacheOperation;
 import org.hibernate.ogm.datastore.infinispanremote.impl.CacheOperation;
 import org.hibernate.ogm.datastore.infinispanremote.impl.ProtoStreamMappingAdapter;
 import org.hibernate.ogm.datastore.infinispanremote.impl.ProtostreamAssociationMappingAdapter;
-import org.hibernate.ogm.datastore.infinispanremote.impl.VersionedAssociation;
-import org.hibernate.ogm.dialect.spi.TupleContext;
-import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.spi.Tuple;
 
 import org.infinispan.protostream.DescriptorParserException;
@@ -32,11 +28,6 @@ public ProtostreamPayload createValuePayload(Tuple tuple) {
 		return delegate.createValuePayload( tuple );
 	}
 
-	@Override
-	public ProtostreamAssociationPayload createAssociationPayload(EntityKey key, VersionedAssociation tuple, TupleContext tupleContext) {
-		return delegate.createAssociationPayload( key, tuple, tupleContext );
-	}
-
 	@Override
 	public ProtostreamId createIdPayload(String[] columnNames, Object[] columnValues) {
 		return delegate.createIdPayload( columnNames, columnValues );
@@ -47,11 +38,6 @@ public <T> T withinCacheEncodingContext(CacheOperation<T> function) {
 		return (T) function.doOnCache( delegate.getLinkedCache() );
 	}
 
-	@Override
-	public <T> T withinCacheEncodingContext(AssociationCacheOperation<T> function) {
-		return (T) function.doOnCache( delegate.getLinkedCache() );
-	}
-
 	@Override
 	public String convertColumnNameToFieldName(String string) {
 		return delegate.convertColumnNameToFieldName( string );
@@ -6,34 +6,44 @@
  */
 package org.hibernate.ogm.datastore.infinispanremote.impl.protostream;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
-import org.hibernate.ogm.datastore.infinispanremote.impl.VersionedAssociation;
-import org.hibernate.ogm.datastore.map.impl.MapAssociationSnapshot;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.multimessage.MultiMessage;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.RowKey;
 
-public final class ProtostreamAssociationPayload {
+/**
+ * The value of an entry holding all the rows of an association.
+ *
+ * @see org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorageType#ENTRY_PER_OWNER
+ */
+public final class ProtostreamAssociationPayload implements MultiMessage {
 
-	//One and only one of the following fields will be initialized:
-	private final MapAssociationSnapshot loadedSnapshot;
-	private final VersionedAssociation association;
+	private final List<ProtostreamPayload> rows;
+	private final String protobufTypeName;
 
-	public ProtostreamAssociationPayload(MapAssociationSnapshot loadedSnapshot) {
-		this.loadedSnapshot = Objects.requireNonNull( loadedSnapshot );
-		this.association = null;
+	public ProtostreamAssociationPayload(List<ProtostreamPayload> rows, String protobufTypeName) {
+		this.rows = Objects.requireNonNull( rows );
+		this.protobufTypeName = protobufTypeName;
 	}
 
-	public ProtostreamAssociationPayload(VersionedAssociation tuple) {
-		this.association = Objects.requireNonNull( tuple );
-		this.loadedSnapshot = null;
+	public List<ProtostreamPayload> getRows() {
+		return rows;
 	}
 
-	public VersionedAssociation toAssociation() {
-		if ( association != null ) {
-			return association;
-		}
-		else {
-			return new VersionedAssociation( loadedSnapshot );
+	public Map<RowKey, Map<String, Object>> toRowsMap(AssociationKey key) {
+		Map<RowKey, Map<String, Object>> rowsMap = new HashMap<>( rows.size() );
+		for ( ProtostreamPayload row : rows ) {
+			rowsMap.put( row.asRowKey( key ), row.toMap() );
 		}
+		return rowsMap;
 	}
 
+	@Override
+	public String getMessageType() {
+		return protobufTypeName;
+	}
 }
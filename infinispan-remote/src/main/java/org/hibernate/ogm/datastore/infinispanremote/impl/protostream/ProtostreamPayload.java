@@ -8,6 +8,7 @@
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.ogm.datastore.infinispanremote.impl.VersionedTuple;
@@ -75,6 +76,15 @@ public Object getColumnValue(String columnName) {
 		}
 	}
 
+	public Set<String> getColumnNames() {
+		if ( tuple != null ) {
+			return tuple.getColumnNames();
+		}
+		else {
+			return loadedSnapshot.getColumnNames();
+		}
+	}
+
 	public Map<String, Object> toMap() {
 		if ( loadedSnapshot != null ) {
 			return loadedSnapshot.getMap();
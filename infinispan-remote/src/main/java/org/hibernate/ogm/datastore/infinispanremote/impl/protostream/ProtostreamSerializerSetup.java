@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 
+import org.hibernate.ogm.datastore.infinispanremote.impl.schema.AssociationOwnerEntryDefinition;
 import org.hibernate.ogm.datastore.infinispanremote.impl.schema.SequenceTableDefinition;
 import org.hibernate.ogm.datastore.infinispanremote.impl.sequences.SequenceIdMarshaller;
 import org.hibernate.ogm.datastore.infinispanremote.logging.impl.Log;
@@ -30,6 +31,13 @@ public static void registerEntityMarshaller(MainOgmCoDec delegate, OgmProtoStrea
 		marshaller.getSerializationContext().registerMarshaller( valueM );
 	}
 
+	public static void registerAssociationOwnerEntryMarshaller(MainOgmCoDec idDelegate, AssociationOwnerEntryDefinition definition, OgmProtoStreamMarshaller marshaller) throws DescriptorParserException {
+		IdMessageMarshaller idM = new IdMessageMarshaller( idDelegate );
+		AssociationPayloadMessageMarshaller valueM = new AssociationPayloadMessageMarshaller( definition );
+		marshaller.getSerializationContext().registerMarshaller( idM );
+		marshaller.getSerializationContext().registerMarshaller( valueM );
+	}
+
 	public static void registerSequenceMarshaller(SequenceTableDefinition std, OgmProtoStreamMarshaller marshaller) {
 		SequenceIdMarshaller idM = new SequenceIdMarshaller( std );
 		marshaller.getSerializationContext().registerMarshaller( idM );
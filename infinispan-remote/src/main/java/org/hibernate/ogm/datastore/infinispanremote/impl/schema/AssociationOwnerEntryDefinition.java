@@ -0,0 +1,176 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.impl.schema;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.ogm.datastore.infinispanremote.impl.protobuf.CompositeProtobufCoDec;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protobuf.ProtofieldAccessorSet;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protobuf.TypeDeclarationsCollector;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protobuf.schema.SchemaDefinitions;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.AssociationOwnerEntryMapper;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.OgmProtoStreamMarshaller;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamAssociationPayload;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamPayload;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamSerializerSetup;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.multimessage.MultiMessageExtension;
+import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.type.spi.GridType;
+import org.hibernate.type.Type;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.protostream.MessageMarshaller.ProtoStreamReader;
+import org.infinispan.protostream.MessageMarshaller.ProtoStreamWriter;
+import org.infinispan.protostream.ProtobufUtil;
+import org.infinispan.protostream.descriptors.Descriptor;
+import org.infinispan.protostream.descriptors.FieldDescriptor;
+import org.infinispan.protostream.descriptors.FileDescriptor;
+import org.infinispan.protostream.descriptors.Label;
+
+/**
+ * Defines the cache holding all the rows of an association in a single entry per owner.
+ * <p>
+ * The key is made of the columns of the association key; the value lists the rows, each of them encoded as a wrapped
+ * message of the type generated for the association table. The rows can't be nested messages: all the tables are
+ * represented by the same Java type, so the marshaller of a nested message couldn't be chosen.
+ */
+public final class AssociationOwnerEntryDefinition implements ProtobufTypeExporter, ProtobufEntryExporter {
+
+	private static final String ROWS_FIELD_NAME = "rows";
+
+	private final String cacheName;
+	private final String associationTable;
+	private final String[] ownerColumnNames;
+	private final String protobufTypeName;
+	private final String protobufIdTypeName;
+	private final String protobufPackageName;
+	private final String cacheConfiguration;
+	private final ProtofieldAccessorSet keyComponents = new ProtofieldAccessorSet();
+
+	public AssociationOwnerEntryDefinition(AssociationKeyMetadata associationKeyMetadata, String protobufPackageName, String cacheConfiguration) {
+		this.cacheName = cacheName( associationKeyMetadata );
+		this.associationTable = associationKeyMetadata.getTable();
+		this.ownerColumnNames = associationKeyMetadata.getColumnNames();
+		this.protobufTypeName = SanitationUtils.convertNameSafely( cacheName );
+		this.protobufIdTypeName = SanitationUtils.toProtobufIdName( protobufTypeName );
+		this.protobufPackageName = protobufPackageName;
+		this.cacheConfiguration = cacheConfiguration;
+	}
+
+	/**
+	 * The name isn't guaranteed to be unique, e.g. table {@code a} with column {@code b_c} and table {@code a_by_b}
+	 * with column {@code c} have the same: it is checked when the definition is registered.
+	 *
+	 * @param associationKeyMetadata the metadata of the association
+	 * @return the name of the cache holding the rows of the association by owner
+	 */
+	public static String cacheName(AssociationKeyMetadata associationKeyMetadata) {
+		return associationKeyMetadata.getTable() + "_by_" + String.join( "_", associationKeyMetadata.getColumnNames() );
+	}
+
+	public void addOwnerColumnDefinition(String columnName, GridType gridType, Type ormType) {
+		keyComponents.addMapping( columnName, gridType, ormType, false );
+	}
+
+	@Override
+	public void exportProtobufEntry(StringBuilder sb) {
+		sb.append( "\nmessage " ).append( protobufIdTypeName ).append( " {" );
+		keyComponents.forEachProtobufFieldExporter( v -> v.exportProtobufFieldDefinition( sb ) );
+		sb.append( "\n}\n" );
+		sb.append( "\nmessage " ).append( protobufTypeName ).append( " {" );
+		sb.append( "\n\trepeated bytes " ).append( ROWS_FIELD_NAME ).append( " = 1;" );
+		sb.append( "\n}\n" );
+	}
+
+	@Override
+	public void collectTypeDefinitions(TypeDeclarationsCollector typesDefCollector) {
+		keyComponents.forEach( v -> v.collectTypeDefinitions( typesDefCollector ) );
+	}
+
+	public AssociationOwnerEntryMapper createMapper(RemoteCache remoteCache, SchemaDefinitions sd, OgmProtoStreamMarshaller marshaller) {
+		CompositeProtobufCoDec idCodec = new CompositeProtobufCoDec(
+				qualify( protobufTypeName ), qualify( protobufIdTypeName ),
+				keyComponents, new ProtofieldAccessorSet(), remoteCache, sd );
+		ProtostreamSerializerSetup.registerAssociationOwnerEntryMarshaller( idCodec, this, marshaller );
+		return new AssociationOwnerEntryMapper( idCodec, qualify( protobufTypeName ) );
+	}
+
+	public ProtostreamAssociationPayload readAssociationPayload(ProtoStreamReader reader) throws IOException {
+		List<byte[]> encodedRows = reader.readCollection( ROWS_FIELD_NAME, new ArrayList<>(), byte[].class );
+		List<ProtostreamPayload> rows = new ArrayList<>( encodedRows.size() );
+		for ( byte[] encodedRow : encodedRows ) {
+			rows.add( ProtobufUtil.fromWrappedByteArray( reader.getSerializationContext(), encodedRow ) );
+		}
+		return new ProtostreamAssociationPayload( rows, qualify( protobufTypeName ) );
+	}
+
+	public void writeAssociationPayload(ProtoStreamWriter writer, ProtostreamAssociationPayload payload) throws IOException {
+		List<byte[]> encodedRows = new ArrayList<>( payload.getRows().size() );
+		for ( ProtostreamPayload row : payload.getRows() ) {
+			encodedRows.add( MultiMessageExtension.toWrappedByteArray( writer.getSerializationContext(), row ) );
+		}
+		writer.writeCollection( ROWS_FIELD_NAME, encodedRows, byte[].class );
+	}
+
+	private String qualify(final String name) {
+		return SanitationUtils.qualify( name, protobufPackageName );
+	}
+
+	public String getCacheName() {
+		return cacheName;
+	}
+
+	public String getAssociationTable() {
+		return associationTable;
+	}
+
+	/**
+	 * @param associationKeyMetadata the metadata of an association
+	 * @return {@code true} if this definition stores the rows of the given association
+	 */
+	public boolean isDefinitionOf(AssociationKeyMetadata associationKeyMetadata) {
+		return associationTable.equals( associationKeyMetadata.getTable() )
+				&& Arrays.equals( ownerColumnNames, associationKeyMetadata.getColumnNames() );
+	}
+
+	public String getCacheConfiguration() {
+		return cacheConfiguration;
+	}
+
+	public String getQualifiedMessageName() {
+		return qualify( protobufTypeName );
+	}
+
+	public boolean isDescribedIn(FileDescriptor fileDescriptor) {
+		boolean typeIsDescribed = false;
+		boolean idTypeIsDescribed = false;
+
+		for ( Descriptor descriptor : fileDescriptor.getMessageTypes() ) {
+			if ( descriptor.getName().equals( protobufIdTypeName ) ) {
+				if ( keyComponents.isDescribedIn( descriptor ) ) {
+					idTypeIsDescribed = true;
+				}
+			}
+			if ( descriptor.getName().equals( protobufTypeName ) ) {
+				if ( typeIsDescribedIn( descriptor ) ) {
+					typeIsDescribed = true;
+				}
+			}
+		}
+
+		// both key and value types must be described
+		return typeIsDescribed && idTypeIsDescribed;
+	}
+
+	private boolean typeIsDescribedIn(Descriptor descriptor) {
+		FieldDescriptor rows = descriptor.findFieldByName( ROWS_FIELD_NAME );
+		return rows != null && rows.getType() == org.infinispan.protostream.descriptors.Type.BYTES && rows.getLabel() == Label.REPEATED;
+	}
+}
@@ -43,6 +43,7 @@ public class HotRodSequenceHandler {
 	private final ConcurrentMap<String,SequencesPerCache> sequencesPerCache = new ConcurrentHashMap<>();
 	private final Map<String, SequenceTableDefinition> idSchemaPerName;
 	private final OgmProtoStreamMarshaller marshaller;
+	private final HotRodSequenceStatistics statistics = new HotRodSequenceStatistics();
 
 	public HotRodSequenceHandler(
 			InfinispanRemoteDatastoreProvider infinispanRemoteDatastoreProvider,
@@ -60,9 +61,16 @@ public Number getSequenceValue(NextValueRequest request) {
 			if ( sequenceTableDefinition == null ) {
 				throw log.valueRequestedForUnknownSequence( request.getKey().getTable(), request.getKey().getColumnValue() );
 			}
-			return new SequencesPerCache( provider.getCache( cacheName ) );
+			return new SequencesPerCache( provider.getCache( cacheName ), provider.getSequenceBlockSize(), provider.getAsyncExecutor(), statistics );
 		}
 		);
 		return sequencesSet.getSequenceValue( request );
 	}
+
+	/**
+	 * @return the statistics of the remote operations of the table generators
+	 */
+	public HotRodSequenceStatistics getStatistics() {
+		return statistics;
+	}
 }
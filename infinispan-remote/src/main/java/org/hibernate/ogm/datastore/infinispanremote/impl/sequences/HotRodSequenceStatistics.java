@@ -0,0 +1,55 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.impl.sequences;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the remote operations of the table generators of a datastore, to monitor the contention on the sequences.
+ *
+ * @see HotRodSequencer
+ */
+public class HotRodSequenceStatistics {
+
+	private final LongAdder casRetries = new LongAdder();
+	private final LongAdder rangeRefills = new LongAdder();
+	private final LongAdder prefetches = new LongAdder();
+
+	void casRetried() {
+		casRetries.increment();
+	}
+
+	void rangeRefilled() {
+		rangeRefills.increment();
+	}
+
+	void prefetched() {
+		prefetches.increment();
+	}
+
+	/**
+	 * @return the number of optimistic replace operations which failed because another client updated the
+	 * sequence concurrently
+	 */
+	public long getCasRetries() {
+		return casRetries.sum();
+	}
+
+	/**
+	 * @return the number of blocks of values reserved on the server, including the ones reserved in the background
+	 */
+	public long getRangeRefills() {
+		return rangeRefills.sum();
+	}
+
+	/**
+	 * @return the number of blocks of values reserved in the background, before the current block was exhausted
+	 */
+	public long getPrefetches() {
+		return prefetches.sum();
+	}
+}
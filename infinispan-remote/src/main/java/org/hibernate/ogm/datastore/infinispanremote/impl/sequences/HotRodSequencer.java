@@ -7,6 +7,12 @@
 package org.hibernate.ogm.datastore.infinispanremote.impl.sequences;
 
 import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.ogm.datastore.infinispanremote.logging.impl.Log;
 import org.hibernate.ogm.datastore.infinispanremote.logging.impl.LoggerFactory;
@@ -27,6 +33,12 @@
  * alternative ID assignment strategies in the domain model; ideally
  * application assigned.
  *
+ * To reduce the contention, a block of values can be reserved with a single
+ * CAS operation: the remote value is then the last value reserved by a client,
+ * and the values of the block are assigned locally. When half of the block has
+ * been used, the next one is reserved in the background so that the threads
+ * asking for values don't have to wait for the remote calls.
+ *
  * Also, the Hot Rod client API currently doesn't allow to issue both the
  * CAS operation and return the new version in case of failure, so the failure of
  * an optimistic replace operation needs to re-read the version, introducing
@@ -42,49 +54,136 @@ public final class HotRodSequencer {
 
 	private static final int LOG_WARNING_EACH_N_OPS = 10;
 
+	// Caps the random backoff to about one second
+	private static final int MAX_BACKOFF_EXPONENT = 10;
+
 	private final RemoteCache<SequenceId, Long> remoteCache;
 	private final int increment;
+	private final int blockSize;
 	private final SequenceId id;
+	private final Executor prefetchExecutor;
+	private final HotRodSequenceStatistics statistics;
 	private final Random random = new Random();
 
+	// Guards the values of the current block and the pending prefetch
+	private final ReentrantLock lock = new ReentrantLock();
+
+	// Guards the last known version and value; the remote calls are made while holding it
+	private final ReentrantLock casLock = new ReentrantLock();
+
+	private long nextValue;
+	private int remainingValues = 0;
+	private CompletableFuture<Long> prefetchedBlock;
+
 	private long lastKnownVersion = -1;
 	private Long lastKnownRemoteValue = null;
 
 	HotRodSequencer(
 			RemoteCache<SequenceId, Long> remoteCache,
-			NextValueRequest initialRequest) {
+			NextValueRequest initialRequest,
+			int blockSize,
+			Executor prefetchExecutor,
+			HotRodSequenceStatistics statistics) {
 				this.remoteCache = remoteCache;
 				this.increment = initialRequest.getIncrement();
+				this.blockSize = blockSize;
 				this.id = new SequenceId( initialRequest.getKey().getColumnValue() );
+				this.prefetchExecutor = prefetchExecutor;
+				this.statistics = statistics;
 	}
 
 	Number getSequenceValue(NextValueRequest request) {
-		return getSequenceValueInternal( request );
+		lock.lock();
+		try {
+			if ( remainingValues == 0 ) {
+				nextValue = nextBlock( request );
+				remainingValues = blockSize;
+			}
+			long value = nextValue;
+			nextValue += increment;
+			remainingValues--;
+			if ( blockSize > 1 && prefetchedBlock == null && remainingValues <= blockSize / 2 ) {
+				prefetch( request );
+			}
+			return value;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void prefetch(NextValueRequest request) {
+		try {
+			prefetchedBlock = CompletableFuture.supplyAsync( () -> reserveBlock( request, true ), prefetchExecutor );
+		}
+		catch (RejectedExecutionException e) {
+			// The datastore is stopping, the next block will be reserved when needed
+			log.debugf( e, "Prefetch of a block of values rejected for sequence %s", id.getSegmentName() );
+		}
+	}
+
+	/*
+	 * Returns the first value of the next block, waiting for the prefetch if there is one.
+	 * A failed prefetch is retried synchronously, so that the error is raised in the thread asking for a value.
+	 */
+	private long nextBlock(NextValueRequest request) {
+		CompletableFuture<Long> prefetch = prefetchedBlock;
+		prefetchedBlock = null;
+		if ( prefetch != null ) {
+			try {
+				return prefetch.join();
+			}
+			catch (CompletionException | CancellationException e) {
+				log.debugf( e, "Prefetch of a block of values failed for sequence %s", id.getSegmentName() );
+			}
+		}
+		return reserveBlock( request, false );
+	}
+
+	private long reserveBlock(NextValueRequest request, boolean prefetch) {
+		casLock.lock();
+		try {
+			long first = reserveBlockInternal( request );
+			statistics.rangeRefilled();
+			if ( prefetch ) {
+				statistics.prefetched();
+			}
+			return first;
+		}
+		finally {
+			casLock.unlock();
+		}
 	}
 
-	private synchronized Number getSequenceValueInternal(NextValueRequest request) {
+	/*
+	 * Reserves the values [first, first + (blockSize - 1) * increment] and returns the first one;
+	 * the remote value is set to the last value of the block.
+	 */
+	private long reserveBlockInternal(NextValueRequest request) {
+		final long span = (long) increment * ( blockSize - 1 );
 		if ( lastKnownRemoteValue == null ) {
-			Long initialValue = (long) request.getInitialValue();
-			Long previous = remoteCache.putIfAbsent( id, initialValue );
+			long initialValue = request.getInitialValue();
+			Long previous = remoteCache.putIfAbsent( id, Long.valueOf( initialValue + span ) );
 			//Side effects: initialize fields with first known values from remote
 			getRemoteVersion();
 			if ( previous == null ) {
 				//if the putIfAbsent CAS was successful, we can return already
-				return lastKnownRemoteValue;
+				return initialValue;
 			}
 		}
 		//now to CAS:
 		int casCycle = 0;
 		while ( true ) {
-			Long targetValue = Long.valueOf( lastKnownRemoteValue.longValue() + increment );
-			boolean done = attemptCASWriteValue( targetValue );
+			long first = lastKnownRemoteValue.longValue() + increment;
+			boolean done = attemptCASWriteValue( Long.valueOf( first + span ) );
 			if ( done ) {
-				return targetValue;
+				return first;
 			}
 			else {
 				//On failure of CAS, refresh what we know about the remote version and value:
 				getRemoteVersion();
 				casCycle++;
+				statistics.casRetried();
 				if ( casCycle % LOG_WARNING_EACH_N_OPS == 0 ) {
 					log.excessiveCasForSequencer( id.getSegmentName() );
 				}
@@ -96,7 +195,7 @@ private synchronized Number getSequenceValueInternal(NextValueRequest request) {
 	}
 
 	private void delayRandomizerAtCycle(int casCycle) {
-		final int exponentialMaxMilliseconds = 2 ^ casCycle;
+		final int exponentialMaxMilliseconds = 1 << Math.min( casCycle, MAX_BACKOFF_EXPONENT );
 		final int nextWait = random.nextInt( exponentialMaxMilliseconds );
 		if ( nextWait == 0 ) {
 			return;
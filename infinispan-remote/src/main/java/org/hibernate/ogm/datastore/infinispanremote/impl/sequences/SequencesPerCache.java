@@ -9,6 +9,7 @@
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
@@ -17,16 +18,22 @@
 public class SequencesPerCache {
 
 	private final RemoteCache<SequenceId, Long> remoteCache;
+	private final int blockSize;
+	private final Executor prefetchExecutor;
+	private final HotRodSequenceStatistics statistics;
 	private final ConcurrentMap<IdSourceKey,HotRodSequencer> sequencers = new ConcurrentHashMap<>();
 
-	SequencesPerCache(RemoteCache<SequenceId, Long> remoteCache) {
+	SequencesPerCache(RemoteCache<SequenceId, Long> remoteCache, int blockSize, Executor prefetchExecutor, HotRodSequenceStatistics statistics) {
 		this.remoteCache = Objects.requireNonNull( remoteCache );
+		this.blockSize = blockSize;
+		this.prefetchExecutor = prefetchExecutor;
+		this.statistics = statistics;
 	}
 
 	public Number getSequenceValue(NextValueRequest request) {
 		IdSourceKey key = request.getKey();
 		HotRodSequencer sequencer = sequencers.computeIfAbsent( key, v ->
-			new HotRodSequencer( remoteCache, request )
+			new HotRodSequencer( remoteCache, request, blockSize, prefetchExecutor, statistics )
 		);
 		return sequencer.getSequenceValue( request );
 	}
@@ -14,6 +14,8 @@
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.StaleStateException;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.FormatWith;
 import org.jboss.logging.annotations.LogMessage;
@@ -104,4 +106,16 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 
 	@Message(id = 1725, value = "Provided ProtoBuf schema has an invalid cache definition: %s")
 	HibernateException providedSchemaHasAnInvalidCacheDefinition(String tableName);
+
+	@Message(id = 1726, value = "Invalid value for property '%s': the sequence block size must be a positive integer but is <%d>")
+	HibernateException invalidSequenceBlockSize(String propertyName, int blockSize);
+
+	@Message(id = 1727, value = "Invalid value for property '%s': the multiget concurrency must be a positive integer but is <%d>")
+	HibernateException invalidMultigetConcurrency(String propertyName, int concurrency);
+
+	@Message(id = 1728, value = "The entry holding the rows of association '%s' in cache '%s' has been changed by another transaction")
+	StaleStateException concurrentAssociationOwnerEntryUpdate(AssociationKey associationKey, String cacheName);
+
+	@Message(id = 1729, value = "The cache '%s' holding the rows of the association of table '%s' by owner has the same name as another cache: map the association to another table")
+	HibernateException associationOwnerEntryCacheNameAlreadyUsed(String cacheName, String associationTable);
 }
@@ -0,0 +1,29 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.options.association;
+
+/**
+ * A strategy for storing the rows of the associations mapped with a dedicated table.
+ * <p>
+ * The associations stored within the entries of the associated entities, such as a one-to-many association mapped
+ * with a join column, are always read from the entity cache.
+ */
+public enum AssociationStorageType {
+
+	/**
+	 * Stores each row of the association as a dedicated entry of the cache of the association table. The rows of an
+	 * association are loaded by an indexed query on the columns of the owner.
+	 */
+	ENTRY_PER_ROW,
+
+	/**
+	 * Stores all the rows of an association in a single entry, keyed by the columns of the owner, of a cache dedicated
+	 * to the association. The rows are loaded with a direct read of the entry; concurrent updates of the same
+	 * association are not merged, the last write wins.
+	 */
+	ENTRY_PER_OWNER
+}
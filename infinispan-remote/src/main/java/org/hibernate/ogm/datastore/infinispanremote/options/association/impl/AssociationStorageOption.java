@@ -0,0 +1,27 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.options.association.impl;
+
+import org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteProperties;
+import org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorageType;
+import org.hibernate.ogm.options.spi.UniqueOption;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+
+/**
+ * Represents the type of association storage as configured via the API or annotations for a given element.
+ */
+public class AssociationStorageOption extends UniqueOption<AssociationStorageType> {
+
+	private static final AssociationStorageType DEFAULT_ASSOCIATION_STORAGE = AssociationStorageType.ENTRY_PER_ROW;
+
+	@Override
+	public AssociationStorageType getDefaultValue(ConfigurationPropertyReader propertyReader) {
+		return propertyReader.property( InfinispanRemoteProperties.ASSOCIATION_STORAGE, AssociationStorageType.class )
+				.withDefault( DEFAULT_ASSOCIATION_STORAGE )
+				.getValue();
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.infinispanremote.options.navigation;
 
+import org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorageType;
 import org.hibernate.ogm.datastore.keyvalue.options.navigation.KeyValueStoreEntityContext;
 
 /**
@@ -15,4 +16,12 @@
  * @author Gunnar Morling
  */
 public interface InfinispanRemoteEntityContext extends KeyValueStoreEntityContext<InfinispanRemoteEntityContext, InfinispanRemotePropertyContext> {
+
+	/**
+	 * Specifies how the rows of the associations mapped with a dedicated table should be persisted.
+	 *
+	 * @param associationStorage the association storage type to be used when not configured on the property level
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	InfinispanRemoteEntityContext associationStorage(AssociationStorageType associationStorage);
 }
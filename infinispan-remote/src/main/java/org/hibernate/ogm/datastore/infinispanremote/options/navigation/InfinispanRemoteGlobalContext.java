@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.infinispanremote.options.navigation;
 
+import org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorageType;
 import org.hibernate.ogm.datastore.keyvalue.options.navigation.KeyValueStoreGlobalContext;
 
 /**
@@ -15,4 +16,13 @@
  * @author Gunnar Morling
  */
 public interface InfinispanRemoteGlobalContext extends KeyValueStoreGlobalContext<InfinispanRemoteGlobalContext, InfinispanRemoteEntityContext> {
+
+	/**
+	 * Specifies how the rows of the associations mapped with a dedicated table should be persisted.
+	 *
+	 * @param associationStorage the association storage type to be used when not configured on the entity or property
+	 * level
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	InfinispanRemoteGlobalContext associationStorage(AssociationStorageType associationStorage);
 }
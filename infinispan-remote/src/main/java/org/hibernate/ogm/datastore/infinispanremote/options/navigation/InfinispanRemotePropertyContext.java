@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.infinispanremote.options.navigation;
 
+import org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorageType;
 import org.hibernate.ogm.datastore.keyvalue.options.navigation.KeyValueStorePropertyContext;
 
 /**
@@ -14,4 +15,14 @@
  * @author Gunnar Morling
  */
 public interface InfinispanRemotePropertyContext extends KeyValueStorePropertyContext<InfinispanRemoteEntityContext, InfinispanRemotePropertyContext> {
+
+	/**
+	 * Specifies how the rows of the association of the configured property should be persisted. Only applies if the
+	 * property represents an association mapped with a dedicated table.
+	 *
+	 * @param associationStorage the association storage type to be used; overrides any settings on the entity or
+	 * global level
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	InfinispanRemotePropertyContext associationStorage(AssociationStorageType associationStorage);
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.datastore.infinispanremote.options.navigation.impl;
 
+import org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorageType;
+import org.hibernate.ogm.datastore.infinispanremote.options.association.impl.AssociationStorageOption;
 import org.hibernate.ogm.datastore.infinispanremote.options.navigation.InfinispanRemoteEntityContext;
 import org.hibernate.ogm.datastore.infinispanremote.options.navigation.InfinispanRemoteGlobalContext;
 import org.hibernate.ogm.datastore.keyvalue.options.navigation.spi.BaseKeyValueStoreGlobalContext;
@@ -22,4 +24,10 @@ public abstract class InfinispanRemoteGlobalContextImpl extends BaseKeyValueStor
 	public InfinispanRemoteGlobalContextImpl(ConfigurationContext context) {
 		super( context );
 	}
+
+	@Override
+	public InfinispanRemoteGlobalContext associationStorage(AssociationStorageType associationStorage) {
+		addGlobalOption( new AssociationStorageOption(), associationStorage );
+		return this;
+	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.datastore.infinispanremote.options.navigation.impl;
 
+import org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorageType;
+import org.hibernate.ogm.datastore.infinispanremote.options.association.impl.AssociationStorageOption;
 import org.hibernate.ogm.datastore.infinispanremote.options.navigation.InfinispanRemoteEntityContext;
 import org.hibernate.ogm.datastore.infinispanremote.options.navigation.InfinispanRemotePropertyContext;
 import org.hibernate.ogm.datastore.keyvalue.options.navigation.spi.BaseKeyValueStorePropertyContext;
@@ -22,4 +24,10 @@ public abstract class InfinispanRemotePropertyContextImpl extends BaseKeyValueSt
 	public InfinispanRemotePropertyContextImpl(ConfigurationContext context) {
 		super( context );
 	}
+
+	@Override
+	public InfinispanRemotePropertyContext associationStorage(AssociationStorageType associationStorage) {
+		addPropertyOption( new AssociationStorageOption(), associationStorage );
+		return this;
+	}
 }
@@ -0,0 +1,338 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.impl;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Fail.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.AssociationOwnerEntryMapper;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.MainOgmCoDec;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamAssociationPayload;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamId;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamPayload;
+import org.hibernate.ogm.datastore.map.impl.MapAssociationSnapshot;
+import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
+import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.AssociationKind;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.infinispan.client.hotrod.MetadataValue;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+/**
+ * Checks the Hot Rod operations used by {@link HotRodWriteBatch} to apply the writes of a flush.
+ */
+public class HotRodWriteBatchTest {
+
+	private static final String CACHE = "Player";
+
+	private static final String ASSOCIATION_CACHE = "Player_tags_by_Player_id";
+
+	private static final AssociationKey ASSOCIATION_KEY = new AssociationKey(
+			new DefaultAssociationKeyMetadata.Builder()
+					.table( "Player_tags" )
+					.columnNames( new String[] { "Player_id" } )
+					.rowKeyColumnNames( new String[] { "Player_id", "tags" } )
+					.associationKind( AssociationKind.EMBEDDED_COLLECTION )
+					.build(),
+			new Object[] { 1 },
+			null );
+
+	private static final AssociationKey LIST_ASSOCIATION_KEY = new AssociationKey(
+			new DefaultAssociationKeyMetadata.Builder()
+					.table( "Player_positions" )
+					.columnNames( new String[] { "Player_id" } )
+					.rowKeyColumnNames( new String[] { "Player_id", "positions_ORDER" } )
+					.rowKeyIndexColumnNames( new String[] { "positions_ORDER" } )
+					.associationKind( AssociationKind.EMBEDDED_COLLECTION )
+					.build(),
+			new Object[] { 1 },
+			null );
+
+	private RemoteCache<ProtostreamId, ProtostreamPayload> cache;
+
+	private ProtoStreamMappingAdapter mapper;
+
+	private RemoteCache<ProtostreamId, ProtostreamAssociationPayload> associationCache;
+
+	private AssociationOwnerEntryMapper associationMapper;
+
+	private final HotRodWriteBatch batch = new HotRodWriteBatch();
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+		cache = mock( RemoteCache.class );
+		when( cache.putAllAsync( any( Map.class ) ) ).thenReturn( CompletableFuture.completedFuture( null ) );
+		when( cache.putIfAbsentAsync( any(), any() ) ).thenReturn( CompletableFuture.completedFuture( null ) );
+		when( cache.removeAsync( any() ) ).thenReturn( CompletableFuture.completedFuture( null ) );
+
+		mapper = mock( ProtoStreamMappingAdapter.class );
+		when( mapper.withinCacheEncodingContext( any() ) ).thenAnswer( invocation -> ( (CacheOperation<?>) invocation.getArguments()[0] ).doOnCache( cache ) );
+
+		associationCache = mock( RemoteCache.class );
+		when( associationCache.getName() ).thenReturn( ASSOCIATION_CACHE );
+		MainOgmCoDec associationCodec = mock( MainOgmCoDec.class );
+		when( associationCodec.getLinkedCache() ).thenReturn( associationCache );
+		associationMapper = new AssociationOwnerEntryMapper( associationCodec, "Player_tags_by_Player_id" );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldSendTheWritesOfACacheWithASinglePutAll() {
+		for ( int i = 0; i < 300; i++ ) {
+			batch.put( CACHE, mapper, id( i ), payload() );
+		}
+		batch.remove( CACHE, mapper, id( 300 ) );
+		batch.flush();
+
+		ArgumentCaptor<Map> puts = ArgumentCaptor.forClass( Map.class );
+		verify( cache, times( 1 ) ).putAllAsync( puts.capture() );
+		assertThat( puts.getValue() ).hasSize( 300 );
+		verify( cache ).removeAsync( id( 300 ) );
+		verify( cache, never() ).put( any(), any() );
+		assertThat( batch.isEmpty() ).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldOnlySendTheLastWriteOfAKey() {
+		batch.put( CACHE, mapper, id( 1 ), payload() );
+		batch.remove( CACHE, mapper, id( 1 ) );
+		batch.remove( CACHE, mapper, id( 2 ) );
+		batch.put( CACHE, mapper, id( 2 ), payload() );
+		batch.flush();
+
+		ArgumentCaptor<Map> puts = ArgumentCaptor.forClass( Map.class );
+		verify( cache ).putAllAsync( puts.capture() );
+		assertThat( puts.getValue().keySet() ).containsOnly( id( 2 ) );
+		verify( cache ).removeAsync( id( 1 ) );
+		verify( cache, never() ).removeAsync( id( 2 ) );
+	}
+
+	@Test
+	public void shouldKeepTheInsertConditionalWhenTheEntityIsUpdated() {
+		ProtostreamPayload update = payload();
+		batch.putIfAbsent( CACHE, mapper, entityKey( 1 ), id( 1 ), payload() );
+		batch.put( CACHE, mapper, id( 1 ), update );
+		batch.flush();
+
+		verify( cache ).putIfAbsentAsync( id( 1 ), update );
+		verify( cache, never() ).putAllAsync( any() );
+	}
+
+	@Test
+	public void shouldReplaceAnEntityRemovedInTheSameBatch() {
+		batch.remove( CACHE, mapper, id( 1 ) );
+		batch.putIfAbsent( CACHE, mapper, entityKey( 1 ), id( 1 ), payload() );
+		batch.flush();
+
+		verify( cache, never() ).putIfAbsentAsync( any(), any() );
+		verify( cache, never() ).removeAsync( any() );
+		verify( cache ).putAllAsync( any() );
+	}
+
+	@Test
+	public void shouldReportTheDuplicatedEntity() {
+		when( cache.putIfAbsentAsync( eq( id( 2 ) ), any() ) ).thenReturn( CompletableFuture.completedFuture( payload() ) );
+		batch.putIfAbsent( CACHE, mapper, entityKey( 1 ), id( 1 ), payload() );
+		batch.putIfAbsent( CACHE, mapper, entityKey( 2 ), id( 2 ), payload() );
+		batch.put( CACHE, mapper, id( 3 ), payload() );
+		batch.remove( CACHE, mapper, id( 4 ) );
+		batch.putAssociation( associationMapper, ASSOCIATION_KEY, id( 1 ), associationPayload( "captain" ), null );
+
+		try {
+			batch.flush();
+			fail( "Expected TupleAlreadyExistsException" );
+		}
+		catch (TupleAlreadyExistsException e) {
+			assertThat( e.getEntityKey() ).isEqualTo( entityKey( 2 ) );
+		}
+		verify( cache ).putIfAbsentAsync( eq( id( 1 ) ), any() );
+		// The rest of the batch is not sent
+		verify( cache, never() ).putAllAsync( any() );
+		verify( cache, never() ).removeAsync( any() );
+		verify( associationCache, never() ).putAsync( any(), any() );
+		assertThat( batch.isEmpty() ).isTrue();
+	}
+
+	@Test
+	public void shouldSendTheInsertsBeforeTheOtherWrites() {
+		batch.put( CACHE, mapper, id( 1 ), payload() );
+		batch.remove( CACHE, mapper, id( 2 ) );
+		batch.putIfAbsent( CACHE, mapper, entityKey( 3 ), id( 3 ), payload() );
+		batch.flush();
+
+		InOrder writes = inOrder( cache );
+		writes.verify( cache ).putIfAbsentAsync( eq( id( 3 ) ), any() );
+		writes.verify( cache ).putAllAsync( any() );
+		writes.verify( cache ).removeAsync( id( 2 ) );
+	}
+
+	@Test
+	public void shouldReplaceTheAssociationEntryOfTheReadVersion() {
+		ProtostreamAssociationPayload rows = associationPayload( "captain" );
+		VersionedAssociation association = association( 5 );
+		when( associationCache.replaceWithVersionAsync( id( 1 ), rows, 5 ) ).thenReturn( CompletableFuture.completedFuture( true ) );
+		MetadataValue<ProtostreamAssociationPayload> stored = stored( 8, rows );
+		when( associationCache.getWithMetadataAsync( id( 1 ) ) ).thenReturn( CompletableFuture.completedFuture( stored ) );
+
+		batch.putAssociation( associationMapper, ASSOCIATION_KEY, id( 1 ), rows, association );
+		batch.flush();
+
+		verify( associationCache, never() ).putAllAsync( any() );
+		// The next write of the association expects the version just written
+		assertThat( association.getVersion() ).isEqualTo( 8 );
+	}
+
+	@Test
+	public void shouldDropTheVersionIfTheAssociationEntryChangedRightAfterTheWrite() {
+		ProtostreamAssociationPayload rows = associationPayload( "captain" );
+		VersionedAssociation association = association( 5 );
+		when( associationCache.replaceWithVersionAsync( id( 1 ), rows, 5 ) ).thenReturn( CompletableFuture.completedFuture( true ) );
+		MetadataValue<ProtostreamAssociationPayload> stored = stored( 9, associationPayload( "goalkeeper" ) );
+		when( associationCache.getWithMetadataAsync( id( 1 ) ) ).thenReturn( CompletableFuture.completedFuture( stored ) );
+
+		batch.putAssociation( associationMapper, ASSOCIATION_KEY, id( 1 ), rows, association );
+		batch.flush();
+
+		assertThat( association.getVersion() ).isEqualTo( VersionedAssociation.CHANGED );
+	}
+
+	@Test
+	public void shouldCompareTheElementsOfIndexedAssociationsBeforeAdoptingTheVersion() {
+		ProtostreamAssociationPayload rows = listPayload( "captain", "goalkeeper" );
+		VersionedAssociation association = association( 5 );
+		when( associationCache.replaceWithVersionAsync( id( 1 ), rows, 5 ) ).thenReturn( CompletableFuture.completedFuture( true ) );
+		// Another transaction has written other elements at the same indexes
+		MetadataValue<ProtostreamAssociationPayload> stored = stored( 9, listPayload( "captain", "defender" ) );
+		when( associationCache.getWithMetadataAsync( id( 1 ) ) ).thenReturn( CompletableFuture.completedFuture( stored ) );
+
+		batch.putAssociation( associationMapper, LIST_ASSOCIATION_KEY, id( 1 ), rows, association );
+		batch.flush();
+
+		assertThat( association.getVersion() ).isEqualTo( VersionedAssociation.CHANGED );
+
+		MetadataValue<ProtostreamAssociationPayload> written = stored( 9, listPayload( "captain", "goalkeeper" ) );
+		when( associationCache.getWithMetadataAsync( id( 1 ) ) ).thenReturn( CompletableFuture.completedFuture( written ) );
+		association.setVersion( 5 );
+		batch.putAssociation( associationMapper, LIST_ASSOCIATION_KEY, id( 1 ), rows, association );
+		batch.flush();
+
+		assertThat( association.getVersion() ).isEqualTo( 9 );
+	}
+
+	@Test
+	public void shouldReportAChangeOfTheAssociationEntry() {
+		when( associationCache.replaceWithVersionAsync( any(), any(), eq( 5L ) ) ).thenReturn( CompletableFuture.completedFuture( false ) );
+		batch.putAssociation( associationMapper, ASSOCIATION_KEY, id( 1 ), associationPayload( "captain" ), association( 5 ) );
+
+		try {
+			batch.flush();
+			fail( "Expected StaleStateException" );
+		}
+		catch (StaleStateException e) {
+			assertThat( e.getMessage() ).startsWith( "OGM001728" );
+		}
+	}
+
+	@Test
+	public void shouldReportAnAssociationEntryCreatedConcurrently() {
+		when( associationCache.putIfAbsentAsync( any(), any() ) ).thenReturn( CompletableFuture.completedFuture( associationPayload( "goalkeeper" ) ) );
+		batch.putAssociation( associationMapper, ASSOCIATION_KEY, id( 1 ), associationPayload( "captain" ), association( VersionedAssociation.NOT_STORED ) );
+
+		try {
+			batch.flush();
+			fail( "Expected StaleStateException" );
+		}
+		catch (StaleStateException e) {
+			assertThat( e.getMessage() ).startsWith( "OGM001728" );
+		}
+	}
+
+	@Test
+	public void shouldRemoveTheAssociationEntryOfTheReadVersion() {
+		VersionedAssociation association = association( 5 );
+		when( associationCache.removeWithVersionAsync( id( 1 ), 5 ) ).thenReturn( CompletableFuture.completedFuture( true ) );
+
+		batch.putAssociation( associationMapper, ASSOCIATION_KEY, id( 1 ), associationPayload( "captain" ), association );
+		batch.removeAssociation( associationMapper, ASSOCIATION_KEY, id( 1 ), association );
+		batch.flush();
+
+		verify( associationCache, never() ).replaceWithVersionAsync( any(), any(), eq( 5L ) );
+		assertThat( association.getVersion() ).isEqualTo( VersionedAssociation.NOT_STORED );
+	}
+
+	private static ProtostreamId id(int value) {
+		return new ProtostreamId( new String[] { "id" }, new Object[] { value }, "PlayerId" );
+	}
+
+	private static EntityKey entityKey(int value) {
+		return new EntityKey( new DefaultEntityKeyMetadata( CACHE, new String[] { "id" } ), new Object[] { value } );
+	}
+
+	private static VersionedAssociation association(long version) {
+		VersionedAssociation association = new VersionedAssociation( new MapAssociationSnapshot( new HashMap<>() ) );
+		association.setVersion( version );
+		return association;
+	}
+
+	private static ProtostreamAssociationPayload associationPayload(String tag) {
+		Map<String, Object> row = new HashMap<>();
+		row.put( "Player_id", 1 );
+		row.put( "tags", tag );
+		ProtostreamPayload rowPayload = new ProtostreamPayload( new Tuple( new MapTupleSnapshot( row ), Tuple.SnapshotType.UPDATE ), "Player_tags" );
+		return new ProtostreamAssociationPayload( Collections.singletonList( rowPayload ), "Player_tags_by_Player_id" );
+	}
+
+	private static ProtostreamAssociationPayload listPayload(String... positions) {
+		List<ProtostreamPayload> rows = new ArrayList<>( positions.length );
+		for ( int i = 0; i < positions.length; i++ ) {
+			Map<String, Object> row = new HashMap<>();
+			row.put( "Player_id", 1 );
+			row.put( "positions_ORDER", i );
+			row.put( "positions", positions[i] );
+			rows.add( new ProtostreamPayload( new MapTupleSnapshot( row ), "Player_positions" ) );
+		}
+		return new ProtostreamAssociationPayload( rows, "Player_positions_by_Player_id" );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static MetadataValue<ProtostreamAssociationPayload> stored(long version, ProtostreamAssociationPayload value) {
+		MetadataValue<ProtostreamAssociationPayload> stored = mock( MetadataValue.class );
+		when( stored.getVersion() ).thenReturn( version );
+		when( stored.getValue() ).thenReturn( value );
+		return stored;
+	}
+
+	private static ProtostreamPayload payload() {
+		return new ProtostreamPayload( new Tuple( new MapTupleSnapshot( new HashMap<>() ), Tuple.SnapshotType.UPDATE ), "Player" );
+	}
+}
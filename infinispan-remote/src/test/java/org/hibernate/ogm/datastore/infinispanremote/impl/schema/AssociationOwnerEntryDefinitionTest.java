@@ -0,0 +1,159 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.impl.schema;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.mapping.Column;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protobuf.schema.SchemaDefinitions;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.AssociationOwnerEntryMapper;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.OgmProtoStreamMarshaller;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtoDataMapper;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamAssociationPayload;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamId;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamPayload;
+import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKind;
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.type.impl.IntegerType;
+import org.hibernate.ogm.type.impl.StringType;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks the encoding of the entries holding all the rows of an association.
+ */
+public class AssociationOwnerEntryDefinitionTest {
+
+	private static final String PACKAGE = "OwnerEntryTest";
+
+	private static final AssociationKeyMetadata METADATA = new DefaultAssociationKeyMetadata.Builder()
+			.table( "Player_tags" )
+			.columnNames( new String[] { "Player_id" } )
+			.rowKeyColumnNames( new String[] { "Player_id", "tags" } )
+			.associationKind( AssociationKind.EMBEDDED_COLLECTION )
+			.build();
+
+	private final OgmProtoStreamMarshaller marshaller = new OgmProtoStreamMarshaller();
+
+	private ProtoDataMapper rowMapper;
+
+	private AssociationOwnerEntryMapper ownerEntryMapper;
+
+	private SchemaDefinitions sd;
+
+	@Before
+	public void setUp() throws Exception {
+		sd = new SchemaDefinitions( PACKAGE );
+
+		TableDefinition table = new TableDefinition( METADATA.getTable(), PACKAGE, null );
+		table.markAsPrimaryKey( "Player_id" );
+		table.markAsPrimaryKey( "tags" );
+		table.addColumnnDefinition( new Column( "Player_id" ), IntegerType.INSTANCE, org.hibernate.type.IntegerType.INSTANCE );
+		table.addColumnnDefinition( new Column( "tags" ), StringType.INSTANCE, org.hibernate.type.StringType.INSTANCE );
+		sd.registerTableDefinition( table );
+
+		AssociationOwnerEntryDefinition ownerEntry = new AssociationOwnerEntryDefinition( METADATA, PACKAGE, null );
+		ownerEntry.addOwnerColumnDefinition( "Player_id", IntegerType.INSTANCE, org.hibernate.type.IntegerType.INSTANCE );
+		sd.registerAssociationOwnerEntryDefinition( ownerEntry );
+
+		marshaller.getSerializationContext().registerProtoFiles( sd.asFileDescriptorSource() );
+		rowMapper = table.createProtoDataMapper( mock( RemoteCache.class ), sd, marshaller );
+		ownerEntryMapper = ownerEntry.createMapper( mock( RemoteCache.class ), sd, marshaller );
+	}
+
+	@Test
+	public void shouldDefineADedicatedCache() {
+		assertThat( AssociationOwnerEntryDefinition.cacheName( METADATA ) ).isEqualTo( "Player_tags_by_Player_id" );
+		assertThat( sd.getCacheConfigurationByName().keySet() ).containsOnly( "Player_tags", "Player_tags_by_Player_id" );
+		assertThat( marshaller.getSerializationContext().canMarshall( PACKAGE + ".Player_tags_by_Player_id" ) ).isTrue();
+		assertThat( marshaller.getSerializationContext().canMarshall( PACKAGE + ".Player_tags_by_Player_id_id" ) ).isTrue();
+	}
+
+	@Test
+	public void shouldReadTheRowsWrittenInTheOwnerEntry() throws Exception {
+		List<ProtostreamPayload> rows = new ArrayList<>();
+		rows.add( rowMapper.createValuePayload( row( 1, "captain" ) ) );
+		rows.add( rowMapper.createValuePayload( row( 1, "striker" ) ) );
+		ProtostreamId id = ownerEntryMapper.createIdPayload( METADATA.getColumnNames(), new Object[] { 1 } );
+
+		ProtostreamId readId = (ProtostreamId) marshaller.objectFromByteBuffer( marshaller.objectToByteBuffer( id ) );
+		ProtostreamAssociationPayload read = (ProtostreamAssociationPayload) marshaller.objectFromByteBuffer(
+				marshaller.objectToByteBuffer( ownerEntryMapper.createAssociationPayload( rows ) ) );
+
+		assertThat( readId ).isEqualTo( id );
+		AssociationKey key = new AssociationKey( METADATA, new Object[] { 1 }, null );
+		Map<RowKey, Map<String, Object>> readRows = read.toRowsMap( key );
+		assertThat( readRows ).hasSize( 2 );
+		assertThat( readRows.get( new RowKey( new String[] { "Player_id", "tags" }, new Object[] { 1, "striker" } ) ) )
+				.isEqualTo( map( 1, "striker" ) );
+	}
+
+	@Test
+	public void shouldRejectACacheNameUsedByATable() {
+		AssociationKeyMetadata metadata = new DefaultAssociationKeyMetadata.Builder()
+				.table( "Player" )
+				.columnNames( new String[] { "tags" } )
+				.rowKeyColumnNames( new String[] { "tags", "id" } )
+				.associationKind( AssociationKind.EMBEDDED_COLLECTION )
+				.build();
+		sd.registerTableDefinition( new TableDefinition( "Player_by_tags", PACKAGE, null ) );
+
+		try {
+			sd.registerAssociationOwnerEntryDefinition( new AssociationOwnerEntryDefinition( metadata, PACKAGE, null ) );
+			fail( "The cache of the table has the same name" );
+		}
+		catch (HibernateException e) {
+			assertThat( e.getMessage() ).startsWith( "OGM001729" );
+		}
+	}
+
+	@Test
+	public void shouldRejectACacheNameUsedByAnotherAssociation() {
+		// Same cache name as Player_tags by Player_id
+		AssociationKeyMetadata metadata = new DefaultAssociationKeyMetadata.Builder()
+				.table( "Player_tags" )
+				.columnNames( new String[] { "Player", "id" } )
+				.rowKeyColumnNames( new String[] { "Player", "id", "tags" } )
+				.associationKind( AssociationKind.EMBEDDED_COLLECTION )
+				.build();
+		AssociationOwnerEntryDefinition definition = new AssociationOwnerEntryDefinition( metadata, PACKAGE, null );
+		assertThat( sd.getAssociationOwnerEntryDefinition( definition.getCacheName() ).isDefinitionOf( metadata ) ).isFalse();
+
+		try {
+			sd.registerAssociationOwnerEntryDefinition( definition );
+			fail( "The cache of the other association has the same name" );
+		}
+		catch (HibernateException e) {
+			assertThat( e.getMessage() ).startsWith( "OGM001729" );
+		}
+	}
+
+	private static Tuple row(int owner, String tag) {
+		return new Tuple( new MapTupleSnapshot( map( owner, tag ) ), Tuple.SnapshotType.UPDATE );
+	}
+
+	private static Map<String, Object> map(int owner, String tag) {
+		Map<String, Object> row = new HashMap<>();
+		row.put( "Player_id", owner );
+		row.put( "tags", tag );
+		return row;
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.impl.sequences;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.model.impl.DefaultIdSourceKeyMetadata;
+import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.VersionedValue;
+import org.infinispan.client.hotrod.impl.VersionedValueImpl;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Checks the values assigned by {@link HotRodSequencer} when reserving blocks of values, using an in-memory
+ * replacement of the remote cache.
+ */
+public class HotRodSequencerTest {
+
+	private static final NextValueRequest REQUEST = new NextValueRequest(
+			IdSourceKey.forTable( DefaultIdSourceKeyMetadata.forTable( "sequences", "sequence_name", "next_val" ), "Player" ), 1, 1 );
+
+	private final ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor();
+
+	private final RemoteSequence sequence = new RemoteSequence();
+
+	private final HotRodSequenceStatistics statistics = new HotRodSequenceStatistics();
+
+	@After
+	public void shutdownExecutor() {
+		prefetchExecutor.shutdownNow();
+	}
+
+	@Test
+	public void shouldReserveEachValueWithoutBlocks() {
+		HotRodSequencer sequencer = sequencer( 1 );
+
+		assertThat( values( sequencer, 3 ) ).containsExactly( 1L, 2L, 3L );
+		assertThat( sequence.value ).isEqualTo( 3L );
+		assertThat( statistics.getRangeRefills() ).isEqualTo( 3 );
+		assertThat( statistics.getPrefetches() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void shouldAssignTheValuesOfTheReservedBlocks() {
+		HotRodSequencer sequencer = sequencer( 10 );
+
+		assertThat( values( sequencer, 24 ) ).isEqualTo( range( 1, 24 ) );
+		// The block [21, 30] is in use, the next one will be prefetched once half of it has been used
+		assertThat( statistics.getRangeRefills() ).isEqualTo( 3 );
+		assertThat( sequence.value ).isEqualTo( 30L );
+	}
+
+	@Test
+	public void shouldSkipTheValuesReservedByOtherClients() {
+		// Prefetch in the calling thread, to know when it happens
+		HotRodSequencer sequencer = sequencer( 5, Runnable::run );
+		assertThat( values( sequencer, 3 ) ).containsExactly( 1L, 2L, 3L );
+
+		// Another client reserves [11, 15] before the next prefetch, making its CAS fail once
+		sequence.concurrentUpdate = 15L;
+
+		assertThat( values( sequencer, 8 ) ).containsExactly( 4L, 5L, 6L, 7L, 8L, 9L, 10L, 16L );
+		assertThat( statistics.getCasRetries() ).isEqualTo( 1 );
+		assertThat( statistics.getPrefetches() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void shouldNotAssignTheSameValueTwiceAcrossClients() throws Exception {
+		List<HotRodSequencer> sequencers = new ArrayList<>();
+		for ( int i = 0; i < 4; i++ ) {
+			sequencers.add( sequencer( 7 ) );
+		}
+
+		ExecutorService clients = Executors.newFixedThreadPool( 8 );
+		try {
+			List<Future<List<Long>>> results = new ArrayList<>();
+			for ( int i = 0; i < 8; i++ ) {
+				HotRodSequencer sequencer = sequencers.get( i % sequencers.size() );
+				results.add( clients.submit( () -> values( sequencer, 500 ) ) );
+			}
+
+			Set<Long> assigned = new HashSet<>();
+			for ( Future<List<Long>> result : results ) {
+				for ( Long value : result.get() ) {
+					assertThat( assigned.add( value ) ).as( "Duplicate value " + value ).isTrue();
+				}
+			}
+			assertThat( assigned ).hasSize( 4000 );
+		}
+		finally {
+			clients.shutdownNow();
+		}
+	}
+
+	private HotRodSequencer sequencer(int blockSize) {
+		return sequencer( blockSize, prefetchExecutor );
+	}
+
+	private HotRodSequencer sequencer(int blockSize, Executor executor) {
+		return new HotRodSequencer( sequence.cache, REQUEST, blockSize, executor, statistics );
+	}
+
+	private static List<Long> values(HotRodSequencer sequencer, int count) {
+		List<Long> values = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			values.add( sequencer.getSequenceValue( REQUEST ).longValue() );
+		}
+		return values;
+	}
+
+	private static List<Long> range(long first, long last) {
+		List<Long> values = new ArrayList<>();
+		for ( long value = first; value <= last; value++ ) {
+			values.add( value );
+		}
+		return values;
+	}
+
+	/**
+	 * A versioned entry, shared by the sequencers of the test like a remote cache entry.
+	 */
+	@SuppressWarnings("unchecked")
+	private static class RemoteSequence {
+
+		private final RemoteCache<SequenceId, Long> cache = mock( RemoteCache.class );
+
+		private Long value;
+		private long version;
+		private Long concurrentUpdate;
+
+		RemoteSequence() {
+			when( cache.putIfAbsent( any( SequenceId.class ), any( Long.class ) ) )
+					.thenAnswer( invocation -> putIfAbsent( (Long) invocation.getArguments()[1] ) );
+			when( cache.getVersioned( any( SequenceId.class ) ) )
+					.thenAnswer( invocation -> getVersioned() );
+			when( cache.replaceWithVersion( any( SequenceId.class ), any( Long.class ), anyLong() ) )
+					.thenAnswer( invocation -> replaceWithVersion( (Long) invocation.getArguments()[1], (Long) invocation.getArguments()[2] ) );
+		}
+
+		synchronized Long putIfAbsent(Long newValue) {
+			Long previous = value;
+			if ( previous == null ) {
+				value = newValue;
+				version++;
+			}
+			return previous;
+		}
+
+		synchronized VersionedValue<Long> getVersioned() {
+			return value == null ? null : new VersionedValueImpl<>( version, value );
+		}
+
+		synchronized boolean replaceWithVersion(Long newValue, long expectedVersion) {
+			if ( concurrentUpdate != null ) {
+				value = concurrentUpdate;
+				version++;
+				concurrentUpdate = null;
+			}
+			if ( version != expectedVersion ) {
+				return false;
+			}
+			value = newValue;
+			version++;
+			return true;
+		}
+	}
+}
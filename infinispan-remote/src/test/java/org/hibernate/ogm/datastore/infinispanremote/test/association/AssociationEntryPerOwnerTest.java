@@ -0,0 +1,220 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.association;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Fail.fail;
+import static org.hibernate.ogm.datastore.infinispanremote.utils.InfinispanRemoteTestHelper.getProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.PersistenceException;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.datastore.infinispanremote.utils.InfinispanRemoteServerRunner;
+import org.hibernate.ogm.utils.OgmTestCase;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests the associations stored with {@code AssociationStorageType.ENTRY_PER_OWNER}.
+ */
+@RunWith(InfinispanRemoteServerRunner.class)
+public class AssociationEntryPerOwnerTest extends OgmTestCase {
+
+	private static final String TAGS_CACHE = "Playlist_tags_by_Playlist_id";
+
+	private static final String[] PLAYLIST_IDS = { "playlist-1", "playlist-2", "playlist-3" };
+
+	@After
+	public void deleteEntities() {
+		deleteAll( Musician.class, "davide", "emmanuel" );
+		deleteAll( Band.class, "rockers", "jazzers" );
+		deleteAll( Playlist.class, PLAYLIST_IDS );
+	}
+
+	@Test
+	public void shouldCreateUpdateAndRemoveTheRowsOfAnAssociation() {
+		inTransaction( session -> session.persist( new Playlist( "playlist-1", "rock", "jazz" ) ) );
+		assertThat( entriesOf( TAGS_CACHE ) ).isEqualTo( 1 );
+
+		inTransaction( session -> {
+			Playlist playlist = session.get( Playlist.class, "playlist-1" );
+			assertThat( playlist.getTags() ).containsOnly( "rock", "jazz" );
+
+			playlist.getTags().remove( "rock" );
+			playlist.getTags().add( "blues" );
+		} );
+
+		inTransaction( session -> {
+			Playlist playlist = session.get( Playlist.class, "playlist-1" );
+			assertThat( playlist.getTags() ).containsOnly( "jazz", "blues" );
+
+			playlist.getTags().clear();
+		} );
+		assertThat( entriesOf( TAGS_CACHE ) ).isEqualTo( 0 );
+
+		inTransaction( session -> {
+			Playlist playlist = session.get( Playlist.class, "playlist-1" );
+			assertThat( playlist.getTags() ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void shouldUpdateAnAssociationSeveralTimesInTheSameTransaction() {
+		inTransaction( session -> session.persist( new Playlist( "playlist-1", "rock" ) ) );
+
+		inTransaction( session -> {
+			Playlist playlist = session.get( Playlist.class, "playlist-1" );
+			playlist.getTags().add( "jazz" );
+			session.flush();
+
+			playlist.getTags().add( "blues" );
+		} );
+
+		inTransaction( session -> {
+			Playlist playlist = session.get( Playlist.class, "playlist-1" );
+			assertThat( playlist.getTags() ).containsOnly( "rock", "jazz", "blues" );
+		} );
+	}
+
+	@Test
+	public void shouldLoadTheAssociationsOfSeveralOwnersByBatch() {
+		inTransaction( session -> {
+			session.persist( new Playlist( PLAYLIST_IDS[0], "rock" ) );
+			session.persist( new Playlist( PLAYLIST_IDS[1], "jazz", "blues" ) );
+			session.persist( new Playlist( PLAYLIST_IDS[2] ) );
+		} );
+
+		inTransaction( session -> {
+			List<Playlist> playlists = new ArrayList<>();
+			for ( String id : PLAYLIST_IDS ) {
+				playlists.add( session.get( Playlist.class, id ) );
+			}
+
+			Hibernate.initialize( playlists.get( 0 ).getTags() );
+			for ( Playlist playlist : playlists ) {
+				assertThat( Hibernate.isInitialized( playlist.getTags() ) ).as( playlist.getId() ).isTrue();
+			}
+
+			assertThat( playlists.get( 0 ).getTags() ).containsOnly( "rock" );
+			assertThat( playlists.get( 1 ).getTags() ).containsOnly( "jazz", "blues" );
+			assertThat( playlists.get( 2 ).getTags() ).isEmpty();
+
+			playlists.get( 2 ).getTags().add( "pop" );
+		} );
+
+		inTransaction( session -> {
+			Playlist playlist = session.get( Playlist.class, PLAYLIST_IDS[2] );
+			assertThat( playlist.getTags() ).containsOnly( "pop" );
+		} );
+	}
+
+	@Test
+	public void shouldNavigateBothSidesOfAManyToMany() {
+		inTransaction( session -> {
+			Musician davide = new Musician( "davide" );
+			Musician emmanuel = new Musician( "emmanuel" );
+			Band rockers = new Band( "rockers" );
+			Band jazzers = new Band( "jazzers" );
+
+			davide.getBands().add( rockers );
+			davide.getBands().add( jazzers );
+			emmanuel.getBands().add( rockers );
+			rockers.getMembers().add( davide );
+			rockers.getMembers().add( emmanuel );
+			jazzers.getMembers().add( davide );
+
+			session.persist( rockers );
+			session.persist( jazzers );
+			session.persist( davide );
+			session.persist( emmanuel );
+		} );
+
+		inTransaction( session -> {
+			Musician davide = session.get( Musician.class, "davide" );
+			assertThat( idsOfBands( davide ) ).containsOnly( "rockers", "jazzers" );
+
+			Band rockers = session.get( Band.class, "rockers" );
+			assertThat( idsOfMembers( rockers ) ).containsOnly( "davide", "emmanuel" );
+
+			Band jazzers = session.get( Band.class, "jazzers" );
+			davide.getBands().remove( jazzers );
+			jazzers.getMembers().remove( davide );
+		} );
+
+		inTransaction( session -> {
+			Musician davide = session.get( Musician.class, "davide" );
+			assertThat( idsOfBands( davide ) ).containsOnly( "rockers" );
+
+			Band jazzers = session.get( Band.class, "jazzers" );
+			assertThat( jazzers.getMembers() ).isEmpty();
+
+			Band rockers = session.get( Band.class, "rockers" );
+			assertThat( idsOfMembers( rockers ) ).containsOnly( "davide", "emmanuel" );
+		} );
+	}
+
+	@Test
+	public void shouldFailWhenTheAssociationChangedSinceItWasRead() {
+		inTransaction( session -> session.persist( new Playlist( "playlist-1", "rock", "jazz" ) ) );
+
+		try ( OgmSession session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			Playlist playlist = session.get( Playlist.class, "playlist-1" );
+			Hibernate.initialize( playlist.getTags() );
+
+			inTransaction( concurrent -> concurrent.get( Playlist.class, "playlist-1" ).getTags().add( "punk" ) );
+
+			playlist.getTags().add( "pop" );
+			try {
+				transaction.commit();
+				fail( "The concurrent change of the association should have been detected" );
+			}
+			catch (PersistenceException e) {
+				// expected
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+			}
+		}
+
+		inTransaction( session -> {
+			Playlist playlist = session.get( Playlist.class, "playlist-1" );
+			assertThat( playlist.getTags() ).containsOnly( "rock", "jazz", "punk" );
+		} );
+	}
+
+	private int entriesOf(String cacheName) {
+		return getProvider( sessionFactory ).getCache( cacheName ).size();
+	}
+
+	private static List<String> idsOfBands(Musician musician) {
+		List<String> ids = new ArrayList<>();
+		for ( Band band : musician.getBands() ) {
+			ids.add( band.getId() );
+		}
+		return ids;
+	}
+
+	private static List<String> idsOfMembers(Band band) {
+		List<String> ids = new ArrayList<>();
+		for ( Musician musician : band.getMembers() ) {
+			ids.add( musician.getId() );
+		}
+		return ids;
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Playlist.class, Musician.class, Band.class };
+	}
+}
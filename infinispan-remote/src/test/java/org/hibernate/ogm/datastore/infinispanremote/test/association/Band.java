@@ -0,0 +1,53 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.association;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToMany;
+
+import org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorage;
+import org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorageType;
+
+/**
+ * Inverse side of a bidirectional many-to-many stored in one entry per owner.
+ */
+@Entity
+@AssociationStorage(AssociationStorageType.ENTRY_PER_OWNER)
+public class Band {
+
+	@Id
+	private String id;
+
+	@ManyToMany(mappedBy = "bands")
+	private Set<Musician> members = new HashSet<>();
+
+	public Band() {
+	}
+
+	public Band(String id) {
+		this.id = id;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public Set<Musician> getMembers() {
+		return members;
+	}
+
+	public void setMembers(Set<Musician> members) {
+		this.members = members;
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.association;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToMany;
+
+import org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorage;
+import org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorageType;
+
+/**
+ * Owning side of a bidirectional many-to-many stored in one entry per owner.
+ */
+@Entity
+@AssociationStorage(AssociationStorageType.ENTRY_PER_OWNER)
+public class Musician {
+
+	@Id
+	private String id;
+
+	@ManyToMany
+	private Set<Band> bands = new HashSet<>();
+
+	public Musician() {
+	}
+
+	public Musician(String id) {
+		this.id = id;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public Set<Band> getBands() {
+		return bands;
+	}
+
+	public void setBands(Set<Band> bands) {
+		this.bands = bands;
+	}
+}
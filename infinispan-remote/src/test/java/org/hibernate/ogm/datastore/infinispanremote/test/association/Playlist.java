@@ -0,0 +1,57 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.association;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorage;
+import org.hibernate.ogm.datastore.infinispanremote.options.association.AssociationStorageType;
+
+/**
+ * Stores its tags in one entry per playlist.
+ */
+@Entity
+@AssociationStorage(AssociationStorageType.ENTRY_PER_OWNER)
+public class Playlist {
+
+	@Id
+	private String id;
+
+	@ElementCollection
+	@BatchSize(size = 10)
+	private Set<String> tags = new HashSet<>();
+
+	public Playlist() {
+	}
+
+	public Playlist(String id, String... tags) {
+		this.id = id;
+		this.tags.addAll( Arrays.asList( tags ) );
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public Set<String> getTags() {
+		return tags;
+	}
+
+	public void setTags(Set<String> tags) {
+		this.tags = tags;
+	}
+}
@@ -25,11 +25,14 @@
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.hibernate.AssertionFailure;
 import org.hibernate.ogm.datastore.document.association.impl.DocumentHelpers;
@@ -39,11 +42,13 @@
 import org.hibernate.ogm.datastore.document.options.AssociationStorageType;
 import org.hibernate.ogm.datastore.document.options.MapStorageType;
 import org.hibernate.ogm.datastore.document.options.spi.AssociationStorageOption;
+import org.hibernate.ogm.datastore.document.options.spi.MapStorageOption;
 import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
 import org.hibernate.ogm.datastore.mongodb.binarystorage.GridFSStorageManager;
 import org.hibernate.ogm.datastore.mongodb.configuration.impl.MongoDBConfiguration;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.AssociationStorageStrategy;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBAssociationSnapshot;
+import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBDocumentTemplates;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBTupleSnapshot;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoHelpers;
 import org.hibernate.ogm.datastore.mongodb.impl.MongoDBDatastoreProvider;
@@ -55,6 +60,7 @@
 import org.hibernate.ogm.datastore.mongodb.options.impl.ReadPreferenceOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.WriteConcernOption;
 import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryDescriptor;
+import org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBQueryParameter;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.nativequery.impl.MongoDBQueryDescriptorBuilder;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.nativequery.impl.NativeQueryParser;
 import org.hibernate.ogm.datastore.mongodb.type.GeoCollection;
@@ -79,6 +85,8 @@
 import org.hibernate.ogm.datastore.mongodb.type.impl.StringAsObjectIdGridType;
 import org.hibernate.ogm.datastore.mongodb.type.impl.StringAsObjectIdType;
 import org.hibernate.ogm.datastore.mongodb.utils.DocumentUtil;
+import org.hibernate.ogm.dialect.associationsize.spi.AssociationSizeAwareGridDialect;
+import org.hibernate.ogm.dialect.async.spi.AsyncGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
@@ -88,14 +96,17 @@
 import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
 import org.hibernate.ogm.dialect.identity.spi.IdentityColumnAwareGridDialect;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.optimisticlock.spi.OptimisticLockingAwareGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.NoOpParameterMetadataBuilder;
 import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
 import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
@@ -163,13 +174,17 @@
 import com.mongodb.client.model.CollationCaseFirst;
 import com.mongodb.client.model.CollationMaxVariable;
 import com.mongodb.client.model.CollationStrength;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.FindOneAndDeleteOptions;
 import com.mongodb.client.model.FindOneAndUpdateOptions;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.MapReduceAction;
 import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 
@@ -201,8 +216,8 @@
  * @author Guillaume Smet
  * @author Aleksandr Mylnikov
  */
-public class MongoDBDialect extends BaseGridDialect implements QueryableGridDialect<MongoDBQueryDescriptor>, BatchableGridDialect, IdentityColumnAwareGridDialect, MultigetGridDialect, OptimisticLockingAwareGridDialect,
-		StoredProcedureAwareGridDialect {
+public class MongoDBDialect extends BaseGridDialect implements QueryableGridDialect<MongoDBQueryDescriptor>, BatchableGridDialect, IdentityColumnAwareGridDialect, MultigetGridDialect, AsyncGridDialect, OptimisticLockingAwareGridDialect,
+		StoredProcedureAwareGridDialect, MultigetAssociationGridDialect, PartitionableGridDialect, AssociationSizeAwareGridDialect {
 
 	public static final String ID_FIELDNAME = "_id";
 	public static final String PROPERTY_SEPARATOR = ".";
@@ -217,7 +232,7 @@ public class MongoDBDialect extends BaseGridDialect implements QueryableGridDial
 	 */
 	private static final NativeQueryParser NATIVE_QUERY_PARSER = Parboiled.createParser( NativeQueryParser.class );
 
-	private static final List<String> ROWS_FIELDNAME_LIST = Collections.singletonList( ROWS_FIELDNAME );
+	private static final Bson ROWS_PROJECTION = MongoDBDocumentTemplates.fieldProjection( ROWS_FIELDNAME );
 
 	// match a number with optional '-' and decimal
 	private static final Pattern NUMBER_PATTERN = Pattern.compile( "\\d+(\\.\\d+)?" );
@@ -231,16 +246,19 @@ public class MongoDBDialect extends BaseGridDialect implements QueryableGridDial
 
 	private final MongoDBDatastoreProvider provider;
 	private final MongoDatabase currentDB;
+	private final MongoDBDocumentTemplates documentTemplates;
 
 	public MongoDBDialect(MongoDBDatastoreProvider provider) {
 		this.provider = provider;
 		this.currentDB = this.provider.getDatabase();
+		this.documentTemplates = new MongoDBDocumentTemplates();
 	}
 
 	@Override
 	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
 		Document found = this.getObject( key, operationContext );
-		return createTuple( key, operationContext, found );
+		Map<String, String[]> fieldPaths = documentTemplates.getFieldPaths( operationContext.getTupleTypeContext() );
+		return createTuple( key, found == null && isInTheInsertionQueue( key, operationContext ), found, fieldPaths );
 	}
 
 	@Override
@@ -251,12 +269,20 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 
 		Object[] searchObjects = new Object[keys.length];
 		for ( int i = 0; i < keys.length; i++ ) {
-			searchObjects[i] = prepareIdObjectValue( keys[i].getColumnNames(), keys[i].getColumnValues() );
+			searchObjects[i] = prepareIdObjectValue( keys[i] );
 		}
 
-		MongoCursor<Document> cursor = this.getObjects( keys[0].getMetadata(), searchObjects, tupleContext );
+		MongoCollection<Document> collection = getCollection( keys[0].getMetadata().getTable(), tupleContext.getTupleTypeContext().getOptionsContext() );
+		Bson projection = documentTemplates.getEntityProjection( tupleContext.getTupleTypeContext() );
+		Map<String, String[]> fieldPaths = documentTemplates.getFieldPaths( tupleContext.getTupleTypeContext() );
+		return getTuples( keys, searchObjects, collection, projection, fieldPaths );
+	}
+
+	private List<Tuple> getTuples(EntityKey[] keys, Object[] searchObjects, MongoCollection<Document> collection, Bson projection,
+			Map<String, String[]> fieldPaths) {
+		MongoCursor<Document> cursor = this.getObjects( searchObjects, collection, projection );
 		try {
-			return tuplesResult( keys, searchObjects, tupleContext, cursor );
+			return tuplesResult( keys, searchObjects, cursor, fieldPaths );
 		}
 		finally {
 			if ( cursor != null ) {
@@ -265,33 +291,66 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 		}
 	}
 
+	@Override
+	public CompletionStage<Tuple> getTupleAsync(EntityKey key, OperationContext operationContext) {
+		// The context is not thread-safe, it is only read before leaving the calling thread
+		boolean inInsertionQueue = isInTheInsertionQueue( key, operationContext );
+		MongoCollection<Document> collection = getCollection( key, operationContext.getTupleTypeContext().getOptionsContext() );
+		Bson projection = documentTemplates.getEntityProjection( operationContext.getTupleTypeContext() );
+		Map<String, String[]> fieldPaths = documentTemplates.getFieldPaths( operationContext.getTupleTypeContext() );
+		return CompletableFuture
+				.supplyAsync( () -> getObject( key, collection, projection ), provider.getAsyncExecutor() )
+				.thenApply( found -> createTuple( key, inInsertionQueue, found, fieldPaths ) );
+	}
+
+	@Override
+	public CompletionStage<List<Tuple>> getTuplesAsync(EntityKey[] keys, TupleContext tupleContext) {
+		if ( keys.length == 0 ) {
+			return CompletableFuture.completedFuture( Collections.<Tuple>emptyList() );
+		}
+
+		Object[] searchObjects = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			searchObjects[i] = prepareIdObjectValue( keys[i] );
+		}
+		// The context is not thread-safe, it is only read before leaving the calling thread
+		MongoCollection<Document> collection = getCollection( keys[0].getMetadata().getTable(), tupleContext.getTupleTypeContext().getOptionsContext() );
+		Bson projection = documentTemplates.getEntityProjection( tupleContext.getTupleTypeContext() );
+		Map<String, String[]> fieldPaths = documentTemplates.getFieldPaths( tupleContext.getTupleTypeContext() );
+		return CompletableFuture.supplyAsync( () -> getTuples( keys, searchObjects, collection, projection, fieldPaths ), provider.getAsyncExecutor() );
+	}
+
 	/*
 	 * This method assumes that the entries in the cursor might not be in the same order as the keys and some keys might
 	 * not have a matching result in the db.
 	 */
-	private static List<Tuple> tuplesResult(EntityKey[] keys, Object[] searchObjects, TupleContext tupleContext, MongoCursor<Document> cursor) {
+	private List<Tuple> tuplesResult(EntityKey[] keys, Object[] searchObjects, MongoCursor<Document> cursor, Map<String, String[]> fieldPaths) {
+		// Index the position of each key by id, so that matching the documents is linear in the number of keys
+		Map<Object, Integer> positions = new HashMap<>( searchObjects.length * 4 / 3 + 1 );
+		for ( int i = searchObjects.length - 1; i >= 0; i-- ) {
+			// We assume there are no duplicated keys; if there are, the first one wins
+			positions.put( searchObjects[i], i );
+		}
+
 		// The list is initialized with null because some keys might not have a corresponding value in the cursor
 		Tuple[] tuples = new Tuple[searchObjects.length];
 		while ( cursor.hasNext() ) {
 			Document document = cursor.next();
-			for ( int i = 0; i < searchObjects.length; i++ ) {
-				if ( document.get( ID_FIELDNAME ).equals( searchObjects[i] ) ) {
-					tuples[i] = createTuple( keys[i], tupleContext, document );
-					// We assume there are no duplicated keys
-					break;
-				}
+			Integer position = positions.get( document.get( ID_FIELDNAME ) );
+			if ( position != null ) {
+				tuples[position] = createTuple( keys[position], false, document, fieldPaths );
 			}
 		}
 		return Arrays.asList( tuples );
 	}
 
-	private static Tuple createTuple(EntityKey key, OperationContext operationContext, Document found) {
+	private Tuple createTuple(EntityKey key, boolean inInsertionQueue, Document found, Map<String, String[]> fieldPaths) {
 		if ( found != null ) {
-			return new Tuple( new MongoDBTupleSnapshot( found, key.getMetadata() ), SnapshotType.UPDATE );
+			return new Tuple( new MongoDBTupleSnapshot( found, key.getMetadata(), fieldPaths ), SnapshotType.UPDATE );
 		}
-		else if ( isInTheInsertionQueue( key, operationContext ) ) {
+		else if ( inInsertionQueue ) {
 			// The key has not been inserted in the db but it is in the queue
-			return new Tuple( new MongoDBTupleSnapshot( prepareIdObject( key ), key.getMetadata() ), SnapshotType.INSERT );
+			return new Tuple( new MongoDBTupleSnapshot( prepareIdObject( key ), key.getMetadata(), fieldPaths ), SnapshotType.INSERT );
 		}
 		else {
 			return null;
@@ -300,13 +359,19 @@ else if ( isInTheInsertionQueue( key, operationContext ) ) {
 
 	@Override
 	public Tuple createTuple(EntityKeyMetadata entityKeyMetadata, OperationContext operationContext) {
-		return new Tuple( new MongoDBTupleSnapshot( new Document(), entityKeyMetadata ), SnapshotType.INSERT );
+		Map<String, String[]> fieldPaths = documentTemplates.getFieldPaths( tupleTypeContext( operationContext ) );
+		return new Tuple( new MongoDBTupleSnapshot( new Document(), entityKeyMetadata, fieldPaths ), SnapshotType.INSERT );
 	}
 
 	@Override
 	public Tuple createTuple(EntityKey key, OperationContext OperationContext) {
 		Document toSave = prepareIdObject( key );
-		return new Tuple( new MongoDBTupleSnapshot( toSave, key.getMetadata() ), SnapshotType.INSERT );
+		Map<String, String[]> fieldPaths = documentTemplates.getFieldPaths( tupleTypeContext( OperationContext ) );
+		return new Tuple( new MongoDBTupleSnapshot( toSave, key.getMetadata(), fieldPaths ), SnapshotType.INSERT );
+	}
+
+	private static TupleTypeContext tupleTypeContext(OperationContext operationContext) {
+		return operationContext == null ? null : operationContext.getTupleTypeContext();
 	}
 
 	/**
@@ -322,7 +387,7 @@ private Document getEmbeddingEntity(AssociationKey key, AssociationContext assoc
 		else {
 			MongoCollection<Document> collection = getCollection( key.getEntityKey(), associationContext.getAssociationTypeContext().getOptionsContext() );
 			Document searchObject = prepareIdObject( key.getEntityKey() );
-			Document projection = getProjection( key, true );
+			Bson projection = documentTemplates.getEmbeddedAssociationProjection( key.getMetadata() );
 
 			return collection.find( searchObject ).projection( projection ).first();
 		}
@@ -330,8 +395,12 @@ private Document getEmbeddingEntity(AssociationKey key, AssociationContext assoc
 
 	private Document getObject(EntityKey key, OperationContext operationContext) {
 		MongoCollection<Document> collection = getCollection( key, operationContext.getTupleTypeContext().getOptionsContext() );
+		Bson projection = documentTemplates.getEntityProjection( operationContext.getTupleTypeContext() );
+		return getObject( key, collection, projection );
+	}
+
+	private Document getObject(EntityKey key, MongoCollection<Document> collection, Bson projection) {
 		Document searchObject = prepareIdObject( key );
-		Document projection = getProjection( operationContext );
 
 		FindIterable<Document> fi = collection.find( searchObject );
 		Document targetDocument = fi != null ? fi.projection( projection ).first() : null;
@@ -340,37 +409,12 @@ private Document getObject(EntityKey key, OperationContext operationContext) {
 		return targetDocument;
 	}
 
-	private MongoCursor<Document> getObjects(EntityKeyMetadata entityKeyMetadata, Object[] searchObjects, TupleContext
-			tupleContext) {
-
-		MongoCollection<Document> collection = getCollection( entityKeyMetadata.getTable(), tupleContext.getTupleTypeContext().getOptionsContext() );
-
-		Document projection = getProjection( tupleContext );
-
+	private MongoCursor<Document> getObjects(Object[] searchObjects, MongoCollection<Document> collection, Bson projection) {
 		Document query = new Document();
 		query.put( ID_FIELDNAME, new Document( "$in", Arrays.asList( searchObjects ) ) );
 		return collection.find( query ).projection( projection ).iterator();
 	}
 
-	private static Document getProjection(OperationContext operationContext) {
-		Set<String> columns = new HashSet<>();
-		columns.addAll( operationContext.getTupleTypeContext().getPolymorphicEntityColumns() );
-		columns.addAll( operationContext.getTupleTypeContext().getSelectableColumns() );
-		return getProjection( new ArrayList<>( columns ) );
-	}
-
-	/**
-	 * Returns a projection object for specifying the fields to retrieve during a specific find operation.
-	 */
-	private static Document getProjection(List<String> fieldNames) {
-		Document projection = new Document();
-		for ( String column : fieldNames ) {
-			projection.put( column, 1 );
-		}
-
-		return projection;
-	}
-
 	/**
 	 * Create a Document which represents the _id field.
 	 * In case of simple id objects the json representation will look like {_id: "theIdValue"}
@@ -380,8 +424,8 @@ private static Document getProjection(List<String> fieldNames) {
 	 *
 	 * @return the Document which represents the id field
 	 */
-	private static Document prepareIdObject(EntityKey key) {
-		return prepareIdObject( key.getColumnNames(), key.getColumnValues() );
+	private Document prepareIdObject(EntityKey key) {
+		return new Document( ID_FIELDNAME, prepareIdObjectValue( key ) );
 	}
 
 	private static Document prepareIdObject(IdSourceKey key) {
@@ -392,36 +436,12 @@ private static Document prepareIdObject(String columnName, String columnValue) {
 		return new Document( ID_FIELDNAME, prepareIdObjectValue( columnName, columnValue ) );
 	}
 
-	private static Document prepareIdObject(String[] columnNames, Object[] columnValues) {
-		return new Document( ID_FIELDNAME, prepareIdObjectValue( columnNames, columnValues ) );
-	}
-
 	private static Object prepareIdObjectValue(String columnName, String columnValue) {
 		return columnValue;
 	}
 
-	private static Object prepareIdObjectValue(String[] columnNames, Object[] columnValues) {
-		if ( columnNames.length == 1 ) {
-			return columnValues[0];
-		}
-		else {
-			Document idObject = new Document();
-			for ( int i = 0; i < columnNames.length; i++ ) {
-				String columnName = columnNames[i];
-				Object columnValue = columnValues[i];
-
-				if ( columnName.contains( PROPERTY_SEPARATOR ) ) {
-					int dotIndex = columnName.indexOf( PROPERTY_SEPARATOR );
-					String shortColumnName = columnName.substring( dotIndex + 1 );
-					idObject.put( shortColumnName, columnValue );
-				}
-				else {
-					idObject.put( columnNames[i], columnValue );
-				}
-
-			}
-			return idObject;
-		}
+	private Object prepareIdObjectValue(EntityKey key) {
+		return MongoDBDocumentTemplates.idValue( documentTemplates.getIdFieldNames( key.getMetadata() ), key.getColumnValues() );
 	}
 
 	private MongoCollection<Document> getCollection(String table, OptionsContext context) {
@@ -558,11 +578,11 @@ private static Document objectForInsert(Tuple tuple, Document dbObject) {
 			if ( notInIdField( snapshot, column ) ) {
 				switch ( operation.getType() ) {
 					case PUT:
-						MongoHelpers.setValue( dbObject, column, operation.getValue() );
+						MongoHelpers.setValue( dbObject, snapshot.getFieldPath( column ), operation.getValue() );
 						break;
 					case PUT_NULL:
 					case REMOVE:
-						MongoHelpers.resetValue( dbObject, column );
+						MongoHelpers.resetValue( dbObject, snapshot.getFieldPath( column ) );
 						break;
 					}
 			}
@@ -646,16 +666,7 @@ private Document findAssociation(AssociationKey key, AssociationContext associat
 		MongoCollection<Document> associationCollection = getAssociationCollection( key, storageStrategy, associationContext );
 
 		FindIterable<Document> fi = associationCollection.find( associationKeyObject );
-		return fi != null ? ( fi.projection( getProjection( key, false ) ).first() ) : null ;
-	}
-
-	private static Document getProjection(AssociationKey key, boolean embedded) {
-		if ( embedded ) {
-			return getProjection( Collections.singletonList( key.getMetadata().getCollectionRole() ) );
-		}
-		else {
-			return getProjection( ROWS_FIELDNAME_LIST );
-		}
+		return fi != null ? ( fi.projection( ROWS_PROJECTION ).first() ) : null ;
 	}
 
 	private static boolean isInTheInsertionQueue(EntityKey key, AssociationContext associationContext) {
@@ -676,23 +687,206 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		// We need to execute the previous operations first or it won't be able to find the key that should have
 		// been created
 		executeBatch( associationContext.getOperationsQueue() );
+		return toAssociation( key, storageStrategy, findAssociationDocument( key, associationContext, storageStrategy ) );
+	}
+
+	@Override
+	public CompletionStage<Association> getAssociationAsync(AssociationKey key, AssociationContext associationContext) {
+		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( key, associationContext );
+
+		if ( isEmbeddedAssociation( key ) && isInTheInsertionQueue( key.getEntityKey(), associationContext ) ) {
+			Document idObject = prepareIdObject( key.getEntityKey() );
+			return CompletableFuture.completedFuture( new Association( new MongoDBAssociationSnapshot( idObject, key, storageStrategy ) ) );
+		}
+
+		// The pending operations are executed by the calling thread, the queue is not thread-safe
+		executeBatch( associationContext.getOperationsQueue() );
+		if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY && associationContext.getEntityTuplePointer().getTuple() != null ) {
+			// The rows are in the owner document, which has already been read
+			return CompletableFuture.completedFuture( toAssociation( key, storageStrategy, getEmbeddingEntity( key, associationContext ) ) );
+		}
+
+		// The context is not thread-safe, the query is prepared before leaving the calling thread
+		MongoCollection<Document> collection;
+		Document query;
+		Bson projection;
+		if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY ) {
+			collection = getCollection( key.getEntityKey(), associationContext.getAssociationTypeContext().getOptionsContext() );
+			query = prepareIdObject( key.getEntityKey() );
+			projection = documentTemplates.getEmbeddedAssociationProjection( key.getMetadata() );
+		}
+		else {
+			collection = getAssociationCollection( key, storageStrategy, associationContext );
+			query = associationKeyToObject( key, storageStrategy );
+			projection = ROWS_PROJECTION;
+		}
+		return CompletableFuture
+				.supplyAsync( () -> collection.find( query ).projection( projection ).first(), provider.getAsyncExecutor() )
+				.thenApply( document -> toAssociation( key, storageStrategy, document ) );
+	}
+
+	private Document findAssociationDocument(AssociationKey key, AssociationContext associationContext, AssociationStorageStrategy storageStrategy) {
 		if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY ) {
-			Document entity = getEmbeddingEntity( key, associationContext );
+			return getEmbeddingEntity( key, associationContext );
+		}
+		else {
+			return findAssociation( key, associationContext, storageStrategy );
+		}
+	}
 
-			if ( entity != null && hasField( entity, key.getMetadata().getCollectionRole() ) ) {
-				return new Association( new MongoDBAssociationSnapshot( entity, key, storageStrategy ) );
+	private static Association toAssociation(AssociationKey key, AssociationStorageStrategy storageStrategy, Document document) {
+		if ( document == null ) {
+			return null;
+		}
+		else if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY && !hasField( document, key.getMetadata().getCollectionRole() ) ) {
+			return null;
+		}
+		else {
+			return new Association( new MongoDBAssociationSnapshot( document, key, storageStrategy ) );
+		}
+	}
+
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext) {
+		if ( keys.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( keys[0], associationContext );
+		if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY ) {
+			// The rows are part of the owner documents, there is no association document to look for
+			List<Association> associations = new ArrayList<>( keys.length );
+			for ( AssociationKey key : keys ) {
+				associations.add( getAssociation( key, associationContext ) );
 			}
-			else {
-				return null;
+			return associations;
+		}
+
+		// We need to execute the previous operations first or it won't be able to find the keys that should have
+		// been created
+		executeBatch( associationContext.getOperationsQueue() );
+
+		List<Object> searchObjects = new ArrayList<>( keys.length );
+		Map<Object, Integer> positions = new HashMap<>( keys.length );
+		for ( int i = 0; i < keys.length; i++ ) {
+			Object searchObject = associationKeyToObject( keys[i], storageStrategy ).get( ID_FIELDNAME );
+			searchObjects.add( searchObject );
+			positions.put( searchObject, i );
+		}
+
+		MongoCollection<Document> associationCollection = getAssociationCollection( keys[0], storageStrategy, associationContext );
+		Document query = new Document( ID_FIELDNAME, new Document( "$in", searchObjects ) );
+		MongoCursor<Document> cursor = associationCollection.find( query ).projection( ROWS_PROJECTION ).iterator();
+
+		// Some keys might not have a corresponding association document
+		Association[] associations = new Association[keys.length];
+		try {
+			while ( cursor.hasNext() ) {
+				Document document = cursor.next();
+				Integer position = positions.get( document.get( ID_FIELDNAME ) );
+				if ( position != null ) {
+					associations[position] = new Association( new MongoDBAssociationSnapshot( document, keys[position], storageStrategy ) );
+				}
 			}
 		}
-		final Document result = findAssociation( key, associationContext, storageStrategy );
-		if ( result == null ) {
-			return null;
+		finally {
+			cursor.close();
+		}
+		return Arrays.asList( associations );
+	}
+
+	@Override
+	public int getAssociationSize(AssociationKey key, AssociationContext associationContext) {
+		if ( isAssociationInMemory( key, associationContext ) ) {
+			Association association = getAssociation( key, associationContext );
+			return association == null ? 0 : association.size();
+		}
+
+		executeBatch( associationContext.getOperationsQueue() );
+		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( key, associationContext );
+		String rowsField = storageStrategy == AssociationStorageStrategy.IN_ENTITY ? key.getMetadata().getCollectionRole() : ROWS_FIELDNAME;
+		String rows = "$" + rowsField;
+
+		// the rows are either stored in an array or, for maps organized by key, in a document
+		Document size = new Document( "$cond", Arrays.<Object>asList(
+				new Document( "$isArray", rows ),
+				new Document( "$size", rows ),
+				new Document( "$cond", Arrays.<Object>asList(
+						new Document( "$eq", Arrays.<Object>asList( new Document( "$type", rows ), "object" ) ),
+						new Document( "$size", new Document( "$objectToArray", rows ) ),
+						0 ) ) ) );
+
+		List<Document> pipeline = Arrays.asList(
+				new Document( "$match", associationFilter( key, storageStrategy ) ),
+				new Document( "$project", new Document( "size", size ) ) );
+
+		Document result = getAssociationOwnerCollection( key, storageStrategy, associationContext ).aggregate( pipeline ).first();
+		return result == null ? 0 : ( (Number) result.get( "size" ) ).intValue();
+	}
+
+	@Override
+	public boolean containsRow(AssociationKey key, RowKey rowKey, AssociationContext associationContext) {
+		if ( isAssociationInMemory( key, associationContext ) || isOrganizedByRowKey( key, rowKey, associationContext ) ) {
+			Association association = getAssociation( key, associationContext );
+			return association != null && association.get( rowKey ) != null;
+		}
+
+		executeBatch( associationContext.getOperationsQueue() );
+		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( key, associationContext );
+		String rowsField = storageStrategy == AssociationStorageStrategy.IN_ENTITY ? key.getMetadata().getCollectionRole() : ROWS_FIELDNAME;
+
+		// match the row key columns within the rows, as stored by getAssociationRow()
+		String[] rowColumns = key.getMetadata().getColumnsWithoutKeyColumns( Arrays.asList( rowKey.getColumnNames() ) );
+		String prefix = getColumnSharedPrefixOfAssociatedEntityLink( key );
+		Document rowFilter = new Document();
+		for ( String column : rowColumns ) {
+			String columnName = column.startsWith( prefix ) ? column.substring( prefix.length() ) : column;
+			rowFilter.put( columnName, rowKey.getColumnValue( column ) );
+		}
+
+		Document filter = associationFilter( key, storageStrategy );
+		Document elementMatch = new Document( rowsField, new Document( "$elemMatch", rowFilter ) );
+		if ( rowColumns.length == 1 ) {
+			// a row made of a single column is stored as the value itself
+			filter.put( "$or", Arrays.asList( new Document( rowsField, rowKey.getColumnValue( rowColumns[0] ) ), elementMatch ) );
 		}
 		else {
-			return new Association( new MongoDBAssociationSnapshot( result, key, storageStrategy ) );
+			filter.putAll( elementMatch );
 		}
+
+		return getAssociationOwnerCollection( key, storageStrategy, associationContext )
+				.find( filter )
+				.projection( new Document( ID_FIELDNAME, 1 ) )
+				.first() != null;
+	}
+
+	/**
+	 * Whether the rows of the given association are already available without querying the datastore: either the
+	 * owner is about to be inserted or its document has been loaded.
+	 */
+	private static boolean isAssociationInMemory(AssociationKey key, AssociationContext associationContext) {
+		return isEmbeddedAssociation( key ) && isInTheInsertionQueue( key.getEntityKey(), associationContext )
+				|| getAssociationStorageStrategy( key, associationContext ) == AssociationStorageStrategy.IN_ENTITY
+						&& associationContext.getEntityTuplePointer().getTuple() != null;
+	}
+
+	private static boolean isOrganizedByRowKey(AssociationKey key, RowKey rowKey, AssociationContext associationContext) {
+		String[] indexColumns = key.getMetadata().getRowKeyIndexColumnNames();
+		return indexColumns.length == 1
+				&& rowKey.getColumnValue( indexColumns[0] ) instanceof String
+				&& associationContext.getAssociationTypeContext().getOptionsContext().getUnique( MapStorageOption.class ) == MapStorageType.BY_KEY;
+	}
+
+	private Document associationFilter(AssociationKey key, AssociationStorageStrategy storageStrategy) {
+		return storageStrategy == AssociationStorageStrategy.IN_ENTITY
+				? prepareIdObject( key.getEntityKey() )
+				: associationKeyToObject( key, storageStrategy );
+	}
+
+	private MongoCollection<Document> getAssociationOwnerCollection(AssociationKey key, AssociationStorageStrategy storageStrategy, AssociationContext associationContext) {
+		return storageStrategy == AssociationStorageStrategy.IN_ENTITY
+				? getCollection( key.getEntityKey(), associationContext.getAssociationTypeContext().getOptionsContext() )
+				: getAssociationCollection( key, storageStrategy, associationContext );
 	}
 
 	private static boolean isEmbeddedAssociation(AssociationKey key) {
@@ -913,12 +1107,35 @@ else if ( type.getReturnedClass().equals( LocalTime.class ) ) {
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata) {
 		MongoCollection<Document> collection = getCollection( entityKeyMetadata.getTable(), tupleTypeContext.getOptionsContext() );
-		consumer.consume( new MongoDBTuplesSupplier( collection, entityKeyMetadata, provider.getBinaryStorageManager() ) );
+		consumer.consume( new MongoDBTuplesSupplier( collection, entityKeyMetadata, provider.getBinaryStorageManager(), new Document() ) );
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata, int partitions) {
+		if ( partitions < 2 ) {
+			forEachTuple( consumer, tupleTypeContext, entityKeyMetadata );
+			return;
+		}
+
+		// Split the collection into ranges of ids containing roughly the same number of documents
+		MongoCollection<Document> collection = getCollection( entityKeyMetadata.getTable(), tupleTypeContext.getOptionsContext() );
+		Document bucketAuto = new Document( "$bucketAuto", new Document( "groupBy", "$" + ID_FIELDNAME ).append( "buckets", partitions ) );
+		List<Document> buckets = collection.aggregate( Collections.singletonList( bucketAuto ) )
+				.allowDiskUse( true )
+				.into( new ArrayList<Document>( partitions ) );
+
+		for ( int i = 0; i < buckets.size(); i++ ) {
+			Document bounds = buckets.get( i ).get( ID_FIELDNAME, Document.class );
+			// The upper bound of a bucket is the lower bound of the next one, only the last bucket includes it
+			Document range = new Document( "$gte", bounds.get( "min" ) )
+					.append( i == buckets.size() - 1 ? "$lte" : "$lt", bounds.get( "max" ) );
+			consumer.consume( new MongoDBTuplesSupplier( collection, entityKeyMetadata, provider.getBinaryStorageManager(), new Document( ID_FIELDNAME, range ) ) );
+		}
 	}
 
 	@Override
 	public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<MongoDBQueryDescriptor> backendQuery, QueryParameters queryParameters, TupleContext tupleContext) {
-		MongoDBQueryDescriptor queryDescriptor = backendQuery.getQuery();
+		MongoDBQueryDescriptor queryDescriptor = bindParameters( backendQuery.getQuery(), queryParameters );
 
 		EntityKeyMetadata entityKeyMetadata = backendQuery.getSingleEntityMetadataInformationOrNull() == null
 				? null
@@ -969,6 +1186,21 @@ public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<MongoDBQueryDesc
 		}
 	}
 
+	/**
+	 * The queries created from JP-QL queries contain placeholders for the named parameters, replaced here by the
+	 * parameter values.
+	 */
+	private static MongoDBQueryDescriptor bindParameters(MongoDBQueryDescriptor queryDescriptor, QueryParameters queryParameters) {
+		if ( queryParameters.getNamedParameters().isEmpty() ) {
+			return queryDescriptor;
+		}
+		Map<String, Object> parameterValues = new HashMap<>( queryParameters.getNamedParameters().size() );
+		for ( Map.Entry<String, TypedGridValue> parameter : queryParameters.getNamedParameters().entrySet() ) {
+			parameterValues.put( parameter.getKey(), parameter.getValue().getValue() );
+		}
+		return queryDescriptor.withCriteria( MongoDBQueryParameter.bind( queryDescriptor.getCriteria(), parameterValues ) );
+	}
+
 	@Override
 	public int executeBackendUpdateQuery(final BackendQuery<MongoDBQueryDescriptor> backendQuery, final QueryParameters queryParameters, final TupleContext tupleContext) {
 		MongoDBQueryDescriptor queryDescriptor = backendQuery.getQuery();
@@ -1574,18 +1806,18 @@ private static AssociationStorageStrategy getAssociationStorageStrategy(Associat
 	public void executeBatch(OperationsQueue queue) {
 		if ( !queue.isClosed() ) {
 			Operation operation = queue.poll();
-			Map<MongoCollection<Document>, BatchInsertionTask> inserts = new HashMap<MongoCollection<Document>, BatchInsertionTask>();
+			Map<String, BulkWriteTask> bulkWrites = new LinkedHashMap<String, BulkWriteTask>();
 
 			List<Tuple> insertTuples = new ArrayList<Tuple>();
 
 			while ( operation != null ) {
 				if ( operation instanceof GroupedChangesToEntityOperation ) {
 					GroupedChangesToEntityOperation entityOperation = (GroupedChangesToEntityOperation) operation;
-					executeBatchUpdate( inserts, insertTuples, entityOperation );
+					executeBatchUpdate( bulkWrites, insertTuples, entityOperation );
 				}
 				else if ( operation instanceof RemoveTupleOperation ) {
 					RemoveTupleOperation removeTupleOperation = (RemoveTupleOperation) operation;
-					executeBatchRemove( inserts, removeTupleOperation );
+					executeBatchRemove( bulkWrites, removeTupleOperation );
 				}
 				else {
 					throw new UnsupportedOperationException( "Operation not supported: " + operation.getClass().getSimpleName() );
@@ -1593,7 +1825,7 @@ else if ( operation instanceof RemoveTupleOperation ) {
 				operation = queue.poll();
 			}
 
-			flushInserts( provider, inserts );
+			flushBulkWrites( provider, bulkWrites );
 			for ( Tuple insertTuple : insertTuples ) {
 				insertTuple.setSnapshotType( SnapshotType.UPDATE );
 			}
@@ -1602,20 +1834,17 @@ else if ( operation instanceof RemoveTupleOperation ) {
 		}
 	}
 
-	private void executeBatchRemove(Map<MongoCollection<Document>, BatchInsertionTask> inserts, RemoveTupleOperation tupleOperation) {
+	private void executeBatchRemove(Map<String, BulkWriteTask> bulkWrites, RemoveTupleOperation tupleOperation) {
 		EntityKey entityKey = tupleOperation.getEntityKey();
 		MongoCollection<Document> collection = getCollection( entityKey, tupleOperation.getTupleContext().getTupleTypeContext().getOptionsContext() );
-		BatchInsertionTask batchedInserts = inserts.get( collection );
+		BulkWriteTask bulkWrite = getOrCreateBulkWriteTask( bulkWrites, collection );
 
-		if ( batchedInserts != null && batchedInserts.containsKey( entityKey ) ) {
-			batchedInserts.remove( entityKey );
-		}
-		else {
-			removeTuple( entityKey, tupleOperation.getTupleContext() );
+		if ( !bulkWrite.removeInsert( entityKey ) ) {
+			bulkWrite.remove( entityKey, prepareIdObject( entityKey ), getWriteConcern( tupleOperation.getTupleContext() ) );
 		}
 	}
 
-	private void executeBatchUpdate(Map<MongoCollection<Document>, BatchInsertionTask> inserts, List<Tuple> insertTuples,
+	private void executeBatchUpdate(Map<String, BulkWriteTask> bulkWrites, List<Tuple> insertTuples,
 			GroupedChangesToEntityOperation groupedOperation) {
 		EntityKey entityKey = groupedOperation.getEntityKey();
 		MongoCollection<Document> collection = getCollection( entityKey );
@@ -1623,7 +1852,6 @@ private void executeBatchUpdate(Map<MongoCollection<Document>, BatchInsertionTas
 		Document updateStatement = new Document();
 		WriteConcern writeConcern = null;
 
-		final UpdateOptions updateOptions = new UpdateOptions().upsert( true );
 		for ( Operation operation : groupedOperation.getOperations() ) {
 			if ( operation instanceof InsertOrUpdateTupleOperation ) {
 				InsertOrUpdateTupleOperation tupleOperation = (InsertOrUpdateTupleOperation) operation;
@@ -1635,8 +1863,8 @@ private void executeBatchUpdate(Map<MongoCollection<Document>, BatchInsertionTas
 					Document document = getCurrentDocument( snapshot, insertStatement, entityKey );
 					insertStatement = objectForInsert( tuple, document );
 
-					getOrCreateBatchInsertionTask( inserts, entityKey.getMetadata(), collection )
-							.put( entityKey, insertStatement );
+					getOrCreateBulkWriteTask( bulkWrites, collection )
+							.insert( entityKey, insertStatement );
 					insertTuples.add( tuple );
 				}
 				else {
@@ -1677,7 +1905,8 @@ else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
 					MongoCollection<Document> associationCollection = getAssociationCollection( associationKey, storageStrategy, associationContext );
 					Document query = associationSnapshot.getQueryObject();
 					Document update = new Document( "$set", new Document( ROWS_FIELDNAME, toStore ) );
-					associationCollection.updateOne( query, update, updateOptions );
+					getOrCreateBulkWriteTask( bulkWrites, associationCollection )
+							.update( query, update, getWriteConcern( associationContext ) );
 				}
 			}
 			else if ( operation instanceof RemoveAssociationOperation ) {
@@ -1702,14 +1931,10 @@ else if ( operation instanceof RemoveAssociationOperation ) {
 					addUnsetToQuery( updateStatement, collectionRole );
 				}
 				else {
-					MongoCollection<Document> associationCollection = getAssociationCollection( associationKey, storageStrategy, associationContext ).withWriteConcern( getWriteConcern( associationContext ) );
+					MongoCollection<Document> associationCollection = getAssociationCollection( associationKey, storageStrategy, associationContext );
 					Document query = associationKeyToObject( associationKey, storageStrategy );
-					DeleteResult result = associationCollection.deleteMany( query );
-					long nAffected = -1;
-					if ( result.wasAcknowledged() ) {
-						nAffected = result.getDeletedCount();
-					}
-					log.removedAssociation( nAffected );
+					getOrCreateBulkWriteTask( bulkWrites, associationCollection )
+							.removeAssociation( query, getWriteConcern( associationContext ) );
 				}
 			}
 			else {
@@ -1726,7 +1951,8 @@ else if ( operation instanceof RemoveAssociationOperation ) {
 			Document fieldsToDelete = updateStatement.get( "$unset", Document.class );
 			provider.getBinaryStorageManager().removeFieldsFromBinaryStorage( fieldsToDelete, entityKey.getMetadata(), documentId.get( "_id" ) );
 
-			collection. withWriteConcern( writeConcern ).updateOne( documentId, updateStatement, updateOptions );
+			getOrCreateBulkWriteTask( bulkWrites, collection )
+					.update( documentId, updateStatement, writeConcern );
 		}
 	}
 
@@ -1749,45 +1975,59 @@ private static Document getCurrentDocument(MongoDBTupleSnapshot snapshot, Docume
 		return insertStatement != null ? insertStatement : snapshot.getDbObject();
 	}
 
-	private static BatchInsertionTask getOrCreateBatchInsertionTask(Map<MongoCollection<Document>, BatchInsertionTask> inserts,
-			EntityKeyMetadata entityKeyMetadata, MongoCollection<Document> collection) {
-		BatchInsertionTask insertsForCollection = inserts.get( collection );
+	private static BulkWriteTask getOrCreateBulkWriteTask(Map<String, BulkWriteTask> bulkWrites, MongoCollection<Document> collection) {
+		String namespace = collection.getNamespace().getFullName();
+		BulkWriteTask writesForCollection = bulkWrites.get( namespace );
 
-		if ( insertsForCollection == null ) {
-			insertsForCollection = new BatchInsertionTask( entityKeyMetadata );
-			inserts.put( collection, insertsForCollection );
+		if ( writesForCollection == null ) {
+			writesForCollection = new BulkWriteTask( collection );
+			bulkWrites.put( namespace, writesForCollection );
+		}
+		else {
+			writesForCollection.addCollection( collection );
 		}
 
-		return insertsForCollection;
+		return writesForCollection;
 	}
 
-	private static void flushInserts(MongoDBDatastoreProvider provider, Map<MongoCollection<Document>, BatchInsertionTask> inserts) {
-		for ( Map.Entry<MongoCollection<Document>, BatchInsertionTask> entry : inserts.entrySet() ) {
-			MongoCollection<Document> collection = entry.getKey();
-			if ( entry.getValue().isEmpty() ) {
+	private static void flushBulkWrites(MongoDBDatastoreProvider provider, Map<String, BulkWriteTask> bulkWrites) {
+		for ( BulkWriteTask bulkWrite : bulkWrites.values() ) {
+			if ( bulkWrite.isEmpty() ) {
 				// has been emptied due to subsequent removals before flushes
 				continue;
 			}
 
+			for ( Map.Entry<EntityKey, Document> insert : bulkWrite.getInserts() ) {
+				Document documentToInsert = insert.getValue();
+				Object documentId = documentToInsert.get( ID_FIELDNAME );
+				provider.getBinaryStorageManager().storeContentToBinaryStorage( documentToInsert, insert.getKey().getMetadata(), documentId );
+			}
+
 			try {
-				for ( Document documentToInsert : entry.getValue().getAll() ) {
-					Object documentId = documentToInsert.get( "_id" );
-					provider.getBinaryStorageManager().storeContentToBinaryStorage( documentToInsert, entry.getValue().entityKeyMetadata, documentId );
+				List<WriteModel<Document>> writeModels = bulkWrite.getWriteModels();
+				BulkWriteResult result = bulkWrite.getCollection().withWriteConcern( bulkWrite.getWriteConcern() )
+						.bulkWrite( writeModels, new BulkWriteOptions().ordered( bulkWrite.isOrdered() ) );
+				if ( bulkWrite.removesAssociations() ) {
+					log.removedAssociation( result.wasAcknowledged() ? result.getDeletedCount() : -1 );
 				}
-				collection.insertMany( entry.getValue().getAll() );
 			}
 			catch ( DuplicateKeyException | MongoBulkWriteException dke ) {
 				// This exception is used by MongoDB for all the unique indexes violation, not only the primary key
 				// so we determine if it concerns the primary key by matching on the message
-				if ( PRIMARY_KEY_CONSTRAINT_VIOLATION_MESSAGE.matcher( dke.getMessage() ).matches() ) {
-					throw new TupleAlreadyExistsException( entry.getValue().getEntityKeyMetadata(), dke );
+				if ( bulkWrite.getEntityKeyMetadata() != null && PRIMARY_KEY_CONSTRAINT_VIOLATION_MESSAGE.matcher( dke.getMessage() ).matches() ) {
+					throw new TupleAlreadyExistsException( bulkWrite.getEntityKeyMetadata(), dke );
 				}
 				else {
 					throw log.constraintViolationOnFlush( dke.getMessage(), dke );
 				}
 			}
+
+			// the binary content is only removed once the documents referencing it are
+			for ( Map.Entry<EntityKey, Document> removal : bulkWrite.getRemovals() ) {
+				provider.getBinaryStorageManager().removeEntityFromBinaryStorage( removal.getValue().get( ID_FIELDNAME ), removal.getKey().getMetadata() );
+			}
 		}
-		inserts.clear();
+		bulkWrites.clear();
 	}
 
 	private static WriteConcern getWriteConcern(TupleContext tupleContext) {
@@ -1998,16 +2238,19 @@ private static class MongoDBTuplesSupplier implements TuplesSupplier {
 		private final MongoCollection<Document> collection;
 		private final EntityKeyMetadata entityKeyMetadata;
 		private final GridFSStorageManager binaryStorageManager;
+		private final Document filter;
 
-		public MongoDBTuplesSupplier(MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata, GridFSStorageManager binaryStorageManager) {
+		public MongoDBTuplesSupplier(MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata, GridFSStorageManager binaryStorageManager,
+				Document filter) {
 			this.collection = collection;
 			this.entityKeyMetadata = entityKeyMetadata;
 			this.binaryStorageManager = binaryStorageManager;
+			this.filter = filter;
 		}
 
 		@Override
 		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
-			return new MongoDBResultsCursor( collection.find().iterator(), entityKeyMetadata, binaryStorageManager );
+			return new MongoDBResultsCursor( collection.find( filter ).iterator(), entityKeyMetadata, binaryStorageManager );
 		}
 	}
 
@@ -2089,38 +2332,117 @@ public void close() {
 		}
 	}
 
-	private static class BatchInsertionTask {
+	/**
+	 * The writes targeting a given collection, sent to the datastore in one bulk write.
+	 * <p>
+	 * The bulk write is unordered unless several writes target the same document: updates and removals are applied
+	 * before the inserts, in the order they have been queued.
+	 * <p>
+	 * The collection may be obtained several times with different options; the write concern being the only one
+	 * affecting a bulk write, the write concerns of all these instances are merged.
+	 */
+	private static class BulkWriteTask {
 
-		private final EntityKeyMetadata entityKeyMetadata;
-		private final Map<EntityKey, Document> inserts;
+		private static final UpdateOptions UPSERT = new UpdateOptions().upsert( true );
 
-		public BatchInsertionTask(EntityKeyMetadata entityKeyMetadata) {
-			this.entityKeyMetadata = entityKeyMetadata;
-			this.inserts = new HashMap<EntityKey, Document>();
+		private final MongoCollection<Document> collection;
+		private final Map<EntityKey, Document> inserts = new LinkedHashMap<EntityKey, Document>();
+		private final Map<EntityKey, Document> removals = new LinkedHashMap<EntityKey, Document>();
+		private final List<WriteModel<Document>> writes = new ArrayList<WriteModel<Document>>();
+		private final Set<Document> targets = new HashSet<Document>();
+		private EntityKeyMetadata entityKeyMetadata;
+		private WriteConcern writeConcern;
+		private WriteConcern collectionWriteConcern;
+		private boolean ordered;
+		private boolean removesAssociations;
+
+		public BulkWriteTask(MongoCollection<Document> collection) {
+			this.collection = collection;
+			this.collectionWriteConcern = collection.getWriteConcern();
+		}
+
+		public void addCollection(MongoCollection<Document> collection) {
+			collectionWriteConcern = mergeWriteConcern( collectionWriteConcern, collection.getWriteConcern() );
+		}
+
+		public MongoCollection<Document> getCollection() {
+			return collection;
 		}
 
 		public EntityKeyMetadata getEntityKeyMetadata() {
 			return entityKeyMetadata;
 		}
 
-		public List<Document> getAll() {
-			return new ArrayList<Document>( inserts.values() );
+		/**
+		 * @return the write concern requested for the writes or, if none has been, the merged write concern of the
+		 * collection
+		 */
+		public WriteConcern getWriteConcern() {
+			return writeConcern != null ? writeConcern : collectionWriteConcern;
+		}
+
+		public boolean isOrdered() {
+			return ordered;
+		}
+
+		public boolean removesAssociations() {
+			return removesAssociations;
+		}
+
+		public void insert(EntityKey entityKey, Document document) {
+			entityKeyMetadata = entityKey.getMetadata();
+			inserts.put( entityKey, document );
 		}
 
-		public boolean containsKey(EntityKey entityKey) {
-			return inserts.containsKey( entityKey );
+		public boolean removeInsert(EntityKey entityKey) {
+			return inserts.remove( entityKey ) != null;
 		}
 
-		public Document remove(EntityKey entityKey) {
-			return inserts.remove( entityKey );
+		public void update(Document query, Document update, WriteConcern writeConcern) {
+			write( query, new UpdateOneModel<Document>( query, update, UPSERT ), writeConcern );
 		}
 
-		public void put(EntityKey entityKey, Document object) {
-			inserts.put( entityKey, object );
+		public void remove(EntityKey entityKey, Document query, WriteConcern writeConcern) {
+			entityKeyMetadata = entityKey.getMetadata();
+			removals.put( entityKey, query );
+			write( query, new DeleteOneModel<Document>( query ), writeConcern );
+		}
+
+		public void removeAssociation(Document query, WriteConcern writeConcern) {
+			removesAssociations = true;
+			write( query, new DeleteManyModel<Document>( query ), writeConcern );
+		}
+
+		private void write(Document query, WriteModel<Document> model, WriteConcern writeConcern) {
+			this.writeConcern = mergeWriteConcern( this.writeConcern, writeConcern );
+			ordered |= !targets.add( query );
+			writes.add( model );
+		}
+
+		public Set<Map.Entry<EntityKey, Document>> getInserts() {
+			return inserts.entrySet();
+		}
+
+		public Set<Map.Entry<EntityKey, Document>> getRemovals() {
+			return removals.entrySet();
+		}
+
+		/**
+		 * Must be called before {@link #isOrdered()}: an insert targeting a document already updated or removed in
+		 * this bulk requires an ordered bulk write.
+		 */
+		public List<WriteModel<Document>> getWriteModels() {
+			List<WriteModel<Document>> models = new ArrayList<WriteModel<Document>>( writes.size() + inserts.size() );
+			models.addAll( writes );
+			for ( Document insert : inserts.values() ) {
+				ordered |= targets.contains( new Document( ID_FIELDNAME, insert.get( ID_FIELDNAME ) ) );
+				models.add( new InsertOneModel<Document>( insert ) );
+			}
+			return models;
 		}
 
 		public boolean isEmpty() {
-			return inserts.isEmpty();
+			return writes.isEmpty() && inserts.isEmpty();
 		}
 	}
 }
@@ -105,6 +105,19 @@ public void removeEntityFromBinaryStorage(Document deletedDocument, EntityKeyMet
 		removeFieldsFromBinaryStorage( deletedDocument, entityKeyMetadata, deletedDocument.get( "_id" ) );
 	}
 
+	public void removeEntityFromBinaryStorage(Object documentId, EntityKeyMetadata entityKeyMetadata) {
+		if ( entityKeyMetadata != null ) {
+			GridFSFields storageFields = tableEntityTypeMapping.get( entityKeyMetadata.getTable() );
+			if ( storageFields != null ) {
+				for ( Field gridfsField : storageFields.getFields() ) {
+					String gridfsBucketName = bucketName( entityKeyMetadata, gridfsField.getName() );
+					GridFSBucket gridFSFilesBucket = getGridFSFilesBucket( mongoDatabase, gridfsBucketName );
+					deleteExistingContent( gridfsField.getName(), documentId, gridFSFilesBucket );
+				}
+			}
+		}
+	}
+
 	public void removeFieldsFromBinaryStorage(Document fieldsToDelete, EntityKeyMetadata entityKeyMetadata, Object documentId) {
 		if ( fieldsToDelete != null && entityKeyMetadata != null ) {
 			GridFSFields storageFields = tableEntityTypeMapping.get( entityKeyMetadata.getTable() );
@@ -0,0 +1,198 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.dialect.impl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.conversions.Bson;
+import org.hibernate.ogm.dialect.spi.TupleTypeContext;
+import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+
+/**
+ * Caches the documents the dialect sends with every lookup: the field projections of entities and associations and
+ * the field names of composite ids, as well as the paths of the columns of entities.
+ * <p>
+ * Projections are encoded once into immutable {@link RawBsonDocument}s, so the driver writes their bytes as they are.
+ * Id documents contain the key values and are created for each key, but the field names of a composite id are
+ * resolved once per {@link EntityKeyMetadata}. The paths of the (possibly embedded) columns of an entity type are
+ * split once per {@link TupleTypeContext} and used by {@link MongoDBTupleSnapshot} to read and write the columns.
+ *
+ * @see org.hibernate.ogm.datastore.mongodb.MongoDBDialect
+ */
+public class MongoDBDocumentTemplates {
+
+	private static final BsonDocumentCodec CODEC = new BsonDocumentCodec();
+
+	private final ConcurrentMap<TupleTypeContext, Bson> entityProjections = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Bson> fieldProjections = new ConcurrentHashMap<>();
+	private final ConcurrentMap<EntityKeyMetadata, String[]> idFieldNames = new ConcurrentHashMap<>();
+	private final ConcurrentMap<TupleTypeContext, Map<String, String[]>> fieldPaths = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the projection selecting the polymorphic and selectable columns of an entity type.
+	 * <p>
+	 * Tuple type contexts are created once per entity persister, so the projections are cached by instance.
+	 *
+	 * @param tupleTypeContext the context of the entity type
+	 * @return the projection for the entity type
+	 */
+	public Bson getEntityProjection(TupleTypeContext tupleTypeContext) {
+		Bson projection = entityProjections.get( tupleTypeContext );
+		if ( projection == null ) {
+			Set<String> columns = new LinkedHashSet<>( tupleTypeContext.getPolymorphicEntityColumns() );
+			columns.addAll( tupleTypeContext.getSelectableColumns() );
+			projection = projection( columns );
+			Bson previous = entityProjections.putIfAbsent( tupleTypeContext, projection );
+			if ( previous != null ) {
+				projection = previous;
+			}
+		}
+		return projection;
+	}
+
+	/**
+	 * Returns the nodes of the paths of the polymorphic and selectable columns of an entity type, by column name.
+	 * <p>
+	 * The returned map and arrays are shared and must not be modified.
+	 *
+	 * @param tupleTypeContext the context of the entity type, may be {@code null}
+	 * @return the paths of the columns, as returned by {@link MongoHelpers#getPath(String)}
+	 */
+	public Map<String, String[]> getFieldPaths(TupleTypeContext tupleTypeContext) {
+		if ( tupleTypeContext == null ) {
+			return Collections.emptyMap();
+		}
+		Map<String, String[]> paths = fieldPaths.get( tupleTypeContext );
+		if ( paths == null ) {
+			paths = new HashMap<>();
+			for ( String column : tupleTypeContext.getPolymorphicEntityColumns() ) {
+				paths.put( column, MongoHelpers.getPath( column ) );
+			}
+			for ( String column : tupleTypeContext.getSelectableColumns() ) {
+				paths.put( column, MongoHelpers.getPath( column ) );
+			}
+			paths = Collections.unmodifiableMap( paths );
+			Map<String, String[]> previous = fieldPaths.putIfAbsent( tupleTypeContext, paths );
+			if ( previous != null ) {
+				paths = previous;
+			}
+		}
+		return paths;
+	}
+
+	/**
+	 * Returns the projection selecting the embedded association of the given metadata in its owner document.
+	 *
+	 * @param associationKeyMetadata the metadata of the association
+	 * @return the projection for the embedded association
+	 */
+	public Bson getEmbeddedAssociationProjection(AssociationKeyMetadata associationKeyMetadata) {
+		return getFieldProjection( associationKeyMetadata.getCollectionRole() );
+	}
+
+	/**
+	 * Returns the projection selecting the single given field.
+	 *
+	 * @param fieldName the name of the field
+	 * @return the projection for the field
+	 */
+	public Bson getFieldProjection(String fieldName) {
+		Bson projection = fieldProjections.get( fieldName );
+		if ( projection == null ) {
+			projection = fieldProjection( fieldName );
+			Bson previous = fieldProjections.putIfAbsent( fieldName, projection );
+			if ( previous != null ) {
+				projection = previous;
+			}
+		}
+		return projection;
+	}
+
+	/**
+	 * Returns the names of the fields of the {@code _id} document for an entity key with a composite id. The prefix of
+	 * the embeddable property, if any, is not part of the field names.
+	 *
+	 * @param entityKeyMetadata the metadata of the entity key
+	 * @return the names of the fields in the id document, in the order of the key columns
+	 */
+	public String[] getIdFieldNames(EntityKeyMetadata entityKeyMetadata) {
+		String[] fieldNames = idFieldNames.get( entityKeyMetadata );
+		if ( fieldNames == null ) {
+			fieldNames = idFieldNames( entityKeyMetadata.getColumnNames() );
+			String[] previous = idFieldNames.putIfAbsent( entityKeyMetadata, fieldNames );
+			if ( previous != null ) {
+				fieldNames = previous;
+			}
+		}
+		return fieldNames;
+	}
+
+	/**
+	 * Creates the {@code _id} value for the given column values, a {@link Document} in case of composite ids.
+	 *
+	 * @param fieldNames the names of the fields as returned by {@link #getIdFieldNames(EntityKeyMetadata)}
+	 * @param columnValues the values of the key columns
+	 * @return the value of the {@code _id} field
+	 */
+	public static Object idValue(String[] fieldNames, Object[] columnValues) {
+		if ( fieldNames.length == 1 ) {
+			return columnValues[0];
+		}
+		Document idObject = new Document();
+		for ( int i = 0; i < fieldNames.length; i++ ) {
+			idObject.put( fieldNames[i], columnValues[i] );
+		}
+		return idObject;
+	}
+
+	/**
+	 * Strips the prefix of the embeddable id property from the given column names.
+	 *
+	 * @param columnNames the names of the key columns
+	 * @return the names of the fields in the id document
+	 */
+	public static String[] idFieldNames(String[] columnNames) {
+		String[] fieldNames = new String[columnNames.length];
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			String columnName = columnNames[i];
+			int dotIndex = columnName.indexOf( '.' );
+			fieldNames[i] = dotIndex < 0 ? columnName : columnName.substring( dotIndex + 1 );
+		}
+		return fieldNames;
+	}
+
+	/**
+	 * Creates a projection selecting the single given field.
+	 *
+	 * @param fieldName the name of the field
+	 * @return the projection for the field
+	 */
+	public static Bson fieldProjection(String fieldName) {
+		return projection( Collections.singleton( fieldName ) );
+	}
+
+	private static Bson projection(Iterable<String> fieldNames) {
+		BsonDocument projection = new BsonDocument();
+		BsonInt32 included = new BsonInt32( 1 );
+		for ( String fieldName : fieldNames ) {
+			projection.put( fieldName, included );
+		}
+		return new RawBsonDocument( projection, CODEC );
+	}
+}
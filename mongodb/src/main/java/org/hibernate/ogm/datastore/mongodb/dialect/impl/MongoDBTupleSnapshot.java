@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.datastore.mongodb.dialect.impl;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -29,10 +31,22 @@ public class MongoDBTupleSnapshot implements TupleSnapshot {
 
 	private final Document dbObject;
 	private final EntityKeyMetadata keyMetadata;
+	private final Map<String, String[]> fieldPaths;
 
 	public MongoDBTupleSnapshot(Document dbObject, EntityKeyMetadata meta) {
+		this( dbObject, meta, Collections.<String, String[]>emptyMap() );
+	}
+
+	/**
+	 * @param dbObject the document of the tuple
+	 * @param meta the metadata of the entity key, may be {@code null}
+	 * @param fieldPaths the paths of the columns of the entity type as returned by
+	 * {@link MongoDBDocumentTemplates#getFieldPaths(org.hibernate.ogm.dialect.spi.TupleTypeContext)}
+	 */
+	public MongoDBTupleSnapshot(Document dbObject, EntityKeyMetadata meta, Map<String, String[]> fieldPaths) {
 		this.dbObject = dbObject;
 		this.keyMetadata = meta;
+		this.fieldPaths = fieldPaths;
 	}
 
 	public Document getDbObject() {
@@ -53,6 +67,17 @@ public boolean isKeyColumn(String column) {
 		return keyMetadata != null && keyMetadata.isKeyColumn( column );
 	}
 
+	/**
+	 * Returns the nodes of the path of the given column, resolved once per entity type for its known columns.
+	 *
+	 * @param column the name of the column
+	 * @return the nodes of the path of the column
+	 */
+	public String[] getFieldPath(String column) {
+		String[] path = fieldPaths.get( column );
+		return path != null ? path : MongoHelpers.getPath( column );
+	}
+
 	@Override
 	public Object get(String column) {
 		return isKeyColumn( column ) ? getKeyColumnValue( column ) : getValue( dbObject, column );
@@ -81,7 +106,7 @@ private Object getKeyColumnValue(String column) {
 	 * itself. We traverse the tree until we've arrived at a leaf and retrieve the value from it.
 	 */
 	private Object getValue(Document dbObject, String column) {
-		Object valueOrNull = MongoHelpers.getValueOrNull( dbObject, column );
-		return valueOrNull;
+		String[] path = fieldPaths.get( column );
+		return path != null ? MongoHelpers.getValueOrNull( dbObject, path ) : MongoHelpers.getValueOrNull( dbObject, column );
 	}
 }
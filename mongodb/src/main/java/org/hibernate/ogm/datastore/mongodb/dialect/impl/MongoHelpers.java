@@ -6,7 +6,8 @@
  */
 package org.hibernate.ogm.datastore.mongodb.dialect.impl;
 
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.bson.Document;
 
@@ -19,30 +20,43 @@
  */
 public class MongoHelpers {
 
-	private static final Pattern DOT_SEPARATOR_PATTERN = Pattern.compile( "\\." );
-
 	public static void setValue(Document entity, String column, Object value) {
 		// fast path for non-embedded case
 		if ( !column.contains( "." ) ) {
 			entity.put( column, value );
 		}
 		else {
-			String[] path = DOT_SEPARATOR_PATTERN.split( column );
-			Object field = entity;
-			int size = path.length;
-			for ( int index = 0; index < size; index++ ) {
-				String node = path[index];
-				Document parent = (Document) field;
-				field = parent.get( node );
-				if ( field == null ) {
-					if ( index == size - 1 ) {
-						field = value;
-					}
-					else {
-						field = new Document();
-					}
-					parent.put( node, field );
+			setValue( entity, getPath( column ), value );
+		}
+	}
+
+	/**
+	 * Sets the value of a column given by the nodes of its path, creating the embedded documents as needed.
+	 *
+	 * @param entity the {@link Document} receiving the value
+	 * @param path the nodes of the path of the column, as returned by {@link #getPath(String)}
+	 * @param value the value to set
+	 */
+	public static void setValue(Document entity, String[] path, Object value) {
+		int size = path.length;
+		// fast path for non-embedded case
+		if ( size == 1 ) {
+			entity.put( path[0], value );
+			return;
+		}
+		Object field = entity;
+		for ( int index = 0; index < size; index++ ) {
+			String node = path[index];
+			Document parent = (Document) field;
+			field = parent.get( node );
+			if ( field == null ) {
+				if ( index == size - 1 ) {
+					field = value;
+				}
+				else {
+					field = new Document();
 				}
+				parent.put( node, field );
 			}
 		}
 	}
@@ -59,21 +73,30 @@ public static void resetValue(Document entity, String column) {
 			entity.remove( column );
 		}
 		else {
-			String[] path = DOT_SEPARATOR_PATTERN.split( column );
-			Object field = entity;
-			int size = path.length;
-			for ( int index = 0; index < size; index++ ) {
-				String node = path[index];
-				Document parent = (Document) field;
-				field = parent.get( node );
-				if ( field == null && index < size - 1 ) {
-					//TODO clean up the hierarchy of empty containers
-					// no way to reach the leaf, nothing to do
-					return;
-				}
-				if ( index == size - 1 ) {
-					parent.remove( node );
-				}
+			resetValue( entity, getPath( column ) );
+		}
+	}
+
+	/**
+	 * Remove a column given by the nodes of its path from the Document
+	 *
+	 * @param entity the {@link Document} with the column
+	 * @param path the nodes of the path of the column, as returned by {@link #getPath(String)}
+	 */
+	public static void resetValue(Document entity, String[] path) {
+		Object field = entity;
+		int size = path.length;
+		for ( int index = 0; index < size; index++ ) {
+			String node = path[index];
+			Document parent = (Document) field;
+			field = parent.get( node );
+			if ( field == null && index < size - 1 ) {
+				//TODO clean up the hierarchy of empty containers
+				// no way to reach the leaf, nothing to do
+				return;
+			}
+			if ( index == size - 1 ) {
+				parent.remove( node );
 			}
 		}
 	}
@@ -93,7 +116,17 @@ public static Object getValueOrNull(Document entity, String dotPath) {
 			return entity.get( dotPath );
 		}
 
-		String[] path = DOT_SEPARATOR_PATTERN.split( dotPath );
+		return getValueOrNull( entity, getPath( dotPath ) );
+	}
+
+	/**
+	 * Returns the value of a column given by the nodes of its path.
+	 *
+	 * @param entity the {@link Document} with the column
+	 * @param path the nodes of the path of the column, as returned by {@link #getPath(String)}
+	 * @return the value of the column or {@code null} if the path cannot be reached
+	 */
+	public static Object getValueOrNull(Document entity, String[] path) {
 		int size = path.length;
 
 		for ( int index = 0; index < size - 1; index++ ) {
@@ -108,6 +141,35 @@ public static Object getValueOrNull(Document entity, String dotPath) {
 		return entity.get( field );
 	}
 
+	/**
+	 * Returns the nodes of the given dotted path.
+	 * <p>
+	 * A new array is created for each call; the paths of the columns of an entity type are resolved once by
+	 * {@link MongoDBDocumentTemplates#getFieldPaths(org.hibernate.ogm.dialect.spi.TupleTypeContext)}.
+	 *
+	 * @param dotPath a path such as {@code address.city}
+	 * @return the nodes of the path
+	 */
+	public static String[] getPath(String dotPath) {
+		if ( dotPath.indexOf( '.' ) < 0 ) {
+			return new String[] { dotPath };
+		}
+		List<String> nodes = new ArrayList<>();
+		int start = 0;
+		int end = dotPath.indexOf( '.' );
+		while ( end >= 0 ) {
+			nodes.add( dotPath.substring( start, end ) );
+			start = end + 1;
+			end = dotPath.indexOf( '.', start );
+		}
+		nodes.add( dotPath.substring( start ) );
+		// like String#split, ignore trailing empty nodes
+		while ( nodes.size() > 1 && nodes.get( nodes.size() - 1 ).isEmpty() ) {
+			nodes.remove( nodes.size() - 1 );
+		}
+		return nodes.toArray( new String[nodes.size()] );
+	}
+
 	/**
 	 * Links the two field names into a single left.right field name.
 	 * If the left field is empty, right is returned
@@ -9,6 +9,9 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.mongodb.MongoClient;
 import com.mongodb.MongoClientOptions;
@@ -60,6 +63,8 @@ public class MongoDBDatastoreProvider extends BaseDatastoreProvider implements S
 
 	private GridFSStorageManager binaryStorageManager;
 
+	private ExecutorService asyncExecutor;
+
 	public MongoDBDatastoreProvider() {
 	}
 
@@ -122,6 +127,7 @@ public void start() {
 		else {
 			lookupDatabase();
 		}
+		asyncExecutor = createAsyncExecutor( config.buildOptions().getConnectionsPerHost() );
 
 		// clear resources
 		this.jndiService = null;
@@ -169,9 +175,25 @@ protected MongoClient createMongoClient(MongoDBConfiguration config) {
 		}
 	}
 
+	/*
+	 * The driver is synchronous, so the asynchronous reads are run by a pool of threads; more threads than connections
+	 * would just wait for a connection to be available.
+	 */
+	private static ExecutorService createAsyncExecutor(int threads) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		return Executors.newFixedThreadPool( threads, task -> {
+			Thread thread = new Thread( task, "Hibernate OGM: MongoDB async reads-" + threadNumber.incrementAndGet() );
+			thread.setDaemon( true );
+			return thread;
+		} );
+	}
+
 	@Override
 	public void stop() {
 		log.disconnectingFromMongo();
+		if ( asyncExecutor != null ) {
+			asyncExecutor.shutdownNow();
+		}
 		mongo.close();
 	}
 
@@ -179,6 +201,16 @@ public MongoDatabase getDatabase() {
 		return mongoDb;
 	}
 
+	/**
+	 * Returns the executor running the reads requested through
+	 * {@link org.hibernate.ogm.dialect.async.spi.AsyncGridDialect}.
+	 *
+	 * @return the executor of the asynchronous reads
+	 */
+	public ExecutorService getAsyncExecutor() {
+		return asyncExecutor;
+	}
+
 	private MongoDatabase extractDatabase(MongoClient mongo, MongoDBConfiguration config) {
 		try {
 			String databaseName = config.getDatabaseName();
@@ -128,6 +128,21 @@ public MongoDBQueryDescriptor(String collectionName, Operation operation, Docume
 		this.aggregation = aggregation;
 	}
 
+	/**
+	 * Returns a descriptor of the same query with the given criteria, e.g. once the parameters of a parsed JP-QL query
+	 * have been bound.
+	 *
+	 * @param criteria the criteria of the returned descriptor
+	 * @return this descriptor if the criteria is the same, a copy using the given criteria otherwise
+	 */
+	public MongoDBQueryDescriptor withCriteria(Document criteria) {
+		if ( criteria == this.criteria ) {
+			return this;
+		}
+		return new MongoDBQueryDescriptor( collectionName, operation, criteria, projection, orderBy, options, updateOrInsertOne, updateOrInsertMany,
+				unwinds, distinctFieldName, mapFunction, reduceFunction, aggregation );
+	}
+
 	public List<Document> getPipeline() {
 		// pipeline should be unmodifiable because current instance is used by different requests
 		return Collections.unmodifiableList( pipeline );
@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.mongodb.query.parsing.impl;
 
+import java.util.Collections;
 import java.util.Map;
 
 import org.hibernate.SessionFactory;
@@ -34,8 +35,17 @@ public class MongoDBBasedQueryParserService extends BaseQueryParserService {
 
 	@Override
 	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString, Map<String, Object> namedParameters) {
+		throw new UnsupportedOperationException( "The MongoDB query parser supports parameterized queries" );
+	}
+
+	/**
+	 * The created queries contain {@link MongoDBQueryParameter} placeholders, bound to the parameter values by the
+	 * dialect when the query is executed.
+	 */
+	@Override
+	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString) {
 		QueryParser queryParser = new QueryParser();
-		MongoDBProcessingChain processingChain = createProcessingChain( sessionFactory, unwrap( namedParameters ) );
+		MongoDBProcessingChain processingChain = createProcessingChain( sessionFactory );
 
 		MongoDBQueryParsingResult result = queryParser.parseQuery( queryString, processingChain );
 		log.createdQuery( queryString, result );
@@ -43,24 +53,18 @@ public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, S
 		return result;
 	}
 
-	@Override
-	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString) {
-		throw new UnsupportedOperationException( "MongoDB does not support parameterized queries. Parameter values " +
-				"must be passed to the query parser." );
-	}
-
 	@Override
 	public boolean supportsParameters() {
-		return false;
+		return true;
 	}
 
-	private MongoDBProcessingChain createProcessingChain(SessionFactoryImplementor sessionFactory, Map<String, Object> namedParameters) {
+	private MongoDBProcessingChain createProcessingChain(SessionFactoryImplementor sessionFactory) {
 		EntityNamesResolver entityNamesResolver = getDefinedEntityNames( sessionFactory );
 
 		return new MongoDBProcessingChain(
 				sessionFactory,
 				entityNamesResolver,
-				namedParameters );
+				Collections.<String, Object>emptyMap() );
 	}
 
 	private EntityNamesResolver getDefinedEntityNames(SessionFactory sessionFactory) {
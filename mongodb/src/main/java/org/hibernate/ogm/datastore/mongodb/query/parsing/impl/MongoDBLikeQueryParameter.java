@@ -0,0 +1,29 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.query.parsing.impl;
+
+import org.hibernate.ogm.util.parser.impl.LikeExpressionToRegExpConverter;
+
+/**
+ * Placeholder for a named parameter giving the pattern of a {@code LIKE} predicate; the pattern is converted into a
+ * regular expression when the parameter is bound.
+ */
+public class MongoDBLikeQueryParameter extends MongoDBQueryParameter {
+
+	private final Character escapeCharacter;
+
+	public MongoDBLikeQueryParameter(String name, Character escapeCharacter) {
+		super( name );
+		this.escapeCharacter = escapeCharacter;
+	}
+
+	@Override
+	protected Object toQueryValue(Object parameterValue) {
+		LikeExpressionToRegExpConverter converter = new LikeExpressionToRegExpConverter( escapeCharacter );
+		return converter.getRegExpFromLikeExpression( (String) parameterValue );
+	}
+}
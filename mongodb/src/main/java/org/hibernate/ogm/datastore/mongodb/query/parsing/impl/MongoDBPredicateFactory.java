@@ -24,6 +24,7 @@
 import org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl.MongoDBDisjunctionPredicate;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl.MongoDBInPredicate;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl.MongoDBIsNullPredicate;
+import org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl.MongoDBLikeParameterPredicate;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl.MongoDBLikePredicate;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl.MongoDBNegationPredicate;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl.MongoDBRangePredicate;
@@ -33,7 +34,7 @@
 
 /**
  * Factory for {@link org.hibernate.hql.ast.spi.predicate.Predicate}s creating MongoDB queries in form of
- * {@link Document}s.
+ * {@link Document}s. Named parameters are kept as {@link MongoDBQueryParameter} placeholders.
  *
  * @author Gunnar Morling
  */
@@ -53,6 +54,9 @@ public RootPredicate<Document> getRootPredicate(String entityType) {
 	@Override
 	public ComparisonPredicate<Document> getComparisonPredicate(String entityType, Type comparisonType, List<String> propertyPath, Object value) {
 		String columnName = columnName( entityType, propertyPath );
+		if ( value instanceof MongoDBLikeQueryParameter ) {
+			return new MongoDBLikeParameterPredicate( columnName, (MongoDBLikeQueryParameter) value );
+		}
 		return new MongoDBComparisonPredicate( columnName, comparisonType, value );
 	}
 
@@ -56,6 +56,10 @@ protected Type getPropertyType(String entityType, List<String> propertyPath) {
 
 	@Override
 	public Object convertToBackendType(String entityType, List<String> propertyPath, Object value) {
+		if ( value instanceof MongoDBQueryParameter ) {
+			// Parameter values are converted by their own type when the query is executed
+			return value;
+		}
 		Type propertyType = getPropertyType( entityType, propertyPath );
 		if ( isElementCollection( propertyType ) ) {
 			// For collection of elements we return the type of the collection
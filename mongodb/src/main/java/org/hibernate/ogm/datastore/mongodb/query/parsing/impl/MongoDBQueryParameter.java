@@ -0,0 +1,99 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.query.parsing.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.bson.Document;
+
+/**
+ * Placeholder for a named parameter within a MongoDB query created from a JP-QL query.
+ * <p>
+ * Parsed queries keep these placeholders, so they can be cached once per query string; the parameter values are bound
+ * when the query is executed.
+ *
+ * @see #bind(Document, Map)
+ */
+public class MongoDBQueryParameter implements Serializable {
+
+	private final String name;
+
+	public MongoDBQueryParameter(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Converts the value of the parameter into the value to put in the query.
+	 *
+	 * @param parameterValue the value of the parameter, already converted into the backend type
+	 * @return the value to put in the query
+	 */
+	protected Object toQueryValue(Object parameterValue) {
+		return parameterValue;
+	}
+
+	/**
+	 * Replaces the parameter placeholders of the given query with the given parameter values. The query is not
+	 * modified; it is returned as is if it does not contain any placeholder.
+	 *
+	 * @param query the query, possibly containing placeholders
+	 * @param parameterValues the values of the named parameters
+	 * @return the query with the parameter values
+	 */
+	public static Document bind(Document query, Map<String, Object> parameterValues) {
+		return (Document) bindValue( query, parameterValues );
+	}
+
+	private static Object bindValue(Object value, Map<String, Object> parameterValues) {
+		if ( value instanceof MongoDBQueryParameter ) {
+			MongoDBQueryParameter parameter = (MongoDBQueryParameter) value;
+			return parameter.toQueryValue( parameterValues.get( parameter.getName() ) );
+		}
+		if ( value instanceof Document ) {
+			return bindDocument( (Document) value, parameterValues );
+		}
+		if ( value instanceof List ) {
+			return bindList( (List<?>) value, parameterValues );
+		}
+		return value;
+	}
+
+	private static Document bindDocument(Document document, Map<String, Object> parameterValues) {
+		Document bound = new Document();
+		boolean changed = false;
+		for ( Entry<String, Object> entry : document.entrySet() ) {
+			Object value = bindValue( entry.getValue(), parameterValues );
+			changed |= value != entry.getValue();
+			bound.put( entry.getKey(), value );
+		}
+		return changed ? bound : document;
+	}
+
+	private static List<?> bindList(List<?> list, Map<String, Object> parameterValues) {
+		List<Object> bound = new ArrayList<>( list.size() );
+		boolean changed = false;
+		for ( Object element : list ) {
+			Object value = bindValue( element, parameterValues );
+			changed |= value != element;
+			bound.add( value );
+		}
+		return changed ? bound : list;
+	}
+
+	@Override
+	public String toString() {
+		return ":" + name;
+	}
+}
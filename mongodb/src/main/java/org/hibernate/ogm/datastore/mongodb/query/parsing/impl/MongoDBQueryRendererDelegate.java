@@ -22,19 +22,23 @@
 import org.hibernate.hql.ast.spi.EntityNamesResolver;
 import org.hibernate.hql.ast.spi.SingleEntityHavingQueryBuilder;
 import org.hibernate.hql.ast.spi.SingleEntityQueryBuilder;
-import org.hibernate.hql.ast.spi.SingleEntityQueryRendererDelegate;
+import org.hibernate.hql.ast.spi.predicate.ComparisonPredicate;
 import org.hibernate.ogm.datastore.mongodb.logging.impl.Log;
 import org.hibernate.ogm.datastore.mongodb.logging.impl.LoggerFactory;
 import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryDescriptor;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.query.parsing.impl.KeepNamedParametersQueryRendererDelegate;
 import org.hibernate.ogm.util.impl.StringHelper;
 
 /**
  * Parser delegate which creates MongoDB queries in form of {@link Document}s.
+ * <p>
+ * Named parameters are rendered as {@link MongoDBQueryParameter} placeholders, bound to the parameter values when the
+ * query is executed.
  *
  * @author Gunnar Morling
  */
-public class MongoDBQueryRendererDelegate extends SingleEntityQueryRendererDelegate<Document, MongoDBQueryParsingResult> {
+public class MongoDBQueryRendererDelegate extends KeepNamedParametersQueryRendererDelegate<Document, MongoDBQueryParsingResult> {
 
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
@@ -196,6 +200,29 @@ private Document getProjectionDocument() {
 		return projectionDocument;
 	}
 
+	@Override
+	public void predicateLike(String patternValue, Character escapeCharacter) {
+		if ( !patternValue.startsWith( ":" ) ) {
+			super.predicateLike( patternValue, escapeCharacter );
+		}
+		else if ( status == Status.DEFINING_WHERE ) {
+			MongoDBLikeQueryParameter pattern = new MongoDBLikeQueryParameter( patternValue.substring( 1 ), escapeCharacter );
+			builder.addComparisonPredicate( resolveAlias( propertyPath ), ComparisonPredicate.Type.EQUALS, pattern );
+		}
+		else if ( status == Status.DEFINING_HAVING ) {
+			// Not rendered, MongoDBHavingQueryBuilder ignores the HAVING clause
+			getHavingBuilder().addLikePredicate( null, resolveAlias( propertyPath ), patternValue, escapeCharacter );
+		}
+		else {
+			throw new IllegalStateException();
+		}
+	}
+
+	@Override
+	protected Object getObjectParameter(String comparativePredicate) {
+		return new MongoDBQueryParameter( comparativePredicate.substring( 1 ) );
+	}
+
 	@Override
 	public void activateAggregation(AggregationPropertyPath.Type aggregationType) {
 		if ( aggregationType == Type.COUNT || aggregationType == Type.COUNT_DISTINCT ) {
@@ -0,0 +1,31 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.query.parsing.predicate.impl;
+
+import org.hibernate.hql.ast.spi.predicate.ComparisonPredicate;
+import org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBLikeQueryParameter;
+
+import org.bson.Document;
+
+/**
+ * MongoDB-based {@code LIKE} predicate whose pattern is given by a named parameter.
+ * <p>
+ * The query builder only accepts {@code LIKE} patterns given as strings, hence this predicate is created as an
+ * equality with a {@link MongoDBLikeQueryParameter}, which is bound to a regular expression when the query is
+ * executed.
+ */
+public class MongoDBLikeParameterPredicate extends MongoDBComparisonPredicate {
+
+	public MongoDBLikeParameterPredicate(String propertyName, MongoDBLikeQueryParameter pattern) {
+		super( propertyName, ComparisonPredicate.Type.EQUALS, pattern );
+	}
+
+	@Override
+	public Document getNegatedQuery() {
+		return new Document( propertyName, new Document( "$not", value ) );
+	}
+}
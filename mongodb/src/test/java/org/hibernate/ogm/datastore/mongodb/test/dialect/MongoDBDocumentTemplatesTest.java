@@ -0,0 +1,80 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.dialect;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBDocumentTemplates;
+import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBTupleSnapshot;
+import org.hibernate.ogm.dialect.impl.TupleTypeContextImpl;
+import org.hibernate.ogm.dialect.spi.TupleTypeContext;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.junit.Test;
+
+/**
+ * Checks the projections, id documents and field paths created once per entity type.
+ */
+public class MongoDBDocumentTemplatesTest {
+
+	@Test
+	public void shouldCacheFieldProjections() {
+		MongoDBDocumentTemplates templates = new MongoDBDocumentTemplates();
+
+		Bson projection = templates.getFieldProjection( "rows" );
+
+		assertThat( projection ).isSameAs( templates.getFieldProjection( "rows" ) );
+		assertThat( projection ).isEqualTo( BsonDocument.parse( "{ 'rows' : 1 }" ) );
+	}
+
+	@Test
+	public void shouldCreateCompositeIdDocuments() {
+		MongoDBDocumentTemplates templates = new MongoDBDocumentTemplates();
+		EntityKeyMetadata metadata = new DefaultEntityKeyMetadata( "News", new String[] { "newsId.author", "newsId.title" } );
+
+		String[] fieldNames = templates.getIdFieldNames( metadata );
+
+		assertThat( fieldNames ).isEqualTo( new String[] { "author", "title" } );
+		assertThat( fieldNames ).isSameAs( templates.getIdFieldNames( metadata ) );
+		assertThat( MongoDBDocumentTemplates.idValue( fieldNames, new Object[] { "Guillaume", "How to use OGM" } ) )
+				.isEqualTo( new Document( "author", "Guillaume" ).append( "title", "How to use OGM" ) );
+	}
+
+	@Test
+	public void shouldUseTheValueOfSingleColumnIds() {
+		String[] fieldNames = MongoDBDocumentTemplates.idFieldNames( new String[] { "id" } );
+
+		assertThat( MongoDBDocumentTemplates.idValue( fieldNames, new Object[] { 42L } ) ).isEqualTo( 42L );
+	}
+
+	@Test
+	public void shouldCacheFieldPaths() {
+		MongoDBDocumentTemplates templates = new MongoDBDocumentTemplates();
+		TupleTypeContext tupleTypeContext = new TupleTypeContextImpl( Arrays.asList( "name", "address.location.city" ),
+				Collections.<String>emptySet(), Collections.emptyMap(), Collections.<String, String>emptyMap(), null, null, null );
+
+		Map<String, String[]> fieldPaths = templates.getFieldPaths( tupleTypeContext );
+
+		assertThat( fieldPaths ).isSameAs( templates.getFieldPaths( tupleTypeContext ) );
+		assertThat( fieldPaths.get( "name" ) ).isEqualTo( new String[] { "name" } );
+		assertThat( fieldPaths.get( "address.location.city" ) ).isEqualTo( new String[] { "address", "location", "city" } );
+		assertThat( templates.getFieldPaths( null ) ).isEmpty();
+
+		Document document = new Document( "address", new Document( "location", new Document( "city", "Paris" ) ) );
+		MongoDBTupleSnapshot snapshot = new MongoDBTupleSnapshot( document, null, fieldPaths );
+		assertThat( snapshot.get( "address.location.city" ) ).isEqualTo( "Paris" );
+		assertThat( snapshot.getFieldPath( "address.location.city" ) ).isSameAs( fieldPaths.get( "address.location.city" ) );
+		assertThat( snapshot.getFieldPath( "address.street" ) ).isEqualTo( new String[] { "address", "street" } );
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.dialect;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.bson.Document;
+import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoHelpers;
+import org.junit.Test;
+
+/**
+ * Checks the access to the nested fields of documents through dotted paths.
+ */
+public class MongoHelpersTest {
+
+	@Test
+	public void shouldSplitPaths() {
+		assertThat( MongoHelpers.getPath( "name" ) ).containsOnly( "name" );
+		assertThat( MongoHelpers.getPath( "address.location.city" ) ).isEqualTo( new String[] { "address", "location", "city" } );
+		assertThat( MongoHelpers.getPath( "address.location." ) ).isEqualTo( new String[] { "address", "location" } );
+	}
+
+	@Test
+	public void shouldSetGetAndResetNestedValues() {
+		Document document = new Document( "name", "Jessie" );
+
+		MongoHelpers.setValue( document, "address.location.city", "Paris" );
+		assertThat( MongoHelpers.getValueOrNull( document, "address.location.city" ) ).isEqualTo( "Paris" );
+		assertThat( MongoHelpers.getValueOrNull( document, "address.street" ) ).isNull();
+		assertThat( MongoHelpers.getValueOrNull( document, "name.first" ) ).isNull();
+
+		MongoHelpers.resetValue( document, "address.location.city" );
+		assertThat( MongoHelpers.hasField( document, "address.location.city" ) ).isFalse();
+		assertThat( MongoHelpers.hasField( document, "address.location" ) ).isTrue();
+	}
+}
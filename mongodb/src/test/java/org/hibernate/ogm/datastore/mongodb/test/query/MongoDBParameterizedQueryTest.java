@@ -0,0 +1,131 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.query;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.spi.QueryTranslatorFactory;
+import org.hibernate.ogm.query.impl.OgmQueryTranslatorFactory;
+import org.hibernate.ogm.query.impl.QueryParsingCache;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.TestSessionFactory;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Checks that JP-QL queries with parameters are parsed once, whatever the parameter values.
+ */
+public class MongoDBParameterizedQueryTest extends OgmTestCase {
+
+	private static final int NUMBER_OF_HYPOTHESES = 5;
+
+	@TestSessionFactory
+	private static SessionFactory sessions;
+
+	private Session session;
+	private Transaction transaction;
+
+	@BeforeClass
+	public static void addTestEntities() {
+		Session session = sessions.openSession();
+		Transaction transaction = session.getTransaction();
+		transaction.begin();
+
+		for ( int i = 1; i <= NUMBER_OF_HYPOTHESES; i++ ) {
+			Hypothesis hypothesis = new Hypothesis( String.valueOf( i ) );
+			hypothesis.setPosition( i );
+			hypothesis.setDescription( "Hypothesis " + i );
+			session.persist( hypothesis );
+		}
+
+		transaction.commit();
+		session.close();
+	}
+
+	@AfterClass
+	public static void deleteTestEntities() {
+		Session session = sessions.openSession();
+		Transaction transaction = session.getTransaction();
+		transaction.begin();
+
+		for ( int i = 1; i <= NUMBER_OF_HYPOTHESES; i++ ) {
+			session.delete( new Hypothesis( String.valueOf( i ) ) );
+		}
+
+		transaction.commit();
+		session.close();
+	}
+
+	@Before
+	public void startTransaction() {
+		session = sessions.openSession();
+		transaction = session.getTransaction();
+		transaction.begin();
+	}
+
+	@After
+	public void commitTransaction() {
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void shouldParseQueryOnceForAllParameterValues() {
+		QueryParsingCache parsingCache = parsingCache();
+		long parsedQueries = parsingCache.getMissCount();
+
+		for ( int i = 1; i <= NUMBER_OF_HYPOTHESES; i++ ) {
+			List<?> results = session.createQuery( "from Hypothesis h where h.position = :position" )
+					.setParameter( "position", i )
+					.list();
+
+			assertThat( results ).onProperty( "id" ).containsOnly( String.valueOf( i ) );
+		}
+
+		assertThat( parsingCache.getMissCount() - parsedQueries ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void shouldParseLikeQueryOnceForAllPatterns() {
+		QueryParsingCache parsingCache = parsingCache();
+		long parsedQueries = parsingCache.getMissCount();
+
+		for ( int i = 1; i <= NUMBER_OF_HYPOTHESES; i++ ) {
+			List<?> results = session.createQuery( "from Hypothesis h where h.description like :pattern" )
+					.setParameter( "pattern", "%sis " + i )
+					.list();
+
+			assertThat( results ).onProperty( "id" ).containsOnly( String.valueOf( i ) );
+		}
+
+		List<?> results = session.createQuery( "from Hypothesis h where h.description not like :pattern" )
+				.setParameter( "pattern", "%sis 1" )
+				.list();
+		assertThat( results ).hasSize( NUMBER_OF_HYPOTHESES - 1 );
+
+		assertThat( parsingCache.getMissCount() - parsedQueries ).isEqualTo( 2 );
+	}
+
+	private static QueryParsingCache parsingCache() {
+		QueryTranslatorFactory translatorFactory = ( (SessionFactoryImplementor) sessions ).getServiceRegistry().getService( QueryTranslatorFactory.class );
+		return ( (OgmQueryTranslatorFactory) translatorFactory ).getParsingCache();
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Hypothesis.class };
+	}
+}
@@ -8,6 +8,7 @@
 
 import static org.fest.assertions.Assertions.assertThat;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -17,6 +18,7 @@
 import org.hibernate.ogm.datastore.mongodb.logging.impl.LoggerFactory;
 import java.lang.invoke.MethodHandles;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBProcessingChain;
+import org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBQueryParameter;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBQueryParsingResult;
 import org.hibernate.ogm.datastore.mongodb.test.query.parsing.model.IndexedEntity;
 import org.hibernate.ogm.datastore.mongodb.test.query.parsing.model.inheritance.singletable.CommunityMemberST;
@@ -24,6 +26,7 @@
 import org.hibernate.ogm.datastore.mongodb.test.query.parsing.model.inheritance.singletable.PersonST;
 import org.hibernate.ogm.datastore.mongodb.utils.MapBasedEntityNamesResolver;
 import org.hibernate.ogm.utils.OgmTestCase;
+import org.bson.Document;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -211,6 +214,17 @@ public void shouldCreateNumericBetweenQuery() {
 				"] }" );
 	}
 
+	@Test
+	public void shouldKeepParametersInQuery() {
+		MongoDBQueryParsingResult parsingResult = parseQuery( "select e from IndexedEntity e where e.title = :title" );
+
+		assertThat( parsingResult.getQuery().get( "title" ) ).isInstanceOf( MongoDBQueryParameter.class );
+		assertThat( MongoDBQueryParameter.bind( parsingResult.getQuery(), Collections.<String, Object>singletonMap( "title", "foo" ) ).toJson() )
+				.isEqualTo( "{ \"title\" : \"foo\" }" );
+		assertThat( MongoDBQueryParameter.bind( parsingResult.getQuery(), Collections.<String, Object>singletonMap( "title", "bar" ) ).toJson() )
+				.isEqualTo( "{ \"title\" : \"bar\" }" );
+	}
+
 	@Test
 	public void shouldCreateInQuery() {
 		assertMongoDbQuery(
@@ -253,6 +267,20 @@ public void shouldCreateNotLikeQuery() {
 				" }" );
 	}
 
+	@Test
+	public void shouldCreateNotLikeQueryWithParameter() {
+		assertMongoDbQuery(
+				"select e from IndexedEntity e where e.title not like :pattern",
+				Collections.<String, Object>singletonMap( "pattern", "Ali_e%" ),
+				"{ \"title\" : " +
+					"{ \"$not\" : " +
+						"{ \"$regex\" : \"^\\\\QAli\\\\E.\\\\Qe\\\\E.*$\", " +
+						"\"$options\" : \"s\"" +
+						" }" +
+					" }" +
+				" }" );
+	}
+
 	@Test
 	public void shouldCreateIsNullQuery() {
 		assertMongoDbQuery(
@@ -284,7 +312,7 @@ private void assertMongoDbQuery(String queryString, Map<String, Object> namedPar
 	}
 
 	private void assertMongoDbQuery(String queryString, Map<String, Object> namedParameters, String expectedMongoDbQuery, Class<?> expectedEntityType) {
-		MongoDBQueryParsingResult parsingResult = parseQuery( queryString, namedParameters );
+		MongoDBQueryParsingResult parsingResult = parseQuery( queryString );
 		assertThat( parsingResult ).isNotNull();
 		assertThat( parsingResult.getEntityType() ).isSameAs( expectedEntityType );
 
@@ -293,25 +321,24 @@ private void assertMongoDbQuery(String queryString, Map<String, Object> namedPar
 		}
 		else {
 			assertThat( parsingResult.getQuery() ).isNotNull();
+			Document query = namedParameters == null
+					? parsingResult.getQuery()
+					: MongoDBQueryParameter.bind( parsingResult.getQuery(), namedParameters );
 			log.debugf( "expectedMongoDbQuery: %s", expectedMongoDbQuery );
-			log.debugf( "  actualMongoDbQuery: %s", parsingResult.getQuery().toJson() );
+			log.debugf( "  actualMongoDbQuery: %s", query.toJson() );
 
-			assertThat( parsingResult.getQuery().toJson() ).isEqualTo( expectedMongoDbQuery );
+			assertThat( query.toJson() ).isEqualTo( expectedMongoDbQuery );
 		}
 	}
 
 	private MongoDBQueryParsingResult parseQuery(String queryString) {
-		return parseQuery( queryString, null );
-	}
-
-	private MongoDBQueryParsingResult parseQuery(String queryString, Map<String, Object> namedParameters) {
 		return queryParser.parseQuery(
 				queryString,
-				setUpMongoDbProcessingChain( namedParameters )
+				setUpMongoDbProcessingChain()
 				);
 	}
 
-	private MongoDBProcessingChain setUpMongoDbProcessingChain(Map<String, Object> namedParameters) {
+	private MongoDBProcessingChain setUpMongoDbProcessingChain() {
 		Map<String, Class<?>> entityNames = new HashMap<String, Class<?>>();
 		entityNames.put( "com.acme.IndexedEntity", IndexedEntity.class );
 		entityNames.put( "IndexedEntity", IndexedEntity.class );
@@ -320,7 +347,7 @@ private MongoDBProcessingChain setUpMongoDbProcessingChain(Map<String, Object> n
 		entityNames.put( "EmployeeST", EmployeeST.class );
 		EntityNamesResolver nameResolver = new MapBasedEntityNamesResolver( entityNames );
 
-		return new MongoDBProcessingChain( getSessionFactory(), nameResolver, namedParameters );
+		return new MongoDBProcessingChain( getSessionFactory(), nameResolver, Collections.<String, Object>emptyMap() );
 	}
 
 	@Override
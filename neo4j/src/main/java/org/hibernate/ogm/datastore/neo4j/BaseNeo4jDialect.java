@@ -10,6 +10,8 @@
 import static org.hibernate.ogm.datastore.neo4j.query.parsing.cypherdsl.impl.CypherDSL.skip;
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.isPartOfEmbedded;
 
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -24,7 +26,17 @@
 import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jEntityQueries;
 import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jTypeConverter;
 import org.hibernate.ogm.datastore.neo4j.dialect.impl.DiscriminatorAwareKeyMetadata;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
 import org.hibernate.ogm.datastore.neo4j.query.impl.Neo4jParameterMetadataBuilder;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
@@ -37,15 +49,19 @@
 import org.hibernate.ogm.dialect.spi.DuplicateInsertPreventionStrategy;
 import org.hibernate.ogm.dialect.spi.OperationContext;
 import org.hibernate.ogm.dialect.spi.SessionFactoryLifecycleAwareDialect;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.dialect.spi.TupleTypeContext;
 import org.hibernate.ogm.model.key.spi.AssociatedEntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKind;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.hibernate.ogm.model.spi.AssociationOperationType;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.TupleSnapshot;
 import org.hibernate.ogm.persister.impl.OgmCollectionPersister;
@@ -63,7 +79,7 @@
  * @author Davide D'Alto
  */
 public abstract class BaseNeo4jDialect<E extends BaseNeo4jEntityQueries, A extends BaseNeo4jAssociationQueries> extends BaseGridDialect
-		implements QueryableGridDialect<String>, ServiceRegistryAwareService, SessionFactoryLifecycleAwareDialect, MultigetGridDialect {
+		implements QueryableGridDialect<String>, ServiceRegistryAwareService, SessionFactoryLifecycleAwareDialect, MultigetGridDialect, BatchableGridDialect {
 
 	public static final String CONSTRAINT_VIOLATION_CODE = "Neo.ClientError.Schema.ConstraintValidationFailed";
 
@@ -73,6 +89,8 @@
 
 	protected static final Pattern TUPLE_ALREADY_EXISTS_EXCEPTION_PATTERN = Pattern.compile( ".*Node(\\(| )\\d+\\)? already exists with label.*" );
 
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
 	private ServiceRegistryImplementor serviceRegistry;
 
 	private final BaseNeo4jTypeConverter typeConverter;
@@ -132,6 +150,154 @@ public boolean supportsSequences() {
 		return true;
 	}
 
+	/**
+	 * Executes the operations of the queue.
+	 * <p>
+	 * The changes to the entities are collected until a removal and then passed to
+	 * {@link #executeBatchedTupleOperations(List)}, so that the dialects can write them with a few statements; the
+	 * changes to the associations are applied after them, because a relationship requires the nodes at both ends.
+	 */
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( queue != null && !queue.isClosed() ) {
+			List<InsertOrUpdateTupleOperation> tupleOperations = new ArrayList<>();
+			List<Operation> associationOperations = new ArrayList<>();
+			Operation operation = queue.poll();
+			while ( operation != null ) {
+				if ( operation instanceof GroupedChangesToEntityOperation ) {
+					for ( Operation groupedOperation : ( (GroupedChangesToEntityOperation) operation ).getOperations() ) {
+						addBatchedOperation( tupleOperations, associationOperations, groupedOperation );
+					}
+				}
+				else if ( operation instanceof RemoveTupleOperation ) {
+					// The node might be the target of one of the pending changes
+					executeBatchedOperations( tupleOperations, associationOperations );
+					RemoveTupleOperation removeTupleOperation = (RemoveTupleOperation) operation;
+					removeTuple( removeTupleOperation.getEntityKey(), removeTupleOperation.getTupleContext() );
+				}
+				else {
+					addBatchedOperation( tupleOperations, associationOperations, operation );
+				}
+				operation = queue.poll();
+			}
+			executeBatchedOperations( tupleOperations, associationOperations );
+			queue.clear();
+		}
+	}
+
+	private static void addBatchedOperation(List<InsertOrUpdateTupleOperation> tupleOperations, List<Operation> associationOperations, Operation operation) {
+		if ( operation instanceof InsertOrUpdateTupleOperation ) {
+			tupleOperations.add( (InsertOrUpdateTupleOperation) operation );
+		}
+		else if ( operation instanceof InsertOrUpdateAssociationOperation || operation instanceof RemoveAssociationOperation ) {
+			associationOperations.add( operation );
+		}
+		else {
+			throw new UnsupportedOperationException( "Operation not supported: " + operation.getClass().getSimpleName() );
+		}
+	}
+
+	private void executeBatchedOperations(List<InsertOrUpdateTupleOperation> tupleOperations, List<Operation> associationOperations) {
+		if ( !tupleOperations.isEmpty() ) {
+			executeBatchedTupleOperations( tupleOperations );
+			tupleOperations.clear();
+		}
+		if ( !associationOperations.isEmpty() ) {
+			executeBatchedAssociationOperations( associationOperations );
+			associationOperations.clear();
+		}
+	}
+
+	/**
+	 * Inserts or updates the tuples of a batch.
+	 *
+	 * @param operations the operations of the batch, in the order they have been queued; the same tuple can appear
+	 * more than once
+	 * @throws TupleAlreadyExistsException if one of the tuples to insert already exists
+	 */
+	protected abstract void executeBatchedTupleOperations(List<InsertOrUpdateTupleOperation> operations);
+
+	/**
+	 * Applies the changes to the associations of a batch, after the changes to the tuples.
+	 * <p>
+	 * The default implementation applies them one by one.
+	 *
+	 * @param operations the {@link InsertOrUpdateAssociationOperation}s and {@link RemoveAssociationOperation}s of the
+	 * batch, in the order they have been queued
+	 */
+	protected void executeBatchedAssociationOperations(List<Operation> operations) {
+		for ( Operation operation : operations ) {
+			executeAssociationOperation( operation );
+		}
+	}
+
+	protected void executeAssociationOperation(Operation operation) {
+		if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+			InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
+			insertOrUpdateAssociation( update.getAssociationKey(), update.getAssociation(), update.getContext() );
+		}
+		else {
+			RemoveAssociationOperation removal = (RemoveAssociationOperation) operation;
+			removeAssociation( removal.getAssociationKey(), removal.getContext() );
+		}
+	}
+
+	/**
+	 * Executes the operations queued before a read, which would not see them otherwise.
+	 *
+	 * @param operationContext the context of the read
+	 */
+	protected void executePendingOperations(OperationContext operationContext) {
+		OperationsQueue queue = operationContext.getOperationsQueue();
+		if ( queue != null && !queue.isClosed() && queue.size() > 0 ) {
+			try {
+				executeBatch( queue );
+			}
+			catch (TupleAlreadyExistsException taee) {
+				throw log.mustNotInsertSameEntityTwice( taee.getMessage(), taee );
+			}
+		}
+	}
+
+	/**
+	 * Executes the operations queued before reading the given entity, if some of them change it.
+	 *
+	 * @param key the key of the entity to read
+	 * @param operationContext the context of the read
+	 */
+	protected void executePendingOperations(EntityKey key, OperationContext operationContext) {
+		if ( isInTheInsertionQueue( key, operationContext ) ) {
+			executePendingOperations( operationContext );
+		}
+	}
+
+	/**
+	 * Whether all the changes to the given association are new relationships between entities, which can be created
+	 * together with the relationships of the same type.
+	 */
+	protected static boolean isBatchableAssociationUpdate(InsertOrUpdateAssociationOperation operation) {
+		if ( operation.getAssociationKey().getMetadata().getAssociationKind() != AssociationKind.ASSOCIATION ) {
+			return false;
+		}
+		for ( AssociationOperation associationOperation : operation.getAssociation().getOperations() ) {
+			if ( associationOperation.getType() != AssociationOperationType.PUT ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether a row of the given association can be looked up with a single relationship query, i.e. the association
+	 * is the main side of an association between entities.
+	 */
+	protected static boolean isRowLookupByRelationship(AssociationKey associationKey, AssociationContext associationContext) {
+		AssociationKeyMetadata associationKeyMetadata = associationKey.getMetadata();
+		return associationKeyMetadata.getAssociationKind() == AssociationKind.ASSOCIATION
+				&& !associationKeyMetadata.isInverse()
+				&& !isPartOfEmbedded( associationContext.getAssociationTypeContext().getRoleOnMainSide() );
+	}
+
 	protected RowKey convert(AssociationKey associationKey, TupleSnapshot snapshot) {
 		String[] columnNames = associationKey.getMetadata().getRowKeyColumnNames();
 		Object[] values = new Object[columnNames.length];
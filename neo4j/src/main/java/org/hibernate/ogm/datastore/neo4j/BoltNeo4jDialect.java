@@ -33,9 +33,14 @@
 import org.hibernate.ogm.datastore.neo4j.remote.bolt.impl.BoltNeo4jDatastoreProvider;
 import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jAssociationPropertiesRow;
 import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jAssociationSnapshot;
+import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jBatch;
 import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jTupleAssociationSnapshot;
 import org.hibernate.ogm.datastore.neo4j.remote.common.util.impl.RemoteNeo4jHelper;
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.dialect.associationsize.spi.AssociationSizeAwareGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
@@ -87,7 +92,7 @@
  *
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
  */
-public class BoltNeo4jDialect extends BaseNeo4jDialect<BoltNeo4jEntityQueries, BoltNeo4jAssociationQueries> implements RemoteNeo4jDialect, StoredProcedureAwareGridDialect {
+public class BoltNeo4jDialect extends BaseNeo4jDialect<BoltNeo4jEntityQueries, BoltNeo4jAssociationQueries> implements RemoteNeo4jDialect, StoredProcedureAwareGridDialect, AssociationSizeAwareGridDialect {
 
 	public static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
@@ -207,6 +212,7 @@ private Object[] columnValues(Map<String, Object> node, EntityKeyMetadata metada
 
 	@Override
 	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
+		executePendingOperations( key, operationContext );
 		Transaction tx = transaction( operationContext );
 		BoltNeo4jEntityQueries queries = getEntityQueries( key.getMetadata(), operationContext );
 		NodeWithEmbeddedNodes owner = queries.findEntity( tx, key.getColumnValues() );
@@ -232,6 +238,10 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 			return Collections.emptyList();
 		}
 
+		for ( EntityKey key : keys ) {
+			executePendingOperations( key, tupleContext );
+		}
+
 		// We only support one metadata for now
 		EntityKeyMetadata metadata = keys[0].getMetadata();
 		// The result returned by the query might not be in the same order as the keys.
@@ -306,6 +316,85 @@ public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleC
 		}
 	}
 
+	@Override
+	protected void executeBatchedTupleOperations(List<InsertOrUpdateTupleOperation> operations) {
+		RemoteNeo4jBatch<Statement> batch = new RemoteNeo4jBatch<>( Statement::new );
+		for ( InsertOrUpdateTupleOperation operation : operations ) {
+			addToBatch( batch, operation.getEntityKey(), operation.getTuplePointer().getTuple(), operation.getTupleContext() );
+		}
+		runBatch( transaction( operations.get( 0 ).getTupleContext() ), batch );
+	}
+
+	private void addToBatch(RemoteNeo4jBatch<Statement> batch, EntityKey key, Tuple tuple, TupleContext tupleContext) {
+		if ( batch.addTuple( key, tuple ) ) {
+			Map<String, EntityKey> toOneAssociations = new HashMap<>();
+			Map<String, Object> properties = new HashMap<>();
+			List<Statement> statements = new ArrayList<>();
+			applyTupleOperations( key, tuple, properties, toOneAssociations, statements, tuple.getOperations(), tupleContext, tupleContext.getTransactionContext() );
+			BoltNeo4jEntityQueries queries = getEntityQueries( key.getMetadata(), tupleContext );
+			if ( SnapshotType.INSERT.equals( tuple.getSnapshotType() ) ) {
+				batch.createNode( queries, properties );
+			}
+			else {
+				batch.updateNode( queries, key, properties );
+			}
+			batch.addStatements( statements );
+			for ( Map.Entry<String, EntityKey> entry : toOneAssociations.entrySet() ) {
+				batch.updateToOneAssociation( queries, key, entry.getKey(), entry.getValue() );
+			}
+		}
+	}
+
+	@Override
+	protected void executeBatchedAssociationOperations(List<Operation> operations) {
+		RemoteNeo4jBatch<Statement> batch = new RemoteNeo4jBatch<>( Statement::new );
+		Transaction tx = null;
+		for ( Operation operation : operations ) {
+			if ( operation instanceof InsertOrUpdateAssociationOperation && isBatchableAssociationUpdate( (InsertOrUpdateAssociationOperation) operation ) ) {
+				InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
+				tx = transaction( update.getContext() );
+				addToBatch( batch, update.getAssociationKey(), update.getAssociation(), update.getContext() );
+			}
+			else {
+				// The relationships collected so far might be affected by this operation
+				runBatch( tx, batch );
+				executeAssociationOperation( operation );
+			}
+		}
+		runBatch( tx, batch );
+	}
+
+	private void addToBatch(RemoteNeo4jBatch<Statement> batch, AssociationKey associationKey, Association association, AssociationContext associationContext) {
+		// The relationships are created when updating the main side
+		if ( !associationKey.getMetadata().isInverse() ) {
+			AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
+			BoltNeo4jAssociationQueries queries = getAssociationQueries( associationKey.getMetadata() );
+			for ( AssociationOperation operation : association.getOperations() ) {
+				Tuple associationRow = operation.getValue();
+				EntityKey targetKey = getEntityKey( associationRow, associatedEntityKeyMetadata );
+				batch.createRelationship( queries, associationKey.getEntityKey().getColumnValues(), targetKey.getColumnValues(),
+						relationshipProperties( associationKey, associationRow ) );
+			}
+		}
+	}
+
+	private void runBatch(Transaction tx, RemoteNeo4jBatch<Statement> batch) {
+		try {
+			if ( !batch.isEmpty() ) {
+				runAll( tx, batch.getStatements() );
+			}
+			batch.written();
+		}
+		catch (ClientException e) {
+			switch ( e.code() ) {
+				case BaseNeo4jDialect.CONSTRAINT_VIOLATION_CODE:
+					throw extractException( batch.getEntityKey( e.getMessage() ), e );
+				default:
+					throw new HibernateException( e.getMessage() );
+			}
+		}
+	}
+
 	private void runAll(Transaction tx, List<Statement> statements) {
 		for ( Statement statement : statements ) {
 			StatementResult result = tx.run( statement );
@@ -376,8 +465,8 @@ private void removeTupleOperation(EntityKey entityKey, Map<String, Object> owner
 		else {
 			String associationRole = tupleContext.getTupleTypeContext().getRole( operation.getColumn() );
 			if ( !processedAssociationRoles.contains( associationRole ) ) {
-				Transaction tx = (Transaction) transactionContext.getTransactionId();
-				getEntityQueries( entityKey.getMetadata(), tupleContext.getTupleTypeContext() ).removeToOneAssociation( tx, entityKey.getColumnValues(), associationRole );
+				Statement statement = getEntityQueries( entityKey.getMetadata(), tupleContext.getTupleTypeContext() ).removeToOneAssociationStatement( entityKey.getColumnValues(), associationRole );
+				statements.add( statement );
 			}
 		}
 	}
@@ -420,6 +509,7 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 
 	@Override
 	public Association getAssociation(AssociationKey associationKey, AssociationContext associationContext) {
+		executePendingOperations( associationContext );
 		EntityKey entityKey = associationKey.getEntityKey();
 		Transaction tx = transaction( associationContext );
 		NodeWithEmbeddedNodes node = getEntityQueries( entityKey.getMetadata(), associationContext ).findEntity( tx, entityKey.getColumnValues() );
@@ -431,6 +521,27 @@ public Association getAssociation(AssociationKey associationKey, AssociationCont
 		return new Association( new RemoteNeo4jAssociationSnapshot( tuples ) );
 	}
 
+	@Override
+	public int getAssociationSize(AssociationKey associationKey, AssociationContext associationContext) {
+		executePendingOperations( associationContext );
+		EntityKey entityKey = associationKey.getEntityKey();
+		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
+		Transaction tx = transaction( associationContext );
+		return getEntityQueries( entityKey.getMetadata(), associationContext )
+				.countAssociation( tx, entityKey.getColumnValues(), relationshipType, associationKey.getMetadata() );
+	}
+
+	@Override
+	public boolean containsRow(AssociationKey associationKey, RowKey rowKey, AssociationContext associationContext) {
+		executePendingOperations( associationContext );
+		if ( isRowLookupByRelationship( associationKey, associationContext ) ) {
+			Transaction tx = transaction( associationContext );
+			return getAssociationQueries( associationKey.getMetadata() ).findRelationship( tx, associationKey, rowKey ) != null;
+		}
+		Association association = getAssociation( associationKey, associationContext );
+		return association != null && association.get( rowKey ) != null;
+	}
+
 	private Map<RowKey, Tuple> createAssociationMap(AssociationKey associationKey, AssociationContext associationContext, EntityKey entityKey) {
 		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
 		Map<RowKey, Tuple> tuples = new HashMap<RowKey, Tuple>();
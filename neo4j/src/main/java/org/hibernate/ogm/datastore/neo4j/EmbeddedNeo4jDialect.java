@@ -9,11 +9,14 @@
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
 import static org.neo4j.graphdb.RelationshipType.withName;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -34,6 +37,8 @@
 import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
 import java.lang.invoke.MethodHandles;
+import org.hibernate.ogm.dialect.associationsize.spi.AssociationSizeAwareGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
@@ -70,6 +75,7 @@
 import org.neo4j.graphdb.ResourceIterator;
 import org.neo4j.graphdb.Result;
 import org.neo4j.kernel.api.exceptions.index.IndexEntryConflictException;
+import org.neo4j.kernel.api.exceptions.schema.UniquePropertyValueValidationException;
 
 /**
  * Abstracts Hibernate OGM from Neo4j.
@@ -83,7 +89,7 @@
  *
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
  */
-public class EmbeddedNeo4jDialect extends BaseNeo4jDialect<EmbeddedNeo4jEntityQueries, EmbeddedNeo4jAssociationQueries> implements StoredProcedureAwareGridDialect {
+public class EmbeddedNeo4jDialect extends BaseNeo4jDialect<EmbeddedNeo4jEntityQueries, EmbeddedNeo4jAssociationQueries> implements StoredProcedureAwareGridDialect, AssociationSizeAwareGridDialect {
 
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
@@ -109,6 +115,7 @@ protected EmbeddedNeo4jEntityQueries createNeo4jEntityQueries(EntityKeyMetadata
 
 	@Override
 	public Tuple getTuple(EntityKey key, OperationContext context) {
+		executePendingOperations( key, context );
 		Node entityNode = getEntityQueries( key.getMetadata(), context ).findEntity( dataBase, key.getColumnValues() );
 		if ( entityNode == null ) {
 			return null;
@@ -130,6 +137,10 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 			return Collections.emptyList();
 		}
 
+		for ( EntityKey key : keys ) {
+			executePendingOperations( key, tupleContext );
+		}
+
 		// We only supports one metadata for now
 		EntityKeyMetadata metadata = keys[0].getMetadata();
 		// The result returned by the query might not be in the same order as the keys.
@@ -206,17 +217,75 @@ private Node insertTuple(EntityKey key, Tuple tuple, TupleTypeContext tupleTypeC
 		try {
 			return getEntityQueries( key.getMetadata(), tupleTypeContext ).insertEntity( dataBase, key.getColumnValues() );
 		}
+		catch (ConstraintViolationException cve) {
+			if ( cve.getCause() instanceof UniquePropertyValueValidationException ) {
+				throw new TupleAlreadyExistsException( key, cve );
+			}
+			throw cve;
+		}
+	}
+
+	/**
+	 * Creates the nodes of the new tuples with one query for each label, then applies the changes of each tuple like
+	 * {@link #insertOrUpdateTuple(EntityKey, TuplePointer, TupleContext)}.
+	 */
+	@Override
+	protected void executeBatchedTupleOperations(List<InsertOrUpdateTupleOperation> operations) {
+		Set<Tuple> tuples = Collections.newSetFromMap( new IdentityHashMap<Tuple, Boolean>() );
+		List<InsertOrUpdateTupleOperation> batch = new ArrayList<>( operations.size() );
+		Map<EmbeddedNeo4jEntityQueries, List<InsertOrUpdateTupleOperation>> insertions = new LinkedHashMap<>();
+		for ( InsertOrUpdateTupleOperation operation : operations ) {
+			Tuple tuple = operation.getTuplePointer().getTuple();
+			// The operations of a tuple are applied once, even if it has been queued several times
+			if ( tuples.add( tuple ) ) {
+				batch.add( operation );
+				if ( ( (EmbeddedNeo4jTupleSnapshot) tuple.getSnapshot() ).isNew() ) {
+					EmbeddedNeo4jEntityQueries queries = getEntityQueries( operation.getEntityKey().getMetadata(), operation.getTupleContext() );
+					insertions.computeIfAbsent( queries, q -> new ArrayList<>() ).add( operation );
+				}
+			}
+		}
+		for ( Map.Entry<EmbeddedNeo4jEntityQueries, List<InsertOrUpdateTupleOperation>> entry : insertions.entrySet() ) {
+			insertTuples( entry.getKey(), entry.getValue() );
+		}
+		for ( InsertOrUpdateTupleOperation operation : batch ) {
+			insertOrUpdateTuple( operation.getEntityKey(), operation.getTuplePointer(), operation.getTupleContext() );
+		}
+	}
+
+	private void insertTuples(EmbeddedNeo4jEntityQueries queries, List<InsertOrUpdateTupleOperation> operations) {
+		List<EntityKey> keys = new ArrayList<>( operations.size() );
+		for ( InsertOrUpdateTupleOperation operation : operations ) {
+			keys.add( operation.getEntityKey() );
+		}
+		try {
+			List<Node> nodes = queries.insertEntities( dataBase, keys );
+			for ( int i = 0; i < nodes.size(); i++ ) {
+				( (EmbeddedNeo4jTupleSnapshot) operations.get( i ).getTuplePointer().getTuple().getSnapshot() ).setNode( nodes.get( i ) );
+			}
+		}
 		catch (QueryExecutionException qee) {
 			if ( CONSTRAINT_VIOLATION_CODE.equals( qee.getStatusCode() ) ) {
 				Throwable cause = findRecognizableCause( qee );
 				if ( cause instanceof IndexEntryConflictException ) {
-					throw new TupleAlreadyExistsException( key, qee );
+					throw new TupleAlreadyExistsException( conflictingKey( keys, (IndexEntryConflictException) cause ), qee );
 				}
 			}
 			throw qee;
 		}
 	}
 
+	private static EntityKey conflictingKey(List<EntityKey> keys, IndexEntryConflictException conflict) {
+		// Only the keys made of a single property have a unique constraint
+		Object value = conflict.getSinglePropertyValue().asObject();
+		for ( EntityKey key : keys ) {
+			if ( value.equals( key.getColumnValues()[0] ) ) {
+				return key;
+			}
+		}
+		return keys.get( 0 );
+	}
+
 	private Throwable findRecognizableCause(QueryExecutionException qee) {
 		Throwable cause = qee.getCause();
 		while ( cause.getCause() != null ) {
@@ -292,6 +361,7 @@ private Relationship createRelationshipWithTargetNode(AssociationKey association
 
 	@Override
 	public Association getAssociation(AssociationKey associationKey, AssociationContext associationContext) {
+		executePendingOperations( associationContext );
 		EntityKey entityKey = associationKey.getEntityKey();
 		Node entityNode = getEntityQueries( entityKey.getMetadata(), associationContext ).findEntity( dataBase, entityKey.getColumnValues() );
 		GraphLogger.log( "Found owner node: %1$s", entityNode );
@@ -305,23 +375,36 @@ public Association getAssociation(AssociationKey associationKey, AssociationCont
 
 	private Map<RowKey, Tuple> createAssociationMap(AssociationKey associationKey, AssociationContext associationContext, EntityKey entityKey) {
 		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
-		ResourceIterator<Relationship> relationships = getEntityQueries( entityKey.getMetadata(), associationContext )
+		List<Relationship> relationships = getEntityQueries( entityKey.getMetadata(), associationContext )
 				.findAssociation( dataBase, entityKey.getColumnValues(), relationshipType, associationKey.getMetadata() );
 
 		Map<RowKey, Tuple> tuples = new HashMap<RowKey, Tuple>();
-		try {
-			while ( relationships.hasNext() ) {
-				Relationship relationship = relationships.next();
-				AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
-				EmbeddedNeo4jTupleAssociationSnapshot snapshot = new EmbeddedNeo4jTupleAssociationSnapshot( relationship, associationKey, associatedEntityKeyMetadata );
-				RowKey rowKey = convert( associationKey, snapshot );
-				tuples.put( rowKey, new Tuple( snapshot, SnapshotType.UPDATE ) );
-			}
-			return tuples;
+		AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
+		for ( Relationship relationship : relationships ) {
+			EmbeddedNeo4jTupleAssociationSnapshot snapshot = new EmbeddedNeo4jTupleAssociationSnapshot( relationship, associationKey, associatedEntityKeyMetadata );
+			RowKey rowKey = convert( associationKey, snapshot );
+			tuples.put( rowKey, new Tuple( snapshot, SnapshotType.UPDATE ) );
 		}
-		finally {
-			relationships.close();
+		return tuples;
+	}
+
+	@Override
+	public int getAssociationSize(AssociationKey associationKey, AssociationContext associationContext) {
+		executePendingOperations( associationContext );
+		EntityKey entityKey = associationKey.getEntityKey();
+		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
+		return getEntityQueries( entityKey.getMetadata(), associationContext )
+				.countAssociation( dataBase, entityKey.getColumnValues(), relationshipType, associationKey.getMetadata() );
+	}
+
+	@Override
+	public boolean containsRow(AssociationKey associationKey, RowKey rowKey, AssociationContext associationContext) {
+		executePendingOperations( associationContext );
+		if ( isRowLookupByRelationship( associationKey, associationContext ) ) {
+			return getAssociationQueries( associationKey.getMetadata() ).findRelationship( dataBase, associationKey, rowKey ) != null;
 		}
+		Association association = getAssociation( associationKey, associationContext );
+		return association != null && association.get( rowKey ) != null;
 	}
 
 	@Override
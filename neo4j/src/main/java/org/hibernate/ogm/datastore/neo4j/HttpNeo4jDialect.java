@@ -21,6 +21,7 @@
 import java.lang.invoke.MethodHandles;
 import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jAssociationPropertiesRow;
 import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jAssociationSnapshot;
+import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jBatch;
 import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jTupleAssociationSnapshot;
 import org.hibernate.ogm.datastore.neo4j.remote.common.util.impl.RemoteNeo4jHelper;
 import org.hibernate.ogm.datastore.neo4j.remote.http.dialect.impl.HttpNeo4jAssociatedNodesHelper;
@@ -42,6 +43,10 @@
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementResult;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Statements;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementsResponse;
+import org.hibernate.ogm.dialect.associationsize.spi.AssociationSizeAwareGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
@@ -81,7 +86,7 @@
  *
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
  */
-public class HttpNeo4jDialect extends BaseNeo4jDialect<HttpNeo4jEntityQueries, HttpNeo4jAssociationQueries> implements RemoteNeo4jDialect, StoredProcedureAwareGridDialect {
+public class HttpNeo4jDialect extends BaseNeo4jDialect<HttpNeo4jEntityQueries, HttpNeo4jAssociationQueries> implements RemoteNeo4jDialect, StoredProcedureAwareGridDialect, AssociationSizeAwareGridDialect {
 
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
@@ -110,6 +115,7 @@ protected HttpNeo4jEntityQueries createNeo4jEntityQueries(EntityKeyMetadata enti
 
 	@Override
 	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
+		executePendingOperations( key, operationContext );
 		HttpNeo4jEntityQueries queries = getEntityQueries( key.getMetadata(), operationContext );
 		Long txId = transactionId( operationContext.getTransactionContext() );
 		NodeWithEmbeddedNodes owner = queries.findEntity( client, txId, key.getColumnValues() );
@@ -135,6 +141,10 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 			return Collections.emptyList();
 		}
 
+		for ( EntityKey key : keys ) {
+			executePendingOperations( key, tupleContext );
+		}
+
 		Long txId = transactionId( tupleContext.getTransactionContext() );
 		// We only supports one metadata for now
 		EntityKeyMetadata metadata = keys[0].getMetadata();
@@ -203,6 +213,80 @@ public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleC
 		tuple.setSnapshotType( SnapshotType.UPDATE );
 	}
 
+	@Override
+	protected void executeBatchedTupleOperations(List<InsertOrUpdateTupleOperation> operations) {
+		RemoteNeo4jBatch<Statement> batch = new RemoteNeo4jBatch<>( Statement::new );
+		for ( InsertOrUpdateTupleOperation operation : operations ) {
+			addToBatch( batch, operation.getEntityKey(), operation.getTuplePointer().getTuple(), operation.getTupleContext() );
+		}
+		runBatch( transactionId( operations.get( 0 ).getTupleContext().getTransactionContext() ), batch );
+	}
+
+	private void addToBatch(RemoteNeo4jBatch<Statement> batch, EntityKey key, Tuple tuple, TupleContext tupleContext) {
+		if ( batch.addTuple( key, tuple ) ) {
+			Map<String, EntityKey> toOneAssociations = new HashMap<>();
+			Map<String, Object> properties = new HashMap<>();
+			Statements statements = new Statements();
+			applyTupleOperations( key, tuple, properties, toOneAssociations, statements, tuple.getOperations(), tupleContext, tupleContext.getTransactionContext() );
+			HttpNeo4jEntityQueries queries = getEntityQueries( key.getMetadata(), tupleContext );
+			if ( SnapshotType.INSERT.equals( tuple.getSnapshotType() ) ) {
+				batch.createNode( queries, properties );
+			}
+			else {
+				batch.updateNode( queries, key, properties );
+			}
+			batch.addStatements( statements.getStatements() );
+			for ( Map.Entry<String, EntityKey> entry : toOneAssociations.entrySet() ) {
+				batch.updateToOneAssociation( queries, key, entry.getKey(), entry.getValue() );
+			}
+		}
+	}
+
+	@Override
+	protected void executeBatchedAssociationOperations(List<Operation> operations) {
+		RemoteNeo4jBatch<Statement> batch = new RemoteNeo4jBatch<>( Statement::new );
+		Long txId = null;
+		for ( Operation operation : operations ) {
+			if ( operation instanceof InsertOrUpdateAssociationOperation && isBatchableAssociationUpdate( (InsertOrUpdateAssociationOperation) operation ) ) {
+				InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
+				txId = transactionId( update.getContext().getTransactionContext() );
+				addToBatch( batch, update.getAssociationKey(), update.getAssociation(), update.getContext() );
+			}
+			else {
+				// The relationships collected so far might be affected by this operation
+				runBatch( txId, batch );
+				executeAssociationOperation( operation );
+			}
+		}
+		runBatch( txId, batch );
+	}
+
+	private void addToBatch(RemoteNeo4jBatch<Statement> batch, AssociationKey associationKey, Association association, AssociationContext associationContext) {
+		// The relationships are created when updating the main side
+		if ( !associationKey.getMetadata().isInverse() ) {
+			AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
+			HttpNeo4jAssociationQueries queries = getAssociationQueries( associationKey.getMetadata() );
+			for ( AssociationOperation operation : association.getOperations() ) {
+				Tuple associationRow = operation.getValue();
+				EntityKey targetKey = getEntityKey( associationRow, associatedEntityKeyMetadata );
+				batch.createRelationship( queries, associationKey.getEntityKey().getColumnValues(), targetKey.getColumnValues(),
+						relationshipProperties( associationKey, associationRow ) );
+			}
+		}
+	}
+
+	private void runBatch(Long txId, RemoteNeo4jBatch<Statement> batch) {
+		if ( !batch.isEmpty() ) {
+			Statements statements = new Statements();
+			statements.setStatements( batch.getStatements() );
+			StatementsResponse response = client.executeQueriesInOpenTransaction( txId, statements );
+			if ( !response.getErrors().isEmpty() ) {
+				validate( response, batch.getEntityKey( response.getErrors().get( 0 ).getMessage() ) );
+			}
+		}
+		batch.written();
+	}
+
 	private Long transactionId(TransactionContext context) {
 		return (Long) context.getTransactionId();
 	}
@@ -319,6 +403,7 @@ private Object[] relationshipProperties(AssociationKey associationKey, Tuple ass
 
 	@Override
 	public Association getAssociation(AssociationKey associationKey, AssociationContext associationContext) {
+		executePendingOperations( associationContext );
 		EntityKey entityKey = associationKey.getEntityKey();
 		Long transactionId = transactionId( associationContext.getTransactionContext() );
 		NodeWithEmbeddedNodes node = getEntityQueries( entityKey.getMetadata(), associationContext.getTupleTypeContext() ).findEntity( client, transactionId, entityKey.getColumnValues() );
@@ -330,6 +415,27 @@ public Association getAssociation(AssociationKey associationKey, AssociationCont
 		return new Association( new RemoteNeo4jAssociationSnapshot( tuples ) );
 	}
 
+	@Override
+	public int getAssociationSize(AssociationKey associationKey, AssociationContext associationContext) {
+		executePendingOperations( associationContext );
+		EntityKey entityKey = associationKey.getEntityKey();
+		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
+		Long txId = transactionId( associationContext.getTransactionContext() );
+		return getEntityQueries( entityKey.getMetadata(), associationContext )
+				.countAssociation( client, txId, entityKey.getColumnValues(), relationshipType, associationKey.getMetadata() );
+	}
+
+	@Override
+	public boolean containsRow(AssociationKey associationKey, RowKey rowKey, AssociationContext associationContext) {
+		executePendingOperations( associationContext );
+		if ( isRowLookupByRelationship( associationKey, associationContext ) ) {
+			Long txId = transactionId( associationContext.getTransactionContext() );
+			return getAssociationQueries( associationKey.getMetadata() ).findRelationship( client, txId, associationKey, rowKey ) != null;
+		}
+		Association association = getAssociation( associationKey, associationContext );
+		return association != null && association.get( rowKey ) != null;
+	}
+
 	private Map<RowKey, Tuple> createAssociationMap(AssociationKey associationKey, AssociationContext associationContext, EntityKey entityKey, TransactionContext transactionContext) {
 		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
 		Map<RowKey, Tuple> tuples = new HashMap<RowKey, Tuple>();
@@ -446,8 +552,8 @@ private void removeTupleOperation(EntityKey entityKey, Map<String, Object> owner
 		else {
 			String associationRole = tupleContext.getTupleTypeContext().getRole( operation.getColumn() );
 			if ( !processedAssociationRoles.contains( associationRole ) ) {
-				Long txId = transactionId( transactionContext );
-				getEntityQueries( entityKey.getMetadata(), tupleContext ).removeToOneAssociation( client, txId, entityKey.getColumnValues(), associationRole );
+				Statement statement = getEntityQueries( entityKey.getMetadata(), tupleContext ).removeToOneAssociationStatement( entityKey.getColumnValues(), associationRole );
+				statements.addStatement( statement );
 			}
 		}
 	}
@@ -44,6 +44,7 @@ public abstract class BaseNeo4jAssociationQueries extends BaseNeo4jQueries {
 	protected final String matchOwnerEntityNode;
 	protected final String findRelationshipQuery;
 	protected final String createRelationshipQuery;
+	protected final String batchCreateRelationshipQuery;
 	protected final String removeAssociationQuery;
 	protected final String removeAssociationRowQuery;
 
@@ -53,6 +54,7 @@ public BaseNeo4jAssociationQueries(EntityKeyMetadata ownerEntityKeyMetadata, Ass
 		this.removeAssociationRowQuery = initRemoveAssociationRowQuery( ownerEntityKeyMetadata, associationKeyMetadata );
 		this.findRelationshipQuery = initFindRelationshipQuery( ownerEntityKeyMetadata, associationKeyMetadata );
 		this.createRelationshipQuery = initCreateRelationshipQuery( ownerEntityKeyMetadata, associationKeyMetadata );
+		this.batchCreateRelationshipQuery = initBatchCreateRelationshipQuery( ownerEntityKeyMetadata, associationKeyMetadata );
 		this.matchOwnerEntityNode = initMatchOwnerEntityNode( ownerEntityKeyMetadata );
 	}
 
@@ -129,6 +131,28 @@ private static String initCreateRelationshipQuery(EntityKeyMetadata ownerEntityK
 		return queryBuilder.toString();
 	}
 
+	/*
+	 * UNWIND {rows} AS row
+	 * MATCH (n:ENTITY:table1 {id: row.owner[0]}), (t:ENTITY:table2 {id: row.target[0]})
+	 * MERGE (n) -[r:role {index: row.index[0]}]-> (t)
+	 */
+	private static String initBatchCreateRelationshipQuery(EntityKeyMetadata ownerEntityKeyMetadata, AssociationKeyMetadata associationKeyMetadata) {
+		EntityKeyMetadata targetEntityKeyMetadata = associationKeyMetadata.getAssociatedEntityKeyMetadata().getEntityKeyMetadata();
+		StringBuilder queryBuilder = new StringBuilder();
+		appendUnwindRows( queryBuilder );
+		queryBuilder.append( "MATCH " );
+		appendEntityNodeForRow( "n", ownerEntityKeyMetadata, "owner", queryBuilder );
+		queryBuilder.append( ", " );
+		appendEntityNodeForRow( "t", targetEntityKeyMetadata, "target", queryBuilder );
+		queryBuilder.append( " MERGE (n)" );
+		queryBuilder.append( " -[r" );
+		queryBuilder.append( ":" );
+		appendRelationshipType( queryBuilder, associationKeyMetadata );
+		appendRowProperties( queryBuilder, associationKeyMetadata.getRowKeyIndexColumnNames(), "index" );
+		queryBuilder.append( "]-> (t)" );
+		return queryBuilder.toString();
+	}
+
 	/*
 	 * Example with association:
 	 *
@@ -299,6 +323,31 @@ private EntityKey getEntityKey(AssociationKey associationKey, RowKey rowKey) {
 		return new EntityKey( entityKeyMetadata, columnValues );
 	}
 
+	/**
+	 * Merges the relationships of several rows of the association with entity nodes.
+	 *
+	 * @return the query, see {@link #createRelationshipRow(Object[], Object[], Object[])} for the rows
+	 */
+	public String getBatchCreateRelationshipQuery() {
+		return batchCreateRelationshipQuery;
+	}
+
+	/**
+	 * The row of {@link #getBatchCreateRelationshipQuery()} for a relationship between two entities.
+	 *
+	 * @param ownerKeyValues the values of the key of the owner of the association
+	 * @param targetKeyValues the values of the key of the associated entity
+	 * @param relationshipProperties the values of the index columns of the association
+	 * @return the row
+	 */
+	public static Map<String, Object> createRelationshipRow(Object[] ownerKeyValues, Object[] targetKeyValues, Object[] relationshipProperties) {
+		Map<String, Object> row = new HashMap<>( 4 );
+		row.put( "owner", Arrays.asList( ownerKeyValues ) );
+		row.put( "target", Arrays.asList( targetKeyValues ) );
+		row.put( "index", Arrays.asList( relationshipProperties ) );
+		return row;
+	}
+
 	private static void appendRelationshipType(StringBuilder queryBuilder, AssociationKeyMetadata associationKeyMetadata) {
 		escapeIdentifier( queryBuilder, associationKeyMetadata.getCollectionRole() );
 	}
@@ -12,6 +12,8 @@
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.isPartOfEmbedded;
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -48,26 +50,21 @@ public abstract class BaseNeo4jEntityQueries extends BaseNeo4jQueries {
 	private static final int CACHE_CAPACITY = 1000;
 	private static final int CACHE_CONCURRENCY_LEVEL = 20;
 
-	/**
-	 * true if we the keys are mapped with a single property
-	 */
-	protected final boolean singlePropertyKey;
-	protected final String[] keyColumns;
-	protected final String multiGetQuery;
-
 	private final Map<String, String> findEmbeddedNodeQueries;
 	private final Map<String, String> removeEmbeddedPropertyQuery;
 	private final Map<String, String> removePropertyQueries;
 
 	private final BoundedConcurrentHashMap<String, String> updateEmbeddedPropertyQueryCache;
 	private final BoundedConcurrentHashMap<String, String> findAssociationQueryCache;
-	private final BoundedConcurrentHashMap<Integer, String> multiGetQueryCache;
+
+	private final BoundedConcurrentHashMap<String, String> countAssociationQueryCache;
 
 	private final String removeToOneAssociation;
 	private final String createEmbeddedNodeQuery;
 	private final String findEntityQuery;
 	private final String findEntityWithEmbeddedEndNodeQuery;
 	private final String findEntitiesQuery;
+	private final String multiGetQuery;
 	private final String findAssociationPartialQuery;
 	private final String createEntityQuery;
 	private final String createEntityWithPropertiesQuery;
@@ -76,6 +73,9 @@ public abstract class BaseNeo4jEntityQueries extends BaseNeo4jQueries {
 	private final String updateEmbeddedNodeQuery;
 	private final Map<String, String> updateToOneQuery;
 	private final Map<String, String> findAssociatedEntityQuery;
+	private final String batchCreateEntitiesQuery;
+	private final String batchUpdateEntitiesQuery;
+	private final Map<String, String> batchUpdateToOneQuery;
 
 	/**
 	 * if {@code true} we are going to return the embedded nodes when an entity node is returned.
@@ -90,7 +90,7 @@ public BaseNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleTypeCont
 		this.includeEmbedded = includeEmbedded;
 		this.updateEmbeddedPropertyQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.findAssociationQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.multiGetQueryCache = new BoundedConcurrentHashMap<Integer, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.countAssociationQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 
 		this.findAssociationPartialQuery = initMatchOwnerEntityNode( entityKeyMetadata );
 		this.createEmbeddedNodeQuery = initCreateEmbeddedNodeQuery( entityKeyMetadata );
@@ -104,6 +104,9 @@ public BaseNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleTypeCont
 		this.updateEmbeddedNodeQuery = initUpdateEmbeddedNodeQuery( entityKeyMetadata );
 		this.updateToOneQuery = initUpdateToOneQuery( entityKeyMetadata, tupleTypeContext );
 		this.findAssociatedEntityQuery = initFindAssociatedEntityQuery( entityKeyMetadata, tupleTypeContext );
+		this.batchCreateEntitiesQuery = initBatchCreateEntitiesQuery( entityKeyMetadata );
+		this.batchUpdateEntitiesQuery = initBatchUpdateEntitiesQuery( entityKeyMetadata );
+		this.batchUpdateToOneQuery = initBatchUpdateToOneQuery( entityKeyMetadata, tupleTypeContext );
 		this.findEmbeddedNodeQueries = initFindEmbeddedNodeQuery( entityKeyMetadata, tupleTypeContext );
 
 		this.multiGetQuery = initMultiGetEntitiesQuery( entityKeyMetadata, includeEmbedded );
@@ -111,8 +114,6 @@ public BaseNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleTypeCont
 		this.removeEmbeddedPropertyQuery = initRemoveEmbeddedPropertyQuery( entityKeyMetadata, tupleTypeContext );
 		this.removePropertyQueries = initRemovePropertyQueries( entityKeyMetadata, tupleTypeContext );
 		this.removeToOneAssociation = initRemoveToOneAssociation( entityKeyMetadata, tupleTypeContext );
-		this.singlePropertyKey = entityKeyMetadata.getColumnNames().length == 1;
-		this.keyColumns = entityKeyMetadata.getColumnNames();
 	}
 
 	private String initRemoveToOneAssociation(EntityKeyMetadata entityKeyMetadata, TupleTypeContext tupleTypeContext) {
@@ -147,38 +148,19 @@ private Map<String, String> initRemovePropertyQueries(EntityKeyMetadata entityKe
 	}
 
 	/*
-	 * This method will initialize the query string for a multi get.
-	 * The query is different in the two scenarios:
-	 * 1) the id is mapped on a single property:
-	 *
-	 * MATCH (n:ENTITY:table)
-	 * WHERE n.id IN {0}
-	 * RETURN n
+	 * The same query is used for any number of keys and for ids mapped on one or several properties, so that Neo4j
+	 * only keeps one plan for it. Example:
 	 *
-	 * 2) id is mapped on multiple columns:
-	 *
-	 * MATCH (n:ENTITY:table)
-	 * WHERE
-	 *
-	 * In this case the query depends on how many id we are retrieving and it will be completed later
+	 * UNWIND {rows} AS row
+	 * MATCH (owner:ENTITY:table {`id.property1`: row.key[0], `id.property2`: row.key[1]})
+	 * RETURN owner
 	 */
 	private static String initMultiGetEntitiesQuery(EntityKeyMetadata entityKeyMetadata, boolean includeEmbedded) {
-		StringBuilder queryBuilder = new StringBuilder( "MATCH " );
-		queryBuilder.append( "(" );
-		queryBuilder.append( ENTITY_ALIAS );
-		queryBuilder.append( ":" );
-		queryBuilder.append( ENTITY );
-		queryBuilder.append( ":" );
-		appendLabel( entityKeyMetadata, queryBuilder );
-		queryBuilder.append( ") " );
-		queryBuilder.append( " WHERE " );
-		if ( entityKeyMetadata.getColumnNames().length == 1 ) {
-			queryBuilder.append( ENTITY_ALIAS );
-			queryBuilder.append( "." );
-			escapeIdentifier( queryBuilder, entityKeyMetadata.getColumnNames()[0] );
-			queryBuilder.append( " IN {0}" );
-			appendGetEmbeddedNodesIfNeeded( includeEmbedded, queryBuilder );
-		}
+		StringBuilder queryBuilder = new StringBuilder();
+		appendUnwindRows( queryBuilder );
+		queryBuilder.append( "MATCH " );
+		appendEntityNodeForRow( ENTITY_ALIAS, entityKeyMetadata, "key", queryBuilder );
+		appendGetEmbeddedNodesIfNeeded( includeEmbedded, queryBuilder );
 		return queryBuilder.toString();
 	}
 
@@ -261,6 +243,49 @@ private Map<String, String> initUpdateToOneQuery(EntityKeyMetadata ownerEntityKe
 		return Collections.emptyMap();
 	}
 
+	/*
+	 * Example:
+	 *
+	 * UNWIND {rows} AS row
+	 * MATCH (owner:ENTITY:table {id: row.owner[0]}), (target:ENTITY:table2 {id: row.target[0]})
+	 * OPTIONAL MATCH (owner) -[r:role]-> () DELETE r
+	 * WITH DISTINCT owner, target
+	 * CREATE (owner) -[:role]-> (target)
+	 */
+	private Map<String, String> initBatchUpdateToOneQuery(EntityKeyMetadata ownerEntityKeyMetadata, TupleTypeContext tupleTypeContext) {
+		if ( tupleTypeContext != null ) {
+			Map<String, AssociatedEntityKeyMetadata> allAssociatedEntityKeyMetadata = tupleTypeContext.getAllAssociatedEntityKeyMetadata();
+			Map<String, String> queries = new HashMap<>( allAssociatedEntityKeyMetadata.size() );
+			for ( Entry<String, AssociatedEntityKeyMetadata> entry : allAssociatedEntityKeyMetadata.entrySet() ) {
+				String associationRole = tupleTypeContext.getRole( entry.getKey() );
+				EntityKeyMetadata targetKeyMetadata = entry.getValue().getEntityKeyMetadata();
+				StringBuilder queryBuilder = new StringBuilder();
+				appendUnwindRows( queryBuilder );
+				queryBuilder.append( "MATCH " );
+				appendEntityNodeForRow( ENTITY_ALIAS, ownerEntityKeyMetadata, "owner", queryBuilder );
+				queryBuilder.append( ", " );
+				appendEntityNodeForRow( "target", targetKeyMetadata, "target", queryBuilder );
+				queryBuilder.append( " OPTIONAL MATCH (" );
+				queryBuilder.append( ENTITY_ALIAS );
+				queryBuilder.append( ")" );
+				queryBuilder.append( " -[r:" );
+				appendRelationshipType( queryBuilder, associationRole );
+				queryBuilder.append( "]-> () DELETE r" );
+				queryBuilder.append( " WITH DISTINCT " );
+				queryBuilder.append( ENTITY_ALIAS );
+				queryBuilder.append( ", target" );
+				queryBuilder.append( " CREATE (" );
+				queryBuilder.append( ENTITY_ALIAS );
+				queryBuilder.append( ") -[:" );
+				appendRelationshipType( queryBuilder, associationRole );
+				queryBuilder.append( "]-> (target)" );
+				queries.put( associationRole, queryBuilder.toString() );
+			}
+			return queries;
+		}
+		return Collections.emptyMap();
+	}
+
 	private Map<String, String> initFindAssociatedEntityQuery(EntityKeyMetadata ownerEntityKeyMetadata, TupleTypeContext tupleTypeContext) {
 		if ( tupleTypeContext != null ) {
 			Map<String, AssociatedEntityKeyMetadata> allAssociatedEntityKeyMetadata = tupleTypeContext.getAllAssociatedEntityKeyMetadata();
@@ -343,6 +368,18 @@ private String completeFindAssociationQuery(String relationshipType, Association
 		return queryBuilder.toString();
 	}
 
+	/*
+	 * Example:
+	 *
+	 * MATCH (owner:ENTITY:Car {`carId.maker`: {0}, `carId.model`: {1}}) <-[r:tires]- (target)
+	 * RETURN count(r)
+	 */
+	private String completeCountAssociationQuery(String relationshipType, AssociationKeyMetadata associationKeyMetadata) {
+		StringBuilder queryBuilder = findAssociationPartialQuery( relationshipType, associationKeyMetadata );
+		queryBuilder.append( "RETURN count(r)" );
+		return queryBuilder.toString();
+	}
+
 	/*
 	 * Example:
 	 *
@@ -545,6 +582,34 @@ private static String initCreateEntityWithPropertiesQuery(EntityKeyMetadata enti
 		return queryBuilder.toString();
 	}
 
+	/*
+	 * Example: UNWIND {rows} AS row CREATE (owner:ENTITY:table) SET owner = row
+	 */
+	private static String initBatchCreateEntitiesQuery(EntityKeyMetadata entityKeyMetadata) {
+		StringBuilder queryBuilder = new StringBuilder();
+		appendUnwindRows( queryBuilder );
+		queryBuilder.append( "CREATE " );
+		appendEntityNode( ENTITY_ALIAS, entityKeyMetadata, queryBuilder, 0, false );
+		queryBuilder.append( " SET " );
+		queryBuilder.append( ENTITY_ALIAS );
+		queryBuilder.append( " = row" );
+		return queryBuilder.toString();
+	}
+
+	/*
+	 * Example: UNWIND {rows} AS row MATCH (owner:ENTITY:table {id: row.key[0]}) SET owner += row.properties
+	 */
+	private static String initBatchUpdateEntitiesQuery(EntityKeyMetadata entityKeyMetadata) {
+		StringBuilder queryBuilder = new StringBuilder();
+		appendUnwindRows( queryBuilder );
+		queryBuilder.append( "MATCH " );
+		appendEntityNodeForRow( ENTITY_ALIAS, entityKeyMetadata, "key", queryBuilder );
+		queryBuilder.append( " SET " );
+		queryBuilder.append( ENTITY_ALIAS );
+		queryBuilder.append( " += row.properties" );
+		return queryBuilder.toString();
+	}
+
 	/*
 	 * Example: MATCH (n:ENTITY:table {id: {0}}) OPTIONAL MATCH (n) - [r] - () DELETE n, r
 	 */
@@ -623,66 +688,10 @@ public String getFindAssociationQuery(String relationshipType, AssociationKeyMet
 		);
 	}
 
-	/*
-	 * When the id is mapped on several properties
-	 */
-	protected String getMultiGetQueryCacheQuery(EntityKey[] keys) {
-		int numberOfKeys = keys.length;
-		String query = multiGetQueryCache.get( numberOfKeys );
-		if ( query == null ) {
-			query = createMultiGetOnMultiplePropertiesId( numberOfKeys );
-			String cached = multiGetQueryCache.putIfAbsent( numberOfKeys, query );
-			if ( cached != null ) {
-				query = cached;
-			}
-		}
-		return query;
-	}
-
-	protected Map<String, Object> multiGetParams(EntityKey[] keys) {
-		// We assume only one metadata type
-		int numberOfColumnNames = keys[0].getColumnNames().length;
-		int numberOfParams = keys.length * numberOfColumnNames;
-		int counter = 0;
-		Map<String, Object> params = new HashMap<>( numberOfParams );
-		for ( int row = 0; row < keys.length; row++ ) {
-			for ( int col = 0; col < keys[row].getColumnValues().length; col++ ) {
-				params.put( String.valueOf( counter++ ), keys[row].getColumnValues()[col] );
-			}
-		}
-		return params;
-	}
-
-	/*
-	 * Example:
-	 *
-	 * MATCH (n:ENTITY:table)
-	 * WHERE (n.id.property1 = {0} AND n.id.property2 = {1} ) OR (n.id.property1 = {2} AND n.id.property2 = {3} )
-	 * RETURN n
-	 */
-	private String createMultiGetOnMultiplePropertiesId(int keysNumber) {
-		StringBuilder builder = new StringBuilder( multiGetQuery );
-		int counter = 0;
-		for ( int row = 0; row < keysNumber; row++ ) {
-			builder.append( "(" );
-			for ( int col = 0; col < keyColumns.length; col++ ) {
-				builder.append( ENTITY_ALIAS );
-				builder.append( "." );
-				escapeIdentifier( builder, keyColumns[col] );
-				builder.append( " = {" );
-				builder.append( counter++ );
-				builder.append( "}" );
-				if ( col < keyColumns.length - 1 ) {
-					builder.append( " AND " );
-				}
-			}
-			builder.append( ")" );
-			if ( row < keysNumber - 1 ) {
-				builder.append( " OR " );
-			}
-		}
-		appendGetEmbeddedNodesIfNeeded( includeEmbedded, builder );
-		return builder.toString();
+	public String getCountAssociationQuery(String relationshipType, AssociationKeyMetadata associationKeyMetadata) {
+		return countAssociationQueryCache.computeIfAbsent( associationKeyMetadata.getCollectionRole(),
+				role -> completeCountAssociationQuery( relationshipType, associationKeyMetadata )
+		);
 	}
 
 	public String getUpdateEntityPropertiesQuery( Map<String, Object> properties ) {
@@ -701,6 +710,83 @@ public String getUpdateEntityPropertiesQuery( Map<String, Object> properties ) {
 		return queryBuilder.substring( 0, queryBuilder.length() - 2 );
 	}
 
+	/**
+	 * The parameters of a query applying the same changes to several elements, one for each row.
+	 *
+	 * @param rows the values used by the query for each element
+	 * @return the parameters of the query
+	 */
+	public static Map<String, Object> unwindParams(List<Map<String, Object>> rows) {
+		return Collections.<String, Object>singletonMap( ROWS_PARAMETER, rows );
+	}
+
+	/**
+	 * The row of {@link #getBatchUpdateEntitiesQuery()} setting the given properties on an entity node.
+	 *
+	 * @param keyValues the values of the key of the entity
+	 * @param properties the properties to set on the node
+	 * @return the row
+	 */
+	public static Map<String, Object> updateEntityRow(Object[] keyValues, Map<String, Object> properties) {
+		Map<String, Object> row = new HashMap<>( 4 );
+		row.put( "key", Arrays.asList( keyValues ) );
+		row.put( "properties", properties );
+		return row;
+	}
+
+	/**
+	 * The parameters of {@link #getMultiGetQuery()} finding the entities with the given keys.
+	 *
+	 * @param keys the keys of the entities
+	 * @return the parameters of the query
+	 */
+	public static Map<String, Object> multiGetParams(EntityKey[] keys) {
+		List<Map<String, Object>> rows = new ArrayList<>( keys.length );
+		for ( EntityKey key : keys ) {
+			rows.add( Collections.<String, Object>singletonMap( "key", Arrays.asList( key.getColumnValues() ) ) );
+		}
+		return unwindParams( rows );
+	}
+
+	/**
+	 * The row of {@link #getBatchUpdateToOneQuery(String)} pointing the to-one association of an entity to a new
+	 * target.
+	 *
+	 * @param ownerKeyValues the values of the key of the owner of the association
+	 * @param targetKeyValues the values of the key of the associated entity
+	 * @return the row
+	 */
+	public static Map<String, Object> updateToOneRow(Object[] ownerKeyValues, Object[] targetKeyValues) {
+		Map<String, Object> row = new HashMap<>( 4 );
+		row.put( "owner", Arrays.asList( ownerKeyValues ) );
+		row.put( "target", Arrays.asList( targetKeyValues ) );
+		return row;
+	}
+
+	/**
+	 * Creates one node for each row, using the row as the properties of the node.
+	 *
+	 * @return the query creating the nodes of several entities
+	 */
+	public String getBatchCreateEntitiesQuery() {
+		return batchCreateEntitiesQuery;
+	}
+
+	/**
+	 * @return the query updating the properties of several entities, see {@link #updateEntityRow(Object[], Map)}
+	 */
+	public String getBatchUpdateEntitiesQuery() {
+		return batchUpdateEntitiesQuery;
+	}
+
+	/**
+	 * @param associationRole the role of the to-one association
+	 * @return the query updating the association of several entities, see {@link #updateToOneRow(Object[], Object[])}
+	 */
+	public String getBatchUpdateToOneQuery(String associationRole) {
+		return batchUpdateToOneQuery.get( associationRole );
+	}
+
 	public String getCreateEmbeddedNodeQuery() {
 		return createEmbeddedNodeQuery;
 	}
@@ -717,6 +803,15 @@ public String getFindEntitiesQuery() {
 		return findEntitiesQuery;
 	}
 
+	/**
+	 * The results follow the order of the keys; there is no result for the keys without a matching node.
+	 *
+	 * @return the query finding the entities with the given keys, see {@link #multiGetParams(EntityKey[])}
+	 */
+	public String getMultiGetQuery() {
+		return multiGetQuery;
+	}
+
 	public String getFindAssociationPartialQuery() {
 		return findAssociationPartialQuery;
 	}
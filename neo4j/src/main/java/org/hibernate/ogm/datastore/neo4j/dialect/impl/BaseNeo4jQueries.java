@@ -23,6 +23,11 @@
  */
 class BaseNeo4jQueries {
 
+	/**
+	 * The parameter containing the rows of the queries applied to several elements with {@code UNWIND}.
+	 */
+	static final String ROWS_PARAMETER = "rows";
+
 	protected static void appendLabel(EntityKeyMetadata entityKeyMetadata, StringBuilder queryBuilder) {
 		escapeIdentifier( queryBuilder, entityKeyMetadata.getTable() );
 	}
@@ -47,6 +52,56 @@ protected static void appendProperties(StringBuilder queryBuilder, String[] colu
 		}
 	}
 
+	/*
+	 * Example:
+	 *
+	 * UNWIND {rows} AS row
+	 */
+	protected static void appendUnwindRows(StringBuilder queryBuilder) {
+		queryBuilder.append( "UNWIND {" );
+		queryBuilder.append( ROWS_PARAMETER );
+		queryBuilder.append( "} AS row " );
+	}
+
+	/*
+	 * Example, with rowField = "key":
+	 *
+	 *  {id: row.key[0]}
+	 */
+	protected static void appendRowProperties(StringBuilder queryBuilder, String[] columnNames, String rowField) {
+		if ( columnNames.length > 0 ) {
+			queryBuilder.append( " {" );
+			for ( int i = 0; i < columnNames.length; i++ ) {
+				escapeIdentifier( queryBuilder, columnNames[i] );
+				queryBuilder.append( ": row." );
+				queryBuilder.append( rowField );
+				queryBuilder.append( "[" );
+				queryBuilder.append( i );
+				queryBuilder.append( "]" );
+				if ( i < columnNames.length - 1 ) {
+					queryBuilder.append( ", " );
+				}
+			}
+			queryBuilder.append( "}" );
+		}
+	}
+
+	/*
+	 * Example, with rowField = "key":
+	 *
+	 * (owner:ENTITY:table {id: row.key[0]})
+	 */
+	protected static void appendEntityNodeForRow(String alias, EntityKeyMetadata entityKeyMetadata, String rowField, StringBuilder queryBuilder) {
+		queryBuilder.append( "(" );
+		queryBuilder.append( alias );
+		queryBuilder.append( ":" );
+		queryBuilder.append( ENTITY );
+		queryBuilder.append( ":" );
+		appendLabel( entityKeyMetadata, queryBuilder );
+		appendRowProperties( queryBuilder, entityKeyMetadata.getColumnNames(), rowField );
+		queryBuilder.append( ")" );
+	}
+
 	protected Map<String, Object> params(Object[] columnValues) {
 		return params( columnValues, 0 );
 	}
@@ -11,20 +11,27 @@
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.isPartOfEmbedded;
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
 
+import static org.neo4j.graphdb.RelationshipType.withName;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jAssociationQueries;
+import org.hibernate.ogm.datastore.neo4j.embedded.util.impl.EmbeddedNeo4jHelper;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKind;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.util.impl.ArrayHelper;
+import org.neo4j.graphdb.Direction;
 import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Relationship;
 import org.neo4j.graphdb.Result;
 
@@ -32,6 +39,8 @@
  * Container for the queries related to one association family in Neo4j. Unfortunately, we cannot use the same queries
  * for all associations, as Neo4j does not allow to parameterize on node labels which would be required, as the
  * association table is stored as a label.
+ * <p>
+ * The rows of an association are found and removed navigating the relationships of the owner node with the Core API.
  *
  * @author Davide D'Alto
  */
@@ -56,72 +65,71 @@ public void removeAssociation(GraphDatabaseService executionEngine, AssociationK
 	/**
 	 * Returns the relationship corresponding to the {@link AssociationKey} and {@link RowKey}.
 	 *
-	 * @param executionEngine the {@link GraphDatabaseService} used to run the query
+	 * @param executionEngine the {@link GraphDatabaseService} used to find the owner node
 	 * @param associationKey represents the association
 	 * @param rowKey represents a row in an association
 	 * @return the corresponding relationship
 	 */
 	@Override
 	public Relationship findRelationship(GraphDatabaseService executionEngine, AssociationKey associationKey, RowKey rowKey) {
-		Object[] queryValues = relationshipValues( associationKey, rowKey );
-		Result result = executionEngine.execute( findRelationshipQuery, params( queryValues ) );
-		return singleResult( result );
-	}
-
-	@Override
-	protected Object[] relationshipValues(AssociationKey associationKey, RowKey rowKey) {
-		Object[] relationshipValues;
-		if ( associationKey.getMetadata().getRowKeyIndexColumnNames().length > 0 ) {
-			int length = associationKey.getMetadata().getRowKeyIndexColumnNames().length;
-			relationshipValues = new Object[length];
-			String[] indexColumnNames = associationKey.getMetadata().getRowKeyIndexColumnNames();
-			for ( int i = 0; i < indexColumnNames.length; i++ ) {
-				for ( int j = 0; j < rowKey.getColumnNames().length; j++ ) {
-					if ( indexColumnNames[i].equals( rowKey.getColumnNames()[j] ) ) {
-						relationshipValues[i] = rowKey.getColumnValues()[j];
-					}
-				}
-			}
-		}
-		else {
-			relationshipValues = getEntityKey( associationKey, rowKey ).getColumnValues();
-		}
-		Object[] queryValues = ArrayHelper.concat( associationKey.getEntityKey().getColumnValues(), relationshipValues );
-		return queryValues;
+		List<Relationship> relationships = findRelationships( executionEngine, associationKey, rowKey, false );
+		return relationships.isEmpty() ? null : relationships.get( 0 );
 	}
 
 	/**
 	 * Remove an association row
 	 *
-	 * @param executionEngine the {@link GraphDatabaseService} used to run the query
+	 * @param executionEngine the {@link GraphDatabaseService} used to find the owner node
 	 * @param associationKey represents the association
 	 * @param rowKey represents a row in an association
 	 */
 	@Override
 	public void removeAssociationRow(GraphDatabaseService executionEngine, AssociationKey associationKey, RowKey rowKey) {
-		Object[] queryValues = relationshipValues( associationKey, rowKey );
-		executionEngine.execute( removeAssociationRowQuery, params( queryValues ) );
+		boolean embedded = associationKey.getMetadata().getAssociationKind() == AssociationKind.EMBEDDED_COLLECTION;
+		for ( Relationship relationship : findRelationships( executionEngine, associationKey, rowKey, embedded ) ) {
+			// The embedded nodes are always the end node of the relationship
+			Node target = relationship.getEndNode();
+			relationship.delete();
+			if ( embedded ) {
+				target.delete();
+			}
+		}
 	}
 
-	/**
-	 * Returns the entity key on the other side of association row represented by the given row key.
-	 * <p>
-	 * <b>Note:</b> May only be invoked if the row key actually contains all the columns making up that entity key.
-	 * Specifically, it may <b>not</b> be invoked if the association has index columns (maps, ordered collections), as
-	 * the entity key columns will not be part of the row key in this case.
+	/*
+	 * Equivalent to:
+	 *
+	 * MATCH (n:ENTITY:table {id: {0}}) -[r:role {index: {1}}] - (t)
+	 * RETURN r
+	 *
+	 * or, if the association has no index columns:
+	 *
+	 * MATCH (n:ENTITY:table {id: {0}}) -[r:role] - (t {id: {1}})
+	 * RETURN r
 	 */
-	private EntityKey getEntityKey(AssociationKey associationKey, RowKey rowKey) {
-		String[] associationKeyColumns = associationKey.getMetadata().getAssociatedEntityKeyMetadata().getAssociationKeyColumns();
-		Object[] columnValues = new Object[associationKeyColumns.length];
-		int i = 0;
-
-		for ( String associationKeyColumn : associationKeyColumns ) {
-			columnValues[i] = rowKey.getColumnValue( associationKeyColumn );
-			i++;
+	private List<Relationship> findRelationships(GraphDatabaseService executionEngine, AssociationKey associationKey, RowKey rowKey, boolean embeddedTarget) {
+		Node owner = EmbeddedNeo4jHelper.findEntityNode( executionEngine, ownerEntityKeyMetadata, associationKey.getEntityKey().getColumnValues() );
+		if ( owner == null ) {
+			return Collections.emptyList();
 		}
-
-		EntityKeyMetadata entityKeyMetadata = associationKey.getMetadata().getAssociatedEntityKeyMetadata().getEntityKeyMetadata();
-		return new EntityKey( entityKeyMetadata, columnValues );
+		AssociationKeyMetadata associationKeyMetadata = associationKey.getMetadata();
+		String[] indexColumnNames = associationKeyMetadata.getRowKeyIndexColumnNames();
+		String[] targetColumnNames = associationKeyMetadata.getAssociatedEntityKeyMetadata().getEntityKeyMetadata().getColumnNames();
+		Object[] relationshipValues = relationshipValues( associationKey, rowKey );
+		List<Relationship> relationships = new ArrayList<>();
+		for ( Relationship relationship : owner.getRelationships( withName( associationKeyMetadata.getCollectionRole() ), Direction.BOTH ) ) {
+			Node target = relationship.getOtherNode( owner );
+			if ( embeddedTarget && !target.hasLabel( EMBEDDED ) ) {
+				continue;
+			}
+			boolean matches = indexColumnNames.length > 0
+					? EmbeddedNeo4jHelper.matches( relationship, indexColumnNames, relationshipValues )
+					: EmbeddedNeo4jHelper.matches( target, targetColumnNames, relationshipValues );
+			if ( matches ) {
+				relationships.add( relationship );
+			}
+		}
+		return relationships;
 	}
 
 	/**
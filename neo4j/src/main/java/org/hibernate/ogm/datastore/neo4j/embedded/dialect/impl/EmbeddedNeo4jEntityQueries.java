@@ -6,16 +6,31 @@
  */
 package org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl;
 
+import static org.hibernate.ogm.datastore.neo4j.dialect.impl.NodeLabel.EMBEDDED;
+import static org.hibernate.ogm.datastore.neo4j.dialect.impl.NodeLabel.ENTITY;
+import static org.hibernate.ogm.util.impl.EmbeddedHelper.isPartOfEmbedded;
+import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
+import static org.neo4j.graphdb.Label.label;
+import static org.neo4j.graphdb.RelationshipType.withName;
+
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jEntityQueries;
+import org.hibernate.ogm.datastore.neo4j.embedded.util.impl.EmbeddedNeo4jHelper;
 import org.hibernate.ogm.dialect.spi.TupleTypeContext;
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKind;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.util.impl.ArrayHelper;
+import org.neo4j.graphdb.Direction;
 import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Relationship;
 import org.neo4j.graphdb.ResourceIterator;
@@ -25,35 +40,119 @@
  * Container for the queries related to one entity type in Neo4j. Unfortunately, we cannot use the same queries for all
  * entities, as Neo4j does not allow to parameterize on node labels which would be required, as the entity name is
  * stored as a label.
+ * <p>
+ * The lookups by key, the creation of the entity nodes and the navigation of the associations use the Core API
+ * directly, avoiding the parsing and planning of a Cypher query for each call.
  *
  * @author Davide D'Alto
  */
 public class EmbeddedNeo4jEntityQueries extends BaseNeo4jEntityQueries {
 
+	private final EntityKeyMetadata entityKeyMetadata;
+	private final String insertEntitiesQuery;
+
 	public EmbeddedNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata) {
 		this( entityKeyMetadata, null );
 	}
 
 	public EmbeddedNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleTypeContext tupleTypeContext) {
 		super( entityKeyMetadata, tupleTypeContext, false );
+		this.entityKeyMetadata = entityKeyMetadata;
+		this.insertEntitiesQuery = getBatchCreateEntitiesQuery() + " RETURN " + ENTITY_ALIAS;
 	}
 
 	/**
-	 * Find the relationships representing the association.
+	 * Find the relationships representing the association, following the relationships of the owner node like
+	 * {@link #getFindAssociationQuery(String, AssociationKeyMetadata)} does.
 	 *
-	 * @param executionEngine the queries executor
+	 * @param executionEngine the {@link GraphDatabaseService} used to find the owner node
 	 * @param columnValues the values for the entity key column names of the owner node
 	 * @param role the relationship type mapping the role of the association
-	 * @return an iterator on the results
+	 * @return the relationships, ordered by the id of the target node
 	 */
 	// We should move this in EmbeddedNeo4jAssociationQueries but, at the moment, having a query that only requires an
 	// EntityKeyMetadata make it easier
 	// to deal with the *ToOne scenario
-	public ResourceIterator<Relationship> findAssociation(GraphDatabaseService executionEngine, Object[] columnValues, String role, AssociationKeyMetadata associationKeyMetadata) {
-		String query = getFindAssociationQuery( role, associationKeyMetadata );
-		Map<String, Object> params = params( columnValues );
-		executionEngine.execute( query, params );
-		return executionEngine.execute( query, params( columnValues ) ).columnAs( "r" );
+	public List<Relationship> findAssociation(GraphDatabaseService executionEngine, Object[] columnValues, String role, AssociationKeyMetadata associationKeyMetadata) {
+		Node owner = findEntity( executionEngine, columnValues );
+		if ( owner == null ) {
+			return Collections.emptyList();
+		}
+		List<Relationship> relationships;
+		Direction direction;
+		if ( isPartOfEmbedded( role ) ) {
+			relationships = findEmbeddedAssociation( owner, split( role ) );
+			direction = Direction.OUTGOING;
+		}
+		else {
+			direction = associationKeyMetadata.isInverse() ? Direction.INCOMING : Direction.OUTGOING;
+			relationships = findAssociation( owner, role, direction, associationKeyMetadata );
+		}
+		Collections.sort( relationships, new TargetNodeIdComparator( direction ) );
+		return relationships;
+	}
+
+	/*
+	 * Equivalent to:
+	 *
+	 * MATCH (owner) -[r:role]-> (target:ENTITY:table)
+	 */
+	private static List<Relationship> findAssociation(Node owner, String role, Direction direction, AssociationKeyMetadata associationKeyMetadata) {
+		Label targetLabel = associationKeyMetadata.getAssociationKind() == AssociationKind.ASSOCIATION
+				? label( associationKeyMetadata.getAssociatedEntityKeyMetadata().getEntityKeyMetadata().getTable() )
+				: null;
+		List<Relationship> relationships = new ArrayList<>();
+		for ( Relationship relationship : owner.getRelationships( withName( role ), direction ) ) {
+			Node target = relationship.getOtherNode( owner );
+			if ( targetLabel == null || ( target.hasLabel( ENTITY ) && target.hasLabel( targetLabel ) ) ) {
+				relationships.add( relationship );
+			}
+		}
+		return relationships;
+	}
+
+	/*
+	 * Equivalent to:
+	 *
+	 * MATCH (owner) -[:evilBranch]-> (:EMBEDDED) -[r:additionalEndings]-> (target:EMBEDDED)
+	 */
+	private static List<Relationship> findEmbeddedAssociation(Node owner, String[] path) {
+		List<Node> embeddedNodes = Collections.singletonList( owner );
+		for ( int i = 0; i < path.length - 1; i++ ) {
+			List<Node> next = new ArrayList<>();
+			for ( Node node : embeddedNodes ) {
+				for ( Relationship relationship : node.getRelationships( withName( path[i] ), Direction.OUTGOING ) ) {
+					if ( relationship.getEndNode().hasLabel( EMBEDDED ) ) {
+						next.add( relationship.getEndNode() );
+					}
+				}
+			}
+			embeddedNodes = next;
+		}
+		List<Relationship> relationships = new ArrayList<>();
+		for ( Node node : embeddedNodes ) {
+			for ( Relationship relationship : node.getRelationships( withName( path[path.length - 1] ), Direction.OUTGOING ) ) {
+				if ( relationship.getEndNode().hasLabel( EMBEDDED ) ) {
+					relationships.add( relationship );
+				}
+			}
+		}
+		return relationships;
+	}
+
+	/**
+	 * Count the relationships representing the association.
+	 *
+	 * @param executionEngine the queries executor
+	 * @param columnValues the values for the entity key column names of the owner node
+	 * @param role the relationship type mapping the role of the association
+	 * @param associationKeyMetadata the metadata of the association
+	 * @return the number of rows of the association
+	 */
+	public int countAssociation(GraphDatabaseService executionEngine, Object[] columnValues, String role, AssociationKeyMetadata associationKeyMetadata) {
+		String query = getCountAssociationQuery( role, associationKeyMetadata );
+		Number count = singleResult( executionEngine.execute( query, params( columnValues ) ) );
+		return count == null ? 0 : count.intValue();
 	}
 
 	/**
@@ -72,14 +171,12 @@ public Node createEmbedded(GraphDatabaseService executionEngine, Object[] column
 	/**
 	 * Find the node corresponding to an entity.
 	 *
-	 * @param executionEngine the {@link GraphDatabaseService} used to run the query
+	 * @param executionEngine the {@link GraphDatabaseService} used to find the node
 	 * @param columnValues the values in {@link org.hibernate.ogm.model.key.spi.EntityKey#getColumnValues()}
 	 * @return the corresponding node
 	 */
 	public Node findEntity(GraphDatabaseService executionEngine, Object[] columnValues) {
-		Map<String, Object> params = params( columnValues );
-		Result result = executionEngine.execute( getFindEntityQuery(), params );
-		return singleResult( result );
+		return EmbeddedNeo4jHelper.findEntityNode( executionEngine, entityKeyMetadata, columnValues );
 	}
 
 	/**
@@ -90,48 +187,56 @@ public Node findEntity(GraphDatabaseService executionEngine, Object[] columnValu
 	 * @return the list of nodes representing the entities
 	 */
 	public ResourceIterator<Node> findEntities(GraphDatabaseService executionEngine, EntityKey[] keys) {
-		if ( singlePropertyKey ) {
-			return singlePropertyIdFindEntities( executionEngine, keys );
-		}
-		else {
-			return multiPropertiesIdFindEntities( executionEngine, keys );
-		}
-	}
-
-	/*
-	 * When the id is mapped on several properties
-	 */
-	private ResourceIterator<Node> multiPropertiesIdFindEntities(GraphDatabaseService executionEngine, EntityKey[] keys) {
-		String query = getMultiGetQueryCacheQuery( keys );
-		Map<String, Object> params = multiGetParams( keys );
-		Result result = executionEngine.execute( query, params );
+		Result result = executionEngine.execute( getMultiGetQuery(), multiGetParams( keys ) );
 		return result.columnAs( ENTITY_ALIAS );
 	}
 
-	/*
-	 * When the id is mapped with a single property
+	/**
+	 * Creates the node corresponding to an entity.
+	 *
+	 * @param executionEngine the {@link GraphDatabaseService} used to create the node
+	 * @param columnValues the values in {@link org.hibernate.ogm.model.key.spi.EntityKey#getColumnValues()}
+	 * @return the corresponding node
+	 * @throws org.neo4j.graphdb.ConstraintViolationException if a node with the same key already exists
 	 */
-	private ResourceIterator<Node> singlePropertyIdFindEntities(GraphDatabaseService executionEngine, EntityKey[] keys) {
-		Object[] paramsValues = new Object[keys.length];
-		for ( int i = 0; i < keys.length; i++ ) {
-			paramsValues[i] = keys[i].getColumnValues()[0];
+	public Node insertEntity(GraphDatabaseService executionEngine, Object[] columnValues) {
+		Node node = executionEngine.createNode( ENTITY, label( entityKeyMetadata.getTable() ) );
+		String[] columnNames = entityKeyMetadata.getColumnNames();
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( columnValues[i] != null ) {
+				node.setProperty( columnNames[i], columnValues[i] );
+			}
 		}
-		Map<String, Object> params = Collections.singletonMap( "0", (Object) paramsValues );
-		Result result = executionEngine.execute( multiGetQuery, params );
-		return result.columnAs( ENTITY_ALIAS );
+		return node;
 	}
 
 	/**
-	 * Creates the node corresponding to an entity.
+	 * Creates the nodes corresponding to several entities with a single query.
 	 *
 	 * @param executionEngine the {@link GraphDatabaseService} used to run the query
-	 * @param columnValues the values in {@link org.hibernate.ogm.model.key.spi.EntityKey#getColumnValues()}
-	 * @return the corresponding node
+	 * @param keys the keys of the entities
+	 * @return the corresponding nodes, in the same order as the keys
 	 */
-	public Node insertEntity(GraphDatabaseService executionEngine, Object[] columnValues) {
-		Map<String, Object> params = params( columnValues );
-		Result result = executionEngine.execute( getCreateEntityQuery(), params );
-		return singleResult( result );
+	public List<Node> insertEntities(GraphDatabaseService executionEngine, List<EntityKey> keys) {
+		List<Map<String, Object>> rows = new ArrayList<>( keys.size() );
+		for ( EntityKey key : keys ) {
+			Map<String, Object> row = new HashMap<>();
+			for ( int i = 0; i < key.getColumnNames().length; i++ ) {
+				row.put( key.getColumnNames()[i], key.getColumnValues()[i] );
+			}
+			rows.add( row );
+		}
+		List<Node> nodes = new ArrayList<>( keys.size() );
+		Result result = executionEngine.execute( insertEntitiesQuery, unwindParams( rows ) );
+		try {
+			while ( result.hasNext() ) {
+				nodes.add( (Node) result.next().get( ENTITY_ALIAS ) );
+			}
+			return nodes;
+		}
+		finally {
+			result.close();
+		}
 	}
 
 	/**
@@ -169,4 +274,22 @@ public void updateEmbeddedColumn(GraphDatabaseService executionEngine, Object[]
 		Map<String, Object> params = params( ArrayHelper.concat( keyValues, value, value ) );
 		executionEngine.execute( query, params );
 	}
+
+	private static class TargetNodeIdComparator implements Comparator<Relationship> {
+
+		private final Direction direction;
+
+		TargetNodeIdComparator(Direction direction) {
+			this.direction = direction;
+		}
+
+		@Override
+		public int compare(Relationship r1, Relationship r2) {
+			return Long.compare( target( r1 ).getId(), target( r2 ).getId() );
+		}
+
+		private Node target(Relationship relationship) {
+			return direction == Direction.INCOMING ? relationship.getStartNode() : relationship.getEndNode();
+		}
+	}
 }
@@ -0,0 +1,87 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.embedded.util.impl;
+
+import static org.hibernate.ogm.datastore.neo4j.dialect.impl.NodeLabel.ENTITY;
+import static org.neo4j.graphdb.Label.label;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.ResourceIterator;
+import org.neo4j.values.storable.Values;
+
+/**
+ * Looks up nodes and relationships with the Core API, without going through Cypher.
+ * <p>
+ * The values are compared like Cypher does: for example, an {@link Integer} property matches a {@link Long} with the
+ * same value and a {@code null} value never matches.
+ */
+public class EmbeddedNeo4jHelper {
+
+	private EmbeddedNeo4jHelper() {
+	}
+
+	/**
+	 * Finds the node of an entity, using the unique constraint on the key when the key is made of one property.
+	 *
+	 * @param executionEngine the {@link GraphDatabaseService} used to find the node
+	 * @param entityKeyMetadata the metadata of the key of the entity
+	 * @param columnValues the values of the key of the entity
+	 * @return the node of the entity or {@code null} if there is no such node
+	 */
+	public static Node findEntityNode(GraphDatabaseService executionEngine, EntityKeyMetadata entityKeyMetadata, Object[] columnValues) {
+		String[] columnNames = entityKeyMetadata.getColumnNames();
+		Map<String, Object> properties = new HashMap<>( columnNames.length );
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( columnValues[i] == null ) {
+				return null;
+			}
+			properties.put( columnNames[i], columnValues[i] );
+		}
+		ResourceIterator<Node> nodes = columnNames.length == 1
+				? executionEngine.findNodes( label( entityKeyMetadata.getTable() ), columnNames[0], columnValues[0] )
+				: executionEngine.findNodes( label( entityKeyMetadata.getTable() ), properties );
+		try {
+			while ( nodes.hasNext() ) {
+				Node node = nodes.next();
+				if ( node.hasLabel( ENTITY ) ) {
+					return node;
+				}
+			}
+			return null;
+		}
+		finally {
+			nodes.close();
+		}
+	}
+
+	/**
+	 * Check if the node or relationship has the given properties.
+	 *
+	 * @param container the node or relationship
+	 * @param propertyNames the name of the properties to check
+	 * @param propertyValues the expected values of the properties
+	 * @return true if each property has the expected value
+	 */
+	public static boolean matches(PropertyContainer container, String[] propertyNames, Object[] propertyValues) {
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			if ( propertyValues[i] == null ) {
+				return false;
+			}
+			Object value = container.getProperty( propertyNames[i], null );
+			if ( value == null || !Values.of( value ).equals( Values.of( propertyValues[i] ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
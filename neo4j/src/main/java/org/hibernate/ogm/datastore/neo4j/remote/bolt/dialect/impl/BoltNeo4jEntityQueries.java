@@ -80,36 +80,8 @@ public ClosableIterator<NodeWithEmbeddedNodes> findEntitiesWithEmbedded(Transact
 	}
 
 	public ClosableIterator<NodeWithEmbeddedNodes> findEntities(EntityKey[] keys, Transaction tx) {
-		if ( singlePropertyKey ) {
-			return singlePropertyIdFindEntities( keys, tx );
-		}
-		else {
-			return multiPropertiesIdFindEntities( keys, tx );
-		}
-	}
-
-	/*
-	 * When the id is mapped on several properties
-	 */
-	private ClosableIterator<NodeWithEmbeddedNodes> multiPropertiesIdFindEntities(EntityKey[] keys, Transaction tx) {
-		String query = getMultiGetQueryCacheQuery( keys );
-		Map<String, Object> params = multiGetParams( keys );
-		StatementResult results = tx.run( query, params );
-		return closableIterator( results );
-	}
-
-	/*
-	 * When the id is mapped with a single property
-	 */
-	private ClosableIterator<NodeWithEmbeddedNodes> singlePropertyIdFindEntities(EntityKey[] keys, Transaction tx) {
-		Object[] paramsValues = new Object[keys.length];
-		for ( int i = 0; i < keys.length; i++ ) {
-			paramsValues[i] = keys[i].getColumnValues()[0];
-		}
-		Map<String, Object> params = Collections.singletonMap( "0", (Object) paramsValues );
-		Statement statement = new Statement( multiGetQuery, params );
-		StatementResult statementResult = tx.run( statement );
-		return closableIterator( statementResult, keys );
+		StatementResult results = tx.run( getMultiGetQuery(), multiGetParams( keys ) );
+		return closableIterator( results, keys );
 	}
 
 	private ClosableIterator<NodeWithEmbeddedNodes> closableIterator(StatementResult results) {
@@ -245,9 +217,9 @@ public Statement removeColumnStatement(Object[] columnValues, String column, Tra
 		return new Statement( query, params );
 	}
 
-	public void removeToOneAssociation(Transaction tx, Object[] columnValues, String associationRole) {
+	public Statement removeToOneAssociationStatement(Object[] columnValues, String associationRole) {
 		Map<String, Object> params = params( ArrayHelper.concat( columnValues, associationRole ) );
-		tx.run( getRemoveToOneAssociation(), params );
+		return new Statement( getRemoveToOneAssociation(), params );
 	}
 
 	public Statement getUpdateEntityPropertiesStatement(Object[] columnValues, Map<String, Object> properties) {
@@ -282,6 +254,12 @@ public void removeEntity(Transaction transaction, Object[] columnValues) {
 		transaction.run( getRemoveEntityQuery(), params( columnValues ) );
 	}
 
+	public int countAssociation(Transaction tx, Object[] columnValues, String role, AssociationKeyMetadata associationKeyMetadata) {
+		String query = getCountAssociationQuery( role, associationKeyMetadata );
+		StatementResult result = tx.run( query, params( columnValues ) );
+		return result.single().get( 0 ).asInt();
+	}
+
 	public ClosableIterator<RemoteNeo4jAssociationPropertiesRow> findAssociation(Transaction tx, Object[] columnValues, String role, AssociationKeyMetadata associationKeyMetadata) {
 		// Find the target node
 		String queryForAssociation = getFindAssociationQuery( role, associationKeyMetadata );
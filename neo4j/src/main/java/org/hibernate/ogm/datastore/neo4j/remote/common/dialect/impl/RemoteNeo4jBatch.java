@@ -0,0 +1,152 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jAssociationQueries;
+import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jEntityQueries;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+
+/**
+ * Collects the changes of a batch of operations and renders them as a few statements.
+ * <p>
+ * The changes of the same kind on the same label, or on the same relationship type, are executed by a single
+ * {@code UNWIND} statement with one row per element. The statements are returned in the order that keeps the
+ * changes consistent: the nodes are created and updated first, then the changes that cannot be grouped (embedded
+ * properties, removals) are applied and finally the relationships are merged, so that a relationship can target a
+ * node created by the same batch.
+ *
+ * @param <S> the type of statement used by the client
+ */
+public class RemoteNeo4jBatch<S> {
+
+	private final BiFunction<String, Map<String, Object>, S> statementFactory;
+
+	private final Map<String, List<Map<String, Object>>> createdNodes = new LinkedHashMap<>();
+	private final Map<String, List<Map<String, Object>>> updatedNodes = new LinkedHashMap<>();
+	private final List<S> statements = new ArrayList<>();
+	private final Map<String, List<Map<String, Object>>> relationships = new LinkedHashMap<>();
+
+	private final List<EntityKey> keys = new ArrayList<>();
+	private final Set<Tuple> tuples = Collections.newSetFromMap( new IdentityHashMap<Tuple, Boolean>() );
+
+	public RemoteNeo4jBatch(BiFunction<String, Map<String, Object>, S> statementFactory) {
+		this.statementFactory = statementFactory;
+	}
+
+	/**
+	 * Adds a tuple to the batch.
+	 *
+	 * @param key the key of the entity
+	 * @param tuple the tuple to write
+	 * @return {@code false} if the changes of the tuple have already been added to the batch, {@code true} otherwise
+	 */
+	public boolean addTuple(EntityKey key, Tuple tuple) {
+		if ( tuples.add( tuple ) ) {
+			keys.add( key );
+			return true;
+		}
+		return false;
+	}
+
+	public void createNode(BaseNeo4jEntityQueries queries, Map<String, Object> properties) {
+		rows( createdNodes, queries.getBatchCreateEntitiesQuery() ).add( properties );
+	}
+
+	public void updateNode(BaseNeo4jEntityQueries queries, EntityKey key, Map<String, Object> properties) {
+		if ( !properties.isEmpty() ) {
+			rows( updatedNodes, queries.getBatchUpdateEntitiesQuery() ).add( BaseNeo4jEntityQueries.updateEntityRow( key.getColumnValues(), properties ) );
+		}
+	}
+
+	public void addStatements(Collection<S> entityStatements) {
+		statements.addAll( entityStatements );
+	}
+
+	public void updateToOneAssociation(BaseNeo4jEntityQueries queries, EntityKey ownerKey, String associationRole, EntityKey targetKey) {
+		rows( relationships, queries.getBatchUpdateToOneQuery( associationRole ) )
+				.add( BaseNeo4jEntityQueries.updateToOneRow( ownerKey.getColumnValues(), targetKey.getColumnValues() ) );
+	}
+
+	public void createRelationship(BaseNeo4jAssociationQueries queries, Object[] ownerKeyValues, Object[] targetKeyValues, Object[] relationshipProperties) {
+		rows( relationships, queries.getBatchCreateRelationshipQuery() )
+				.add( BaseNeo4jAssociationQueries.createRelationshipRow( ownerKeyValues, targetKeyValues, relationshipProperties ) );
+	}
+
+	private static List<Map<String, Object>> rows(Map<String, List<Map<String, Object>>> rowsByQuery, String query) {
+		return rowsByQuery.computeIfAbsent( query, q -> new ArrayList<>() );
+	}
+
+	public boolean isEmpty() {
+		return createdNodes.isEmpty() && updatedNodes.isEmpty() && statements.isEmpty() && relationships.isEmpty();
+	}
+
+	/**
+	 * @return the statements applying the changes of the batch, in the order they have to be executed
+	 */
+	public List<S> getStatements() {
+		List<S> batch = new ArrayList<>( createdNodes.size() + updatedNodes.size() + statements.size() + relationships.size() );
+		addUnwindStatements( batch, createdNodes );
+		addUnwindStatements( batch, updatedNodes );
+		batch.addAll( statements );
+		addUnwindStatements( batch, relationships );
+		return batch;
+	}
+
+	private void addUnwindStatements(List<S> batch, Map<String, List<Map<String, Object>>> rowsByQuery) {
+		for ( Map.Entry<String, List<Map<String, Object>>> entry : rowsByQuery.entrySet() ) {
+			batch.add( statementFactory.apply( entry.getKey(), BaseNeo4jEntityQueries.unwindParams( entry.getValue() ) ) );
+		}
+	}
+
+	/**
+	 * Marks the tuples of the batch as written and empties the batch.
+	 */
+	public void written() {
+		for ( Tuple tuple : tuples ) {
+			tuple.setSnapshotType( SnapshotType.UPDATE );
+		}
+		createdNodes.clear();
+		updatedNodes.clear();
+		statements.clear();
+		relationships.clear();
+		keys.clear();
+		tuples.clear();
+	}
+
+	/**
+	 * A statement of the batch can fail because of any of its entities; the error message of Neo4j contains the value
+	 * of the property violating the constraint, which is used to find the entity.
+	 *
+	 * @param errorMessage the message of the error returned by Neo4j
+	 * @return the key of the entity the message refers to or, if there is no such entity, the first key of the batch
+	 */
+	public EntityKey getEntityKey(String errorMessage) {
+		for ( EntityKey key : keys ) {
+			if ( key.getColumnValues().length == 1 && isValueInMessage( errorMessage, key.getColumnValues()[0] ) ) {
+				return key;
+			}
+		}
+		return keys.isEmpty() ? null : keys.get( 0 );
+	}
+
+	private static boolean isValueInMessage(String errorMessage, Object value) {
+		// Example: Node(0) already exists with label `Entity` and property `id` = 'value'
+		return errorMessage.endsWith( "= " + value ) || errorMessage.endsWith( "= '" + value + "'" );
+	}
+}
@@ -202,38 +202,8 @@ public ClosableIterator<NodeWithEmbeddedNodes> findEntitiesWithEmbedded(HttpNeo4
 	 * @return the list of nodes representing the entities
 	 */
 	public ClosableIterator<NodeWithEmbeddedNodes> findEntities(HttpNeo4jClient executionEngine, EntityKey[] keys, Long txId) {
-		if ( singlePropertyKey ) {
-			return singlePropertyIdFindEntities( executionEngine, keys, txId );
-		}
-		else {
-			return multiPropertiesIdFindEntities( executionEngine, keys, txId );
-		}
-	}
-
-	/*
-	 * When the id is mapped on several properties
-	 */
-	private ClosableIterator<NodeWithEmbeddedNodes> multiPropertiesIdFindEntities(HttpNeo4jClient executionEngine, EntityKey[] keys, Long txId) {
-		String query = getMultiGetQueryCacheQuery( keys );
-		Map<String, Object> params = multiGetParams( keys );
-		List<StatementResult> results = executeQuery( executionEngine, txId, query, params );
-		return closableIterator( results );
-	}
-
-	/*
-	 * When the id is mapped with a single property
-	 */
-	private ClosableIterator<NodeWithEmbeddedNodes> singlePropertyIdFindEntities(HttpNeo4jClient executionEngine, EntityKey[] keys, Long txId) {
-		Object[] paramsValues = new Object[keys.length];
-		for ( int i = 0; i < keys.length; i++ ) {
-			paramsValues[i] = keys[i].getColumnValues()[0];
-		}
-		Map<String, Object> params = Collections.singletonMap( "0", (Object) paramsValues );
-		Statements statements = new Statements();
-		statements.addStatement( multiGetQuery, params, Statement.AS_GRAPH );
-		List<StatementResult> results = executeQuery( executionEngine, txId, statements );
+		List<StatementResult> results = executeQuery( executionEngine, txId, getMultiGetQuery(), multiGetParams( keys ), Statement.AS_GRAPH );
 		return closableIterator( results, keys );
-
 	}
 
 	private ClosableIterator<NodeWithEmbeddedNodes> closableIterator(List<StatementResult> results) {
@@ -369,6 +339,15 @@ public Statement removeEmptyEmbeddedNodesStatement(Object[] keyValues, String em
 		return new Statement( query, params );
 	}
 
+	public int countAssociation(HttpNeo4jClient executionEngine, Long txId, Object[] columnValues, String role, AssociationKeyMetadata associationKeyMetadata) {
+		String query = getCountAssociationQuery( role, associationKeyMetadata );
+		List<StatementResult> results = executeQuery( executionEngine, txId, query, params( columnValues ), Statement.AS_ROW );
+		if ( results == null ) {
+			return 0;
+		}
+		return ( (Number) results.get( 0 ).getData().get( 0 ).getRow().get( 0 ) ).intValue();
+	}
+
 	@SuppressWarnings("unchecked")
 	public ClosableIterator<RemoteNeo4jAssociationPropertiesRow> findAssociation(HttpNeo4jClient executionEngine, Long txId, Object[] columnValues, String role,
 			AssociationKeyMetadata associationKeyMetadata) {
@@ -450,9 +429,9 @@ public Node findEmbeddedNode(HttpNeo4jClient neo4jClient, Long txId, Object[] ke
 		return result.getNodes().get( 0 );
 	}
 
-	public void removeToOneAssociation(HttpNeo4jClient executionEngine, Long txId, Object[] columnValues, String associationRole) {
+	public Statement removeToOneAssociationStatement(Object[] columnValues, String associationRole) {
 		Map<String, Object> params = params( ArrayHelper.concat( columnValues, associationRole ) );
-		executeQueryAndReturnGraph( executionEngine, txId, getRemoveToOneAssociation(), params );
+		return new Statement( getRemoveToOneAssociation(), params );
 	}
 
 	private static class ClosableIteratorAdapter<T> implements ClosableIterator<T> {
@@ -6,19 +6,24 @@
  */
 package org.hibernate.ogm.datastore.neo4j.test.query;
 
+import static org.fest.assertions.Assertions.assertThat;
 import static org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jEntityQueries.ENTITY_ALIAS;
 import static org.mockito.Matchers.anyMap;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.hibernate.ogm.datastore.neo4j.dialect.impl.NodeLabel;
 import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jEntityQueries;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.junit.Test;
 import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Result;
 
 /**
@@ -27,16 +32,27 @@
 public class Neo4jEntityQueriesTest {
 
 	@Test
-	@SuppressWarnings("unchecked")
 	public void testCreationWithCompositeId() throws Exception {
 		String expected = "CREATE (" + ENTITY_ALIAS + ":ENTITY:Example {`id.name`: {0}, `id.surname`: {1}}) RETURN " + ENTITY_ALIAS;
 
 		EntityKeyMetadata metadata = metadata( "Example", "id.name", "id.surname" );
-		GraphDatabaseService executionEngine = createExecutionEngine();
 		EmbeddedNeo4jEntityQueries entityQueries = new EmbeddedNeo4jEntityQueries( metadata );
-		entityQueries.insertEntity( executionEngine, new String[] { "Davide", "D'Alto" } );
 
-		verify( executionEngine ).execute( eq( expected ), anyMap() );
+		assertThat( entityQueries.getCreateEntityQuery() ).isEqualTo( expected );
+	}
+
+	@Test
+	public void testCreationWithCompositeIdUsesTheCoreApi() throws Exception {
+		EntityKeyMetadata metadata = metadata( "Example", "id.name", "id.surname" );
+		GraphDatabaseService executionEngine = mock( GraphDatabaseService.class );
+		Node node = mock( Node.class );
+		when( executionEngine.createNode( NodeLabel.ENTITY, Label.label( "Example" ) ) ).thenReturn( node );
+		EmbeddedNeo4jEntityQueries entityQueries = new EmbeddedNeo4jEntityQueries( metadata );
+
+		assertThat( entityQueries.insertEntity( executionEngine, new String[] { "Davide", "D'Alto" } ) ).isSameAs( node );
+		verify( node ).setProperty( "id.name", "Davide" );
+		verify( node ).setProperty( "id.surname", "D'Alto" );
+		verify( executionEngine, never() ).execute( anyString(), anyMap() );
 	}
 
 	@Test
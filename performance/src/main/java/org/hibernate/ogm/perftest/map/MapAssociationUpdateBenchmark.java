@@ -0,0 +1,99 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.map;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.map.impl.MapDatastoreProvider;
+import org.hibernate.ogm.datastore.map.impl.MapRecordAssociationSnapshot;
+import org.hibernate.ogm.datastore.map.impl.MapTupleRecord;
+import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A JMH benchmark measuring the cost of adding one row to an association of the {@link MapDatastoreProvider}
+ * depending on the number of rows already stored, as the published rows are copied on each update.
+ */
+@State(Scope.Benchmark)
+public class MapAssociationUpdateBenchmark {
+
+	private static final String[] ROW_KEY_COLUMNS = { "author_id", "book_id" };
+
+	private static final EntityKey OWNER_KEY = new EntityKey( new DefaultEntityKeyMetadata( "Author", new String[] { "id" } ), new Object[] { 1L } );
+
+	private static final AssociationKey ASSOCIATION_KEY = new AssociationKey(
+			new DefaultAssociationKeyMetadata.Builder()
+					.table( "Author_Book" )
+					.columnNames( new String[] { "author_id" } )
+					.rowKeyColumnNames( ROW_KEY_COLUMNS )
+					.build(),
+			new Object[] { 1L },
+			OWNER_KEY );
+
+	/**
+	 * Number of rows of the association before the update.
+	 */
+	@Param({ "10", "1000", "100000" })
+	public int rowCount;
+
+	private MapDatastoreProvider provider;
+	private Map<RowKey, MapTupleRecord> rows;
+
+	@Setup
+	public void setupDatastore() {
+		provider = new MapDatastoreProvider();
+		provider.start();
+		provider.createAssociation( ASSOCIATION_KEY );
+
+		Association association = new Association( new MapRecordAssociationSnapshot( Collections.<RowKey, MapTupleRecord>emptyMap() ) );
+		for ( long i = 0; i < rowCount; i++ ) {
+			association.put( rowKey( i ), row( i ) );
+		}
+		rows = provider.updateAssociation( ASSOCIATION_KEY, Collections.<RowKey, MapTupleRecord>emptyMap(), association );
+	}
+
+	@TearDown
+	public void stopDatastore() {
+		provider.stop();
+	}
+
+	@Benchmark
+	public Object addRow() {
+		Association association = new Association( new MapRecordAssociationSnapshot( rows ) );
+		association.put( rowKey( -1L ), row( -1L ) );
+		return provider.updateAssociation( ASSOCIATION_KEY, rows, association );
+	}
+
+	@Benchmark
+	public Object updateWithoutChanges() {
+		Association association = new Association( new MapRecordAssociationSnapshot( rows ) );
+		return provider.updateAssociation( ASSOCIATION_KEY, rows, association );
+	}
+
+	private static RowKey rowKey(long bookId) {
+		return new RowKey( ROW_KEY_COLUMNS, new Object[] { 1L, bookId } );
+	}
+
+	private static Tuple row(long bookId) {
+		Tuple row = new Tuple();
+		row.put( "author_id", 1L );
+		row.put( "book_id", bookId );
+		return row;
+	}
+}
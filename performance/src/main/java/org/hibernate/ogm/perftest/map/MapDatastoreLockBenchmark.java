@@ -0,0 +1,114 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.map;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.ogm.datastore.map.impl.MapDatastoreProvider;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * A multi-threaded JMH benchmark measuring the throughput of short transactions locking and reading entities of the
+ * {@link MapDatastoreProvider}.
+ * <p>
+ * Use {@link #main(String[])} to run it with 1 to 32 threads in a row and compare how the throughput scales.
+ */
+@State(Scope.Benchmark)
+public class MapDatastoreLockBenchmark {
+
+	private static final EntityKeyMetadata KEY_METADATA = new DefaultEntityKeyMetadata( "Author", new String[] { "id" } );
+
+	/**
+	 * Number of distinct entities; a small number means more contention on the same keys.
+	 */
+	@Param({ "100000" })
+	public int entityCount;
+
+	private MapDatastoreProvider provider;
+	private EntityKey[] keys;
+
+	@Setup
+	public void setupDatastore() {
+		provider = new MapDatastoreProvider();
+		provider.start();
+
+		keys = new EntityKey[entityCount];
+		for ( int i = 0; i < entityCount; i++ ) {
+			keys[i] = new EntityKey( KEY_METADATA, new Object[] { (long) i } );
+			Tuple tuple = new Tuple();
+			tuple.put( "id", (long) i );
+			tuple.put( "name", "Author " + i );
+			provider.createEntity( keys[i] );
+			provider.updateEntity( keys[i], tuple );
+		}
+	}
+
+	@TearDown
+	public void stopDatastore() {
+		provider.stop();
+	}
+
+	@Benchmark
+	public Object readLock() {
+		Object owner = Thread.currentThread();
+		EntityKey key = randomKey();
+		try {
+			provider.readLock( owner, key, -1 );
+			return provider.getEntityTuple( key );
+		}
+		finally {
+			provider.releaseLocks( owner );
+		}
+	}
+
+	@Benchmark
+	public Object writeLock() {
+		Object owner = Thread.currentThread();
+		EntityKey key = randomKey();
+		try {
+			provider.writeLock( owner, key, -1 );
+			return provider.getEntityTuple( key );
+		}
+		finally {
+			provider.releaseLocks( owner );
+		}
+	}
+
+	@Benchmark
+	public Object noLock() {
+		return provider.getEntityTuple( randomKey() );
+	}
+
+	private EntityKey randomKey() {
+		return keys[ThreadLocalRandom.current().nextInt( keys.length )];
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		for ( int threads : new int[] { 1, 2, 4, 8, 16, 32 } ) {
+			Options options = new OptionsBuilder()
+					.include( MapDatastoreLockBenchmark.class.getSimpleName() )
+					.threads( threads )
+					.forks( 1 )
+					.build();
+
+			new Runner( options ).run();
+		}
+	}
+}
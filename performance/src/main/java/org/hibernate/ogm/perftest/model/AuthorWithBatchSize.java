@@ -0,0 +1,58 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.model;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.BatchSize;
+
+/**
+ * An author loaded in batches of up to 1,000 instances when its proxies are initialized.
+ */
+@Entity
+@BatchSize(size = 1000)
+public class AuthorWithBatchSize {
+	String fname;
+	String lname;
+	String bio;
+
+	@Id
+	long a_id;
+
+	public String getFname() {
+		return fname;
+	}
+
+	public void setFname(String fname) {
+		this.fname = fname;
+	}
+
+	public String getLname() {
+		return lname;
+	}
+
+	public void setLname(String lname) {
+		this.lname = lname;
+	}
+
+	public String getBio() {
+		return bio;
+	}
+
+	public void setBio(String bio) {
+		this.bio = bio;
+	}
+
+	public long getA_id() {
+		return a_id;
+	}
+
+	public void setA_id(long a_id) {
+		this.a_id = a_id;
+	}
+}
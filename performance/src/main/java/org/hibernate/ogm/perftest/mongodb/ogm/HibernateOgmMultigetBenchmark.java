@@ -0,0 +1,113 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.mongodb.ogm;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.Hibernate;
+import org.hibernate.ogm.perftest.model.AuthorWithBatchSize;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A JMH benchmark measuring performance of batch loading several entities at once, which translates into one multiget
+ * operation on the datastore.
+ */
+public class HibernateOgmMultigetBenchmark {
+
+	public static final int NUMBER_OF_TEST_ENTITIES = 10000;
+
+	@State(Scope.Benchmark)
+	public static class TestDataInserter {
+
+		/**
+		 * The number of entities fetched by one multiget operation.
+		 */
+		@Param({ "10", "100", "1000" })
+		private int multigetSize;
+
+		private EntityManagerFactoryHolder stateHolder;
+
+		@Setup
+		public void insertTestData(EntityManagerFactoryHolder stateHolder) throws Exception {
+			this.stateHolder = stateHolder;
+
+			EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+			for ( int i = 0; i < NUMBER_OF_TEST_ENTITIES; i++ ) {
+				if ( i % 1000 == 0 ) {
+					stateHolder.transactionManager.begin();
+					entityManager.joinTransaction();
+				}
+
+				AuthorWithBatchSize author = new AuthorWithBatchSize();
+
+				author.setA_id( i );
+				author.setBio( "This is a decent size bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+				author.setFname( "Jessie " + stateHolder.rand.nextInt() );
+				author.setLname( "Landis " + stateHolder.rand.nextInt() );
+
+				entityManager.persist( author );
+
+				if ( i % 1000 == 999 ) {
+					stateHolder.transactionManager.commit();
+					entityManager.clear();
+					System.out.println( "Inserted " + ( i + 1 ) + " entities" );
+				}
+			}
+
+			entityManager.close();
+		}
+	}
+
+	@Benchmark
+	public void findEntitiesByBatch(TestDataInserter inserter, Blackhole blackhole) throws Exception {
+		EntityManagerFactoryHolder stateHolder = inserter.stateHolder;
+
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		long firstId = stateHolder.rand.nextInt( NUMBER_OF_TEST_ENTITIES - inserter.multigetSize + 1 );
+		List<AuthorWithBatchSize> authors = new ArrayList<>( inserter.multigetSize );
+		for ( int i = 0; i < inserter.multigetSize; i++ ) {
+			authors.add( entityManager.getReference( AuthorWithBatchSize.class, firstId + i ) );
+		}
+
+		// Initializing one proxy loads all the uninitialized proxies queued for batch fetching
+		Hibernate.initialize( authors.get( 0 ) );
+
+		for ( AuthorWithBatchSize author : authors ) {
+			blackhole.consume( author.getLname() );
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	/**
+	 * For debugging purposes.
+	 */
+	public static void main(String[] args) throws Exception {
+		EntityManagerFactoryHolder entityManagerFactoryHolder = new EntityManagerFactoryHolder();
+		entityManagerFactoryHolder.setupEntityManagerFactory();
+
+		TestDataInserter inserter = new TestDataInserter();
+		inserter.multigetSize = 1000;
+		inserter.insertTestData( entityManagerFactoryHolder );
+
+		new HibernateOgmMultigetBenchmark().findEntitiesByBatch( inserter, null );
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.mongodb.ogm;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.ogm.perftest.model.AuthorWithSequence;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * A stress harness running inserts of entities using a sequence on virtual threads, while recording the
+ * {@code jdk.VirtualThreadPinned} events with JFR.
+ * <p>
+ * A virtual thread blocking in a {@code synchronized} block pins its carrier thread; with enough of them, the other
+ * virtual threads cannot be scheduled anymore. The harness prints the throughput and the frames holding the monitors
+ * which pinned a carrier, grouped by location.
+ * <p>
+ * Virtual threads require JDK 21 or later at runtime, e.g.:
+ *
+ * <pre>
+ * java -Djdk.virtualThreadScheduler.parallelism=4 -Dtasks=10000 -cp ... org.hibernate.ogm.perftest.mongodb.ogm.VirtualThreadInsertHarness
+ * </pre>
+ */
+public class VirtualThreadInsertHarness {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	/**
+	 * The number of concurrent units of work, each one running in its own virtual thread.
+	 */
+	private static final int TASKS = Integer.getInteger( "tasks", 10_000 );
+
+	private static final int INSERTS_PER_TASK = 10;
+
+	private static final int REPORTED_LOCATIONS = 10;
+
+	public static void main(String[] args) throws Exception {
+		EntityManagerFactoryHolder stateHolder = new EntityManagerFactoryHolder();
+		stateHolder.setupEntityManagerFactory();
+
+		Path recordingFile = Files.createTempFile( "ogm-virtual-threads", ".jfr" );
+		try ( Recording recording = new Recording() ) {
+			recording.enable( PINNED_EVENT ).withStackTrace().withThreshold( Duration.ZERO );
+			recording.start();
+
+			long start = System.nanoTime();
+			runInserts( stateHolder );
+			long elapsed = System.nanoTime() - start;
+
+			recording.stop();
+			recording.dump( recordingFile );
+
+			System.out.printf( "%d inserts on %d virtual threads in %d ms (%.0f inserts/s)%n",
+					TASKS * INSERTS_PER_TASK, TASKS, TimeUnit.NANOSECONDS.toMillis( elapsed ),
+					TASKS * INSERTS_PER_TASK / ( elapsed / 1_000_000_000d ) );
+			reportPinning( recordingFile );
+		}
+		finally {
+			Files.deleteIfExists( recordingFile );
+			stateHolder.closeEntityManagerFactory();
+		}
+	}
+
+	private static void runInserts(EntityManagerFactoryHolder stateHolder) throws Exception {
+		ExecutorService executor = newVirtualThreadPerTaskExecutor();
+		try {
+			List<Future<?>> tasks = new ArrayList<>( TASKS );
+			for ( int i = 0; i < TASKS; i++ ) {
+				tasks.add( executor.submit( () -> {
+					insertAuthors( stateHolder );
+					return null;
+				} ) );
+			}
+			for ( Future<?> task : tasks ) {
+				task.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	private static void insertAuthors(EntityManagerFactoryHolder stateHolder) throws Exception {
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < INSERTS_PER_TASK; i++ ) {
+			AuthorWithSequence author = new AuthorWithSequence();
+
+			author.setBio( "This is a decent size bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+			author.setDob( new Date() );
+			author.setFname( "Jessie " + stateHolder.rand.nextInt() );
+			author.setLname( "Landis " + stateHolder.rand.nextInt() );
+			author.setMname( "" + stateHolder.rand.nextInt( 26 ) );
+
+			entityManager.persist( author );
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	private static void reportPinning(Path recordingFile) throws Exception {
+		Map<String, Integer> pinningByLocation = new TreeMap<>();
+		long pinnedNanos = 0;
+		int events = 0;
+		for ( RecordedEvent event : RecordingFile.readAllEvents( recordingFile ) ) {
+			if ( PINNED_EVENT.equals( event.getEventType().getName() ) ) {
+				events++;
+				pinnedNanos += event.getDuration().toNanos();
+				pinningByLocation.merge( pinningLocation( event.getStackTrace() ), 1, Integer::sum );
+			}
+		}
+
+		System.out.printf( "%d pinning events, carriers pinned for %d ms in total%n", events, TimeUnit.NANOSECONDS.toMillis( pinnedNanos ) );
+		pinningByLocation.entrySet().stream()
+				.sorted( Map.Entry.<String, Integer>comparingByValue().reversed() )
+				.limit( REPORTED_LOCATIONS )
+				.forEach( location -> System.out.printf( "%8d  %s%n", location.getValue(), location.getKey() ) );
+	}
+
+	/*
+	 * The first frame of the application or of the libraries, below the JDK frames parking the thread.
+	 */
+	private static String pinningLocation(RecordedStackTrace stackTrace) {
+		if ( stackTrace == null ) {
+			return "<no stack trace>";
+		}
+		for ( RecordedFrame frame : stackTrace.getFrames() ) {
+			String type = frame.getMethod().getType().getName();
+			if ( !type.startsWith( "java." ) && !type.startsWith( "jdk." ) && !type.startsWith( "sun." ) ) {
+				return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+			}
+		}
+		return "<JDK>";
+	}
+
+	/*
+	 * The module is compiled for Java 8, virtual threads are looked up when the harness runs.
+	 */
+	private static ExecutorService newVirtualThreadPerTaskExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		}
+		catch (ReflectiveOperationException e) {
+			throw new IllegalStateException( "Virtual threads require JDK 21 or later", e );
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.query;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.Document;
+import org.hibernate.ogm.datastore.mongodb.MongoDBDialect;
+import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBTupleSnapshot;
+import org.hibernate.ogm.datastore.mongodb.impl.MongoDBDatastoreProvider;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.query.impl.ScalarRowReader;
+import org.hibernate.ogm.type.impl.TypeTranslatorImpl;
+import org.hibernate.ogm.type.spi.GridType;
+import org.hibernate.ogm.type.spi.TypeTranslator;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+import org.hibernate.type.spi.TypeConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A JMH benchmark measuring the rows read per second from the tuples of a projection query with aggregates, e.g.
+ * {@code SELECT a.name, COUNT(a), SUM(a.pages), AVG(a.rating) ... GROUP BY a.name}, as returned by MongoDB.
+ * <p>
+ * {@code resolvePerRow} translates the types for each row as done before, {@code rowReader} uses a
+ * {@link ScalarRowReader} prepared once for the query.
+ */
+@State(Scope.Benchmark)
+public class ScalarRowReaderBenchmark {
+
+	private static final int ROWS = 1000;
+
+	private static final Type[] RETURN_TYPES = { StandardBasicTypes.STRING, StandardBasicTypes.LONG, StandardBasicTypes.LONG, StandardBasicTypes.DOUBLE };
+	private static final List<String> COLUMNS = Arrays.asList( "name", "count", "pages", "rating" );
+
+	private TypeTranslator typeTranslator;
+	private ScalarRowReader rowReader;
+	private Tuple[] tuples;
+
+	@Setup
+	public void prepareTuples() {
+		typeTranslator = new TypeTranslatorImpl(
+				new MongoDBDialect( new MongoDBDatastoreProvider() ),
+				new TypeConfiguration().getTypeResolver() );
+		rowReader = new ScalarRowReader( RETURN_TYPES, COLUMNS, typeTranslator );
+
+		tuples = new Tuple[ROWS];
+		for ( int i = 0; i < ROWS; i++ ) {
+			Document document = new Document( "name", "Author " + i )
+					// MongoDB returns 32-bit counts for small values
+					.append( "count", i % 100 )
+					.append( "pages", 250L * i )
+					.append( "rating", i / 7.0 );
+			tuples[i] = new Tuple( new MongoDBTupleSnapshot( document, null ), SnapshotType.UPDATE );
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void resolvePerRow(Blackhole blackhole) {
+		for ( Tuple tuple : tuples ) {
+			Object[] entry = new Object[RETURN_TYPES.length];
+			for ( int i = 0; i < RETURN_TYPES.length; i++ ) {
+				GridType gridType = typeTranslator.getType( RETURN_TYPES[i] );
+				entry[i] = gridType.nullSafeGet( tuple, COLUMNS.get( i ), null, null );
+			}
+			blackhole.consume( entry );
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void rowReader(Blackhole blackhole) {
+		for ( Tuple tuple : tuples ) {
+			blackhole.consume( rowReader.read( tuple, null ) );
+		}
+	}
+}
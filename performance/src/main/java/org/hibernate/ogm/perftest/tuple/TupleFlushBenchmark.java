@@ -0,0 +1,107 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.tuple;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.model.spi.TupleColumnLayout;
+import org.hibernate.ogm.model.spi.TupleOperation;
+import org.hibernate.ogm.model.spi.TupleSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A JMH benchmark measuring the cost of the tuple changes applied while flushing inserts and updates, without any
+ * datastore.
+ * <p>
+ * Compare the allocation rate with and without a column layout by running it with the GC profiler, e.g.
+ * {@code java -jar target/benchmarks.jar TupleFlushBenchmark -prof gc}.
+ */
+@State(Scope.Thread)
+public class TupleFlushBenchmark {
+
+	private static final String[] COLUMNS = { "id", "bio", "dob", "fname", "lname", "mname", "version", "DTYPE" };
+
+	@Param({ "false", "true" })
+	public boolean useColumnLayout;
+
+	private TupleColumnLayout layout;
+	private TupleSnapshot snapshot;
+	private Object[] values;
+
+	@Setup
+	public void setupLayout() {
+		layout = new TupleColumnLayout( Arrays.asList( COLUMNS ) );
+		values = new Object[] { 1L, "This is a decent size bio", new Date(), "Jessie", "Landis", "M", 1, "Author" };
+
+		Map<String, Object> loaded = new HashMap<>();
+		for ( int i = 0; i < COLUMNS.length; i++ ) {
+			loaded.put( COLUMNS[i], values[i] );
+		}
+		snapshot = new MapSnapshot( loaded );
+	}
+
+	@Benchmark
+	public void insert(Blackhole blackhole) {
+		Tuple tuple = new Tuple();
+		flush( tuple, 0, blackhole );
+	}
+
+	@Benchmark
+	public void update(Blackhole blackhole) {
+		Tuple tuple = new Tuple( snapshot, SnapshotType.UPDATE );
+		// the id is not part of the updated columns
+		flush( tuple, 1, blackhole );
+	}
+
+	private void flush(Tuple tuple, int firstColumn, Blackhole blackhole) {
+		if ( useColumnLayout ) {
+			tuple.setColumnLayout( layout );
+		}
+		for ( int i = firstColumn; i < COLUMNS.length; i++ ) {
+			tuple.put( COLUMNS[i], values[i] );
+		}
+		for ( TupleOperation operation : tuple.getOperations() ) {
+			blackhole.consume( operation.getColumn() );
+			blackhole.consume( operation.getValue() );
+		}
+	}
+
+	private static class MapSnapshot implements TupleSnapshot {
+
+		private final Map<String, Object> values;
+
+		private MapSnapshot(Map<String, Object> values) {
+			this.values = values;
+		}
+
+		@Override
+		public Object get(String column) {
+			return values.get( column );
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return values.isEmpty();
+		}
+
+		@Override
+		public Set<String> getColumnNames() {
+			return values.keySet();
+		}
+	}
+}